@@ -0,0 +1,44 @@
+/**
+ * BenchmarkDatabase builds the Hibernate SessionFactory of the benchmarks on an in-memory H2 database, with the
+ * configuration of the repository tests (hibernate-test.cfg.xml, schema created from the entities) and without
+ * printing the SQL statements.
+ *
+ * Every benchmark state uses its own database, named after it, which is dropped when the SessionFactory is closed.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+
+final class BenchmarkDatabase {
+
+	private BenchmarkDatabase() {
+	}
+
+	static SessionFactory sessionFactory(String name) {
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:" + name)
+				.applySetting("hibernate.show_sql", "false").build();
+		try {
+			return new MetadataSources(registry).buildMetadata().buildSessionFactory();
+		} catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy(registry);
+			throw e;
+		}
+	}
+
+	// Adds the given number of events, all of them in the future so that they pass the validation
+	static void addEvents(EventRepository eventRepository, int count) {
+		LocalDate date = LocalDate.now().plusYears(1);
+		for (int i = 0; i < count; i++) {
+			eventRepository.addEvent(new EventModel("Event " + i, date.plusDays(i % 365), "Location " + i % 50));
+		}
+	}
+}
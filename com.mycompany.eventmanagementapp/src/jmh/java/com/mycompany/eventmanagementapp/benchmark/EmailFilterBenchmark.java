@@ -0,0 +1,123 @@
+/**
+ * EmailFilterBenchmark measures what the EmailBloomFilter saves the registration of a new participant, the most
+ * common one, on an in-memory H2 database holding participantCount participants.
+ *
+ * - addNewParticipant: Registers a participant with a new email to an event through the ParticipantController,
+ *   with (emailFilter) and without the filter, which skips the getParticipantByEmail lookup.
+ * - mightContain: Asks the filter about a new email, the cost the lookup is replaced with.
+ *
+ * The participants added are removed after every iteration, their emails are never used again and so remain
+ * negatives of the filter.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.controller.ParticipantController;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailFilterBenchmark {
+
+	private static final int EVENT_COUNT = 100;
+
+	@Param({ "10000" })
+	public int participantCount;
+
+	@Param({ "false", "true" })
+	public boolean emailFilter;
+
+	private SessionFactory sessionFactory;
+
+	private EmailBloomFilter filter;
+
+	private ParticipantController participantController;
+
+	private IgnoringParticipantView participantView;
+
+	private List<EventModel> events;
+
+	private long next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase
+				.sessionFactory("EmailFilterBenchmark" + participantCount + emailFilter);
+		EventRepository eventRepository = new EventMySqlRepository(sessionFactory);
+		ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		DatasetGenerator generator = new DatasetGenerator();
+		generator.setEvents(EVENT_COUNT);
+		generator.setParticipants(participantCount);
+		generator.setRegistrationsPerParticipant(1);
+		generator.setSkew(0);
+		try (Session session = sessionFactory.openSession()) {
+			session.doReturningWork(generator::generate);
+		}
+		events = eventRepository.getAllEvents();
+		filter = EmailBloomFilter.load(sessionFactory);
+		participantView = new IgnoringParticipantView();
+		participantController = new ParticipantController(participantView, participantRepository, eventRepository);
+		if (emailFilter) {
+			participantRepository.setEmailFilter(filter);
+			participantController.setEmailFilter(filter);
+		}
+	}
+
+	// Removes the participants added by the iteration
+	@TearDown(Level.Iteration)
+	public void removeNewParticipants() {
+		try (Session session = sessionFactory.openSession()) {
+			session.beginTransaction();
+			session.createNativeQuery("DELETE FROM event_participant WHERE participant_id IN"
+					+ " (SELECT participantId FROM participant WHERE participant_email LIKE 'new.%')").executeUpdate();
+			session.createNativeQuery("DELETE FROM participant WHERE participant_email LIKE 'new.%'").executeUpdate();
+			session.getTransaction().commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public long addNewParticipant() {
+		long number = next++;
+		ParticipantModel participant = new ParticipantModel("New Participant", "new." + number + "@example.com");
+		participantController.addParticipant(participant, events.get((int) (number % EVENT_COUNT)));
+		return participantView.getNotifications();
+	}
+
+	@Benchmark
+	public boolean mightContain() {
+		return filter.mightContain("unknown." + next++ + "@example.com");
+	}
+}
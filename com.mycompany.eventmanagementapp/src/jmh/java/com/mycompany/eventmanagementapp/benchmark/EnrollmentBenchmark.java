@@ -0,0 +1,104 @@
+/**
+ * EnrollmentBenchmark measures how a participant is linked to an event with participantCount participants and
+ * unlinked again, on an in-memory H2 database, through the repositories.
+ *
+ * - mergeGraphs: The former write path of the ParticipantController, which loads the event and the participant,
+ *   changes both sides of the association, then updates the participant and the event. Their eager, merging
+ *   associations make this load and merge every participant of the event.
+ * - enrollAndUnenroll: ParticipantRepository.enroll and unenroll, which insert and delete the one association row.
+ *
+ * The controller's own checks, which still load the event, are left out so that only the writes are compared.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrollmentBenchmark {
+
+	@Param({ "10000" })
+	public int participantCount;
+
+	private SessionFactory sessionFactory;
+
+	private EventRepository eventRepository;
+
+	private ParticipantRepository participantRepository;
+
+	private long eventId;
+
+	private long participantId;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase.sessionFactory("EnrollmentBenchmark" + participantCount);
+		eventRepository = new EventMySqlRepository(sessionFactory);
+		participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		// A single event, every participant registered to it
+		DatasetGenerator generator = new DatasetGenerator();
+		generator.setEvents(1);
+		generator.setParticipants(participantCount);
+		generator.setRegistrationsPerParticipant(1);
+		generator.setSkew(0);
+		try (Session session = sessionFactory.openSession()) {
+			session.doReturningWork(generator::generate);
+		}
+		eventId = eventRepository.getAllEvents().get(0).getEventId();
+		ParticipantModel participant = new ParticipantModel("Enrolled Participant", "enrolled@example.com");
+		participantRepository.addParticipant(participant);
+		participantId = participant.getParticipantId();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public int mergeGraphs() {
+		EventModel event = eventRepository.getEventById(eventId);
+		ParticipantModel participant = participantRepository.getParticipantById(participantId);
+		participant.addEvent(event);
+		participantRepository.updateParticipant(participant);
+		eventRepository.updateEvent(event);
+		participant.removeEvent(event);
+		participantRepository.updateParticipant(participant);
+		eventRepository.updateEvent(event);
+		return event.getParticipants().size();
+	}
+
+	@Benchmark
+	public boolean enrollAndUnenroll() {
+		return participantRepository.enroll(eventId, participantId)
+				& participantRepository.unenroll(eventId, participantId);
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * EventControllerBenchmark measures the operations of the EventController over the EventMySqlRepository on an
+ * in-memory H2 database, with a view which ignores the notifications.
+ *
+ * - getAllEvents: Loads every event, with eventCount events in the database.
+ * - addAndDeleteEvent: Adds a new event and deletes it again, so that the database keeps its size.
+ * - updateEvent: Renames one of the events, a different one on every call.
+ *
+ * The database is created and filled once per trial, for each eventCount.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.controller.EventController;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventControllerBenchmark {
+
+	// Id the screen gives a new event, replaced by the generated one when it is added
+	private static final long NEW_EVENT_ID = -1;
+
+	@Param({ "100", "1000" })
+	public int eventCount;
+
+	private SessionFactory sessionFactory;
+
+	private EventController eventController;
+
+	private IgnoringEventView eventView;
+
+	private List<EventModel> events;
+
+	private LocalDate date;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase.sessionFactory("EventControllerBenchmark" + eventCount);
+		EventRepository eventRepository = new EventMySqlRepository(sessionFactory);
+		BenchmarkDatabase.addEvents(eventRepository, eventCount);
+		events = eventRepository.getAllEvents();
+		eventView = new IgnoringEventView();
+		eventController = new EventController(eventView, eventRepository);
+		date = LocalDate.now().plusYears(1);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public long getAllEvents() {
+		eventController.getAllEvents();
+		return eventView.getNotifications();
+	}
+
+	@Benchmark
+	public long addAndDeleteEvent() {
+		EventModel event = new EventModel(NEW_EVENT_ID, "New Event", date, "New Location");
+		eventController.addEvent(event);
+		eventController.deleteEvent(event);
+		return eventView.getNotifications();
+	}
+
+	@Benchmark
+	public long updateEvent() {
+		EventModel existing = events.get(next++ % events.size());
+		EventModel event = new EventModel(existing.getEventId(), "Renamed " + next, existing.getEventDate(),
+				existing.getEventLocation());
+		eventController.updateEvent(event);
+		return eventView.getNotifications();
+	}
+}
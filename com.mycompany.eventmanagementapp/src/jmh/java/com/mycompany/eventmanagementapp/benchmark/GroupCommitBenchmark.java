@@ -0,0 +1,120 @@
+/**
+ * GroupCommitBenchmark measures the throughput of concurrent participant registrations, each thread standing for
+ * a clerk registering new participants through ParticipantMySqlRepository.registerParticipant and waiting for the
+ * commit, with and without a GroupCommitPipeline (groupCommit).
+ *
+ * There are four threads, the connection pool of the test configuration has five connections: without the pipeline
+ * every thread holds a connection of its own, with it the single committer does.
+ *
+ * The registrations are spread over 1000 events and removed after every iteration, so that loading an event does
+ * not get slower during the run. On the in-memory H2 database a commit costs little, the benchmark shows the cost
+ * of the grouping (the delay, the committer thread) more than its gain, which grows with the cost of a commit on
+ * a database writing its log to disk.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.GroupCommitPipeline;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class GroupCommitBenchmark {
+
+	private static final int EVENT_COUNT = 1000;
+
+	@Param({ "false", "true" })
+	public boolean groupCommit;
+
+	private SessionFactory sessionFactory;
+
+	private GroupCommitPipeline pipeline;
+
+	private ParticipantMySqlRepository participantRepository;
+
+	private List<EventModel> events;
+
+	private final AtomicInteger threads = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase.sessionFactory("GroupCommitBenchmark" + groupCommit);
+		EventMySqlRepository eventRepository = new EventMySqlRepository(sessionFactory);
+		BenchmarkDatabase.addEvents(eventRepository, EVENT_COUNT);
+		events = eventRepository.getAllEvents();
+		participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		if (groupCommit) {
+			pipeline = new GroupCommitPipeline(sessionFactory);
+			participantRepository.setGroupCommitPipeline(pipeline);
+		}
+	}
+
+	// Removes the registered participants, every iteration starts with empty events
+	@TearDown(Level.Iteration)
+	public void removeParticipants() {
+		try (Session session = sessionFactory.openSession()) {
+			session.beginTransaction();
+			session.createNativeQuery("DELETE FROM event_participant").executeUpdate();
+			session.createNativeQuery("DELETE FROM participant").executeUpdate();
+			session.getTransaction().commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (pipeline != null) {
+			pipeline.close();
+		}
+		sessionFactory.close();
+	}
+
+	// The participants registered by one thread, their emails are unique across the threads
+	@State(Scope.Thread)
+	public static class Clerk {
+
+		private int thread;
+
+		private int next;
+
+		@Setup(Level.Trial)
+		public void setup(GroupCommitBenchmark benchmark) {
+			thread = benchmark.threads.incrementAndGet();
+		}
+	}
+
+	@Benchmark
+	public void registerParticipant(Clerk clerk) {
+		int number = clerk.next++;
+		ParticipantModel participant = new ParticipantModel("Participant " + number,
+				"participant" + clerk.thread + "." + number + "@example.com");
+		participantRepository.registerParticipant(participant, events.get(number % EVENT_COUNT)).join();
+	}
+}
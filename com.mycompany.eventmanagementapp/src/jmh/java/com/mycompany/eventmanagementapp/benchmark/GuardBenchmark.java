@@ -0,0 +1,108 @@
+/**
+ * GuardBenchmark measures the checks of the controllers on an event with participantCount participants, on an
+ * in-memory H2 database, through the repositories.
+ *
+ * - loadEvent: The former check of EventController.deleteEvent, which loads the event and its participants to see
+ *   whether it exists and has participants.
+ * - existsAndCount: EventRepository.existsEventById and countParticipantsOfEvent, which read the primary key and
+ *   count the association rows of the event.
+ * - loadParticipant: The former check of ParticipantController.deleteParticipant, which loads the participant by
+ *   email, its events and their participants, to find whether it is registered to the event.
+ * - isEnrolled: ParticipantRepository.isEnrolled, which joins the email to the association row.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GuardBenchmark {
+
+	@Param({ "1000" })
+	public int participantCount;
+
+	private SessionFactory sessionFactory;
+
+	private EventRepository eventRepository;
+
+	private ParticipantRepository participantRepository;
+
+	private long eventId;
+
+	private String email;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase.sessionFactory("GuardBenchmark" + participantCount);
+		eventRepository = new EventMySqlRepository(sessionFactory);
+		participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		// A single event, every participant registered to it
+		DatasetGenerator generator = new DatasetGenerator();
+		generator.setEvents(1);
+		generator.setParticipants(participantCount);
+		generator.setRegistrationsPerParticipant(1);
+		generator.setSkew(0);
+		try (Session session = sessionFactory.openSession()) {
+			session.doReturningWork(generator::generate);
+		}
+		EventModel event = eventRepository.getAllEvents().get(0);
+		eventId = event.getEventId();
+		email = event.getParticipants().iterator().next().getParticipantEmail();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public boolean loadEvent() {
+		EventModel event = eventRepository.getEventById(eventId);
+		return event != null && !event.getParticipants().isEmpty();
+	}
+
+	@Benchmark
+	public boolean existsAndCount() {
+		return eventRepository.existsEventById(eventId) && eventRepository.countParticipantsOfEvent(eventId) > 0;
+	}
+
+	@Benchmark
+	public boolean loadParticipant() {
+		ParticipantModel participant = participantRepository.getParticipantByEmail(email);
+		return participant != null
+				&& participant.getEvents().stream().anyMatch(event -> event.getEventId() == eventId);
+	}
+
+	@Benchmark
+	public boolean isEnrolled() {
+		return participantRepository.isEnrolled(eventId, email);
+	}
+}
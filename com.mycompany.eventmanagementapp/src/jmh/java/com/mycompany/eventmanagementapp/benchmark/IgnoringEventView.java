@@ -0,0 +1,45 @@
+/**
+ * IgnoringEventView is the EventManagementView of the benchmarks: it only counts the notifications of the
+ * controller, so that the benchmarks measure the controller and the repositories and not the Swing screens.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+
+final class IgnoringEventView implements EventManagementView {
+
+	private long notifications;
+
+	@Override
+	public void showAllEvents(List<EventModel> events) {
+		notifications += events.size();
+	}
+
+	@Override
+	public void eventAdded(EventModel event) {
+		notifications++;
+	}
+
+	@Override
+	public void showError(String message, EventModel event) {
+		notifications++;
+	}
+
+	@Override
+	public void eventDeleted(EventModel event) {
+		notifications++;
+	}
+
+	@Override
+	public void eventUpdated(EventModel event) {
+		notifications++;
+	}
+
+	long getNotifications() {
+		return notifications;
+	}
+}
@@ -0,0 +1,57 @@
+/**
+ * IgnoringParticipantView is the ParticipantManagementView of the benchmarks: it only counts the notifications of
+ * the controller, so that the benchmarks measure the controller and the repositories and not the Swing screens.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
+
+final class IgnoringParticipantView implements ParticipantManagementView {
+
+	private long notifications;
+
+	private long errors;
+
+	@Override
+	public void showAllParticipants(List<ParticipantModel> participants) {
+		notifications += participants.size();
+	}
+
+	@Override
+	public void showAllEvents(List<EventModel> events) {
+		notifications += events.size();
+	}
+
+	@Override
+	public void participantAdded(ParticipantModel participant) {
+		notifications++;
+	}
+
+	@Override
+	public void showError(String message, ParticipantModel participant) {
+		errors++;
+	}
+
+	@Override
+	public void participantDeleted(ParticipantModel participant) {
+		notifications++;
+	}
+
+	@Override
+	public void participantUpdated(ParticipantModel participant) {
+		notifications++;
+	}
+
+	long getNotifications() {
+		return notifications;
+	}
+
+	long getErrors() {
+		return errors;
+	}
+}
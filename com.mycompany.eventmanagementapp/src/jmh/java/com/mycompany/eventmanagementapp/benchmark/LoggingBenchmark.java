@@ -0,0 +1,151 @@
+/**
+ * LoggingBenchmark measures what logging costs a controller operation: EventController.addEvent runs against an
+ * in-memory repository and a view which ignores the notifications, so that the operation is mostly its logging.
+ *
+ * Each benchmark runs in its own JVM with a different logging pipeline (see log4j2-benchmark.xml):
+ * - loggingOff: Logging disabled, the cost of the operation itself.
+ * - synchronousLogging: The pipeline used before, the calling thread formats and writes every message and
+ *   flushes the file after each one, like the former synchronous console appender.
+ * - asynchronousLogging: The application's pipeline, asynchronous garbage-free loggers handing the messages to
+ *   a background thread through the ring buffer, which flushes at the end of each batch.
+ *
+ * The operations are spaced out like user actions and sampled, so the percentiles show the time the calling thread
+ * spends per operation. The logging overhead per operation is the difference to loggingOff. Run with the
+ * "benchmark" profile:
+ *   mvn -Pbenchmark test-compile exec:exec -Djmh.args="LoggingBenchmark"
+ * The gc profiler the profile enables also reports the bytes allocated per operation.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.controller.EventController;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingBenchmark {
+
+	private static final String CONFIGURATION = "-Dlog4j.configurationFile=log4j2-benchmark.xml";
+
+	private static final String SYNCHRONOUS = "-Dlog4j2.contextSelector="
+			+ "org.apache.logging.log4j.core.selector.ClassLoaderContextSelector";
+
+	private static final String ASYNCHRONOUS = "-Dlog4j2.contextSelector="
+			+ "org.apache.logging.log4j.core.async.AsyncLoggerContextSelector";
+
+	private static final long PAUSE_MICROS = 200;
+
+	private EventController eventController;
+
+	private EventModel event;
+
+	@Setup
+	public void setup() {
+		eventController = new EventController(new IgnoringEventView(), new EmptyEventRepository());
+		event = new EventModel(1, "Conference", LocalDate.now().plusYears(1), "Berlin");
+	}
+
+	// Leaves time between two operations, as between two user actions, so that the asynchronous loggers measure
+	// the cost paid by the calling thread and not how fast the background thread can write a saturated queue
+	@Setup(Level.Invocation)
+	public void pause() throws InterruptedException {
+		TimeUnit.MICROSECONDS.sleep(PAUSE_MICROS);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { CONFIGURATION, SYNCHRONOUS, "-Dbenchmark.level=OFF" })
+	public void loggingOff() {
+		eventController.addEvent(event);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { CONFIGURATION, SYNCHRONOUS })
+	public void synchronousLogging() {
+		eventController.addEvent(event);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { CONFIGURATION, ASYNCHRONOUS, "-Dbenchmark.immediateFlush=false" })
+	public void asynchronousLogging() {
+		eventController.addEvent(event);
+	}
+
+	// Repository in which no event exists, so that every event is added
+	static final class EmptyEventRepository implements EventRepository {
+
+		@Override
+		public void addEvent(EventModel event) {
+			// Nothing is stored, the next addEvent of the same event succeeds again
+		}
+
+		@Override
+		public void updateEvent(EventModel event) {
+			// Not called by addEvent
+		}
+
+		@Override
+		public void deleteEvent(EventModel event) {
+			// Not called by addEvent
+		}
+
+		@Override
+		public List<EventModel> getAllEvents() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public EventModel getEventById(long eventId) {
+			return null;
+		}
+
+		@Override
+		public boolean renameEvent(long eventId, String eventName) {
+			return false;
+		}
+
+		@Override
+		public boolean rescheduleEvent(long eventId, LocalDate eventDate) {
+			return false;
+		}
+
+		@Override
+		public boolean relocateEvent(long eventId, String eventLocation) {
+			return false;
+		}
+
+		@Override
+		public boolean updateEventDetails(EventModel event) {
+			return false;
+		}
+
+		@Override
+		public boolean existsEventById(long eventId) {
+			return false;
+		}
+
+		@Override
+		public long countParticipantsOfEvent(long eventId) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * ModelEqualityBenchmark measures equals and hashCode of EventModel and ParticipantModel through the hash sets
+ * the models are kept in (the participants of an event and the events of a participant), with size models.
+ *
+ * - buildEventSet / buildParticipantSet: Adds every model to a new HashSet, hashing each of them.
+ * - containsEvents / containsParticipants: Looks up an equal copy of every model in a filled set, which hashes
+ *   the copy and compares it with equals.
+ * - removeAndAddParticipants: Unregisters every participant of an event with size participants and registers it
+ *   again, the set operations the ParticipantController does on the participants of an event.
+ * - containsEventOfParticipant: Looks up the event of each participant of that event in the participant's events,
+ *   as ParticipantController checks existingParticipant.getEvents().contains(existingEvent).
+ *
+ * The models compare their ids only and cache their hash, so the lookups do not depend on the other fields.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.Set;
+import java.util.List;
+import java.util.HashSet;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelEqualityBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private List<EventModel> events;
+
+	private List<EventModel> eventCopies;
+
+	private Set<EventModel> eventSet;
+
+	private List<ParticipantModel> participants;
+
+	private List<ParticipantModel> participantCopies;
+
+	private Set<ParticipantModel> participantSet;
+
+	private EventModel largeEvent;
+
+	private EventModel largeEventCopy;
+
+	@Setup
+	public void setup() {
+		LocalDate date = LocalDate.now().plusYears(1);
+		events = new ArrayList<>(size);
+		eventCopies = new ArrayList<>(size);
+		participants = new ArrayList<>(size);
+		participantCopies = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			events.add(new EventModel(i, "Event " + i, date.plusDays(i % 365), "Location " + i % 50));
+			eventCopies.add(new EventModel(i, "Event " + i, date.plusDays(i % 365), "Location " + i % 50));
+			participants.add(new ParticipantModel(i, "Participant " + i, "participant" + i + "@example.com"));
+			participantCopies.add(new ParticipantModel(i, "Participant " + i, "participant" + i + "@example.com"));
+		}
+		eventSet = new HashSet<>(events);
+		participantSet = new HashSet<>(participants);
+		largeEvent = new EventModel(size, "Large Event", date, "Florence");
+		largeEventCopy = new EventModel(size, "Large Event", date, "Florence");
+		participants.forEach(largeEvent::addParticipant);
+	}
+
+	@Benchmark
+	public Set<EventModel> buildEventSet() {
+		return new HashSet<>(events);
+	}
+
+	@Benchmark
+	public int containsEvents() {
+		int found = 0;
+		for (EventModel event : eventCopies) {
+			if (eventSet.contains(event)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public Set<ParticipantModel> buildParticipantSet() {
+		return new HashSet<>(participants);
+	}
+
+	@Benchmark
+	public int containsParticipants() {
+		int found = 0;
+		for (ParticipantModel participant : participantCopies) {
+			if (participantSet.contains(participant)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int removeAndAddParticipants() {
+		Set<ParticipantModel> registered = largeEvent.getParticipants();
+		for (ParticipantModel participant : participantCopies) {
+			registered.remove(participant);
+			registered.add(participant);
+		}
+		return registered.size();
+	}
+
+	@Benchmark
+	public int containsEventOfParticipant() {
+		int found = 0;
+		for (ParticipantModel participant : largeEvent.getParticipants()) {
+			if (participant.getEvents().contains(largeEventCopy)) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
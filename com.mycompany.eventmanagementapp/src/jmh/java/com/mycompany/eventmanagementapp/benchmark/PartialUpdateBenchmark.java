@@ -0,0 +1,98 @@
+/**
+ * PartialUpdateBenchmark measures how the location of an event with participantCount participants is changed, on an
+ * in-memory H2 database, through the EventRepository.
+ *
+ * - updateGraph: The former write path of EventController.updateEvent, which loads the event to copy its
+ *   participants onto the detached one, then calls updateEvent, whose session.update writes every column of the
+ *   event and revisits its participants.
+ * - updateEventDetails: Reads the columns of the event without its participants and updates the changed one.
+ * - relocateEvent: The single UPDATE of the location column.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartialUpdateBenchmark {
+
+	@Param({ "1000" })
+	public int participantCount;
+
+	private SessionFactory sessionFactory;
+
+	private EventRepository eventRepository;
+
+	private EventModel event;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase.sessionFactory("PartialUpdateBenchmark" + participantCount);
+		eventRepository = new EventMySqlRepository(sessionFactory);
+		// A single event, every participant registered to it
+		DatasetGenerator generator = new DatasetGenerator();
+		generator.setEvents(1);
+		generator.setParticipants(participantCount);
+		generator.setRegistrationsPerParticipant(1);
+		generator.setSkew(0);
+		try (Session session = sessionFactory.openSession()) {
+			session.doReturningWork(generator::generate);
+		}
+		event = eventRepository.getAllEvents().get(0);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public int updateGraph() {
+		EventModel updated = relocated();
+		updated.setParticipants(eventRepository.getEventById(updated.getEventId()).getParticipants());
+		eventRepository.updateEvent(updated);
+		return updated.getParticipants().size();
+	}
+
+	@Benchmark
+	public boolean updateEventDetails() {
+		return eventRepository.updateEventDetails(relocated());
+	}
+
+	@Benchmark
+	public boolean relocateEvent() {
+		return eventRepository.relocateEvent(event.getEventId(), "Location " + next++);
+	}
+
+	// The event moved to a new location, as the view passes it
+	private EventModel relocated() {
+		return new EventModel(event.getEventId(), event.getEventName(), event.getEventDate(), "Location " + next++);
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * ParticipantControllerBenchmark measures the operations of the ParticipantController over the
+ * ParticipantMySqlRepository and EventMySqlRepository on an in-memory H2 database, with a view which ignores the
+ * notifications.
+ *
+ * - getAllParticipants: Loads every participant with its events, with participantCount participants each
+ *   registered to one of 100 events.
+ * - addAndDeleteParticipant: Registers a new participant to an event and unregisters it again, which deletes it,
+ *   so that the database keeps its size.
+ * - updateParticipant: Renames one of the participants, a different one on every call.
+ *
+ * The database is created once per trial, for each participantCount, and filled by the DatasetGenerator with the
+ * registrations spread evenly over the events.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.controller.ParticipantController;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticipantControllerBenchmark {
+
+	private static final int EVENT_COUNT = 100;
+
+	@Param({ "100", "1000" })
+	public int participantCount;
+
+	private SessionFactory sessionFactory;
+
+	private ParticipantController participantController;
+
+	private IgnoringParticipantView participantView;
+
+	private List<EventModel> events;
+
+	private List<ParticipantModel> participants;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkDatabase.sessionFactory("ParticipantControllerBenchmark" + participantCount);
+		EventRepository eventRepository = new EventMySqlRepository(sessionFactory);
+		ParticipantRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		DatasetGenerator generator = new DatasetGenerator();
+		generator.setEvents(EVENT_COUNT);
+		generator.setParticipants(participantCount);
+		generator.setRegistrationsPerParticipant(1);
+		generator.setSkew(0);
+		try (Session session = sessionFactory.openSession()) {
+			session.doReturningWork(generator::generate);
+		}
+		events = eventRepository.getAllEvents();
+		participants = participantRepository.getAllParticipants();
+		participantView = new IgnoringParticipantView();
+		participantController = new ParticipantController(participantView, participantRepository, eventRepository);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public long getAllParticipants() {
+		participantController.getAllParticipants();
+		return participantView.getNotifications();
+	}
+
+	@Benchmark
+	public long addAndDeleteParticipant() {
+		EventModel event = events.get(next++ % EVENT_COUNT);
+		ParticipantModel participant = new ParticipantModel("New Participant", "new.participant@example.com");
+		participantController.addParticipant(participant, event);
+		participantController.deleteParticipant(participant, event);
+		return participantView.getNotifications();
+	}
+
+	@Benchmark
+	public long updateParticipant() {
+		ParticipantModel participant = participants.get(next++ % participants.size());
+		participant.setParticipantName("Renamed " + next);
+		participantController.updateParticipant(participant);
+		return participantView.getNotifications();
+	}
+}
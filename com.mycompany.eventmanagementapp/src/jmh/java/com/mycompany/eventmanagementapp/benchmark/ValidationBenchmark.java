@@ -0,0 +1,141 @@
+/**
+ * ValidationBenchmark measures the checks which every add and update runs, through ValidationConfigurations, which
+ * throws a ValidationException for invalid input, and through the ValidationEngine, which reports the violations
+ * into a reused ValidationResult.
+ *
+ * - validateString / validateDate / validateEmail / validateInvalidEmail: The checks of ValidationConfigurations,
+ *   for valid input and, for the email, for invalid input.
+ * - regexEmail / scanEmail: The regular expression ValidationConfigurations used for the emails, kept here as the
+ *   reference, against the scanner of the ValidationEngine.
+ * - engineValidEvent / engineValidParticipant / engineInvalidParticipant: The engine on one entity, invalid
+ *   participants having both their name and email reported.
+ * - engineParticipants / engineParticipantsInParallel: The engine on 10000 participants, one in a hundred
+ *   being invalid, on the calling thread or on the common ForkJoinPool.
+ */
+
+package com.mycompany.eventmanagementapp.benchmark;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.controller.utils.ValidationEngine;
+import com.mycompany.eventmanagementapp.controller.utils.ValidationResult;
+import com.mycompany.eventmanagementapp.controller.utils.ValidationException;
+import com.mycompany.eventmanagementapp.controller.utils.ValidationConfigurations;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+	private static final int PARTICIPANT_COUNT = 10_000;
+
+	// Fields instead of constants, so that the JIT cannot fold the checks
+	private String name = "Annual Conference";
+
+	private LocalDate date = LocalDate.now().plusYears(1);
+
+	private String email = "first.last@example.com";
+
+	private String invalidEmail = "first.last@example";
+
+	private EventModel event = new EventModel("Annual Conference", LocalDate.now().plusYears(1), "Florence");
+
+	private ParticipantModel participant = new ParticipantModel("First Last", "first.last@example.com");
+
+	private ParticipantModel invalidParticipant = new ParticipantModel(" ", "first.last@example");
+
+	private List<ParticipantModel> participants;
+
+	private ValidationResult result = new ValidationResult();
+
+	@Setup
+	public void setup() {
+		participants = new ArrayList<>(PARTICIPANT_COUNT);
+		for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+			participants.add(i % 100 == 0 ? invalidParticipant
+					: new ParticipantModel("Participant " + i, "participant" + i + "@example.com"));
+		}
+	}
+
+	@Benchmark
+	public boolean validateString() {
+		return ValidationConfigurations.validateString(name, "Name");
+	}
+
+	@Benchmark
+	public boolean validateDate() {
+		return ValidationConfigurations.validateDate(date);
+	}
+
+	@Benchmark
+	public boolean validateEmail() {
+		return ValidationConfigurations.validateEmail(email);
+	}
+
+	@Benchmark
+	public Object validateInvalidEmail() {
+		try {
+			return ValidationConfigurations.validateEmail(invalidEmail);
+		} catch (ValidationException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public boolean regexEmail() {
+		return EMAIL_PATTERN.matcher(email).matches();
+	}
+
+	@Benchmark
+	public boolean scanEmail() {
+		return ValidationEngine.isValidEmail(email);
+	}
+
+	@Benchmark
+	public boolean engineValidEvent() {
+		return ValidationEngine.validateEvent(event, result.reset());
+	}
+
+	@Benchmark
+	public boolean engineValidParticipant() {
+		return ValidationEngine.validateParticipant(participant, result.reset());
+	}
+
+	@Benchmark
+	public boolean engineInvalidParticipant() {
+		return ValidationEngine.validateParticipant(invalidParticipant, result.reset());
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public ValidationResult engineParticipants() {
+		return ValidationEngine.validateParticipants(participants, result.reset());
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public ValidationResult engineParticipantsInParallel() {
+		return ValidationEngine.validateParticipantsInParallel(participants, result.reset());
+	}
+}
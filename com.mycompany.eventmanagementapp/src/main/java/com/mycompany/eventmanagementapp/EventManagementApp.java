@@ -21,39 +21,97 @@
  * - Test environment: Configured for testing purposes with a separate Hibernate configuration file.
  * 
  * The program is initialized in a thread-safe manner using the EventQueue to ensure that Swing operations are executed on the Event Dispatch Thread (EDT).
+ * Startup does not block the EDT: a splash screen is shown while the Hibernate SessionFactory is built on a
+ * background thread, the initial events and participants are then loaded concurrently, and only the screen
+ * wiring runs on the EDT. The participant screen is created the first time the user navigates to it.
  * 
  * Command-line options:
  * - --mysql-DB_URL: URL for the MySQL database.
  * - --mysql-user: MySQL database username.
  * - --mysql-pass: MySQL database password.
+ * - --startup-report: Prints the duration of each startup phase once the first frame is visible.
+ * - The diagnostics options, such as --metrics, --stats, --profile-jdbc and --trace, see DiagnosticsBootstrap.
+ * - --group-commit: Commits the participant registrations submitted at the same time together, in one transaction,
+ *   waiting up to --group-commit-ms milliseconds (default 2) for further registrations to join the group. The
+ *   groups are exposed over JMX with --metrics (see GroupCommitPipeline). Also applies to the clerks of load.
+ * - --upsert-registration: Registers the participants with upserts, the database rejecting the duplicate emails
+ *   and registrations, instead of looking them up first under the controller's lock (see
+ *   ParticipantRepository.upsertRegistration). Takes precedence over --group-commit, also applies to load.
+ * - --email-filter: Loads the emails of the participants into a Bloom filter at startup, kept up to date by the
+ *   repository, so that registering a new email skips its lookup. Its false positive rates are exposed over JMX
+ *   with --metrics (see EmailBloomFilter). Only for a database no other instance adds participants to, also
+ *   applies to load.
+ * - --schema-check: How the schema is checked at startup (FINGERPRINT, VALIDATE, UPDATE or NONE), see HibernateBootstrap.
+ * 
+ * Commands:
+ * - migrate: Applies the pending schema migrations and exits, a new database has to be migrated before the first
+ *   launch (see MigrateCommand).
+ * - load: Simulates concurrent clerks and reports their throughput, latencies and the violated invariants (see
+ *   LoadCommand).
+ * - generate: Fills the database with a synthetic dataset (see GenerateCommand).
  * 
  * Logging:
  * - The application logs errors using Apache Log4j for debugging and tracking issues during runtime.
+ * - The loggers are asynchronous and garbage-free (see log4j2.component.properties). Log4j's own shutdown hook is
+ *   disabled, the single shutdown hook of the application stops it after writing the requested reports.
  */
 
 package com.mycompany.eventmanagementapp;
 
 import picocli.CommandLine;
 import java.awt.EventQueue;
+import javax.swing.JOptionPane;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Command;
 import org.hibernate.SessionFactory;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
 import java.util.concurrent.Callable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.Logger;
-import org.hibernate.boot.MetadataSources;
 import org.apache.logging.log4j.LogManager;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
 
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.migration.Migration;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.metrics.InstrumentedEventController;
+import com.mycompany.eventmanagementapp.metrics.InstrumentedParticipantController;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.bootstrap.StartupReport;
+import com.mycompany.eventmanagementapp.bootstrap.HibernateBootstrap;
+import com.mycompany.eventmanagementapp.bootstrap.DiagnosticsBootstrap;
+import com.mycompany.eventmanagementapp.bootstrap.SchemaFingerprintStore;
+import com.mycompany.eventmanagementapp.bootstrap.HibernateBootstrap.SchemaMode;
 import com.mycompany.eventmanagementapp.controller.EventController;
 import com.mycompany.eventmanagementapp.controller.ParticipantController;
 import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.GroupCommitPipeline;
+import com.mycompany.eventmanagementapp.view.utils.OperationExecutor;
+import com.mycompany.eventmanagementapp.view.screen.StartupSplashScreen;
 import com.mycompany.eventmanagementapp.view.screen.EventManagementViewScreen;
 import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
 import com.mycompany.eventmanagementapp.view.screen.ParticipantManagementViewScreen;
 
 // Main class for the Event_Management Swing Application
-@Command(mixinStandardHelpOptions = true)
+@Command(mixinStandardHelpOptions = true, subcommands = { MigrateCommand.class, LoadCommand.class,
+		GenerateCommand.class })
 public class EventManagementApp implements Callable<Void> {
 
 	/**
@@ -80,75 +138,343 @@ public class EventManagementApp implements Callable<Void> {
 	// Logger for logging errors and information.
 	private static final Logger LOGGER = LogManager.getLogger(EventManagementApp.class);
 
-	// Hibernate service registry for database configuration.
-	private StandardServiceRegistry registry;
+	/**
+	 * Prints how long each startup phase took once the first frame is visible.
+	 * This is set via the command line option "--startup-report".
+	 */
+	@Option(names = { "--startup-report" }, description = "print startup timings")
+	private boolean printStartupReport;
+
+	/**
+	 * How the database schema is checked at startup: FINGERPRINT (default) skips the
+	 * check when the mapping has not changed since the schema was last verified,
+	 * VALIDATE always validates it, UPDATE always updates it and NONE skips it.
+	 * This is set via the command line option "--schema-check".
+	 */
+	@Option(names = { "--schema-check" }, description = "schema check at startup: ${COMPLETION-CANDIDATES}")
+	private SchemaMode schemaMode = SchemaMode.FINGERPRINT;
+
+
+	/**
+	 * Commits the concurrent participant registrations in groups. This is set via
+	 * the command line option "--group-commit".
+	 */
+	@Option(names = { "--group-commit" }, description = "commit concurrent participant registrations together")
+	private boolean groupCommit;
+
+	/**
+	 * Milliseconds a group of registrations waits for further ones. This is set
+	 * via the command line option "--group-commit-ms".
+	 */
+	@Option(names = { "--group-commit-ms" }, description = "milliseconds a commit group waits for further writes")
+	private long groupCommitMillis = GroupCommitPipeline.DEFAULT_MAX_DELAY_MILLIS;
+
+	/**
+	 * Registers the participants with upserts instead of a lookup under the
+	 * controller's lock. This is set via the command line option
+	 * "--upsert-registration".
+	 */
+	@Option(names = { "--upsert-registration" }, description = "register participants with database upserts")
+	private boolean upsertRegistration;
+
+	/**
+	 * Skips the lookup of the participant emails a Bloom filter has never seen.
+	 * This is set via the command line option "--email-filter".
+	 */
+	@Option(names = { "--email-filter" }, description = "skip the lookup of new participant emails with a Bloom filter")
+	private boolean emailFilter;
+
+	// Emails of the known participants, null when disabled.
+	private EmailBloomFilter emailBloomFilter;
+
+	// Commits the registrations in groups, null when disabled.
+	private GroupCommitPipeline groupCommitPipeline;
+
+	// Whether the load command runs on an in-memory H2 database instead of the configured one.
+	private boolean inMemoryH2;
+
+	// URL of the in-memory H2 database of the load command, kept open until the application exits.
+	private static final String LOAD_H2_URL = "jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+	// The diagnostics options, and the metrics, profiling and reports they enable.
+	@Mixin
+	private DiagnosticsBootstrap diagnostics = new DiagnosticsBootstrap();
+
+	// Numbers the bootstrap threads.
+	private static final AtomicInteger BOOTSTRAP_THREADS = new AtomicInteger();
+
+	// Splash screen shown while the application starts, only accessed on the EDT.
+	private StartupSplashScreen splashScreen;
 
 	public static void main(String[] args) {
+		EventManagementApp app = new EventManagementApp();
+		Runtime.getRuntime().addShutdownHook(new Thread(app.diagnostics::runShutdownTasks, "app-shutdown"));
 		// Initializes the application using picocli's CommandLine to parse command-line
 		// arguments.
-		new CommandLine(new EventManagementApp()).execute(args);
+		new CommandLine(app).setCaseInsensitiveEnumValuesAllowed(true).execute(args);
 	}
 
 	// Method invoked when the application is called.
 	@Override
 	public Void call() throws Exception {
-		// Runs the UI-related code on the EventQueue thread to ensure thread safety in
-		// Swing.
+		StartupReport startupReport = new StartupReport();
+		diagnostics.enableForApplication();
+
+		// Shows the splash screen right away, the bootstrap below does not run on the EDT.
 		EventQueue.invokeLater(() -> {
-			try {
-				// Fetch the current environment property to determine which configuration to
-				// load.
-				String environment = System.getProperty("ENVIRONMENT");
-
-				// If the environment is set to "testWithEclipes", load the testing
-				// configuration.
-				if ("testWithEclipes".equals(environment)) {
-					registry = new StandardServiceRegistryBuilder().configure("hibernate-IT.cfg.xml")
-							.applySetting("hibernate.connection.url", url)
-							.applySetting("hibernate.connection.username", user)
-							.applySetting("hibernate.hbm2ddl.auto", "validate")
-							.applySetting("hibernate.connection.password", pass).build();
-				} else {
-					// For other environments, load the default configuration.
-					registry = new StandardServiceRegistryBuilder().configure().build();
+			splashScreen = new StartupSplashScreen();
+			splashScreen.setVisible(true);
+		});
+
+		// Builds the SessionFactory in the background, then loads the events and the participants
+		// concurrently. The events are loaded once and shared by both screens.
+		ExecutorService bootstrapExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable,
+				"app-bootstrap-" + BOOTSTRAP_THREADS.incrementAndGet()));
+		CompletableFuture<SessionFactory> sessionFactoryLoad = CompletableFuture.supplyAsync(
+				() -> startupReport.measure("SessionFactory built", this::buildSessionFactory), bootstrapExecutor);
+		CompletableFuture<EventRepository> eventRepositoryLoad = sessionFactoryLoad
+				.thenApply(sessionFactory -> diagnostics.instrument(EventRepository.class,
+						new EventMySqlRepository(sessionFactory)));
+		CompletableFuture<ParticipantRepository> participantRepositoryLoad = sessionFactoryLoad
+				.thenApply(sessionFactory -> {
+					ParticipantRepository participantRepository = participantRepository(sessionFactory);
+					if (groupCommitPipeline != null) {
+						// Commits the registrations still waiting when the application exits
+						diagnostics.addShutdownTask(groupCommitPipeline::close);
+					}
+					return participantRepository;
+				});
+		CompletableFuture<List<EventModel>> eventsLoad = eventRepositoryLoad.thenApplyAsync(
+				eventRepository -> startupReport.measure("Events loaded", eventRepository::getAllEvents),
+				bootstrapExecutor);
+		CompletableFuture<List<ParticipantModel>> participantsLoad = participantRepositoryLoad.thenApplyAsync(
+				participantRepository -> startupReport.measure("Participants loaded",
+						participantRepository::getAllParticipants),
+				bootstrapExecutor);
+
+		// Only the final Swing wiring runs on the EDT, once everything has been loaded.
+		CompletableFuture.allOf(eventsLoad, participantsLoad).whenComplete((ignored, failure) -> {
+			bootstrapExecutor.shutdown();
+			EventQueue.invokeLater(() -> {
+				if (failure != null) {
+					// Logs any exceptions that occur while building the SessionFactory or loading the data.
+					LOGGER.error("context", failure);
+					closeSplashScreen();
+					showSchemaFailure(failure);
+					return;
+				}
+				try {
+					showScreens(eventRepositoryLoad.join(), participantRepositoryLoad.join(), eventsLoad.join(),
+							participantsLoad.join(), startupReport);
+				} catch (Exception e) {
+					// Logs any exceptions that occur during initialization.
+					LOGGER.error("context", e);
+					closeSplashScreen();
 				}
+			});
+		});
+		return null;
+	}
+
+	DiagnosticsBootstrap getDiagnostics() {
+		return diagnostics;
+	}
+
+	SchemaMode getSchemaMode() {
+		return schemaMode;
+	}
+
+	boolean isGroupCommit() {
+		return groupCommit;
+	}
+
+	boolean isUpsertRegistration() {
+		return upsertRegistration;
+	}
+
+	// Returns the commit groups of the participant repository, null when disabled or not created yet.
+	GroupCommitPipeline getGroupCommitPipeline() {
+		return groupCommitPipeline;
+	}
+
+	// Returns the email filter of the participant repository, null when disabled or not created yet.
+	EmailBloomFilter getEmailBloomFilter() {
+		return emailBloomFilter;
+	}
+
+	// Makes the commands work on an in-memory H2 database in MySQL mode instead of the configured one.
+	void useInMemoryH2() {
+		inMemoryH2 = true;
+	}
+
+	// Applies the pending schema migrations to the configured database.
+	void applyMigrations() throws SQLException {
+		runOnConnection(EventManagementApp::migrate);
+	}
+
+	static void migrate(Connection connection, String connectionUrl) throws SQLException {
+		List<Migration> applied = new HibernateBootstrap(SchemaFingerprintStore.inUserHome()).migrate(connection,
+				connectionUrl);
+		LOGGER.info("Applied {} migration(s): {}", applied.size(), applied);
+	}
+
+	// Runs the work on a connection to the configured database.
+	void runOnConnection(ConnectionWork work) throws SQLException {
+		StandardServiceRegistry registry = configuration().get().build();
+		try {
+			ConnectionProvider connectionProvider = registry.getService(ConnectionProvider.class);
+			Connection connection = connectionProvider.getConnection();
+			try {
+				work.run(connection, HibernateBootstrap.connectionUrl(registry));
+			} finally {
+				connectionProvider.closeConnection(connection);
+			}
+		} finally {
+			StandardServiceRegistryBuilder.destroy(registry);
+		}
+	}
 
-				// Sets up Hibernate's SessionFactory for managing database connections.
-				MetadataSources metadataSources = new MetadataSources(registry);
-				SessionFactory sessionFactory = metadataSources.buildMetadata().buildSessionFactory();
+	// Work done on a JDBC connection by the commands.
+	interface ConnectionWork {
+		void run(Connection connection, String connectionUrl) throws SQLException;
+	}
+
+	// Builds Hibernate's SessionFactory for managing database connections.
+	private SessionFactory buildSessionFactory() {
+		HibernateBootstrap hibernateBootstrap = new HibernateBootstrap(SchemaFingerprintStore.inUserHome());
 
-				// Initialize the Swing views for event and participant.
-				EventManagementViewScreen eventView = new EventManagementViewScreen();
-				ParticipantManagementViewScreen participantView = new ParticipantManagementViewScreen();
+		// The testing configuration always validates the schema.
+		SchemaMode mode = isTestEnvironment() ? SchemaMode.VALIDATE : schemaMode;
+		SessionFactory sessionFactory = hibernateBootstrap.buildSessionFactory(configuration(), mode);
+		diagnostics.sessionFactoryBuilt(sessionFactory);
+		return sessionFactory;
+	}
+
+	// Provides the Hibernate configuration of the current environment, with statistics and profiling when enabled.
+	Supplier<StandardServiceRegistryBuilder> configuration() {
+		Supplier<StandardServiceRegistryBuilder> environmentConfiguration = environmentConfiguration();
+		return () -> diagnostics.configure(environmentConfiguration.get());
+	}
 
-				// Initialize the repositories for interacting with the MySQL database.
-				EventMySqlRepository eventRepository = new EventMySqlRepository(sessionFactory);
-				ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+	private Supplier<StandardServiceRegistryBuilder> environmentConfiguration() {
+		// The load command can run on an in-memory H2 database behaving like MySQL.
+		if (inMemoryH2) {
+			return () -> new StandardServiceRegistryBuilder().configure()
+					.applySetting(AvailableSettings.DRIVER, "org.h2.Driver")
+					.applySetting(AvailableSettings.URL, LOAD_H2_URL)
+					.applySetting(AvailableSettings.USER, "sa")
+					.applySetting(AvailableSettings.PASS, "")
+					.applySetting(AvailableSettings.DIALECT, H2Dialect.class.getName());
+		}
+		// If the environment is set to "testWithEclipes", load the testing
+		// configuration.
+		if (isTestEnvironment()) {
+			return () -> new StandardServiceRegistryBuilder().configure("hibernate-IT.cfg.xml")
+					.applySetting("hibernate.connection.url", url)
+					.applySetting("hibernate.connection.username", user)
+					.applySetting("hibernate.connection.password", pass);
+		}
+		// For other environments, load the default configuration.
+		return () -> new StandardServiceRegistryBuilder().configure();
+	}
 
-				// Create controllers to handle user interactions and business logic.
-				EventController eventController = new EventController(eventView, eventRepository);
-				ParticipantController participantController = new ParticipantController(participantView,
-						participantRepository, eventRepository);
+	// Fetch the current environment property to determine which configuration to
+	// load.
+	private static boolean isTestEnvironment() {
+		return "testWithEclipes".equals(System.getProperty("ENVIRONMENT"));
+	}
 
-				// Link views with their respective controllers.
-				eventView.setEventController(eventController);
-				eventView.setParticipantView(participantView);
+	// Creates the event screen with the preloaded events, the participant screen is created lazily.
+	private void showScreens(EventRepository eventRepository, ParticipantRepository participantRepository,
+			List<EventModel> events, List<ParticipantModel> participants, StartupReport startupReport) {
+		MetricsRegistry metricsRegistry = diagnostics.getMetricsRegistry();
+		InteractionLatencyRecorder latencyRecorder = diagnostics.getLatencyRecorder();
+		// Both screens run their operations on one bounded executor
+		OperationExecutor operationExecutor = new OperationExecutor(OperationExecutor.DEFAULT_WORKERS,
+				OperationExecutor.DEFAULT_CAPACITY, metricsRegistry == null ? new MetricsRegistry() : metricsRegistry);
+		if (metricsRegistry != null) {
+			operationExecutor.registerMBean(ManagementFactory.getPlatformMBeanServer());
+		}
+		EventManagementViewScreen eventView = new EventManagementViewScreen();
+		eventView.setLatencyRecorder(latencyRecorder);
+		eventView.setOperationExecutor(operationExecutor);
+		EventController eventController = metricsRegistry == null ? new EventController(eventView, eventRepository)
+				: new InstrumentedEventController(eventView, eventRepository, metricsRegistry);
+		eventView.setEventController(eventController);
 
-				// Load all events and make the view visible to the user.
-				eventController.getAllEvents();
-				eventView.setVisible(true);
+		// The participant screen is only built when the user navigates to it for the first time.
+		eventView.setParticipantViewProvider(() -> {
+			ParticipantManagementViewScreen participantView = new ParticipantManagementViewScreen();
+			participantView.setLatencyRecorder(latencyRecorder);
+			participantView.setOperationExecutor(operationExecutor);
+			ParticipantController participantController = metricsRegistry == null
+					? new ParticipantController(participantView, participantRepository, eventRepository)
+					: new InstrumentedParticipantController(participantView, participantRepository, eventRepository,
+							metricsRegistry);
+			participantController.setGroupCommit(groupCommit);
+			participantController.setUpsertRegistration(upsertRegistration);
+			participantController.setEmailFilter(emailBloomFilter);
+			participantView.setParticipantController(participantController);
+			participantView.setEventView(eventView);
+			// Shown until the activation of the screen has reloaded them in the background
+			participantView.showAllEvents(events);
+			participantView.showAllParticipants(participants);
+			return participantView;
+		});
 
-				// Link participant view to participant controller and load all participants.
-				participantView.setParticipantController(participantController);
-				participantController.getAllEvents();
-				participantController.getAllParticipants();
-				participantView.setEventView(eventView);
+		// Show the preloaded events and make the view visible to the user.
+		eventView.showPreloadedEvents(events);
+		eventView.setVisible(true);
+		closeSplashScreen();
 
-			} catch (Exception e) {
-				// Logs any exceptions that occur during initialization.
-				LOGGER.error("context", e);
+		// The first frame has been painted once the events queued by setVisible have been processed.
+		EventQueue.invokeLater(() -> {
+			startupReport.mark("First frame visible");
+			if (printStartupReport) {
+				LOGGER.info(startupReport.format());
 			}
 		});
-		return null;
 	}
-}
\ No newline at end of file
+
+	// Creates the participant repository, committing the registrations in groups and maintaining the email filter
+	// when enabled.
+	ParticipantRepository participantRepository(SessionFactory sessionFactory) {
+		MetricsRegistry metricsRegistry = diagnostics.getMetricsRegistry();
+		ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		if (groupCommit) {
+			groupCommitPipeline = new GroupCommitPipeline(sessionFactory, groupCommitMillis,
+					GroupCommitPipeline.DEFAULT_MAX_BATCH_SIZE);
+			if (metricsRegistry != null) {
+				groupCommitPipeline.registerMBean(ManagementFactory.getPlatformMBeanServer());
+			}
+			participantRepository.setGroupCommitPipeline(groupCommitPipeline);
+		}
+		if (emailFilter) {
+			emailBloomFilter = EmailBloomFilter.load(sessionFactory);
+			if (metricsRegistry != null) {
+				emailBloomFilter.registerMBean(ManagementFactory.getPlatformMBeanServer());
+			}
+			participantRepository.setEmailFilter(emailBloomFilter);
+		}
+		return diagnostics.instrument(ParticipantRepository.class, participantRepository);
+	}
+
+	// Tells the user to migrate the database when the startup failed on a missing or outdated schema, as happens
+	// on the first launch against a new database.
+	private static void showSchemaFailure(Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SchemaManagementException) {
+				JOptionPane.showMessageDialog(null, cause.getMessage(), "Event Management App",
+						JOptionPane.ERROR_MESSAGE);
+				return;
+			}
+		}
+	}
+
+	private void closeSplashScreen() {
+		if (splashScreen != null) {
+			splashScreen.dispose();
+			splashScreen = null;
+		}
+	}
+}
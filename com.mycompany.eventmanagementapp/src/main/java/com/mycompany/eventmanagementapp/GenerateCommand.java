@@ -0,0 +1,92 @@
+/**
+ * GenerateCommand migrates the database, then inserts --events events (default 1000) and --participants participants
+ * (default 100000) with batched inserts, registered to the events with a skewed distribution reproducible from
+ * --seed, and exits. The configured database is used unless the JDBC URL of an H2 or MySQL database is given with
+ * --url (see DatasetGenerator).
+ */
+
+package com.mycompany.eventmanagementapp;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.DriverManager;
+import java.util.concurrent.Callable;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.ParentCommand;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+
+@Command(name = "generate", description = "insert a synthetic dataset with batched inserts and exit")
+class GenerateCommand implements Callable<Integer> {
+
+	// Logger for logging errors and information.
+	private static final Logger LOGGER = LogManager.getLogger(GenerateCommand.class);
+
+	// The application, holding the database options.
+	@ParentCommand
+	private EventManagementApp app;
+
+	@Option(names = { "--events" }, defaultValue = "1000", description = "number of events")
+	private int events;
+
+	@Option(names = { "--participants" }, defaultValue = "100000", description = "number of participants")
+	private int participants;
+
+	@Option(names = { "--registrations" }, defaultValue = "1.5", description = "mean number of events per participant")
+	private double registrations;
+
+	@Option(names = { "--skew" }, defaultValue = "1.0",
+			description = "Zipf exponent of the event sizes, 0 for even sizes")
+	private double skew;
+
+	@Option(names = { "--seed" }, defaultValue = "1", description = "seed of the generated data")
+	private long seed;
+
+	@Option(names = { "--batch-size" }, defaultValue = "" + DatasetGenerator.DEFAULT_BATCH_SIZE,
+			description = "rows per batch and transaction")
+	private int batchSize;
+
+	@Option(names = { "--url" }, description = "JDBC URL of the H2 or MySQL database to fill")
+	private String jdbcUrl;
+
+	@Option(names = { "--user" }, defaultValue = "", description = "user of the --url database")
+	private String jdbcUser;
+
+	@Option(names = { "--password" }, defaultValue = "", description = "password of the --url database")
+	private String jdbcPassword;
+
+	@Override
+	public Integer call() {
+		try {
+			DatasetGenerator generator = new DatasetGenerator();
+			generator.setEvents(events);
+			generator.setParticipants(participants);
+			generator.setRegistrationsPerParticipant(registrations);
+			generator.setSkew(skew);
+			generator.setSeed(seed);
+			generator.setBatchSize(batchSize);
+			EventManagementApp.ConnectionWork work = (connection, connectionUrl) -> {
+				EventManagementApp.migrate(connection, connectionUrl);
+				generator.generate(connection);
+			};
+			if (jdbcUrl == null) {
+				app.runOnConnection(work);
+			} else {
+				try (Connection connection = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword)) {
+					work.run(connection, jdbcUrl);
+				}
+			}
+			return 0;
+		} catch (IllegalArgumentException e) {
+			LOGGER.error("Invalid generate option: {}", e.getMessage());
+			return 2;
+		} catch (SQLException | RuntimeException e) {
+			// Logs any exceptions that occur while generating.
+			LOGGER.error("context", e);
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * LoadCommand runs --clerks (default 10) virtual clerks for --duration seconds (default 60), each performing the
+ * operations of --mix on the configured database through its own controllers and headless views, then logs their
+ * throughput, latency percentiles, error rates and the violated data invariants, and exits with 3 when an invariant
+ * is violated (see LoadHarness).
+ *
+ * With --h2 the clerks work on an in-memory H2 database in MySQL mode migrated for the run, the H2 driver being only
+ * on the classpath with the "load" Maven profile (mvn -Pload compile exec:exec -Dload.args="<load options>").
+ * --load-report also writes the report to a file. --dataset-events and --dataset-participants fill the database with
+ * a synthetic dataset before the clerks start. The --group-commit, --upsert-registration and --email-filter options
+ * of the application also apply to the clerks.
+ */
+
+package com.mycompany.eventmanagementapp;
+
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+import java.util.concurrent.Callable;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.ParentCommand;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.loadtest.LoadReport;
+import com.mycompany.eventmanagementapp.loadtest.LoadHarness;
+import com.mycompany.eventmanagementapp.loadtest.OperationMix;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.bootstrap.HibernateBootstrap;
+import com.mycompany.eventmanagementapp.bootstrap.DiagnosticsBootstrap;
+import com.mycompany.eventmanagementapp.bootstrap.SchemaFingerprintStore;
+import com.mycompany.eventmanagementapp.bootstrap.HibernateBootstrap.SchemaMode;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+
+@Command(name = "load", description = "simulate concurrent clerks and report throughput, latencies and invariants")
+class LoadCommand implements Callable<Integer> {
+
+	// Logger for logging errors and information.
+	private static final Logger LOGGER = LogManager.getLogger(LoadCommand.class);
+
+	// The application, holding the database, registration and diagnostics options.
+	@ParentCommand
+	private EventManagementApp app;
+
+	@Option(names = { "--clerks" }, defaultValue = "10", description = "number of virtual clerks")
+	private int clerks;
+
+	@Option(names = { "--duration" }, defaultValue = "60", description = "seconds the clerks run")
+	private long seconds;
+
+	@Option(names = { "--mix" }, defaultValue = OperationMix.DEFAULT,
+			description = "operation=weight pairs, default: ${DEFAULT-VALUE}")
+	private String mix;
+
+	@Option(names = { "--seed" }, defaultValue = "1", description = "seed of the clerks' choices")
+	private long seed;
+
+	@Option(names = { "--participant-pool" }, defaultValue = "" + LoadHarness.DEFAULT_PARTICIPANT_POOL,
+			description = "number of distinct participant emails")
+	private int participantPool;
+
+	@Option(names = { "--h2" }, description = "run on an in-memory H2 database in MySQL mode")
+	private boolean h2;
+
+	@Option(names = { "--load-report" }, description = "write the report to this file")
+	private Path reportFile;
+
+	@Option(names = { "--dataset-events" }, defaultValue = "0", description = "events generated before the run")
+	private int datasetEvents;
+
+	@Option(names = { "--dataset-participants" }, defaultValue = "0",
+			description = "participants generated before the run")
+	private int datasetParticipants;
+
+	@Override
+	public Integer call() {
+		if (h2 && !isH2Available()) {
+			LOGGER.error("--h2 needs the H2 driver, run the load harness with the \"load\" Maven profile");
+			return 2;
+		}
+		if (h2) {
+			app.useInMemoryH2();
+		}
+		DiagnosticsBootstrap diagnostics = app.getDiagnostics();
+		diagnostics.enableForLoad();
+		SessionFactory sessionFactory = null;
+		try {
+			OperationMix operationMix = OperationMix.parse(mix);
+			if (h2) {
+				app.applyMigrations();
+			}
+			if (datasetEvents > 0) {
+				DatasetGenerator generator = new DatasetGenerator();
+				generator.setEvents(datasetEvents);
+				generator.setParticipants(datasetParticipants);
+				generator.setSeed(seed);
+				app.runOnConnection((connection, connectionUrl) -> generator.generate(connection));
+			}
+			// Every clerk stands for a running application, with a connection of its own
+			Supplier<StandardServiceRegistryBuilder> configuration = app.configuration();
+			sessionFactory = new HibernateBootstrap(SchemaFingerprintStore.inUserHome()).buildSessionFactory(
+					() -> configuration.get().applySetting(AvailableSettings.POOL_SIZE, String.valueOf(clerks)),
+					h2 ? SchemaMode.VALIDATE : app.getSchemaMode());
+			EventRepository eventRepository = diagnostics.instrument(EventRepository.class,
+					new EventMySqlRepository(sessionFactory));
+			ParticipantRepository participantRepository = app.participantRepository(sessionFactory);
+			MetricsRegistry metricsRegistry = diagnostics.getMetricsRegistry();
+			LoadHarness harness = new LoadHarness(eventRepository, participantRepository,
+					metricsRegistry == null ? new MetricsRegistry() : metricsRegistry);
+			harness.setParticipantPool(participantPool);
+			harness.setGroupCommit(app.isGroupCommit());
+			harness.setUpsertRegistration(app.isUpsertRegistration());
+			harness.setEmailFilter(app.getEmailBloomFilter());
+			LoadReport report = harness.run(clerks, Duration.ofSeconds(seconds), operationMix, seed);
+			if (reportFile != null) {
+				Files.write(reportFile, report.format().getBytes(StandardCharsets.UTF_8));
+				LOGGER.info("Load report written to {}", reportFile.toAbsolutePath());
+			}
+			return report.getInvariantViolations().isEmpty() ? 0 : 3;
+		} catch (IllegalArgumentException e) {
+			LOGGER.error("Invalid load option: {}", e.getMessage());
+			return 2;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return 1;
+		} catch (SQLException | IOException | RuntimeException e) {
+			// Logs any exceptions that occur while preparing or running the load.
+			LOGGER.error("context", e);
+			return 1;
+		} finally {
+			// Commits the registrations still waiting before the SessionFactory is closed
+			if (app.getGroupCommitPipeline() != null) {
+				app.getGroupCommitPipeline().close();
+			}
+			if (sessionFactory != null) {
+				sessionFactory.close();
+			}
+		}
+	}
+
+	// The H2 driver is only on the classpath of the tests and of the "load" Maven profile
+	private static boolean isH2Available() {
+		try {
+			Class.forName("org.h2.Driver");
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+}
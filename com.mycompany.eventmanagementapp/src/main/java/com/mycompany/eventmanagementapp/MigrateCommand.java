@@ -0,0 +1,39 @@
+/**
+ * MigrateCommand applies the pending versioned schema migrations to the configured database (see MigrationRunner)
+ * and exits. Startup never creates the schema, a new database has to be migrated before the first launch. The schema
+ * fingerprint of the database is forgotten when a migration was applied, the next launch validates the schema.
+ */
+
+package com.mycompany.eventmanagementapp;
+
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.ParentCommand;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+
+import com.mycompany.eventmanagementapp.migration.MigrationException;
+
+@Command(name = "migrate", description = "apply the pending schema migrations and exit")
+class MigrateCommand implements Callable<Integer> {
+
+	// Logger for logging errors and information.
+	private static final Logger LOGGER = LogManager.getLogger(MigrateCommand.class);
+
+	// The application, holding the database options.
+	@ParentCommand
+	private EventManagementApp app;
+
+	@Override
+	public Integer call() {
+		try {
+			app.applyMigrations();
+			return 0;
+		} catch (SQLException | MigrationException e) {
+			// Logs any exceptions that occur while migrating.
+			LOGGER.error("context", e);
+			return 1;
+		}
+	}
+}
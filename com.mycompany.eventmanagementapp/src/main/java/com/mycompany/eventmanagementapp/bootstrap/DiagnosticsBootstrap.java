@@ -0,0 +1,303 @@
+/**
+ * DiagnosticsBootstrap holds the diagnostics command line options of the application, mixed into its main command,
+ * and enables what they ask for: the metrics, the EDT watchdog, the Hibernate statistics, the JDBC profiling, the
+ * tracing and the latency of the user actions.
+ *
+ * Command-line options:
+ * - --metrics: Records call counts, error counts and latency percentiles of every repository and controller
+ *   operation, exposed as JMX MBeans under "com.mycompany.eventmanagementapp" (see MetricsRegistry), together with
+ *   the queue depth and queue wait of the operations started by the screens (see OperationExecutor).
+ * - --metrics-dump: Writes the metrics to the given file when the application exits, implies --metrics.
+ * - --edt-watchdog: Measures the event dispatch latency continuously and logs the EDT stack whenever a dispatch
+ *   takes longer than --edt-freeze-ms (default 250). Latencies and freezes are recorded as the "edt" metrics,
+ *   implies --metrics (see EdtWatchdog).
+ * - --stats: Enables Hibernate's statistics and logs a compact summary every --stats-interval seconds (default 60).
+ *   The statistics and a per-query breakdown, including the controller methods the statements originate from,
+ *   are exposed over JMX (see HibernateStatisticsReporter).
+ * - --stats-dump: Writes the statistics and the per-query breakdown to the given file at exit, implies --stats.
+ * - --profile-jdbc: Times every SQL statement at the JDBC level, logs those taking at least --slow-query-ms
+ *   (default 100) with their bind values and originating repository method, and logs the top --profile-jdbc-top
+ *   (default 20) normalized statements by total time at exit (see SqlProfiler).
+ * - --trace: Traces every add, update and delete from the button click through the controller and repository calls
+ *   to the view update, across the thread hops, and writes the spans to the given file at exit as a Chrome trace
+ *   (see Tracer).
+ * - --ui-latency-dump: Writes the end to end latency of every user action, from the click to the painted view
+ *   update, to the given CSV file at exit. The latencies are always measured and can also be viewed and exported
+ *   from the diagnostics dialog (Ctrl+Shift+D), and are exposed over JMX as the "ui" metrics with --metrics
+ *   (see InteractionLatencyRecorder).
+ *
+ * The reports are written by the shutdown tasks, run one after the other by the single shutdown hook of the
+ * application, which then stops Log4j so that the messages still in its ring buffer are flushed.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import java.util.List;
+import java.nio.file.Path;
+import java.io.IOException;
+import picocli.CommandLine.Option;
+import org.hibernate.SessionFactory;
+import java.util.concurrent.TimeUnit;
+import java.lang.management.ManagementFactory;
+import org.hibernate.cfg.AvailableSettings;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.tracing.Tracer;
+import com.mycompany.eventmanagementapp.metrics.SqlProfiler;
+import com.mycompany.eventmanagementapp.metrics.EdtWatchdog;
+import com.mycompany.eventmanagementapp.metrics.MetricsProxy;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.metrics.QueryOriginInspector;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+import com.mycompany.eventmanagementapp.metrics.HibernateStatisticsReporter;
+import com.mycompany.eventmanagementapp.metrics.ProfilingConnectionProvider;
+
+public class DiagnosticsBootstrap {
+
+	// Logger for logging errors and information.
+	private static final Logger LOGGER = LogManager.getLogger(DiagnosticsBootstrap.class);
+
+	/**
+	 * Records call counts, error counts and latency percentiles of every repository
+	 * and controller operation, exposed over JMX. This is set via the command line
+	 * option "--metrics".
+	 */
+	@Option(names = { "--metrics" }, description = "record repository and controller metrics, exposed over JMX")
+	private boolean metrics;
+
+	/**
+	 * File the metrics are written to when the application exits, enables the
+	 * metrics. This is set via the command line option "--metrics-dump".
+	 */
+	@Option(names = { "--metrics-dump" }, description = "write the metrics to this file at exit")
+	private Path metricsDumpFile;
+
+	/**
+	 * Measures how quickly the event dispatch thread handles events and logs its
+	 * stack when it freezes, enables the metrics. This is set via the command line
+	 * option "--edt-watchdog".
+	 */
+	@Option(names = { "--edt-watchdog" }, description = "detect and report event dispatch thread freezes")
+	private boolean edtWatchdog;
+
+	/**
+	 * Dispatch latency, in milliseconds, from which the event dispatch thread is
+	 * considered frozen. This is set via the command line option "--edt-freeze-ms".
+	 */
+	@Option(names = { "--edt-freeze-ms" }, description = "event dispatch latency considered a freeze, in milliseconds")
+	private long edtFreezeMillis = 250;
+
+	/**
+	 * Enables Hibernate's statistics, logs a summary of them periodically and
+	 * exposes them over JMX. This is set via the command line option "--stats".
+	 */
+	@Option(names = { "--stats" }, description = "enable Hibernate statistics and log a summary periodically")
+	private boolean stats;
+
+	/**
+	 * Seconds between two summaries of the Hibernate statistics. This is set via the
+	 * command line option "--stats-interval".
+	 */
+	@Option(names = { "--stats-interval" }, description = "seconds between two statistics summaries")
+	private long statsIntervalSeconds = 60;
+
+	/**
+	 * File the Hibernate statistics and the per-query breakdown are written to when
+	 * the application exits, enables the statistics. This is set via the command
+	 * line option "--stats-dump".
+	 */
+	@Option(names = { "--stats-dump" }, description = "write the Hibernate statistics to this file at exit")
+	private Path statsDumpFile;
+
+	/**
+	 * Times every SQL statement, logs the slow ones and reports the top statements
+	 * at exit. This is set via the command line option "--profile-jdbc".
+	 */
+	@Option(names = { "--profile-jdbc" }, description = "time every SQL statement and log the slow ones")
+	private boolean profileJdbc;
+
+	/**
+	 * Statements taking at least this many milliseconds are logged with their bind
+	 * values, zero logs every statement. This is set via the command line option
+	 * "--slow-query-ms".
+	 */
+	@Option(names = { "--slow-query-ms" }, description = "threshold of the slow statement log, in milliseconds")
+	private long slowQueryMillis = 100;
+
+	/**
+	 * Number of statements listed in the report logged at exit. This is set via the
+	 * command line option "--profile-jdbc-top".
+	 */
+	@Option(names = { "--profile-jdbc-top" }, description = "number of statements in the report logged at exit")
+	private int profileJdbcTop = 20;
+
+	/**
+	 * File the traced user actions are written to when the application exits, in
+	 * the Chrome trace format. This is set via the command line option "--trace".
+	 */
+	@Option(names = { "--trace" }, description = "trace user actions and write them to this file at exit")
+	private Path traceFile;
+
+	/**
+	 * File the latency of the user actions is written to as CSV when the
+	 * application exits. This is set via the command line option
+	 * "--ui-latency-dump".
+	 */
+	@Option(names = { "--ui-latency-dump" }, description = "write the user action latencies to this CSV file at exit")
+	private Path uiLatencyDumpFile;
+
+	// Milliseconds between two checks of the event dispatch thread.
+	private static final long EDT_CHECK_INTERVAL_MILLIS = 100;
+
+	// Times the SQL statements at the JDBC level, null when disabled.
+	private SqlProfiler sqlProfiler;
+
+	// Counts the SQL statements per originating controller and repository method, null when disabled.
+	private QueryOriginInspector queryOrigins;
+
+	// Metrics of the repository and controller operations, null when disabled.
+	private MetricsRegistry metricsRegistry;
+
+	// Latency of the user actions of both screens, recorded in the metrics registry when enabled.
+	private InteractionLatencyRecorder latencyRecorder;
+
+	// Tasks run by the shutdown hook, in the order they were added.
+	private final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
+
+	// Enables the diagnostics asked for on the command line for the Swing application.
+	public void enableForApplication() {
+		if (metrics || metricsDumpFile != null || edtWatchdog) {
+			enableMetrics();
+		}
+		if (edtWatchdog) {
+			new EdtWatchdog(metricsRegistry, edtFreezeMillis).start(EDT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		if (stats || statsDumpFile != null) {
+			queryOrigins = new QueryOriginInspector();
+		}
+		if (profileJdbc) {
+			enableSqlProfiling();
+		}
+		if (traceFile != null) {
+			enableTracing();
+		}
+		enableLatencyRecording();
+	}
+
+	// Enables the metrics and the JDBC profiling for the load command, the others need the Swing screens.
+	public void enableForLoad() {
+		if (metrics || metricsDumpFile != null) {
+			enableMetrics();
+		}
+		if (profileJdbc) {
+			enableSqlProfiling();
+		}
+	}
+
+	// Applies the settings of the Hibernate statistics and of the JDBC profiling when enabled.
+	public StandardServiceRegistryBuilder configure(StandardServiceRegistryBuilder builder) {
+		if (queryOrigins != null) {
+			builder.applySetting(AvailableSettings.GENERATE_STATISTICS, "true")
+					.applySetting(AvailableSettings.STATEMENT_INSPECTOR, queryOrigins);
+		}
+		if (sqlProfiler != null) {
+			builder.applySetting(AvailableSettings.CONNECTION_PROVIDER, ProfilingConnectionProvider.class.getName())
+					.applySetting(ProfilingConnectionProvider.PROFILER, sqlProfiler);
+		}
+		return builder;
+	}
+
+	// Reports the Hibernate statistics of the SessionFactory when enabled.
+	public void sessionFactoryBuilt(SessionFactory sessionFactory) {
+		if (queryOrigins != null) {
+			enableStatistics(sessionFactory);
+		}
+	}
+
+	// Wraps the repository to record the latency of its calls when metrics are enabled.
+	public <T> T instrument(Class<T> type, T repository) {
+		return metricsRegistry == null ? repository
+				: MetricsProxy.instrument(type, repository, metricsRegistry, "repository");
+	}
+
+	// Returns the metrics registry, null when the metrics are disabled.
+	public MetricsRegistry getMetricsRegistry() {
+		return metricsRegistry;
+	}
+
+	public InteractionLatencyRecorder getLatencyRecorder() {
+		return latencyRecorder;
+	}
+
+	// Runs a task, for example writing a report, when the application exits.
+	public void addShutdownTask(Runnable task) {
+		shutdownTasks.add(task);
+	}
+
+	// Runs the shutdown tasks one after the other, then stops Log4j so that the asynchronous loggers write
+	// everything logged so far, including the reports of the tasks.
+	public void runShutdownTasks() {
+		try {
+			for (Runnable task : shutdownTasks) {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					// Logs any exceptions that occur while running a shutdown task, the next ones still run.
+					LOGGER.error("Shutdown task failed", e);
+				}
+			}
+		} finally {
+			LogManager.shutdown();
+		}
+	}
+
+	// Exposes the metrics over JMX and dumps them at shutdown when asked to.
+	private void enableMetrics() {
+		metricsRegistry = new MetricsRegistry();
+		metricsRegistry.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+		if (metricsDumpFile != null) {
+			addShutdownTask(() -> metricsRegistry.dumpTo(metricsDumpFile));
+		}
+	}
+
+	// Reports the Hibernate statistics periodically, over JMX and at shutdown when asked to.
+	private void enableStatistics(SessionFactory sessionFactory) {
+		HibernateStatisticsReporter statisticsReporter = new HibernateStatisticsReporter(
+				sessionFactory.getStatistics(), queryOrigins);
+		statisticsReporter.registerMBean(ManagementFactory.getPlatformMBeanServer());
+		statisticsReporter.start(statsIntervalSeconds, TimeUnit.SECONDS);
+		if (statsDumpFile != null) {
+			addShutdownTask(() -> statisticsReporter.dumpTo(statsDumpFile));
+		}
+	}
+
+	// Logs the top statements at shutdown, the slow ones are logged as they execute.
+	private void enableSqlProfiling() {
+		sqlProfiler = new SqlProfiler(slowQueryMillis);
+		addShutdownTask(() -> sqlProfiler.logReport(profileJdbcTop));
+	}
+
+	// Writes the traced user actions at shutdown.
+	private void enableTracing() {
+		Tracer.enable(Tracer.DEFAULT_MAX_SPANS);
+		addShutdownTask(() -> {
+			try {
+				LOGGER.info("Trace written to {}, {} span(s) dropped", Tracer.exportTo(traceFile), Tracer.droppedSpans());
+			} catch (IOException e) {
+				// Logs any exceptions that occur while writing the trace.
+				LOGGER.error("Could not write the trace to {}", traceFile, e);
+			}
+		});
+	}
+
+	// Measures the user actions in the metrics registry when enabled, and dumps them at shutdown when asked to.
+	private void enableLatencyRecording() {
+		latencyRecorder = new InteractionLatencyRecorder(metricsRegistry == null ? new MetricsRegistry() : metricsRegistry);
+		if (uiLatencyDumpFile != null) {
+			addShutdownTask(() -> latencyRecorder.exportCsv(uiLatencyDumpFile));
+		}
+	}
+}
@@ -0,0 +1,257 @@
+/**
+ * HibernateBootstrap builds the Hibernate SessionFactory while keeping schema work off the startup path.
+ *
+ * Hibernate's hbm2ddl setting is always turned off, with a warning when the configuration sets it, and the schema is
+ * handled according to a SchemaMode:
+ * - FINGERPRINT (default): A fingerprint of the entity mapping (tables, columns, SQL types, keys) is compared
+ *   with the one stored for the database URL in the SchemaFingerprintStore. If it matches, the schema was
+ *   already verified for this mapping and no introspection is done at all. Otherwise the schema is validated
+ *   once and, if valid, the fingerprint is stored for the next launches.
+ * - VALIDATE: The schema is validated on every launch.
+ * - UPDATE: The schema is updated on every launch, as the previous hbm2ddl "update" setting did. Only kept to
+ *   compare startup times.
+ * - NONE: The schema is neither inspected nor changed.
+ *
+ * Startup never changes the schema in FINGERPRINT and VALIDATE modes, the DDL work is done explicitly by the
+ * MigrationRunner (the "migrate" and "generate" commands), through migrate: when it applies a migration, the
+ * fingerprint of the database is forgotten, so that the first launch afterwards validates the schema once. A new
+ * database therefore has to be migrated before the first launch, its validation otherwise fails with a message
+ * asking to run the "migrate" command.
+ *
+ * The bootstrap is also made cheaper by:
+ * - Registering the annotated model classes explicitly, so no mapping discovery is needed.
+ * - Disabling the JDBC metadata lookup done while building the SessionFactory when the schema is not inspected,
+ *   the configured dialect is used instead and no connection is opened until the first query. Validating or
+ *   updating the schema still reads the JDBC metadata, which defines how the database stores identifiers.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import java.util.List;
+import java.util.EnumSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.function.Supplier;
+import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.Column;
+import java.security.MessageDigest;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.SessionFactory;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.HibernateException;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.boot.MetadataSources;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.LogManager;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import java.security.NoSuchAlgorithmException;
+import org.hibernate.tool.hbm2ddl.SchemaValidator;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.migration.Migration;
+import com.mycompany.eventmanagementapp.migration.MigrationRunner;
+
+public class HibernateBootstrap {
+
+	// How the database schema is checked at startup
+	public enum SchemaMode {
+		FINGERPRINT, VALIDATE, UPDATE, NONE
+	}
+
+	// What the last bootstrap did with the database schema
+	public enum SchemaOutcome {
+		FINGERPRINT_MATCHED, VALIDATED, UPDATED, SKIPPED
+	}
+
+	private static final Logger LOGGER = LogManager.getLogger(HibernateBootstrap.class);
+
+	// The annotated model classes, registered explicitly with the MetadataSources
+	static final List<Class<?>> ANNOTATED_CLASSES = Arrays.asList(EventModel.class, ParticipantModel.class);
+
+	private static final String JDBC_METADATA_DEFAULTS = "hibernate.temp.use_jdbc_metadata_defaults";
+
+	// Bumped whenever the content of the fingerprint changes
+	private static final String FINGERPRINT_VERSION = "1";
+
+	private final SchemaFingerprintStore fingerprintStore;
+
+	private volatile SchemaOutcome lastOutcome;
+
+	public HibernateBootstrap(SchemaFingerprintStore fingerprintStore) {
+		this.fingerprintStore = fingerprintStore;
+	}
+
+	// Builds the SessionFactory, checking the schema according to the given mode. A registry builder can only
+	// be used once, the configuration therefore provides a new one whenever a registry is needed.
+	public SessionFactory buildSessionFactory(Supplier<StandardServiceRegistryBuilder> configuration,
+			SchemaMode mode) {
+		// The mapping is trusted without looking at the database, so the JDBC metadata lookup can be skipped
+		StandardServiceRegistryBuilder builder = configuration.get();
+		warnIfSchemaToolConfigured(builder, mode);
+		StandardServiceRegistry registry = buildRegistry(builder, false);
+		try {
+			Metadata metadata = buildMetadata(registry);
+			String url = connectionUrl(registry);
+			String fingerprint = fingerprint(metadata);
+			if (mode == SchemaMode.NONE) {
+				lastOutcome = SchemaOutcome.SKIPPED;
+				return metadata.buildSessionFactory();
+			}
+			if (mode == SchemaMode.FINGERPRINT && fingerprint.equals(fingerprintStore.get(url))) {
+				LOGGER.info("Schema fingerprint matches for {}, skipping schema validation", url);
+				lastOutcome = SchemaOutcome.FINGERPRINT_MATCHED;
+				return metadata.buildSessionFactory();
+			}
+			StandardServiceRegistryBuilder.destroy(registry);
+
+			// Inspecting the schema needs the identifier rules read from the JDBC metadata
+			registry = buildRegistry(configuration.get(), true);
+			metadata = buildMetadata(registry);
+			if (mode == SchemaMode.UPDATE) {
+				updateSchema(registry, metadata);
+				lastOutcome = SchemaOutcome.UPDATED;
+			} else {
+				LOGGER.info("Validating the schema of {}", url);
+				validateSchema(registry, metadata, url);
+				if (mode == SchemaMode.FINGERPRINT) {
+					fingerprintStore.put(url, fingerprint);
+				}
+				lastOutcome = SchemaOutcome.VALIDATED;
+			}
+			return metadata.buildSessionFactory();
+		} catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy(registry);
+			throw e;
+		}
+	}
+
+	// Applies the pending migrations of the database, forgetting its fingerprint when any was applied
+	public List<Migration> migrate(Connection connection, String url) {
+		List<Migration> applied = MigrationRunner.forUrl(url).migrate(connection);
+		if (!applied.isEmpty()) {
+			fingerprintStore.remove(url);
+		}
+		return applied;
+	}
+
+	public SchemaOutcome getLastOutcome() {
+		return lastOutcome;
+	}
+
+	private static void validateSchema(StandardServiceRegistry registry, Metadata metadata, String url) {
+		try {
+			new SchemaValidator().validate(metadata, registry);
+		} catch (SchemaManagementException e) {
+			throw new SchemaManagementException("The schema of " + url + " is missing or outdated, run the \"migrate\" "
+					+ "command to create or upgrade it: " + e.getMessage(), e);
+		}
+	}
+
+	private static void updateSchema(StandardServiceRegistry registry, Metadata metadata) {
+		SchemaUpdate schemaUpdate = new SchemaUpdate();
+		schemaUpdate.setHaltOnError(true);
+		schemaUpdate.execute(EnumSet.of(TargetType.DATABASE), metadata, registry);
+	}
+
+	// The configurations used by the tests create the schema with hbm2ddl, which the bootstrap always overrides
+	private static void warnIfSchemaToolConfigured(StandardServiceRegistryBuilder builder, SchemaMode mode) {
+		Object configured = builder.getSettings().get(AvailableSettings.HBM2DDL_AUTO);
+		if (configured != null && !"none".equalsIgnoreCase(configured.toString().trim())) {
+			LOGGER.warn("Ignoring {}={}, the schema is checked in {} mode and changed by the migrate command",
+					AvailableSettings.HBM2DDL_AUTO, configured, mode);
+		}
+	}
+
+	private static StandardServiceRegistry buildRegistry(StandardServiceRegistryBuilder builder,
+			boolean useJdbcMetadata) {
+		return builder.applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+				.applySetting(JDBC_METADATA_DEFAULTS, Boolean.toString(useJdbcMetadata))
+				.applySetting(AvailableSettings.USE_GET_GENERATED_KEYS, "true").build();
+	}
+
+	private static Metadata buildMetadata(StandardServiceRegistry registry) {
+		MetadataSources metadataSources = new MetadataSources(registry);
+		for (Class<?> annotatedClass : ANNOTATED_CLASSES) {
+			metadataSources.addAnnotatedClass(annotatedClass);
+		}
+		return metadataSources.buildMetadata();
+	}
+
+	// The JDBC URL the registry connects to
+	public static String connectionUrl(StandardServiceRegistry registry) {
+		Object url = registry.getService(ConfigurationService.class).getSettings().get(AvailableSettings.URL);
+		return url == null ? "" : url.toString().trim();
+	}
+
+	// SHA-256 of the tables, columns, SQL types and keys the mapping expects, independent of mapping order
+	public static String fingerprint(Metadata metadata) {
+		Dialect dialect = metadata.getDatabase().getDialect();
+		List<Table> tables = new ArrayList<>();
+		metadata.collectTableMappings().forEach(tables::add);
+		tables.sort(Comparator.comparing(Table::getName));
+
+		StringBuilder description = new StringBuilder("v").append(FINGERPRINT_VERSION).append('|')
+				.append(dialect.getClass().getName()).append('\n');
+		for (Table table : tables) {
+			description.append("table ").append(table.getName()).append('\n');
+			List<String> columns = new ArrayList<>();
+			for (Iterator<Column> it = columnIterator(table); it.hasNext();) {
+				Column column = it.next();
+				columns.add(column.getName() + ' ' + column.getSqlType(dialect, metadata)
+						+ (column.isNullable() ? " null" : " not null") + (column.isUnique() ? " unique" : ""));
+			}
+			columns.sort(null);
+			columns.forEach(column -> description.append("  column ").append(column).append('\n'));
+			if (table.hasPrimaryKey()) {
+				description.append("  primary key ").append(columnNames(table.getPrimaryKey().getColumns()))
+						.append('\n');
+			}
+			List<String> foreignKeys = new ArrayList<>();
+			for (ForeignKey foreignKey : table.getForeignKeys().values()) {
+				foreignKeys.add(columnNames(foreignKey.getColumns()) + " references "
+						+ foreignKey.getReferencedTable().getName());
+			}
+			foreignKeys.sort(null);
+			foreignKeys.forEach(foreignKey -> description.append("  foreign key ").append(foreignKey).append('\n'));
+		}
+		return sha256(description.toString());
+	}
+
+	// Hibernate 5 only exposes the columns of a table as a raw iterator
+	@SuppressWarnings("unchecked")
+	private static Iterator<Column> columnIterator(Table table) {
+		return table.getColumnIterator();
+	}
+
+	private static String columnNames(List<Column> columns) {
+		List<String> names = new ArrayList<>();
+		for (Column column : columns) {
+			names.add(column.getName());
+		}
+		return names.toString();
+	}
+
+	private static String sha256(String text) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new HibernateException("Could not compute schema fingerprint.", e);
+		}
+	}
+}
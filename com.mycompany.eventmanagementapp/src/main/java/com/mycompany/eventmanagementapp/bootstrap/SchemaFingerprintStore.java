@@ -0,0 +1,91 @@
+/**
+ * SchemaFingerprintStore keeps, for every database URL, the fingerprint of the entity mapping that was last
+ * verified against that database.
+ *
+ * The fingerprints are stored in a small properties file in the user's home directory, so that the next
+ * launch can skip the schema introspection when the mapping has not changed since the last verification.
+ *
+ * The store is only an optimization: a missing, unreadable or unwritable file is logged and treated as
+ * "no fingerprint", which makes the HibernateBootstrap fall back to validating the schema.
+ *
+ * The following methods are provided:
+ * - get: Returns the stored fingerprint for a database URL, or null if none is stored.
+ * - put: Stores the fingerprint for a database URL.
+ * - remove: Forgets the fingerprint for a database URL, forcing the next launch to validate the schema.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.io.IOException;
+import java.util.Properties;
+import org.apache.logging.log4j.Logger;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.LogManager;
+import java.nio.file.StandardCopyOption;
+
+public class SchemaFingerprintStore {
+
+	private static final Logger LOGGER = LogManager.getLogger(SchemaFingerprintStore.class);
+
+	private final Path file;
+
+	public SchemaFingerprintStore(Path file) {
+		this.file = file;
+	}
+
+	// Store kept in the ".event-management-app" directory of the user's home
+	public static SchemaFingerprintStore inUserHome() {
+		return new SchemaFingerprintStore(Paths.get(System.getProperty("user.home"), ".event-management-app",
+				"schema-fingerprints.properties"));
+	}
+
+	public synchronized String get(String url) {
+		return load().getProperty(url);
+	}
+
+	public synchronized void put(String url, String fingerprint) {
+		Properties fingerprints = load();
+		fingerprints.setProperty(url, fingerprint);
+		save(fingerprints);
+	}
+
+	public synchronized void remove(String url) {
+		Properties fingerprints = load();
+		if (fingerprints.remove(url) != null) {
+			save(fingerprints);
+		}
+	}
+
+	private Properties load() {
+		Properties fingerprints = new Properties();
+		if (!Files.isRegularFile(file)) {
+			return fingerprints;
+		}
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			fingerprints.load(reader);
+		} catch (IOException e) {
+			LOGGER.warn("Could not read schema fingerprints from {}", file, e);
+		}
+		return fingerprints;
+	}
+
+	// Writes to a temporary file first, so that a crash never leaves a truncated store behind
+	private void save(Properties fingerprints) {
+		try {
+			Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path temporary = Files.createTempFile(directory, "schema-fingerprints", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+				fingerprints.store(writer, "Verified entity mapping fingerprints, by database URL");
+			}
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOGGER.warn("Could not write schema fingerprints to {}", file, e);
+		}
+	}
+}
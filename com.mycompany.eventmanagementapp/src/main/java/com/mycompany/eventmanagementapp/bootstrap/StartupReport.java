@@ -0,0 +1,104 @@
+/**
+ * StartupReport records how long each phase of the application startup takes, so that the startup
+ * time can be printed with the "--startup-report" command line option.
+ *
+ * Phases can run concurrently on different threads (for example the initial loads of events and
+ * participants), therefore every phase is recorded with its start offset and its duration, both
+ * relative to the creation of the report. Overlapping offsets show which phases ran in parallel.
+ *
+ * The following methods are provided:
+ * - measure: Runs an action and records its duration as a phase.
+ * - mark: Records a milestone, such as the first frame becoming visible.
+ * - format: Renders the recorded phases, in the order they finished, as a human readable report.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+import java.util.function.LongSupplier;
+import java.lang.management.ManagementFactory;
+
+public class StartupReport {
+
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+
+	private final LongSupplier clock;
+
+	private final long startNanos;
+
+	private final long jvmUptimeMillis;
+
+	// Recorded phases, guarded by this
+	private final List<Phase> phases = new ArrayList<>();
+
+	public StartupReport() {
+		this(System::nanoTime, ManagementFactory.getRuntimeMXBean().getUptime());
+	}
+
+	public StartupReport(LongSupplier clock, long jvmUptimeMillis) {
+		this.clock = clock;
+		this.startNanos = clock.getAsLong();
+		this.jvmUptimeMillis = jvmUptimeMillis;
+	}
+
+	// Runs the action and records its duration, the phase is recorded even if the action fails
+	public <T> T measure(String phase, Supplier<T> action) {
+		long phaseStart = clock.getAsLong();
+		try {
+			return action.get();
+		} finally {
+			record(phase, phaseStart, clock.getAsLong());
+		}
+	}
+
+	// Records a milestone reached at the current time
+	public void mark(String milestone) {
+		long now = clock.getAsLong();
+		record(milestone, now, now);
+	}
+
+	private synchronized void record(String name, long phaseStart, long phaseEnd) {
+		phases.add(new Phase(name, phaseStart - startNanos, phaseEnd - phaseStart));
+	}
+
+	// Time elapsed since the creation of the report, in milliseconds
+	public long getElapsedMillis() {
+		return (clock.getAsLong() - startNanos) / NANOS_PER_MILLI;
+	}
+
+	public synchronized List<String> getPhaseNames() {
+		List<String> names = new ArrayList<>();
+		for (Phase phase : phases) {
+			names.add(phase.name);
+		}
+		return names;
+	}
+
+	public synchronized String format() {
+		StringBuilder report = new StringBuilder("Startup report (JVM uptime at launch ").append(jvmUptimeMillis)
+				.append(" ms)");
+		for (Phase phase : phases) {
+			report.append(System.lineSeparator())
+					.append(String.format("  %-28s started at %6d ms, took %6d ms", phase.name,
+							phase.offsetNanos / NANOS_PER_MILLI, phase.durationNanos / NANOS_PER_MILLI));
+		}
+		return report.toString();
+	}
+
+	private static final class Phase {
+
+		private final String name;
+
+		private final long offsetNanos;
+
+		private final long durationNanos;
+
+		private Phase(String name, long offsetNanos, long durationNanos) {
+			this.name = name;
+			this.offsetNanos = offsetNanos;
+			this.durationNanos = durationNanos;
+		}
+	}
+}
@@ -28,7 +28,7 @@
  * Methods:
  * - getAllEvents: Fetches and displays all events.
  * - addEvent: Adds a new event, after validating the input and checking if it already exists.
- * - updateEvent: Updates an existing event, ensuring that the event exists and the input is valid.
+ * - updateEvent: Updates an existing event after validating the input, writing only its changed columns.
  * - deleteEvent: Deletes an event, checking if it exists and if there are any participants associated with it.
  * - validateEvent: Validates the event data (name, location, date) before any operation.
  */
@@ -39,6 +39,8 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
 import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe;
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe.Operation;
 import com.mycompany.eventmanagementapp.view.EventManagementView;
 import com.mycompany.eventmanagementapp.repository.EventRepository;
 import com.mycompany.eventmanagementapp.controller.utils.ValidationException;
@@ -60,83 +62,100 @@ public class EventController {
 
 	//Get All Events
 	public void getAllEvents() {
-		LOGGER.info("Fetching all events.");
-		eventManagementView.showAllEvents(eventRepository.getAllEvents());
+		try (Operation operation = FlightRecorderProbe.controllerOperation("EventController.getAllEvents", null)) {
+			LOGGER.debug("Fetching all events.");
+			eventManagementView.showAllEvents(eventRepository.getAllEvents());
+		}
 	}
 
 	//Add Event Method for Event Controller
-	public synchronized void addEvent(EventModel event) {
-		LOGGER.info("Adding a new event: {}", event);
-
-		// Validate the event input
-		if (!validateEvent(event)) {
-			LOGGER.warn("Event validation failed: {}", event);
-			return;
-		}
-
-		// Check if a event with the same Id exists
-		EventModel existingEvent = eventRepository.getEventById((event.getEventId()));
-		if (existingEvent != null) {
-			LOGGER.warn("existingEvent with id {} already exists", existingEvent.getEventId());
-			eventManagementView.showError("Event already existed with id " + event.getEventId(), existingEvent);
-			return;
+	public void addEvent(EventModel event) {
+		try (Operation operation = FlightRecorderProbe.controllerOperation("EventController.addEvent",
+				event.getEventId())) {
+			synchronized (this) {
+				operation.lockAcquired();
+				LOGGER.debug("Adding a new event: {}", event);
+
+				// Validate the event input
+				if (!validateEvent(event)) {
+					LOGGER.warn("Event validation failed: {}", event);
+					return;
+				}
+
+				// Check if a event with the same Id exists
+				if (eventRepository.existsEventById(event.getEventId())) {
+					LOGGER.warn("existingEvent with id {} already exists", event.getEventId());
+					eventManagementView.showError("Event already existed with id " + event.getEventId(), event);
+					return;
+				}
+
+				// Save the new event and notify the view
+				eventRepository.addEvent(event);
+				eventManagementView.eventAdded(event);
+				LOGGER.info("New event added successfully: {}", event);
+			}
 		}
-
-		// Save the new event and notify the view
-		eventRepository.addEvent(event);
-		eventManagementView.eventAdded(event);
-		LOGGER.info("New event added successfully: {}", event);
 	}
 
 	//Update Event Method for Event Controller
-	public synchronized void updateEvent(EventModel event) {
-		LOGGER.info("Updating existing event: {}", event);
-
-		// Validate the event input
-		if (!validateEvent(event)) {
-			LOGGER.warn("Event validation failed: {}", event);
-			return;
+	public void updateEvent(EventModel event) {
+		try (Operation operation = FlightRecorderProbe.controllerOperation("EventController.updateEvent",
+				event.getEventId())) {
+			synchronized (this) {
+				operation.lockAcquired();
+				LOGGER.debug("Updating existing event: {}", event);
+
+				// Validate the event input
+				if (!validateEvent(event)) {
+					LOGGER.warn("Event validation failed: {}", event);
+					return;
+				}
+
+				// Update the changed columns of the event, which fails when it does not exist
+				if (!eventRepository.updateEventDetails(event)) {
+					LOGGER.warn("Event with id {} does not exist", event.getEventId());
+					eventManagementView.showError("Event doesn't exist with id " + event.getEventId(), event);
+					return;
+				}
+
+				// Notify the view, the participants of the event are the ones it passed
+				eventManagementView.eventUpdated(event);
+				LOGGER.info("Event updated successfully: {}", event);
+			}
 		}
-
-		// Check if the event exists by Id
-		EventModel existingEvent = eventRepository.getEventById((event.getEventId()));
-		if (existingEvent == null) {
-			LOGGER.warn("Event with id {} does not exist", event.getEventId());
-			eventManagementView.showError("Event doesn't exist with id " + event.getEventId(), event);
-			return;
-		}
-
-		// Update the event and notify the view
-		event.setParticipants(existingEvent.getParticipants());
-		eventRepository.updateEvent(event);
-		eventManagementView.eventUpdated(event);
-		LOGGER.info("Event updated successfully: {}", event);
 	}
 
 	//Delete Event Method for Event Controller
-	public synchronized void deleteEvent(EventModel event) {
-		LOGGER.info("Deleting event : {}", event);
-
-		// Check if the event exists
-		EventModel existingEvent = eventRepository.getEventById((event.getEventId()));
-		if (existingEvent == null) {
-			LOGGER.warn("Event with id {} does not exist", event.getEventId());
-			eventManagementView.showError("Event doesn't exist with id " + event.getEventId(), event);
-			return;
+	public void deleteEvent(EventModel event) {
+		try (Operation operation = FlightRecorderProbe.controllerOperation("EventController.deleteEvent",
+				event.getEventId())) {
+			synchronized (this) {
+				operation.lockAcquired();
+				LOGGER.debug("Deleting event : {}", event);
+
+				// Check if the event exists
+				if (!eventRepository.existsEventById(event.getEventId())) {
+					LOGGER.warn("Event with id {} does not exist", event.getEventId());
+					eventManagementView.showError("Event doesn't exist with id " + event.getEventId(), event);
+					return;
+				}
+
+				// Check if the event has associated participants, which would prevent deletion. They are counted in
+				// the database, the view's copy may not have them
+				if (eventRepository.countParticipantsOfEvent(event.getEventId()) > 0) {
+					LOGGER.warn("Event with id {} cannot be deleted because it has associated participants",
+							event.getEventId());
+					eventManagementView.showError("Event cannot be deleted. Participants are associated with it",
+							event);
+					return;
+				}
+
+				// Delete the event if it doesn't have any participants in it.
+				eventRepository.deleteEvent(event);
+				eventManagementView.eventDeleted(event);
+				LOGGER.info("Event deleted successfully: {}", event);
+			}
 		}
-
-		// Check if the event has associated participants, which would prevent deletion
-		if (!event.getParticipants().isEmpty()) {
-			LOGGER.warn("Event with id {} cannot be deleted because it has associated participants",
-					event.getEventId());
-			eventManagementView.showError("Event cannot be deleted. Participants are associated with it", event);
-			return;
-		}
-
-		// Delete the event if it doesn't have any participants in it.
-		eventRepository.deleteEvent(event);
-		eventManagementView.eventDeleted(event);
-		LOGGER.info("Event deleted successfully: {}", event);
 	}
 
 	//Validate Event Method for validating event input
@@ -31,19 +31,28 @@
  * - getAllParticipants: Fetches and displays all participants.
  * - getAllEvents: Fetches and displays all events.
  * - addParticipant: Adds a new participant, validates the input, and associates them with the selected event.
- * - updateParticipant: Updates an existing participant after validating the input.
+ * - updateParticipant: Updates an existing participant after validating the input, writing only its changed columns.
  * - deleteParticipant: Removes a participant from an event, and deletes them if no events remain associated with them.
  * - validateParticipant: Validates the participant data (name, email) before any operation.
+ * - setGroupCommit, setUpsertRegistration, setEmailFilter: Choose how addParticipant registers the participants.
  */
 
 package com.mycompany.eventmanagementapp.controller;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.hibernate.exception.ConstraintViolationException;
 
 import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe;
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe.Operation;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder.Interaction;
 import com.mycompany.eventmanagementapp.model.ParticipantModel;
 import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
 import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
 import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
 import com.mycompany.eventmanagementapp.controller.utils.ValidationException;
@@ -61,6 +70,12 @@ public class ParticipantController {
 	
 	private static final String EVENT_PARTICIPANT_NULL_ERROR = "Selected event or participant is null";
 
+	private volatile boolean groupCommit;
+
+	private volatile boolean upsertRegistration;
+
+	private volatile EmailBloomFilter emailFilter;
+
 	public ParticipantController(ParticipantManagementView participantManagementView,
 			ParticipantRepository participantRepository, EventRepository eventRepository) {
 		this.participantManagementView = participantManagementView;
@@ -70,87 +85,237 @@ public class ParticipantController {
 				"ParticipantController initialized with ParticipantManagementView, ParticipantRepository and EventRepository");
 	}
 
+	// Registers the participants through ParticipantRepository.registerParticipant, which commits them in groups
+	// when the repository has a GroupCommitPipeline, instead of adding or updating them and updating the event
+	public void setGroupCommit(boolean groupCommit) {
+		this.groupCommit = groupCommit;
+	}
+
+	// Registers the participants with ParticipantRepository.upsertRegistration, without the lock and the lookups,
+	// takes precedence over the group commit
+	public void setUpsertRegistration(boolean upsertRegistration) {
+		this.upsertRegistration = upsertRegistration;
+	}
+
+	// Skips the lookup of the emails the filter has never seen when adding participants, null to look them all up
+	public void setEmailFilter(EmailBloomFilter emailFilter) {
+		this.emailFilter = emailFilter;
+	}
+
 	//Get All Participants
 	public void getAllParticipants() {
-		LOGGER.info("Fetching all participants.");
-		participantManagementView.showAllParticipants(participantRepository.getAllParticipants());
+		try (Operation operation = FlightRecorderProbe.controllerOperation("ParticipantController.getAllParticipants",
+				null)) {
+			LOGGER.debug("Fetching all participants.");
+			participantManagementView.showAllParticipants(participantRepository.getAllParticipants());
+		}
 	}
 
 	//Get All Events
 	public void getAllEvents() {
-		LOGGER.info("Fetching all events.");
-		participantManagementView.showAllEvents(eventRepository.getAllEvents());
+		try (Operation operation = FlightRecorderProbe.controllerOperation("ParticipantController.getAllEvents",
+				null)) {
+			LOGGER.debug("Fetching all events.");
+			participantManagementView.showAllEvents(eventRepository.getAllEvents());
+		}
 	}
 
 	//Add Participant method for Participant Controller
-	public synchronized void addParticipant(ParticipantModel participant, EventModel selectedEvent) {
-		LOGGER.info("Adding a new participant: {}", participant);
+	public void addParticipant(ParticipantModel participant, EventModel selectedEvent) {
+		try (Operation operation = FlightRecorderProbe.controllerOperation("ParticipantController.addParticipant",
+				participantId(participant))) {
+			if (upsertRegistration) {
+				addParticipantWithUpsert(participant, selectedEvent);
+				return;
+			}
+			CompletableFuture<Void> registration = null;
+			synchronized (this) {
+				operation.lockAcquired();
+				LOGGER.debug("Adding a new participant: {}", participant);
 
-		// Check for null values to avoid null pointer exceptions
-		if (selectedEvent == null || participant == null) {
-			LOGGER.error(EVENT_PARTICIPANT_NULL_ERROR);
-			participantManagementView.showError(EVENT_PARTICIPANT_NULL_ERROR, participant);
-			return;
-		}
+				// Check for null values to avoid null pointer exceptions
+				if (selectedEvent == null || participant == null) {
+					LOGGER.error(EVENT_PARTICIPANT_NULL_ERROR);
+					participantManagementView.showError(EVENT_PARTICIPANT_NULL_ERROR, participant);
+					return;
+				}
 
-		// Validate the participant input
-		if (!validateParticipant(participant)) {
-			LOGGER.warn("Event validation failed: {}", participant);
-			return;
-		}
+				// Validate the participant input
+				if (!validateParticipant(participant)) {
+					LOGGER.warn("Event validation failed: {}", participant);
+					return;
+				}
 
-		// Check if the event exists by Id
-		EventModel existingEvent = eventRepository.getEventById((selectedEvent.getEventId()));
-		if (existingEvent == null) {
-			LOGGER.warn("Event with id {} does not exist", selectedEvent.getEventId());
-			participantManagementView.showError("Event doesn't exist with id " + selectedEvent.getEventId(),
-					participant);
-			return;
-		}
+				// Check if the event exists by Id, without loading it and its participants
+				if (!eventRepository.existsEventById(selectedEvent.getEventId())) {
+					LOGGER.warn("Event with id {} does not exist", selectedEvent.getEventId());
+					participantManagementView.showError("Event doesn't exist with id " + selectedEvent.getEventId(),
+							participant);
+					return;
+				}
 
-		// Check for existing participant with same Email Id
-		ParticipantModel existingParticipant = participantRepository
-				.getParticipantByEmail(participant.getParticipantEmail());
-		if (existingParticipant != null) {
-			// Check if that participant has already associated with selected Event, If Yes
-			// then show error
-			if (existingParticipant.getEvents().contains(existingEvent)) {
-				LOGGER.warn("Participant with email {} already exists and associated with event Id {}",
-						existingParticipant.getParticipantEmail(), existingEvent.getEventId());
-				participantManagementView
-						.showError(
+				// Check for existing participant with same Email Id
+				ParticipantModel existingParticipant = findParticipantByEmail(participant.getParticipantEmail());
+				if (existingParticipant != null) {
+					// Check if that participant has already associated with selected Event, If Yes
+					// then show error
+					if (existingParticipant.getEvents().contains(selectedEvent)) {
+						LOGGER.warn("Participant with email {} already exists and associated with event Id {}",
+								existingParticipant.getParticipantEmail(), selectedEvent.getEventId());
+						participantManagementView.showError(
 								"Participant already existed with email " + existingParticipant.getParticipantEmail()
-										+ " and associated with event Id " + existingEvent.getEventId(),
+										+ " and associated with event Id " + selectedEvent.getEventId(),
 								existingParticipant);
-				return;
+						return;
+					}
+					// else it means Participant with that Email exists but is not associated with
+					// selected event, in that case we only associate participant to that event.
+					if (groupCommit) {
+						registration = register(existingParticipant, selectedEvent, false);
+					} else if (participantRepository.enroll(selectedEvent.getEventId(),
+							existingParticipant.getParticipantId())) {
+						existingParticipant.addEvent(selectedEvent);
+						participantManagementView.participantUpdated(existingParticipant);
+						LOGGER.info("Existed Participant associated with event successfully: {}", existingParticipant);
+					} else {
+						// Enrolled by another instance since the lookup
+						LOGGER.warn("Participant with email {} already exists and associated with event Id {}",
+								existingParticipant.getParticipantEmail(), selectedEvent.getEventId());
+						participantManagementView.showError(
+								"Participant already existed with email " + existingParticipant.getParticipantEmail()
+										+ " and associated with event Id " + selectedEvent.getEventId(),
+								existingParticipant);
+					}
+				} else if (groupCommit) {
+					// If no Participant exist then Add new participant and associate it with
+					// selected event.
+					registration = register(participant, selectedEvent, true);
+				} else if (participantRepository.addParticipantToEvent(participant, selectedEvent.getEventId())) {
+					// Saved and registered to the event in one transaction, a participant is never left without
+					// events by an event deleted meanwhile
+					participant.addEvent(selectedEvent);
+					participantManagementView.participantAdded(participant);
+					LOGGER.info("New Participant added and associated with event successfully: {}", participant);
+				} else {
+					LOGGER.warn("Event with id {} does not exist", selectedEvent.getEventId());
+					participantManagementView.showError("Event doesn't exist with id " + selectedEvent.getEventId(),
+							participant);
+				}
+			}
+			// Waits for the group commit outside of the lock, so that the next registrations can join the group
+			if (registration != null) {
+				registration.join();
 			}
-			// else it means Participant with that Email exists but is not associated with
-			// selected event, in that case we only associate participant to that event.
-			existingParticipant.addEvent(existingEvent);
-			participantRepository.updateParticipant(existingParticipant);
-			eventRepository.updateEvent(existingEvent);
-			participantManagementView.participantUpdated(existingParticipant);
-			LOGGER.info("Existed Participant associated with event successfully: {}", existingParticipant);
-			return;
 		}
-
-		// If no Participant exist then Add new participant and associate it with
-		// selected event.
-		participant.addEvent(existingEvent);
-		participantRepository.addParticipant(participant);
-		eventRepository.updateEvent(existingEvent);
-		participantManagementView.participantAdded(participant);
-		LOGGER.info("New Participant added and associated with event successfully: {}", participant);
 	}
 
 	//Update Participant method for Participant Controller
-	public synchronized void updateParticipant(ParticipantModel participant) {
-		LOGGER.info("Updating participant: {}", participant);
+	public void updateParticipant(ParticipantModel participant) {
+		try (Operation operation = FlightRecorderProbe.controllerOperation("ParticipantController.updateParticipant",
+				participantId(participant))) {
+			synchronized (this) {
+				operation.lockAcquired();
+				LOGGER.debug("Updating participant: {}", participant);
+
+				// Check for null values to avoid null pointer exceptions
+				if (participant == null) {
+					LOGGER.error("participant is null");
+					participantManagementView.showError("Participant is null", participant);
+					return;
+				}
+
+				// Validate the participant input
+				if (!validateParticipant(participant)) {
+					LOGGER.warn("Event validation failed: {}", participant);
+					return;
+				}
+
+				// Ensure participant exists before updating
+				if (!participantRepository.existsParticipantByEmail(participant.getParticipantEmail())) {
+					LOGGER.warn("Participant with email {} doesn't exists", participant.getParticipantEmail());
+					participantManagementView.showError(
+							"Participant doesn't exist with email " + participant.getParticipantEmail(), participant);
+					return;
+				}
+
+				// Update the changed columns of the participant, unless it was deleted meanwhile
+				if (!participantRepository.updateParticipantDetails(participant)) {
+					LOGGER.warn("Participant with id {} doesn't exists", participant.getParticipantId());
+					participantManagementView.showError(
+							"Participant doesn't exist with email " + participant.getParticipantEmail(), participant);
+					return;
+				}
+				participantManagementView.participantUpdated(participant);
+				LOGGER.info("Participant updated successfully: {}", participant);
+			}
+		}
+	}
+
+	//Delete Participant method for Participant Controller
+	public void deleteParticipant(ParticipantModel participant, EventModel selectedEvent) {
+		try (Operation operation = FlightRecorderProbe.controllerOperation("ParticipantController.deleteParticipant",
+				participantId(participant))) {
+			synchronized (this) {
+				operation.lockAcquired();
+				LOGGER.debug("Deleting participant : {}", participant);
+
+				// Check for null values to avoid null pointer exceptions
+				if (selectedEvent == null || participant == null) {
+					LOGGER.error(EVENT_PARTICIPANT_NULL_ERROR);
+					participantManagementView.showError(EVENT_PARTICIPANT_NULL_ERROR, participant);
+					return;
+				}
+				// Check that the participant is associated with the selected event, without loading either of them
+				String email = participant.getParticipantEmail();
+				long eventId = selectedEvent.getEventId();
+				if (!participantRepository.isEnrolled(eventId, email)) {
+					// Tell a participant which does not exist from one which is not associated with the event
+					if (!participantRepository.existsParticipantByEmail(email)) {
+						LOGGER.warn("Participant with email {} doesn't exists", email);
+						participantManagementView.showError("Participant doesn't exist with email " + email,
+								participant);
+					} else {
+						LOGGER.warn("Participant with email {} doesn't associated with event Id {}", email, eventId);
+						participantManagementView.showError("Participant with email " + email
+								+ " is not associated with event Id " + eventId, participant);
+					}
+					return;
+				}
+
+				// Load the participant with its events, to know whether any is left once it is removed from this one
+				ParticipantModel existingParticipant = participantRepository.getParticipantByEmail(email);
+				if (existingParticipant == null) {
+					LOGGER.warn("Participant with email {} doesn't exists", email);
+					participantManagementView.showError("Participant doesn't exist with email " + email, participant);
+					return;
+				}
+				// If selected Event is associated with participant then remove that association
+				participantRepository.unenroll(eventId, existingParticipant.getParticipantId());
+				existingParticipant.removeEvent(selectedEvent);
+
+				// Now check if there are no more association left then delete the Participant
+				// from table
+				if (existingParticipant.getEvents().isEmpty()) {
+					participantRepository.deleteParticipant(existingParticipant);
+					participantManagementView.participantDeleted(existingParticipant);
+					LOGGER.info("Participant deleted successfully: {}", existingParticipant);
+				} else {
+					participantManagementView.participantUpdated(existingParticipant);
+					LOGGER.info("Participant association with selected event removed successfully: {}",
+							existingParticipant);
+				}
+			}
+		}
+	}
+
+	// Registers the participant with upserts, the database rejecting the duplicates
+	private void addParticipantWithUpsert(ParticipantModel participant, EventModel selectedEvent) {
+		LOGGER.debug("Adding a new participant with an upsert: {}", participant);
 
 		// Check for null values to avoid null pointer exceptions
-		if (participant == null) {
-			LOGGER.error("participant is null");
-			participantManagementView.showError("Participant is null", participant);
+		if (selectedEvent == null || participant == null) {
+			LOGGER.error(EVENT_PARTICIPANT_NULL_ERROR);
+			participantManagementView.showError(EVENT_PARTICIPANT_NULL_ERROR, participant);
 			return;
 		}
 
@@ -160,68 +325,94 @@ public class ParticipantController {
 			return;
 		}
 
-		// Ensure participant exists before updating
-		ParticipantModel existingParticipant = participantRepository
-				.getParticipantByEmail(participant.getParticipantEmail());
-		if (existingParticipant == null) {
-			LOGGER.warn("Participant with email {} doesn't exists", participant.getParticipantEmail());
-			participantManagementView.showError(
-					"Participant doesn't exist with email " + participant.getParticipantEmail(), participant);
-			return;
+		long eventId = selectedEvent.getEventId();
+		switch (participantRepository.upsertRegistration(participant, eventId)) {
+		case PARTICIPANT_ADDED:
+			participant.addEvent(selectedEvent);
+			participantManagementView.participantAdded(participant);
+			LOGGER.info("New Participant added and associated with event successfully: {}", participant);
+			break;
+		case PARTICIPANT_REGISTERED:
+			// Reloaded with all of its events for the view, the registration itself did not read it
+			ParticipantModel registeredParticipant = participantRepository
+					.getParticipantById(participant.getParticipantId());
+			participantManagementView.participantUpdated(registeredParticipant);
+			LOGGER.info("Existed Participant associated with event successfully: {}", registeredParticipant);
+			break;
+		case ALREADY_REGISTERED:
+			LOGGER.warn("Participant with email {} already exists and associated with event Id {}",
+					participant.getParticipantEmail(), eventId);
+			participantManagementView.showError("Participant already existed with email "
+					+ participant.getParticipantEmail() + " and associated with event Id " + eventId, participant);
+			break;
+		case EVENT_NOT_FOUND:
+		default:
+			LOGGER.warn("Event with id {} does not exist", eventId);
+			participantManagementView.showError("Event doesn't exist with id " + eventId, participant);
+			break;
 		}
+	}
 
-		// Update participant
-		participantRepository.updateParticipant(participant);
-		participantManagementView.participantUpdated(participant);
-		LOGGER.info("Participant updated successfully: {}", participant);
+	// Looks the participant up by email, unless the email filter knows the email is new
+	private ParticipantModel findParticipantByEmail(String email) {
+		EmailBloomFilter filter = emailFilter;
+		if (filter != null && !filter.mightContain(email)) {
+			LOGGER.debug("Email {} is new, skipping its lookup", email);
+			return null;
+		}
+		ParticipantModel participant = participantRepository.getParticipantByEmail(email);
+		if (filter != null && participant == null) {
+			filter.recordFalsePositive();
+		}
+		return participant;
 	}
 
-	//Delete Participant method for Participant Controller
-	public synchronized void deleteParticipant(ParticipantModel participant, EventModel selectedEvent) {
-		LOGGER.info("Deleting participant : {}", participant);
+	// Submits the registration, the view is notified of its outcome once it has been committed or has failed. The
+	// outcome is handled on the thread committing the group, the interaction of the action is carried over to it.
+	private CompletableFuture<Void> register(ParticipantModel participant, EventModel event, boolean newParticipant) {
+		Interaction interaction = InteractionLatencyRecorder.current();
+		return participantRepository.registerParticipant(participant, event).handle((ignored, failure) -> {
+			InteractionLatencyRecorder.runWithin(interaction,
+					() -> registered(participant, event, newParticipant, failure));
+			return null;
+		});
+	}
 
-		// Check for null values to avoid null pointer exceptions
-		if (selectedEvent == null || participant == null) {
-			LOGGER.error(EVENT_PARTICIPANT_NULL_ERROR);
-			participantManagementView.showError(EVENT_PARTICIPANT_NULL_ERROR, participant);
+	private void registered(ParticipantModel participant, EventModel event, boolean newParticipant,
+			Throwable failure) {
+		if (failure == null) {
+			// Linked once saved, a participant must have its id before it is added to the event's set
+			participant.addEvent(event);
+			if (newParticipant) {
+				participantManagementView.participantAdded(participant);
+				LOGGER.info("New Participant added and associated with event successfully: {}", participant);
+			} else {
+				participantManagementView.participantUpdated(participant);
+				LOGGER.info("Existed Participant associated with event successfully: {}", participant);
+			}
 			return;
 		}
-		//Fetch fresh Event object from Database for proper removal of Participant and Event linking
-		selectedEvent = eventRepository.getEventById(selectedEvent.getEventId());
-
-		// Ensure participant exists before deleting
-		ParticipantModel existingParticipant = participantRepository
-				.getParticipantByEmail(participant.getParticipantEmail());
-		if (existingParticipant == null) {
-			LOGGER.warn("Participant with email {} doesn't exists", participant.getParticipantEmail());
-			participantManagementView.showError(
-					"Participant doesn't exist with email " + participant.getParticipantEmail(), participant);
-			return;
+		if (newParticipant) {
+			participant.setParticipantId(null);
 		}
-		// if Participant exist then check if selected event is associated with it or
-		// not. If not then show error
-		if (!existingParticipant.getEvents().contains(selectedEvent)) {
-			LOGGER.warn("Participant with email {} doesn't associated with event Id {}",
-					existingParticipant.getParticipantEmail(), selectedEvent.getEventId());
-			participantManagementView.showError("Participant with email " + existingParticipant.getParticipantEmail()
-					+ " is not associated with event Id " + selectedEvent.getEventId(), existingParticipant);
+		Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+		if (cause instanceof ConstraintViolationException) {
+			// Registered by another clerk since the lookup
+			LOGGER.warn("Participant with email {} already exists and associated with event Id {}",
+					participant.getParticipantEmail(), event.getEventId());
+			participantManagementView.showError("Participant already existed with email "
+					+ participant.getParticipantEmail() + " and associated with event Id " + event.getEventId(),
+					participant);
 			return;
 		}
-		// If selected Event is associated with participant then remove that association
-		existingParticipant.removeEvent(selectedEvent);
-		participantRepository.updateParticipant(existingParticipant);
-		eventRepository.updateEvent(selectedEvent);
-
-		// Now check if there are no more association left then delete the Participant
-		// from table
-		if (existingParticipant.getEvents().isEmpty()) {
-			participantRepository.deleteParticipant(existingParticipant);
-			participantManagementView.participantDeleted(existingParticipant);
-			LOGGER.info("Participant deleted successfully: {}", existingParticipant);
-		} else {
-			participantManagementView.participantUpdated(existingParticipant);
-			LOGGER.info("Participant association with selected event removed successfully: {}", existingParticipant);
-		}
+		LOGGER.error("Failed to register participant: {}", participant, failure);
+		participantManagementView.showError(
+				"Could not register participant with email " + participant.getParticipantEmail(), participant);
+	}
+
+	// Id of the participant for the flight recorder events, null when there is no participant
+	private static Long participantId(ParticipantModel participant) {
+		return participant == null ? null : participant.getParticipantId();
 	}
 
 	//Validate Participant Method for validation of Participant input
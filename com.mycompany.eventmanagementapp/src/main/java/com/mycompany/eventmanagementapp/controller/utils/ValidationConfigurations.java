@@ -5,8 +5,9 @@
  * - Dates (to ensure they are not null and not in the past)
  * - Email addresses (to ensure they are not null, not empty, and in a valid format)
  *
- * The class uses regular expressions for email validation and throws a custom ValidationException
- * with appropriate error messages when validation fails.
+ * The checks themselves are the ones of the ValidationEngine (a hand-written scanner for the email format, a scan
+ * for blank strings and a cached current day), this class throws a custom ValidationException with appropriate
+ * error messages when validation fails. The ValidationEngine reports every violation without exceptions instead.
  *
  * Logging is provided for each validation to track the success or failure of each operation.
  * The class is designed to be stateless, and all methods are static. Therefore, it cannot be instantiated.
@@ -26,7 +27,6 @@
 package com.mycompany.eventmanagementapp.controller.utils;
 
 import java.time.LocalDate;
-import java.util.regex.Pattern;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
@@ -34,7 +34,12 @@ import org.apache.logging.log4j.LogManager;
 public class ValidationConfigurations {
 
 	private static final Logger LOGGER = LogManager.getLogger(ValidationConfigurations.class);
-	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+	// Messages of the violations, shared with the ValidationEngine
+	static final String DATE_REQUIRED = "Date is required and cannot be null";
+	static final String DATE_IN_PAST = "Date cannot be in the past";
+	static final String EMAIL_REQUIRED = "Email cannot be null or empty";
+	static final String EMAIL_INVALID = "Invalid email format.";
 
 	// Private constructor to prevent instantiation since this is a utility class
 	private ValidationConfigurations() {
@@ -45,9 +50,9 @@ public class ValidationConfigurations {
 	public static boolean validateString(String string, String fieldName) {
 		LOGGER.debug("Validating string for field: {}", fieldName);
 
-		if (string == null || string.trim().isEmpty()) {
+		if (ValidationEngine.isBlank(string)) {
 			LOGGER.error("Validation failed: {} is null or empty", fieldName);
-			throw new ValidationException(fieldName + " is required and cannot be null or empty");
+			throw new ValidationException(requiredMessage(fieldName));
 		}
 
 		LOGGER.debug("Validation passed for field: {}", fieldName);
@@ -61,12 +66,12 @@ public class ValidationConfigurations {
 
 		if (date == null) {
 			LOGGER.error("Validation failed: Date is null");
-			throw new ValidationException("Date is required and cannot be null");
+			throw new ValidationException(DATE_REQUIRED);
 		}
 
-		if (date.isBefore(LocalDate.now())) {
+		if (ValidationEngine.isPast(date)) {
 			LOGGER.error("Validation failed: Date {} is in the past", date);
-			throw new ValidationException("Date cannot be in the past");
+			throw new ValidationException(DATE_IN_PAST);
 		}
 
 		LOGGER.debug("Validation passed for date: {}", date);
@@ -77,17 +82,21 @@ public class ValidationConfigurations {
 	public static boolean validateEmail(String email) {
 		LOGGER.debug("Validating Email format");
 
-		if (email == null || email.trim().isEmpty()) {
+		if (ValidationEngine.isBlank(email)) {
 			LOGGER.error("Validation failed: Email is null or empty");
-			throw new ValidationException("Email cannot be null or empty");
+			throw new ValidationException(EMAIL_REQUIRED);
 		}
 
-		if (!EMAIL_PATTERN.matcher(email).matches()) {
+		if (!ValidationEngine.isValidEmail(email)) {
 			LOGGER.error("Validation failed: Email format is not correct.");
-			throw new ValidationException("Invalid email format.");
+			throw new ValidationException(EMAIL_INVALID);
 		}
 
 		LOGGER.debug("Validation passed for email: {}", email);
 		return true;
 	}
-}
\ No newline at end of file
+
+	static String requiredMessage(String fieldName) {
+		return fieldName + " is required and cannot be null or empty";
+	}
+}
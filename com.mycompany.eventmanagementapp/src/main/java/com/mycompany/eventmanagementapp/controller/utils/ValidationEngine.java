@@ -0,0 +1,220 @@
+/**
+ * ValidationEngine validates events and participants, alone or in collections, with the rules of
+ * ValidationConfigurations, for the bulk imports and the API callers which want every violation at once.
+ *
+ * Unlike ValidationConfigurations, the engine reports the violations into a ValidationResult instead of throwing
+ * the first one as a ValidationException, and does not log every check. Valid input goes through without
+ * exceptions and without allocations:
+ * - isBlank scans for a non-whitespace character instead of trimming a copy of the string.
+ * - isValidEmail scans the address once by hand, accepting exactly what the regular expression of
+ *   ValidationConfigurations used to accept: letters, digits, "+", "_", "." and "-" before the single "@", and
+ *   letters, digits, "." and "-" after it, ending with a "." and at least two letters.
+ * - isPast compares epoch days with the current day, which is cached until the next midnight instead of being
+ *   read from the clock on every date.
+ *
+ * The collections are validated sequentially, or in parallel on the common ForkJoinPool in chunks of
+ * PARALLEL_CHUNK items, each chunk with its own result. Both report the violations in the order of the items.
+ */
+
+package com.mycompany.eventmanagementapp.controller.utils;
+
+import java.util.List;
+import java.time.ZoneId;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+
+public final class ValidationEngine {
+
+	// Items validated by one task of the parallel validations
+	static final int PARALLEL_CHUNK = 1024;
+
+	private static volatile Today today = new Today();
+
+	// Private constructor to prevent instantiation since this is a utility class
+	private ValidationEngine() {
+	}
+
+	// Validates the name, location and date of an event, returns whether it is valid
+	public static boolean validateEvent(EventModel event, ValidationResult result) {
+		return validateEvent(event, ValidationResult.NO_INDEX, result);
+	}
+
+	// Validates the name and email of a participant, returns whether it is valid
+	public static boolean validateParticipant(ParticipantModel participant, ValidationResult result) {
+		return validateParticipant(participant, ValidationResult.NO_INDEX, result);
+	}
+
+	// Validates every event, the violations having the index of their event
+	public static ValidationResult validateEvents(List<EventModel> events, ValidationResult result) {
+		return validateAll(events, ValidationEngine::validateEvent, 0, events.size(), result);
+	}
+
+	public static ValidationResult validateEventsInParallel(List<EventModel> events, ValidationResult result) {
+		return validateAllInParallel(events, ValidationEngine::validateEvent, result);
+	}
+
+	// Validates every participant, the violations having the index of their participant
+	public static ValidationResult validateParticipants(List<ParticipantModel> participants,
+			ValidationResult result) {
+		return validateAll(participants, ValidationEngine::validateParticipant, 0, participants.size(), result);
+	}
+
+	public static ValidationResult validateParticipantsInParallel(List<ParticipantModel> participants,
+			ValidationResult result) {
+		return validateAllInParallel(participants, ValidationEngine::validateParticipant, result);
+	}
+
+	// Whether the string is null or only whitespace, as String.trim understands it
+	public static boolean isBlank(CharSequence string) {
+		if (string == null) {
+			return true;
+		}
+		for (int i = 0, length = string.length(); i < length; i++) {
+			if (string.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Whether the email has the format of ValidationConfigurations, without a regular expression
+	public static boolean isValidEmail(CharSequence email) {
+		if (email == null) {
+			return false;
+		}
+		int length = email.length();
+		int at = -1;
+		int lastDot = -1;
+		for (int i = 0; i < length; i++) {
+			char c = email.charAt(i);
+			if (c == '@') {
+				if (at >= 0) {
+					return false;
+				}
+				at = i;
+			} else if (c == '.') {
+				lastDot = i;
+			} else if (!isAsciiLetterOrDigit(c) && c != '-' && (at >= 0 || (c != '+' && c != '_'))) {
+				return false;
+			}
+		}
+		// Something before the "@", something between it and the last ".", and at least two letters after that
+		if (at < 1 || lastDot < at + 2 || length - lastDot <= 2) {
+			return false;
+		}
+		for (int i = lastDot + 1; i < length; i++) {
+			if (!isAsciiLetter(email.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Whether the date is before the current day
+	public static boolean isPast(LocalDate date) {
+		Today current = today;
+		if (System.currentTimeMillis() >= current.nextMidnightMillis) {
+			today = current = new Today();
+		}
+		return date.toEpochDay() < current.epochDay;
+	}
+
+	private static boolean validateEvent(EventModel event, int index, ValidationResult result) {
+		if (event == null) {
+			result.addViolation(index, "Event", "Event is null");
+			return false;
+		}
+		boolean valid = checkRequired(event.getEventName(), "Name", index, result);
+		valid &= checkRequired(event.getEventLocation(), "Location", index, result);
+		LocalDate date = event.getEventDate();
+		if (date == null) {
+			result.addViolation(index, "Date", ValidationConfigurations.DATE_REQUIRED);
+			return false;
+		}
+		if (isPast(date)) {
+			result.addViolation(index, "Date", ValidationConfigurations.DATE_IN_PAST);
+			return false;
+		}
+		return valid;
+	}
+
+	private static boolean validateParticipant(ParticipantModel participant, int index, ValidationResult result) {
+		if (participant == null) {
+			result.addViolation(index, "Participant", "Participant is null");
+			return false;
+		}
+		boolean valid = checkRequired(participant.getParticipantName(), "Name", index, result);
+		String email = participant.getParticipantEmail();
+		if (isBlank(email)) {
+			result.addViolation(index, "Email", ValidationConfigurations.EMAIL_REQUIRED);
+			return false;
+		}
+		if (!isValidEmail(email)) {
+			result.addViolation(index, "Email", ValidationConfigurations.EMAIL_INVALID);
+			return false;
+		}
+		return valid;
+	}
+
+	private static boolean checkRequired(String value, String field, int index, ValidationResult result) {
+		if (isBlank(value)) {
+			result.addViolation(index, field, ValidationConfigurations.requiredMessage(field));
+			return false;
+		}
+		return true;
+	}
+
+	private static <T> ValidationResult validateAll(List<T> items, ItemValidator<T> validator, int from, int to,
+			ValidationResult result) {
+		for (int index = from; index < to; index++) {
+			validator.validate(items.get(index), index, result);
+		}
+		return result;
+	}
+
+	private static <T> ValidationResult validateAllInParallel(List<T> items, ItemValidator<T> validator,
+			ValidationResult result) {
+		int size = items.size();
+		if (size <= PARALLEL_CHUNK) {
+			return validateAll(items, validator, 0, size, result);
+		}
+		List<ValidationResult> chunks = IntStream.range(0, (size + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK).parallel()
+				.mapToObj(chunk -> validateAll(items, validator, chunk * PARALLEL_CHUNK,
+						Math.min(size, (chunk + 1) * PARALLEL_CHUNK), new ValidationResult()))
+				.collect(Collectors.toList());
+		chunks.forEach(result::addAll);
+		return result;
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return isAsciiLetter(c) || (c >= '0' && c <= '9');
+	}
+
+	// Validates one item of a collection
+	private interface ItemValidator<T> {
+		boolean validate(T item, int index, ValidationResult result);
+	}
+
+	// The current day, until the next midnight of the default time zone
+	private static final class Today {
+
+		private final long epochDay;
+
+		private final long nextMidnightMillis;
+
+		private Today() {
+			ZoneId zone = ZoneId.systemDefault();
+			LocalDate date = LocalDate.now(zone);
+			epochDay = date.toEpochDay();
+			nextMidnightMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+		}
+	}
+}
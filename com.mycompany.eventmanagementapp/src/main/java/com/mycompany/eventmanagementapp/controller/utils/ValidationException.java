@@ -4,6 +4,7 @@ public class ValidationException extends RuntimeException {
 	private static final long serialVersionUID = 1L;
 
 	public ValidationException(String message) {
-		super(message);
+		// No stack trace, a validation failure is an expected outcome reported to the user, not a bug
+		super(message, null, false, false);
 	}
 }
\ No newline at end of file
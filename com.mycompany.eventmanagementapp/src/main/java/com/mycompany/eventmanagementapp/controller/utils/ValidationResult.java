@@ -0,0 +1,92 @@
+/**
+ * ValidationResult collects the violations found by the ValidationEngine, all of them instead of only the first.
+ *
+ * A result is meant to be reused: reset clears it without releasing its storage, so that validating valid input
+ * again and again allocates nothing. The violations are only allocated when something is invalid. A result is not
+ * thread-safe, the parallel validations of the engine give every thread its own one and merge them in order.
+ *
+ * Every violation names the invalid field ("Name", "Location", "Date", "Email", or the entity itself when it is
+ * null), its message, the same as the one of the ValidationException of ValidationConfigurations, and the index of
+ * the invalid item when a collection was validated (NO_INDEX otherwise).
+ */
+
+package com.mycompany.eventmanagementapp.controller.utils;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
+
+public final class ValidationResult {
+
+	public static final int NO_INDEX = -1;
+
+	private final List<Violation> violations = new ArrayList<>();
+
+	private final List<Violation> unmodifiableViolations = Collections.unmodifiableList(violations);
+
+	// Clears the violations, to validate something else with the same result
+	public ValidationResult reset() {
+		violations.clear();
+		return this;
+	}
+
+	public boolean isValid() {
+		return violations.isEmpty();
+	}
+
+	// The violations in the order they were found, by item index for the collections
+	public List<Violation> getViolations() {
+		return unmodifiableViolations;
+	}
+
+	// Message of the first violation, null when the result is valid
+	public String getFirstMessage() {
+		return violations.isEmpty() ? null : violations.get(0).getMessage();
+	}
+
+	void addViolation(int index, String field, String message) {
+		violations.add(new Violation(index, field, message));
+	}
+
+	void addAll(ValidationResult other) {
+		violations.addAll(other.violations);
+	}
+
+	@Override
+	public String toString() {
+		return isValid() ? "Valid" : "Invalid " + violations;
+	}
+
+	// One invalid field
+	public static final class Violation {
+
+		private final int index;
+
+		private final String field;
+
+		private final String message;
+
+		private Violation(int index, String field, String message) {
+			this.index = index;
+			this.field = field;
+			this.message = message;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public String getField() {
+			return field;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+
+		@Override
+		public String toString() {
+			return (index == NO_INDEX ? "" : "[" + index + "] ") + field + ": " + message;
+		}
+	}
+}
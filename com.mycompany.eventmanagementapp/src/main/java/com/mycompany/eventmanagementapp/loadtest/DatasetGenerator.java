@@ -0,0 +1,297 @@
+/**
+ * DatasetGenerator fills a database with synthetic events, participants and registrations, at the volumes of
+ * production (a million participants and more), for the load harness, the benchmarks and the tests.
+ *
+ * The rows are written directly over JDBC with batched inserts, committed once per batch, instead of going through
+ * the repositories one entity and one transaction at a time. The ids are assigned by the generator, following the
+ * largest ids already in the tables, so that the registrations can be inserted without reading the ids back. The
+ * identity columns are moved past the generated ids afterwards where the database does not do it itself (H2). With
+ * MySQL, adding rewriteBatchedStatements=true to the URL lets the driver send every batch as one statement.
+ *
+ * The registrations are skewed like real ones, a few huge events and a long tail of small ones: the events are
+ * ranked in a random order and an event of rank r is picked with a probability proportional to 1 / r^skew (a Zipf
+ * distribution). Every participant is registered to at least one event, and to further ones with a geometric
+ * distribution, so that the mean number of registrations per participant is about the configured one.
+ *
+ * Every event is in the future and every email is unique, so that the data passes the validation of the
+ * controllers. The same seed and settings always generate the same data on an empty database.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.Random;
+import java.util.Locale;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.sql.PreparedStatement;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+
+public class DatasetGenerator {
+
+	private static final Logger LOGGER = LogManager.getLogger(DatasetGenerator.class);
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	// Upper bound of the registrations of one participant, keeps the geometric tail reasonable
+	private static final int MAX_REGISTRATIONS = 50;
+
+	private static final String[] LOCATIONS = { "Florence", "Rome", "Milan", "Berlin", "Paris", "Madrid", "Vienna",
+			"Lisbon" };
+
+	private int events = 1000;
+
+	private int participants = 100_000;
+
+	private double registrationsPerParticipant = 1.5;
+
+	private double skew = 1.0;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private long seed = 1;
+
+	public void setEvents(int events) {
+		if (events < 1) {
+			throw new IllegalArgumentException("At least one event is needed: " + events);
+		}
+		this.events = events;
+	}
+
+	public void setParticipants(int participants) {
+		if (participants < 0) {
+			throw new IllegalArgumentException("Negative number of participants: " + participants);
+		}
+		this.participants = participants;
+	}
+
+	// Mean number of events a participant is registered to, at least 1
+	public void setRegistrationsPerParticipant(double registrationsPerParticipant) {
+		if (!(registrationsPerParticipant >= 1)) {
+			throw new IllegalArgumentException(
+					"A participant is registered to at least one event: " + registrationsPerParticipant);
+		}
+		this.registrationsPerParticipant = registrationsPerParticipant;
+	}
+
+	// Exponent of the Zipf distribution of the event sizes, 0 spreads the registrations evenly
+	public void setSkew(double skew) {
+		if (!(skew >= 0)) {
+			throw new IllegalArgumentException("The skew must not be negative: " + skew);
+		}
+		this.skew = skew;
+	}
+
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+		}
+		this.batchSize = batchSize;
+	}
+
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	// Inserts the dataset through the connection, which is left in its original auto-commit mode
+	public Summary generate(Connection connection) throws SQLException {
+		long start = System.nanoTime();
+		Random random = new Random(seed);
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+		try {
+			long firstEventId = maxId(connection, "event", "eventId") + 1;
+			long firstParticipantId = maxId(connection, "participant", "participantId") + 1;
+			insertEvents(connection, random, firstEventId);
+			int[] eventSizes = insertParticipants(connection, random, firstEventId, firstParticipantId);
+			restartIdentity(connection, "event", "eventId", firstEventId + events);
+			restartIdentity(connection, "participant", "participantId", firstParticipantId + participants);
+			connection.commit();
+
+			Summary summary = new Summary(events, participants, Arrays.stream(eventSizes).asLongStream().sum(),
+					Arrays.stream(eventSizes).max().orElse(0), System.nanoTime() - start);
+			LOGGER.info(summary);
+			return summary;
+		} catch (SQLException | RuntimeException e) {
+			connection.rollback();
+			throw e;
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+	}
+
+	private void insertEvents(Connection connection, Random random, long firstEventId) throws SQLException {
+		LocalDate today = LocalDate.now();
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO event (eventId, event_name, event_date, event_location) VALUES (?, ?, ?, ?)")) {
+			for (int event = 0; event < events; event++) {
+				long eventId = firstEventId + event;
+				insert.setLong(1, eventId);
+				insert.setString(2, "Event " + eventId);
+				insert.setObject(3, today.plusDays(1 + random.nextInt(730)));
+				insert.setString(4, LOCATIONS[random.nextInt(LOCATIONS.length)]);
+				insert.addBatch();
+				if ((event + 1) % batchSize == 0) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+			insert.executeBatch();
+			connection.commit();
+		}
+	}
+
+	// Inserts the participants with their registrations, returns the number of participants of every event
+	private int[] insertParticipants(Connection connection, Random random, long firstEventId, long firstParticipantId)
+			throws SQLException {
+		double[] cumulativeWeights = cumulativeZipfWeights(random);
+		int[] eventSizes = new int[events];
+		int[] registered = new int[Math.min(events, MAX_REGISTRATIONS)];
+		// Probability of stopping after each registration, for the configured mean of the geometric distribution
+		double stop = 1 / registrationsPerParticipant;
+		try (PreparedStatement insertParticipant = connection.prepareStatement(
+				"INSERT INTO participant (participantId, participant_name, participant_email) VALUES (?, ?, ?)");
+				PreparedStatement insertRegistration = connection.prepareStatement(
+						"INSERT INTO event_participant (event_id, participant_id) VALUES (?, ?)")) {
+			for (int participant = 0; participant < participants; participant++) {
+				long participantId = firstParticipantId + participant;
+				insertParticipant.setLong(1, participantId);
+				insertParticipant.setString(2, "Participant " + participantId);
+				insertParticipant.setString(3, "participant" + participantId + "@generated.example.com");
+				insertParticipant.addBatch();
+
+				int count = 0;
+				do {
+					int event = pickEvent(cumulativeWeights, random);
+					if (!contains(registered, count, event)) {
+						registered[count++] = event;
+						eventSizes[event]++;
+						insertRegistration.setLong(1, firstEventId + event);
+						insertRegistration.setLong(2, participantId);
+						insertRegistration.addBatch();
+					}
+				} while (count < registered.length && random.nextDouble() >= stop);
+
+				if ((participant + 1) % batchSize == 0) {
+					// The participants first, their registrations reference them
+					insertParticipant.executeBatch();
+					insertRegistration.executeBatch();
+					connection.commit();
+				}
+			}
+			insertParticipant.executeBatch();
+			insertRegistration.executeBatch();
+			connection.commit();
+		}
+		return eventSizes;
+	}
+
+	// Cumulative Zipf weights of the events, the ranks being assigned to the events in a random order
+	private double[] cumulativeZipfWeights(Random random) {
+		int[] ranks = new int[events];
+		for (int event = 0; event < events; event++) {
+			ranks[event] = event + 1;
+		}
+		for (int event = events - 1; event > 0; event--) {
+			int other = random.nextInt(event + 1);
+			int rank = ranks[event];
+			ranks[event] = ranks[other];
+			ranks[other] = rank;
+		}
+		double[] cumulativeWeights = new double[events];
+		double total = 0;
+		for (int event = 0; event < events; event++) {
+			total += 1 / Math.pow(ranks[event], skew);
+			cumulativeWeights[event] = total;
+		}
+		return cumulativeWeights;
+	}
+
+	private static int pickEvent(double[] cumulativeWeights, Random random) {
+		double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+		int index = Arrays.binarySearch(cumulativeWeights, value);
+		return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+	}
+
+	private static boolean contains(int[] values, int count, int value) {
+		for (int i = 0; i < count; i++) {
+			if (values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static long maxId(Connection connection, String table, String column) throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet result = statement.executeQuery("SELECT MAX(" + column + ") FROM " + table)) {
+			result.next();
+			return result.getLong(1);
+		}
+	}
+
+	// MySQL moves its AUTO_INCREMENT past inserted ids, H2 has to be told
+	private static void restartIdentity(Connection connection, String table, String column, long next)
+			throws SQLException {
+		if ("H2".equals(connection.getMetaData().getDatabaseProductName())) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+			}
+		}
+	}
+
+	// What a generation inserted
+	public static final class Summary {
+
+		private final int events;
+
+		private final int participants;
+
+		private final long registrations;
+
+		private final int largestEvent;
+
+		private final long elapsedNanos;
+
+		private Summary(int events, int participants, long registrations, int largestEvent, long elapsedNanos) {
+			this.events = events;
+			this.participants = participants;
+			this.registrations = registrations;
+			this.largestEvent = largestEvent;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public int getEvents() {
+			return events;
+		}
+
+		public int getParticipants() {
+			return participants;
+		}
+
+		public long getRegistrations() {
+			return registrations;
+		}
+
+		// Number of participants of the largest generated event
+		public int getLargestEvent() {
+			return largestEvent;
+		}
+
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT,
+					"Generated %d event(s), %d participant(s) and %d registration(s) in %.1f s, "
+							+ "the largest event has %d participant(s)",
+					events, participants, registrations, elapsedNanos / 1e9, largestEvent);
+		}
+	}
+}
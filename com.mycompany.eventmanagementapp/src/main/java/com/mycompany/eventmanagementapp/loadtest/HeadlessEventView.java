@@ -0,0 +1,82 @@
+/**
+ * HeadlessEventView is the EventManagementView of a virtual clerk of the LoadHarness. Like the event screen it
+ * keeps the list of events it was last shown up to date with the added, updated and deleted events, so that the
+ * clerk picks the events it updates and deletes from what it sees, which may be stale.
+ *
+ * It counts the notifications, and remembers whether an error was shown since the clerk last asked, which is
+ * how the clerk tells a rejected operation from a successful one. A view is only used by its clerk's thread.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.ArrayList;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+
+public class HeadlessEventView implements EventManagementView {
+
+	private final List<EventModel> events = new ArrayList<>();
+
+	private long added;
+
+	private long deleted;
+
+	private long updated;
+
+	private boolean errorShown;
+
+	@Override
+	public void showAllEvents(List<EventModel> events) {
+		this.events.clear();
+		this.events.addAll(events);
+	}
+
+	@Override
+	public void eventAdded(EventModel event) {
+		added++;
+		events.add(event);
+	}
+
+	@Override
+	public void showError(String message, EventModel event) {
+		errorShown = true;
+	}
+
+	@Override
+	public void eventDeleted(EventModel event) {
+		deleted++;
+		events.remove(event);
+	}
+
+	@Override
+	public void eventUpdated(EventModel event) {
+		updated++;
+		events.replaceAll(shown -> Objects.equals(shown.getEventId(), event.getEventId()) ? event : shown);
+	}
+
+	// Whether an error was shown since the last call
+	public boolean takeError() {
+		boolean shown = errorShown;
+		errorShown = false;
+		return shown;
+	}
+
+	public List<EventModel> getEvents() {
+		return events;
+	}
+
+	public long getAdded() {
+		return added;
+	}
+
+	public long getDeleted() {
+		return deleted;
+	}
+
+	public long getUpdated() {
+		return updated;
+	}
+}
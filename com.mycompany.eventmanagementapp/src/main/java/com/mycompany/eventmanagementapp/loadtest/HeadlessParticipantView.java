@@ -0,0 +1,97 @@
+/**
+ * HeadlessParticipantView is the ParticipantManagementView of a virtual clerk of the LoadHarness. Like the
+ * participant screen it keeps the lists of participants and events it was last shown up to date with the
+ * notifications, so that the clerk picks the participants and events it works on from what it sees.
+ *
+ * It counts the participants added and deleted, an existing participant registered to another event being an
+ * update, and remembers whether an error was shown since the clerk last asked. A view is only used by its clerk's
+ * thread.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.ArrayList;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
+
+public class HeadlessParticipantView implements ParticipantManagementView {
+
+	private final List<ParticipantModel> participants = new ArrayList<>();
+
+	private final List<EventModel> events = new ArrayList<>();
+
+	private long added;
+
+	private long deleted;
+
+	private long updated;
+
+	private boolean errorShown;
+
+	@Override
+	public void showAllParticipants(List<ParticipantModel> participants) {
+		this.participants.clear();
+		this.participants.addAll(participants);
+	}
+
+	@Override
+	public void showAllEvents(List<EventModel> events) {
+		this.events.clear();
+		this.events.addAll(events);
+	}
+
+	@Override
+	public void participantAdded(ParticipantModel participant) {
+		added++;
+		participants.add(participant);
+	}
+
+	@Override
+	public void showError(String message, ParticipantModel participant) {
+		errorShown = true;
+	}
+
+	@Override
+	public void participantDeleted(ParticipantModel participant) {
+		deleted++;
+		participants.remove(participant);
+	}
+
+	@Override
+	public void participantUpdated(ParticipantModel participant) {
+		updated++;
+		participants.removeIf(shown -> Objects.equals(shown.getParticipantId(), participant.getParticipantId()));
+		participants.add(participant);
+	}
+
+	// Whether an error was shown since the last call
+	public boolean takeError() {
+		boolean shown = errorShown;
+		errorShown = false;
+		return shown;
+	}
+
+	public List<ParticipantModel> getParticipants() {
+		return participants;
+	}
+
+	public List<EventModel> getEvents() {
+		return events;
+	}
+
+	public long getAdded() {
+		return added;
+	}
+
+	public long getDeleted() {
+		return deleted;
+	}
+
+	public long getUpdated() {
+		return updated;
+	}
+}
@@ -0,0 +1,346 @@
+/**
+ * LoadHarness simulates clerks using the application at the same time, to measure how the controllers and the
+ * database behave under concurrent use and to find the races the single-user tests cannot.
+ *
+ * Every virtual clerk is a thread with its own EventController and ParticipantController, each talking to a
+ * headless view, like a separate instance of the application, while all clerks share the repositories and so
+ * the database. A clerk repeatedly picks an operation from the OperationMix and performs it the way the screens
+ * do, on the events and participants its views currently show:
+ * - list-events / list-participants: Reloads the lists, as the refresh does.
+ * - add-event / update-event / delete-event: Adds a new event, renames and reschedules a shown one, or deletes a
+ *   shown one.
+ * - add-participant / update-participant / delete-participant: Registers a participant to a shown event, renames a
+ *   shown participant, or unregisters one from one of its events. The emails are drawn from a pool shared by all
+ *   clerks, so that they register, update and delete the same participants concurrently.
+ * An operation for which the views show nothing to act on is skipped. With setGroupCommit the participant
+ * controllers register through ParticipantRepository.registerParticipant, so that the registrations of the clerks
+ * are committed in groups when the repository has a GroupCommitPipeline. With setUpsertRegistration they register
+ * with the upserts of ParticipantRepository.upsertRegistration instead. With setEmailFilter they skip the lookup of
+ * the emails the EmailBloomFilter, shared by all clerks and maintained by the repository, has never seen.
+ *
+ * Every operation is timed and recorded in the "load" layer of the MetricsRegistry, counting as an error when the
+ * controller showed an error or threw. Once the clerks are done, the invariants of the data are checked:
+ * - The number of events and of participants is the initial one plus the additions minus the deletions the
+ *   views were notified of, otherwise writes were lost or duplicated.
+ * - Every participant is registered to at least one event.
+ * - No email is used by two participants, ignoring case.
+ * The results are returned as a LoadReport.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.Map;
+import java.util.List;
+import java.util.Random;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.ArrayList;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.metrics.OperationMetrics;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
+import com.mycompany.eventmanagementapp.controller.EventController;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.controller.ParticipantController;
+
+public class LoadHarness {
+
+	private static final Logger LOGGER = LogManager.getLogger(LoadHarness.class);
+
+	public static final String LAYER = "load";
+
+	public static final int DEFAULT_PARTICIPANT_POOL = 1000;
+
+	// Id the screen gives a new event, replaced by the generated one when it is added
+	private static final long DEFAULT_EVENT_ID = -1;
+
+	private static final String[] LOCATIONS = { "Florence", "Rome", "Milan", "Berlin", "Paris", "Madrid" };
+
+	private final EventRepository eventRepository;
+
+	private final ParticipantRepository participantRepository;
+
+	private final MetricsRegistry registry;
+
+	private int participantPool = DEFAULT_PARTICIPANT_POOL;
+
+	private boolean groupCommit;
+
+	private boolean upsertRegistration;
+
+	private EmailBloomFilter emailFilter;
+
+	public LoadHarness(EventRepository eventRepository, ParticipantRepository participantRepository,
+			MetricsRegistry registry) {
+		this.eventRepository = eventRepository;
+		this.participantRepository = participantRepository;
+		this.registry = registry;
+	}
+
+	// Number of distinct participant emails the clerks draw from, fewer emails mean more contention
+	public void setParticipantPool(int participantPool) {
+		if (participantPool < 1) {
+			throw new IllegalArgumentException("The participant pool must not be empty: " + participantPool);
+		}
+		this.participantPool = participantPool;
+	}
+
+	// Whether the clerks' participant controllers register through the group commit of the repository
+	public void setGroupCommit(boolean groupCommit) {
+		this.groupCommit = groupCommit;
+	}
+
+	// Whether the clerks' participant controllers register with the upserts of the repository
+	public void setUpsertRegistration(boolean upsertRegistration) {
+		this.upsertRegistration = upsertRegistration;
+	}
+
+	// Filter the clerks' participant controllers skip the lookup of new emails with, null to look them all up
+	public void setEmailFilter(EmailBloomFilter emailFilter) {
+		this.emailFilter = emailFilter;
+	}
+
+	// Runs the clerks for the given duration, each clerk's choices are reproducible from the seed
+	public LoadReport run(int clerks, Duration duration, OperationMix mix, long seed) throws InterruptedException {
+		if (clerks < 1) {
+			throw new IllegalArgumentException("At least one clerk is needed: " + clerks);
+		}
+		int initialEvents = eventRepository.getAllEvents().size();
+		int initialParticipants = participantRepository.getAllParticipants().size();
+		LOGGER.info("Running {} clerk(s) for {} s with the mix {} on {} event(s) and {} participant(s)", clerks,
+				duration.getSeconds(), mix, initialEvents, initialParticipants);
+
+		Map<LoadOperation, OperationMetrics> metrics = new HashMap<>();
+		for (LoadOperation operation : LoadOperation.values()) {
+			if (mix.getWeight(operation) > 0) {
+				OperationMetrics operationMetrics = registry.operation(LAYER, operation.getLabel());
+				operationMetrics.reset();
+				metrics.put(operation, operationMetrics);
+			}
+		}
+		LongAdder skipped = new LongAdder();
+		AtomicInteger threads = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(clerks,
+				runnable -> new Thread(runnable, "load-clerk-" + threads.incrementAndGet()));
+		List<Clerk> clerkList = new ArrayList<>();
+		List<Future<?>> futures = new ArrayList<>();
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+		try {
+			for (int number = 1; number <= clerks; number++) {
+				Clerk clerk = new Clerk(number, new Random(seed + number), mix, metrics, skipped, deadline);
+				clerkList.add(clerk);
+				futures.add(executor.submit(clerk));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A clerk stopped unexpectedly", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+		long elapsedNanos = System.nanoTime() - start;
+
+		long eventsAdded = clerkList.stream().mapToLong(clerk -> clerk.eventView.getAdded()).sum();
+		long eventsDeleted = clerkList.stream().mapToLong(clerk -> clerk.eventView.getDeleted()).sum();
+		long participantsAdded = clerkList.stream().mapToLong(clerk -> clerk.participantView.getAdded()).sum();
+		long participantsDeleted = clerkList.stream().mapToLong(clerk -> clerk.participantView.getDeleted()).sum();
+		List<String> violations = checkInvariants(initialEvents + eventsAdded - eventsDeleted,
+				initialParticipants + participantsAdded - participantsDeleted);
+
+		List<OperationMetrics> operations = new ArrayList<>();
+		for (LoadOperation operation : LoadOperation.values()) {
+			if (metrics.containsKey(operation)) {
+				operations.add(metrics.get(operation));
+			}
+		}
+		LoadReport report = new LoadReport(clerks, elapsedNanos, operations, skipped.sum(), violations);
+		LOGGER.info(report.format());
+		return report;
+	}
+
+	// Checks the data left by the clerks, returns the violated invariants
+	List<String> checkInvariants(long expectedEvents, long expectedParticipants) {
+		List<String> violations = new ArrayList<>();
+		List<EventModel> events = eventRepository.getAllEvents();
+		List<ParticipantModel> participants = participantRepository.getAllParticipants();
+		if (events.size() != expectedEvents) {
+			violations.add(String.format("Expected %d event(s) from the notified additions and deletions but found %d",
+					expectedEvents, events.size()));
+		}
+		if (participants.size() != expectedParticipants) {
+			violations.add(String.format(
+					"Expected %d participant(s) from the notified additions and deletions but found %d",
+					expectedParticipants, participants.size()));
+		}
+
+		Map<String, Integer> emails = new HashMap<>();
+		for (ParticipantModel participant : participants) {
+			emails.merge(participant.getParticipantEmail().toLowerCase(Locale.ROOT), 1, Integer::sum);
+			if (participant.getEvents().isEmpty()) {
+				violations.add("Participant " + participant.getParticipantEmail() + " is not registered to any event");
+			}
+		}
+		emails.forEach((email, count) -> {
+			if (count > 1) {
+				violations.add("Email " + email + " is used by " + count + " participants");
+			}
+		});
+		return violations;
+	}
+
+	// One virtual clerk, with its own controllers and views
+	private final class Clerk implements Runnable {
+
+		private final int number;
+
+		private final Random random;
+
+		private final OperationMix mix;
+
+		private final Map<LoadOperation, OperationMetrics> metrics;
+
+		private final LongAdder skipped;
+
+		private final long deadline;
+
+		private final HeadlessEventView eventView = new HeadlessEventView();
+
+		private final HeadlessParticipantView participantView = new HeadlessParticipantView();
+
+		private final EventController eventController = new EventController(eventView, eventRepository);
+
+		private final ParticipantController participantController = new ParticipantController(participantView,
+				participantRepository, eventRepository);
+
+		private int changes;
+
+		private Clerk(int number, Random random, OperationMix mix, Map<LoadOperation, OperationMetrics> metrics,
+				LongAdder skipped, long deadline) {
+			this.number = number;
+			this.random = random;
+			this.mix = mix;
+			this.metrics = metrics;
+			this.skipped = skipped;
+			this.deadline = deadline;
+			participantController.setGroupCommit(groupCommit);
+			participantController.setUpsertRegistration(upsertRegistration);
+			participantController.setEmailFilter(emailFilter);
+		}
+
+		@Override
+		public void run() {
+			// Opening the screens loads their lists
+			eventController.getAllEvents();
+			participantController.getAllEvents();
+			participantController.getAllParticipants();
+
+			while (System.nanoTime() < deadline) {
+				LoadOperation operation = mix.next(random);
+				Runnable action = prepare(operation);
+				if (action == null) {
+					skipped.increment();
+					continue;
+				}
+				long start = System.nanoTime();
+				boolean failed;
+				try {
+					action.run();
+					// Both views are asked, so that neither keeps an error for the next operation
+					failed = eventView.takeError() | participantView.takeError();
+				} catch (RuntimeException e) {
+					// Logs the exceptions at debug level, they are counted as errors of the operation.
+					LOGGER.debug("Clerk {} failed to {}", number, operation.getLabel(), e);
+					eventView.takeError();
+					participantView.takeError();
+					failed = true;
+				}
+				metrics.get(operation).record(System.nanoTime() - start, failed);
+			}
+		}
+
+		// The action performing the operation as a screen would, null when there is nothing to act on
+		private Runnable prepare(LoadOperation operation) {
+			switch (operation) {
+			case LIST_EVENTS:
+				return eventController::getAllEvents;
+			case ADD_EVENT:
+				EventModel newEvent = new EventModel(DEFAULT_EVENT_ID, nextName("Event"), nextDate(), nextLocation());
+				return () -> eventController.addEvent(newEvent);
+			case UPDATE_EVENT:
+				EventModel shownEvent = pick(eventView.getEvents());
+				if (shownEvent == null) {
+					return null;
+				}
+				EventModel updatedEvent = new EventModel(nextName("Event"), nextDate(), nextLocation());
+				updatedEvent.setEventId(shownEvent.getEventId());
+				updatedEvent.setParticipants(shownEvent.getParticipants());
+				return () -> eventController.updateEvent(updatedEvent);
+			case DELETE_EVENT:
+				EventModel deletedEvent = pick(eventView.getEvents());
+				return deletedEvent == null ? null : () -> eventController.deleteEvent(deletedEvent);
+			case LIST_PARTICIPANTS:
+				return () -> {
+					participantController.getAllEvents();
+					participantController.getAllParticipants();
+				};
+			case ADD_PARTICIPANT:
+				EventModel registeredEvent = pick(participantView.getEvents());
+				if (registeredEvent == null) {
+					return null;
+				}
+				EventModel selectedEvent = new EventModel();
+				selectedEvent.setEventId(registeredEvent.getEventId());
+				int poolIndex = random.nextInt(participantPool);
+				ParticipantModel newParticipant = new ParticipantModel("Participant " + poolIndex,
+						"participant" + poolIndex + "@load.example.com");
+				return () -> participantController.addParticipant(newParticipant, selectedEvent);
+			case UPDATE_PARTICIPANT:
+				ParticipantModel updatedParticipant = pick(participantView.getParticipants());
+				if (updatedParticipant == null) {
+					return null;
+				}
+				updatedParticipant.setParticipantName(nextName("Participant"));
+				return () -> participantController.updateParticipant(updatedParticipant);
+			case DELETE_PARTICIPANT:
+				ParticipantModel deletedParticipant = pick(participantView.getParticipants());
+				EventModel unregisteredEvent = deletedParticipant == null ? null
+						: pick(new ArrayList<>(deletedParticipant.getEvents()));
+				return unregisteredEvent == null ? null
+						: () -> participantController.deleteParticipant(deletedParticipant, unregisteredEvent);
+			default:
+				throw new IllegalArgumentException("Unsupported operation: " + operation);
+			}
+		}
+
+		private <T> T pick(List<T> shown) {
+			return shown.isEmpty() ? null : shown.get(random.nextInt(shown.size()));
+		}
+
+		private String nextName(String kind) {
+			return "Clerk " + number + " " + kind + " " + (++changes);
+		}
+
+		private LocalDate nextDate() {
+			return LocalDate.now().plusDays(1 + random.nextInt(365));
+		}
+
+		private String nextLocation() {
+			return LOCATIONS[random.nextInt(LOCATIONS.length)];
+		}
+	}
+}
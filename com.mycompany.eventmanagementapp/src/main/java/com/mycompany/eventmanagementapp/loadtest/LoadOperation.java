@@ -0,0 +1,31 @@
+/**
+ * LoadOperation lists the user actions a virtual clerk of the LoadHarness performs, each one calling the
+ * controller method the corresponding button of the screens calls.
+ *
+ * Every operation has a label, for example "add-event", used in the operation mix specification and in the
+ * load report.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.Locale;
+
+public enum LoadOperation {
+
+	LIST_EVENTS, ADD_EVENT, UPDATE_EVENT, DELETE_EVENT, LIST_PARTICIPANTS, ADD_PARTICIPANT, UPDATE_PARTICIPANT,
+	DELETE_PARTICIPANT;
+
+	public String getLabel() {
+		return name().toLowerCase(Locale.ROOT).replace('_', '-');
+	}
+
+	// The operation with the given label, ignoring case
+	public static LoadOperation fromLabel(String label) {
+		for (LoadOperation operation : values()) {
+			if (operation.getLabel().equalsIgnoreCase(label.trim())) {
+				return operation;
+			}
+		}
+		throw new IllegalArgumentException("Unknown operation: " + label);
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * LoadReport holds the results of a LoadHarness run: how many operations the clerks performed per second, the
+ * error rate and latency percentiles of every operation, the operations skipped because the clerk's views showed
+ * nothing to act on, and the invariants of the data which were violated at the end of the run.
+ *
+ * format renders the report as a table, for the log or a file.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Collections;
+
+import com.mycompany.eventmanagementapp.metrics.LatencyHistogram;
+import com.mycompany.eventmanagementapp.metrics.OperationMetrics;
+
+public class LoadReport {
+
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	private final int clerks;
+
+	private final long elapsedNanos;
+
+	private final List<OperationMetrics> operations;
+
+	private final long skipped;
+
+	private final List<String> invariantViolations;
+
+	public LoadReport(int clerks, long elapsedNanos, List<OperationMetrics> operations, long skipped,
+			List<String> invariantViolations) {
+		this.clerks = clerks;
+		this.elapsedNanos = elapsedNanos;
+		this.operations = Collections.unmodifiableList(operations);
+		this.skipped = skipped;
+		this.invariantViolations = Collections.unmodifiableList(invariantViolations);
+	}
+
+	public int getClerks() {
+		return clerks;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	// Metrics of every operation of the mix, in the order of LoadOperation
+	public List<OperationMetrics> getOperations() {
+		return operations;
+	}
+
+	public long getTotalOperations() {
+		return operations.stream().mapToLong(OperationMetrics::getCalls).sum();
+	}
+
+	public long getErrors() {
+		return operations.stream().mapToLong(OperationMetrics::getErrors).sum();
+	}
+
+	public long getSkipped() {
+		return skipped;
+	}
+
+	// Operations completed per second over all clerks
+	public double getThroughput() {
+		return elapsedNanos == 0 ? 0 : getTotalOperations() * NANOS_PER_SECOND / elapsedNanos;
+	}
+
+	public double getErrorRate() {
+		long total = getTotalOperations();
+		return total == 0 ? 0 : (double) getErrors() / total;
+	}
+
+	public List<String> getInvariantViolations() {
+		return invariantViolations;
+	}
+
+	public String format() {
+		StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+				"Load report: %d clerk(s) for %.1f s, %d operation(s), %.1f operations/s, %.2f%% errors, %d skipped",
+				clerks, elapsedNanos / NANOS_PER_SECOND, getTotalOperations(), getThroughput(),
+				getErrorRate() * 100, skipped));
+		report.append(System.lineSeparator()).append(String.format(Locale.ROOT,
+				"  %-20s %8s %7s %8s %9s %9s %9s %9s %9s", "operation", "count", "errors", "ops/s", "mean ms",
+				"p50 ms", "p95 ms", "p99 ms", "max ms"));
+		for (OperationMetrics metrics : operations) {
+			LatencyHistogram latencies = metrics.getLatencies();
+			report.append(System.lineSeparator()).append(String.format(Locale.ROOT,
+					"  %-20s %8d %7d %8.1f %9.3f %9.3f %9.3f %9.3f %9.3f", metrics.getOperation(),
+					metrics.getCalls(), metrics.getErrors(), metrics.getCalls() * NANOS_PER_SECOND / elapsedNanos,
+					latencies.getMean() / NANOS_PER_MILLI, latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+					latencies.getValueAtPercentile(95) / NANOS_PER_MILLI,
+					latencies.getValueAtPercentile(99) / NANOS_PER_MILLI, latencies.getMax() / NANOS_PER_MILLI));
+		}
+		if (invariantViolations.isEmpty()) {
+			report.append(System.lineSeparator()).append("Invariants: all hold");
+		} else {
+			report.append(System.lineSeparator()).append("Invariants: ").append(invariantViolations.size())
+					.append(" violation(s)");
+			invariantViolations.forEach(violation -> report.append(System.lineSeparator()).append("  - ")
+					.append(violation));
+		}
+		return report.toString();
+	}
+}
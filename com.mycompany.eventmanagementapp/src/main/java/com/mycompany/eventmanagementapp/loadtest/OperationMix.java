@@ -0,0 +1,78 @@
+/**
+ * OperationMix is the weighted choice of the operations the virtual clerks of the LoadHarness perform.
+ *
+ * A mix is specified as comma separated label=weight pairs, for example "list-events=3,add-event=1": each
+ * operation is picked with a probability proportional to its weight, operations which are not listed are never
+ * picked. The default mix is dominated by reads, as the screens are, with every write still exercised.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.EnumMap;
+import java.util.StringJoiner;
+
+public final class OperationMix {
+
+	public static final String DEFAULT = "list-events=20,add-event=10,update-event=10,delete-event=5,"
+			+ "list-participants=20,add-participant=20,update-participant=10,delete-participant=5";
+
+	private final Map<LoadOperation, Integer> weights;
+
+	private final int totalWeight;
+
+	private OperationMix(Map<LoadOperation, Integer> weights) {
+		this.weights = weights;
+		this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+	// Parses a specification of label=weight pairs, every weight being a non-negative integer
+	public static OperationMix parse(String specification) {
+		Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+		for (String entry : specification.split(",")) {
+			String[] pair = entry.split("=");
+			if (pair.length != 2) {
+				throw new IllegalArgumentException("Expected operation=weight but was: " + entry.trim());
+			}
+			int weight;
+			try {
+				weight = Integer.parseInt(pair[1].trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid weight of " + pair[0].trim() + ": " + pair[1].trim(), e);
+			}
+			if (weight < 0) {
+				throw new IllegalArgumentException("Negative weight of " + pair[0].trim() + ": " + weight);
+			}
+			weights.merge(LoadOperation.fromLabel(pair[0]), weight, Integer::sum);
+		}
+		OperationMix mix = new OperationMix(weights);
+		if (mix.totalWeight == 0) {
+			throw new IllegalArgumentException("The mix has no operation with a positive weight: " + specification);
+		}
+		return mix;
+	}
+
+	// Picks an operation with a probability proportional to its weight
+	public LoadOperation next(Random random) {
+		int value = random.nextInt(totalWeight);
+		for (Map.Entry<LoadOperation, Integer> entry : weights.entrySet()) {
+			value -= entry.getValue();
+			if (value < 0) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException("Weights changed while picking");
+	}
+
+	public int getWeight(LoadOperation operation) {
+		return weights.getOrDefault(operation, 0);
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner specification = new StringJoiner(",");
+		weights.forEach((operation, weight) -> specification.add(operation.getLabel() + "=" + weight));
+		return specification.toString();
+	}
+}
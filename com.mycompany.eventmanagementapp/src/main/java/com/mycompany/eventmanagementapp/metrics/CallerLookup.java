@@ -0,0 +1,52 @@
+/**
+ * CallerLookup finds, in the current call stack, the controller and repository methods a database access
+ * originates from, for example "EventController.deleteEvent > EventMySqlRepository.getEventById".
+ *
+ * It walks a captured stack trace, which costs a few microseconds per lookup, so it is only used by the
+ * diagnostic modes ("--stats", "--profile-jdbc"), never on the default path.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+public final class CallerLookup {
+
+	public static final String CONTROLLER_PACKAGE = "com.mycompany.eventmanagementapp.controller.";
+
+	public static final String REPOSITORY_PACKAGE = "com.mycompany.eventmanagementapp.repository.";
+
+	// Origin of accesses made outside of any controller, for example the initial loads at startup
+	static final String NO_CONTROLLER = "(no controller)";
+
+	// Private constructor to prevent instantiation since this is a utility class
+	private CallerLookup() {
+	}
+
+	// "Controller.method > Repository.method" of the current thread, either part may be missing
+	public static String currentOrigin() {
+		return origin(Thread.currentThread().getStackTrace());
+	}
+
+	static String origin(StackTraceElement[] stack) {
+		String controller = findCaller(stack, CONTROLLER_PACKAGE);
+		String repository = findCaller(stack, REPOSITORY_PACKAGE);
+		StringBuilder origin = new StringBuilder(controller == null ? NO_CONTROLLER : controller);
+		if (repository != null) {
+			origin.append(" > ").append(repository);
+		}
+		return origin.toString();
+	}
+
+	// The innermost frame of the stack in the given package, as "Class.method", or null
+	public static String findCaller(StackTraceElement[] stack, String packagePrefix) {
+		for (StackTraceElement frame : stack) {
+			String className = frame.getClassName();
+			if (className.startsWith(packagePrefix)) {
+				String simpleName = className.substring(className.lastIndexOf('.') + 1);
+				int innerClass = simpleName.indexOf('$');
+				return (innerClass < 0 ? simpleName : simpleName.substring(0, innerClass)) + "."
+						+ frame.getMethodName();
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * ControllerOperationEvent is the Java Flight Recorder event of one controller operation, see
+ * FlightRecorderProbe. Its duration includes the time spent waiting for the controller's lock, which is also
+ * reported on its own.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Category;
+import jdk.jfr.Timespan;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Description;
+
+@Name("com.mycompany.eventmanagementapp.ControllerOperation")
+@Label("Controller Operation")
+@Description("An operation of the event or participant controller")
+@Category({ "Event Management App", "Controller" })
+@StackTrace(false)
+class ControllerOperationEvent extends Event implements FlightRecorderProbe.Operation {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Entity Id")
+	long entityId;
+
+	@Label("Lock Wait")
+	@Timespan(Timespan.NANOSECONDS)
+	long lockWait;
+
+	// Not part of the event
+	private transient long startNanos;
+
+	FlightRecorderProbe.Operation start(String operation, Long entityId) {
+		this.operation = operation;
+		this.entityId = entityId == null ? 0 : entityId;
+		startNanos = System.nanoTime();
+		begin();
+		return this;
+	}
+
+	@Override
+	public void lockAcquired() {
+		lockWait = System.nanoTime() - startNanos;
+	}
+
+	@Override
+	public void setRows(long rows) {
+		// Controller operations do not return rows
+	}
+
+	@Override
+	public void close() {
+		end();
+		if (shouldCommit()) {
+			commit();
+		}
+	}
+}
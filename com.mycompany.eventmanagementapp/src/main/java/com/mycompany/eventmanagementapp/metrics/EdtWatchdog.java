@@ -0,0 +1,162 @@
+/**
+ * EdtWatchdog measures how quickly the Event Dispatch Thread (EDT) picks up new events, so that UI freezes, for
+ * example database calls made on the EDT, become visible and attributable. It runs with "--edt-watchdog".
+ *
+ * - Every check interval, a daemon thread posts a probe to the EDT unless the previous one is still pending.
+ *   The time between posting and running the probe is the dispatch latency, recorded as the "edt/dispatch"
+ *   operation of the MetricsRegistry.
+ * - When the pending probe is older than the freeze threshold, the EDT is blocked: its stack is captured right
+ *   away, while it is still busy, and logged once per freeze.
+ * - When the probe finally runs, the freeze ends and its total duration is logged and recorded as the
+ *   "edt/freeze" operation, whose call count is the number of freezes.
+ *
+ * The stack can only be captured once the watchdog knows the EDT, which is the thread that ran the first probe.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.awt.EventQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.logging.log4j.Logger;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class EdtWatchdog {
+
+	private static final Logger LOGGER = LogManager.getLogger(EdtWatchdog.class);
+
+	private static final String LAYER = "edt";
+
+	private static final long NO_PROBE = -1;
+
+	private final OperationMetrics dispatchLatency;
+
+	private final OperationMetrics freezes;
+
+	private final long thresholdNanos;
+
+	private final LongSupplier clock;
+
+	private final Executor dispatcher;
+
+	private ScheduledExecutorService scheduler;
+
+	// The thread which ran the last probe
+	private volatile Thread eventDispatchThread;
+
+	// When the pending probe was posted, NO_PROBE when none is pending
+	private long probePostedAt = NO_PROBE;
+
+	// Whether the stack of the EDT was captured during the current freeze
+	private boolean stackCaptured;
+
+	private volatile StackTraceElement[] lastFreezeStack;
+
+	// Creates a watchdog probing the EDT
+	public EdtWatchdog(MetricsRegistry registry, long thresholdMillis) {
+		this(registry, thresholdMillis, System::nanoTime, EventQueue::invokeLater);
+	}
+
+	// Creates a watchdog probing with the given dispatcher and clock (in nanoseconds)
+	public EdtWatchdog(MetricsRegistry registry, long thresholdMillis, LongSupplier clock, Executor dispatcher) {
+		this.dispatchLatency = registry.operation(LAYER, "dispatch");
+		this.freezes = registry.operation(LAYER, "freeze");
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+		this.clock = clock;
+		this.dispatcher = dispatcher;
+	}
+
+	// Checks the EDT every interval on a daemon thread
+	public synchronized void start(long interval, TimeUnit unit) {
+		if (scheduler != null) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "edt-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleAtFixedRate(this::check, 0, interval, unit);
+	}
+
+	public synchronized void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	// Posts a probe unless one is pending, captures the EDT stack when the pending one is late
+	void check() {
+		long now = clock.getAsLong();
+		synchronized (this) {
+			if (probePostedAt == NO_PROBE) {
+				probePostedAt = now;
+			} else {
+				if (!stackCaptured && now - probePostedAt >= thresholdNanos) {
+					captureFreezeStack(now - probePostedAt);
+				}
+				return;
+			}
+		}
+		dispatcher.execute(this::probe);
+	}
+
+	private void captureFreezeStack(long blockedNanos) {
+		Thread thread = eventDispatchThread;
+		if (thread == null) {
+			return;
+		}
+		StackTraceElement[] stack = thread.getStackTrace();
+		stackCaptured = true;
+		lastFreezeStack = stack;
+		LOGGER.warn("{} blocked for {} ms, at:{}", thread.getName(), TimeUnit.NANOSECONDS.toMillis(blockedNanos),
+				format(stack));
+	}
+
+	// Runs on the EDT
+	private void probe() {
+		eventDispatchThread = Thread.currentThread();
+		long now = clock.getAsLong();
+		long latency;
+		synchronized (this) {
+			latency = now - probePostedAt;
+			probePostedAt = NO_PROBE;
+			stackCaptured = false;
+		}
+		dispatchLatency.record(latency, false);
+		if (latency >= thresholdNanos) {
+			freezes.record(latency, false);
+			LOGGER.warn("Event dispatch thread froze for {} ms", TimeUnit.NANOSECONDS.toMillis(latency));
+		}
+	}
+
+	public long getFreezeCount() {
+		return freezes.getCalls();
+	}
+
+	// Stack of the EDT captured during the last freeze, empty if none was captured
+	public StackTraceElement[] getLastFreezeStack() {
+		StackTraceElement[] stack = lastFreezeStack;
+		return stack == null ? new StackTraceElement[0] : stack.clone();
+	}
+
+	public OperationMetrics getDispatchLatency() {
+		return dispatchLatency;
+	}
+
+	public OperationMetrics getFreezes() {
+		return freezes;
+	}
+
+	private static String format(StackTraceElement[] stack) {
+		StringBuilder formatted = new StringBuilder();
+		for (StackTraceElement frame : stack) {
+			formatted.append(System.lineSeparator()).append("\tat ").append(frame);
+		}
+		return formatted.toString();
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * FlightRecorderProbe emits the application's Java Flight Recorder events, so that a single recording
+ * correlates the business operations with GC pauses, lock contention and socket I/O:
+ * - "com.mycompany.eventmanagementapp.ControllerOperation" for every operation of the controllers, with the
+ *   entity id and the time spent waiting for the controller's lock.
+ * - "com.mycompany.eventmanagementapp.RepositoryCall" for every call of the MySQL repositories, with the entity
+ *   id and the number of rows returned.
+ *
+ * The events are always compiled in, they cost one allocation and one check when no recording is running,
+ * which the JIT usually removes. On a JRE without JFR (jdk.jfr, Java 8u262 or later) a shared no-op Operation
+ * is returned and the jdk.jfr classes are never loaded. A recording is started as usual, for example with
+ * "-XX:StartFlightRecording=filename=app.jfr".
+ *
+ * While tracing is enabled (see Tracer), every operation also runs in a tracing span, see TracedOperation.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import com.mycompany.eventmanagementapp.tracing.Tracer;
+
+public final class FlightRecorderProbe {
+
+	// One operation in progress, closed when it ends
+	public interface Operation extends AutoCloseable {
+
+		// Called once the caller holds the lock it was waiting for
+		void lockAcquired();
+
+		void setRows(long rows);
+
+		@Override
+		void close();
+	}
+
+	private static final Operation NO_OPERATION = new Operation() {
+		@Override
+		public void lockAcquired() {
+			// Nothing is recorded
+		}
+
+		@Override
+		public void setRows(long rows) {
+			// Nothing is recorded
+		}
+
+		@Override
+		public void close() {
+			// Nothing is recorded
+		}
+	};
+
+	private static final boolean AVAILABLE = isFlightRecorderPresent();
+
+	// Private constructor to prevent instantiation since this is a utility class
+	private FlightRecorderProbe() {
+	}
+
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	// Starts a controller operation on the entity with the given id, which may be null
+	public static Operation controllerOperation(String operation, Long entityId) {
+		Operation recorderOperation = NO_OPERATION;
+		if (AVAILABLE) {
+			ControllerOperationEvent event = new ControllerOperationEvent();
+			recorderOperation = event.isEnabled() ? event.start(operation, entityId) : NO_OPERATION;
+		}
+		return Tracer.isEnabled() ? new TracedOperation("controller", operation, entityId, recorderOperation)
+				: recorderOperation;
+	}
+
+	// Starts a repository call on the entity with the given id, which may be null
+	public static Operation repositoryCall(String operation, Long entityId) {
+		Operation recorderOperation = NO_OPERATION;
+		if (AVAILABLE) {
+			RepositoryCallEvent event = new RepositoryCallEvent();
+			recorderOperation = event.isEnabled() ? event.start(operation, entityId) : NO_OPERATION;
+		}
+		return Tracer.isEnabled() ? new TracedOperation("repository", operation, entityId, recorderOperation)
+				: recorderOperation;
+	}
+
+	private static boolean isFlightRecorderPresent() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderProbe.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
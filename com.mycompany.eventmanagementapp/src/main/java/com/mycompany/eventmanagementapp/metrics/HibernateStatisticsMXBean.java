@@ -0,0 +1,14 @@
+package com.mycompany.eventmanagementapp.metrics;
+
+// JMX view of the Hibernate statistics collected with "--stats"
+public interface HibernateStatisticsMXBean {
+
+	String getSummary();
+
+	String getQueryReport();
+
+	void reset();
+
+	// Writes the summary and the query report to the given file and returns its absolute path
+	String dump(String file);
+}
@@ -0,0 +1,172 @@
+/**
+ * HibernateStatisticsReporter surfaces the Statistics of the SessionFactory when the application runs with
+ * "--stats":
+ * - A compact summary (queries, slowest query, entity and collection loads, flushes, sessions, transactions,
+ *   statements, cache hits) is written to the log periodically, with the number of statements prepared since
+ *   the previous summary.
+ * - The query report breaks the load down per HQL query (executions, total, average and maximum time, rows),
+ *   per SQL statement and originating controller and repository method (see QueryOriginInspector), per entity
+ *   and per collection.
+ * - Both are exposed over JMX as "com.mycompany.eventmanagementapp:type=HibernateStatistics", which can also
+ *   dump them to a file on demand.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.List;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import org.hibernate.stat.Statistics;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.EntityStatistics;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.hibernate.stat.CollectionStatistics;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class HibernateStatisticsReporter implements HibernateStatisticsMXBean {
+
+	private static final Logger LOGGER = LogManager.getLogger(HibernateStatisticsReporter.class);
+
+	private static final int MAX_QUERY_LENGTH = 120;
+
+	private final Statistics statistics;
+
+	private final QueryOriginInspector queryOrigins;
+
+	private ScheduledExecutorService scheduler;
+
+	private long statementsAtLastSummary;
+
+	public HibernateStatisticsReporter(Statistics statistics, QueryOriginInspector queryOrigins) {
+		this.statistics = statistics;
+		this.queryOrigins = queryOrigins;
+		statistics.setStatisticsEnabled(true);
+	}
+
+	// Logs the summary every interval on a daemon thread
+	public synchronized void start(long interval, TimeUnit unit) {
+		if (scheduler != null) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "hibernate-stats");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleAtFixedRate(this::logSummary, interval, interval, unit);
+	}
+
+	public synchronized void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	public void registerMBean(MBeanServer server) {
+		MetricsRegistry.register(server, this, objectName());
+	}
+
+	static ObjectName objectName() {
+		return MetricsRegistry.objectName(MetricsRegistry.DOMAIN + ":type=HibernateStatistics");
+	}
+
+	synchronized void logSummary() {
+		long statements = statistics.getPrepareStatementCount();
+		LOGGER.info("{} (+{} statements since last summary)", getSummary(), statements - statementsAtLastSummary);
+		statementsAtLastSummary = statements;
+	}
+
+	@Override
+	public String getSummary() {
+		String slowestQuery = statistics.getQueryExecutionMaxTimeQueryString();
+		return String.format("Hibernate statistics: %d queries, slowest %d ms%s, %d entity loads, %d entity fetches, "
+				+ "%d inserts, %d updates, %d deletes, %d collection loads, %d collection fetches, %d flushes, "
+				+ "%d sessions, %d transactions, %d statements, %d connections, "
+				+ "second-level cache %d hits/%d misses, query cache %d hits/%d misses",
+				statistics.getQueryExecutionCount(), statistics.getQueryExecutionMaxTime(),
+				slowestQuery == null ? "" : " [" + abbreviate(slowestQuery) + "]", statistics.getEntityLoadCount(),
+				statistics.getEntityFetchCount(), statistics.getEntityInsertCount(), statistics.getEntityUpdateCount(),
+				statistics.getEntityDeleteCount(), statistics.getCollectionLoadCount(),
+				statistics.getCollectionFetchCount(), statistics.getFlushCount(), statistics.getSessionOpenCount(),
+				statistics.getTransactionCount(), statistics.getPrepareStatementCount(), statistics.getConnectCount(),
+				statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(),
+				statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount());
+	}
+
+	@Override
+	public String getQueryReport() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("HQL queries by total time%n%8s %10s %9s %9s %8s  %s%n", "count", "total(ms)",
+				"avg(ms)", "max(ms)", "rows", "query"));
+		List<String> queries = new ArrayList<>(Arrays.asList(statistics.getQueries()));
+		queries.sort(Comparator.comparingLong(
+				(String query) -> statistics.getQueryStatistics(query).getExecutionTotalTime()).reversed());
+		for (String query : queries) {
+			QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+			report.append(String.format("%8d %10d %9.1f %9d %8d  %s%n", queryStatistics.getExecutionCount(),
+					queryStatistics.getExecutionTotalTime(), queryStatistics.getExecutionAvgTimeAsDouble(),
+					queryStatistics.getExecutionMaxTime(), queryStatistics.getExecutionRowCount(), query));
+		}
+
+		report.append(String.format("%nSQL statements by origin%n%8s  %-60s %s%n", "count", "origin", "sql"));
+		for (QueryOriginInspector.StatementCount statement : queryOrigins.getStatementCounts()) {
+			report.append(String.format("%8d  %-60s %s%n", statement.getCount(), statement.getOrigin(),
+					statement.getSql()));
+		}
+
+		report.append(String.format("%nEntities%n%-60s %8s %8s %8s %8s %8s%n", "entity", "loads", "fetches",
+				"inserts", "updates", "deletes"));
+		for (String entity : sorted(statistics.getEntityNames())) {
+			EntityStatistics entityStatistics = statistics.getEntityStatistics(entity);
+			report.append(String.format("%-60s %8d %8d %8d %8d %8d%n", entity, entityStatistics.getLoadCount(),
+					entityStatistics.getFetchCount(), entityStatistics.getInsertCount(),
+					entityStatistics.getUpdateCount(), entityStatistics.getDeleteCount()));
+		}
+
+		report.append(String.format("%nCollections%n%-60s %8s %8s %8s%n", "role", "loads", "fetches", "updates"));
+		for (String role : sorted(statistics.getCollectionRoleNames())) {
+			CollectionStatistics collectionStatistics = statistics.getCollectionStatistics(role);
+			report.append(String.format("%-60s %8d %8d %8d%n", role, collectionStatistics.getLoadCount(),
+					collectionStatistics.getFetchCount(), collectionStatistics.getUpdateCount()));
+		}
+		return report.toString();
+	}
+
+	@Override
+	public void reset() {
+		statistics.clear();
+		queryOrigins.clear();
+		synchronized (this) {
+			statementsAtLastSummary = 0;
+		}
+	}
+
+	@Override
+	public String dump(String file) {
+		return dumpTo(Paths.get(file)).toString();
+	}
+
+	public Path dumpTo(Path file) {
+		return MetricsRegistry.writeReport(file, getSummary() + System.lineSeparator() + System.lineSeparator()
+				+ getQueryReport());
+	}
+
+	private static List<String> sorted(String[] names) {
+		List<String> sortedNames = new ArrayList<>(Arrays.asList(names));
+		sortedNames.sort(null);
+		return sortedNames;
+	}
+
+	private static String abbreviate(String query) {
+		return query.length() <= MAX_QUERY_LENGTH ? query : query.substring(0, MAX_QUERY_LENGTH - 3) + "...";
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * InstrumentedEventController is the EventController used when metrics are enabled: every operation is timed
+ * in the "controller" layer of the MetricsRegistry before delegating to the EventController.
+ *
+ * The recorded latency includes the time spent waiting for the controller's lock.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.controller.EventController;
+
+public class InstrumentedEventController extends EventController {
+
+	private static final String LAYER = "controller";
+
+	private final OperationMetrics getAllEvents;
+
+	private final OperationMetrics addEvent;
+
+	private final OperationMetrics updateEvent;
+
+	private final OperationMetrics deleteEvent;
+
+	public InstrumentedEventController(EventManagementView eventManagementView, EventRepository eventRepository,
+			MetricsRegistry registry) {
+		super(eventManagementView, eventRepository);
+		getAllEvents = registry.operation(LAYER, "EventController.getAllEvents");
+		addEvent = registry.operation(LAYER, "EventController.addEvent");
+		updateEvent = registry.operation(LAYER, "EventController.updateEvent");
+		deleteEvent = registry.operation(LAYER, "EventController.deleteEvent");
+	}
+
+	@Override
+	public void getAllEvents() {
+		getAllEvents.time(super::getAllEvents);
+	}
+
+	@Override
+	public void addEvent(EventModel event) {
+		addEvent.time(() -> super.addEvent(event));
+	}
+
+	@Override
+	public void updateEvent(EventModel event) {
+		updateEvent.time(() -> super.updateEvent(event));
+	}
+
+	@Override
+	public void deleteEvent(EventModel event) {
+		deleteEvent.time(() -> super.deleteEvent(event));
+	}
+}
@@ -0,0 +1,66 @@
+/**
+ * InstrumentedParticipantController is the ParticipantController used when metrics are enabled: every
+ * operation is timed in the "controller" layer of the MetricsRegistry before delegating to the
+ * ParticipantController.
+ *
+ * The recorded latency includes the time spent waiting for the controller's lock.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.controller.ParticipantController;
+
+public class InstrumentedParticipantController extends ParticipantController {
+
+	private static final String LAYER = "controller";
+
+	private final OperationMetrics getAllParticipants;
+
+	private final OperationMetrics getAllEvents;
+
+	private final OperationMetrics addParticipant;
+
+	private final OperationMetrics updateParticipant;
+
+	private final OperationMetrics deleteParticipant;
+
+	public InstrumentedParticipantController(ParticipantManagementView participantManagementView,
+			ParticipantRepository participantRepository, EventRepository eventRepository, MetricsRegistry registry) {
+		super(participantManagementView, participantRepository, eventRepository);
+		getAllParticipants = registry.operation(LAYER, "ParticipantController.getAllParticipants");
+		getAllEvents = registry.operation(LAYER, "ParticipantController.getAllEvents");
+		addParticipant = registry.operation(LAYER, "ParticipantController.addParticipant");
+		updateParticipant = registry.operation(LAYER, "ParticipantController.updateParticipant");
+		deleteParticipant = registry.operation(LAYER, "ParticipantController.deleteParticipant");
+	}
+
+	@Override
+	public void getAllParticipants() {
+		getAllParticipants.time(super::getAllParticipants);
+	}
+
+	@Override
+	public void getAllEvents() {
+		getAllEvents.time(super::getAllEvents);
+	}
+
+	@Override
+	public void addParticipant(ParticipantModel participant, EventModel selectedEvent) {
+		addParticipant.time(() -> super.addParticipant(participant, selectedEvent));
+	}
+
+	@Override
+	public void updateParticipant(ParticipantModel participant) {
+		updateParticipant.time(() -> super.updateParticipant(participant));
+	}
+
+	@Override
+	public void deleteParticipant(ParticipantModel participant, EventModel selectedEvent) {
+		deleteParticipant.time(() -> super.deleteParticipant(participant, selectedEvent));
+	}
+}
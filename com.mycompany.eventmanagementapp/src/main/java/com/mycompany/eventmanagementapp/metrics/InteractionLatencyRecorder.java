@@ -0,0 +1,176 @@
+/**
+ * InteractionLatencyRecorder measures user actions end to end, from the ActionListener of the button firing to the
+ * view update answering it (for example eventAdded, participantUpdated or showError) being painted, and keeps one
+ * latency histogram per action as the "ui" operations of a MetricsRegistry.
+ *
+ * - begin starts an Interaction when the button is clicked. Actions running on a worker thread carry it over the
+ *   thread hop with wrap, actions running on the Event Dispatch Thread (EDT) with runWithin, so that the view
+ *   callbacks find it with current.
+ * - complete is called on the EDT once the view update has been applied. The latency is only recorded by a task
+ *   posted to the EDT from there, which runs after the repaint the update has scheduled, so it includes painting.
+ * - An interaction is recorded once, by the first completion. It counts as an error when it ended with showError
+ *   or when the action threw.
+ * - The histograms can be read by the diagnostics dialog, exported as CSV for capacity planning, and are exposed
+ *   over JMX with the other operations when the registry is.
+ *
+ * While the registry is disabled, begin returns a shared no-op interaction.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.List;
+import java.util.Locale;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.awt.EventQueue;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class InteractionLatencyRecorder {
+
+	public static final String LAYER = "ui";
+
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	private static final ThreadLocal<Interaction> CURRENT = new ThreadLocal<>();
+
+	private final MetricsRegistry registry;
+
+	private final LongSupplier clock;
+
+	private final Executor dispatcher;
+
+	private final ConcurrentSkipListMap<String, OperationMetrics> actions = new ConcurrentSkipListMap<>();
+
+	// Creates a recorder measuring with System.nanoTime and recording after the next EDT events
+	public InteractionLatencyRecorder(MetricsRegistry registry) {
+		this(registry, System::nanoTime, EventQueue::invokeLater);
+	}
+
+	// Creates a recorder with the given clock, the dispatcher runs the recording after the painting
+	public InteractionLatencyRecorder(MetricsRegistry registry, LongSupplier clock, Executor dispatcher) {
+		this.registry = registry;
+		this.clock = clock;
+		this.dispatcher = dispatcher;
+	}
+
+	// Starts measuring the given action, to be called from its ActionListener
+	public Interaction begin(String action) {
+		if (!registry.isEnabled()) {
+			return Interaction.NO_INTERACTION;
+		}
+		return new Interaction(this, action, clock.getAsLong());
+	}
+
+	// The interaction of the action running on this thread, the no-op interaction if there is none
+	public static Interaction current() {
+		Interaction interaction = CURRENT.get();
+		return interaction == null ? Interaction.NO_INTERACTION : interaction;
+	}
+
+	// Wraps the task of an action, so that it runs with the interaction as the current one on any thread
+	public static Runnable wrap(Interaction interaction, Runnable task) {
+		if (interaction == Interaction.NO_INTERACTION) {
+			return task;
+		}
+		return () -> runWithin(interaction, task);
+	}
+
+	// Runs the task with the interaction as the current one, a task which throws fails and completes it
+	public static void runWithin(Interaction interaction, Runnable task) {
+		Interaction previous = CURRENT.get();
+		CURRENT.set(interaction);
+		try {
+			task.run();
+		} catch (RuntimeException | Error e) {
+			interaction.fail();
+			interaction.complete();
+			throw e;
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	private void record(Interaction interaction) {
+		long nanos = clock.getAsLong() - interaction.startNanos;
+		actions.computeIfAbsent(interaction.action, action -> registry.operation(LAYER, action)).record(nanos,
+				interaction.failed);
+	}
+
+	// The metrics of every action measured so far, sorted by action
+	public List<OperationMetrics> getActions() {
+		return new ArrayList<>(actions.values());
+	}
+
+	public void reset() {
+		actions.values().forEach(OperationMetrics::reset);
+	}
+
+	// Count, errors and latency percentiles in milliseconds of every action, one CSV line per action
+	public String getCsv() {
+		StringBuilder csv = new StringBuilder("action,count,errors,mean_ms,p50_ms,p90_ms,p95_ms,p99_ms,max_ms\n");
+		for (OperationMetrics metrics : actions.values()) {
+			LatencyHistogram latencies = metrics.getLatencies();
+			csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", metrics.getOperation(),
+					metrics.getCalls(), metrics.getErrors(), latencies.getMean() / NANOS_PER_MILLI,
+					percentileMillis(latencies, 50), percentileMillis(latencies, 90), percentileMillis(latencies, 95),
+					percentileMillis(latencies, 99), latencies.getMax() / NANOS_PER_MILLI));
+		}
+		return csv.toString();
+	}
+
+	public Path exportCsv(Path file) {
+		return MetricsRegistry.writeReport(file, getCsv());
+	}
+
+	private static double percentileMillis(LatencyHistogram latencies, double percentile) {
+		return latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+	}
+
+	// One measured user action
+	public static final class Interaction {
+
+		// Returned while the registry is disabled, ignores every call
+		static final Interaction NO_INTERACTION = new Interaction(null, null, 0);
+
+		private final InteractionLatencyRecorder recorder;
+
+		private final String action;
+
+		private final long startNanos;
+
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		private volatile boolean failed;
+
+		private Interaction(InteractionLatencyRecorder recorder, String action, long startNanos) {
+			this.recorder = recorder;
+			this.action = action;
+			this.startNanos = startNanos;
+		}
+
+		public String getAction() {
+			return action;
+		}
+
+		// Marks the action as failed, for example when the view shows an error
+		public void fail() {
+			if (recorder != null) {
+				failed = true;
+			}
+		}
+
+		// Ends the action once the view update applied on the EDT has been painted, only the first call counts
+		public void complete() {
+			if (recorder != null && completed.compareAndSet(false, true)) {
+				recorder.dispatcher.execute(() -> recorder.record(this));
+			}
+		}
+	}
+}
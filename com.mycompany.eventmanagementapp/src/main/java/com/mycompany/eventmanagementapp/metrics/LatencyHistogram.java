@@ -0,0 +1,104 @@
+/**
+ * LatencyHistogram records latencies in nanoseconds into fixed log-linear buckets, so that percentiles can be
+ * reported without keeping the individual samples.
+ *
+ * Every power of two is split into 16 linear sub-buckets, which bounds the relative error of a reported
+ * percentile to about 6%. Values below 16 ns get one bucket each. The buckets cover the whole positive long
+ * range, so recording never allocates and never fails.
+ *
+ * Recording is lock-free (one atomic increment per bucket, count and sum, and a CAS loop for the maximum),
+ * so the histogram can be shared by all threads calling an operation. Reads are not atomic with respect to
+ * concurrent writes, which is acceptable for monitoring.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	// One bucket group per possible shift of a positive long value, plus the group of the small values
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder sum = new LongAdder();
+
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		buckets.incrementAndGet(bucketIndex(value));
+		count.increment();
+		sum.add(value);
+		long currentMax = max.get();
+		while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+			currentMax = max.get();
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		long samples = count.sum();
+		return samples == 0 ? 0 : (double) sum.sum() / samples;
+	}
+
+	// Upper bound of the bucket holding the value at the given percentile (0-100), never above the maximum
+	public long getValueAtPercentile(double percentile) {
+		long samples = count.sum();
+		if (samples == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * samples));
+		long seen = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			seen += buckets.get(index);
+			if (seen >= rank) {
+				return Math.min(bucketUpperBound(index), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	public void reset() {
+		for (int index = 0; index < BUCKETS; index++) {
+			buckets.set(index, 0);
+		}
+		count.reset();
+		sum.reset();
+		max.set(0);
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,66 @@
+/**
+ * MetricsProxy instruments any interface, typically a repository, with a JDK dynamic proxy that records the
+ * latency and the failures of every interface method in a MetricsRegistry.
+ *
+ * The operation of a method is named "<interface>.<method>", for example "EventRepository.getAllEvents", in the
+ * given layer. Exceptions thrown by the target are rethrown unchanged and counted as errors. The methods of
+ * Object (equals, hashCode, toString) are forwarded without being recorded.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import java.util.HashMap;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+
+public final class MetricsProxy implements InvocationHandler {
+
+	private final Object target;
+
+	private final MetricsRegistry registry;
+
+	// Resolved once, so that a call does not look up its metrics by name
+	private final Map<Method, OperationMetrics> operations = new HashMap<>();
+
+	private MetricsProxy(Class<?> type, Object target, MetricsRegistry registry, String layer) {
+		this.target = target;
+		this.registry = registry;
+		for (Method method : type.getMethods()) {
+			operations.put(method, registry.operation(layer, type.getSimpleName() + "." + method.getName()));
+		}
+	}
+
+	// Returns a proxy of the target recording every call of the interface methods
+	public static <T> T instrument(Class<T> type, T target, MetricsRegistry registry, String layer) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new MetricsProxy(type, target, registry, layer)));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		OperationMetrics metrics = operations.get(method);
+		if (metrics == null || !registry.isEnabled()) {
+			return forward(method, args);
+		}
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			Object result = forward(method, args);
+			failed = false;
+			return result;
+		} finally {
+			metrics.record(System.nanoTime() - start, failed);
+		}
+	}
+
+	private Object forward(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
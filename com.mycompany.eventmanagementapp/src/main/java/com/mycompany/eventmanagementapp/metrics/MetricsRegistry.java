@@ -0,0 +1,170 @@
+/**
+ * MetricsRegistry holds the OperationMetrics of every instrumented repository and controller operation and
+ * exposes them over JMX.
+ *
+ * - Operations are created on first use and kept sorted by layer and name for the report.
+ * - Once registerMBeans has been called, the registry itself is registered as
+ *   "com.mycompany.eventmanagementapp:type=Metrics" and every operation as
+ *   "com.mycompany.eventmanagementapp:type=Operation,layer=<layer>,name=<operation>".
+ * - The report (calls, errors, mean, p50, p95, p99 and max latency per operation) can be read over JMX or
+ *   dumped to a file on demand, for example from JConsole or at shutdown.
+ * - Recording can be switched off at runtime, instrumented calls then only pay one volatile read. When the
+ *   application runs without "--metrics" nothing is instrumented at all.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.io.IOException;
+import javax.management.ObjectName;
+import javax.management.MBeanServer;
+import org.apache.logging.log4j.Logger;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.LogManager;
+import javax.management.JMException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class MetricsRegistry implements MetricsRegistryMXBean {
+
+	private static final Logger LOGGER = LogManager.getLogger(MetricsRegistry.class);
+
+	public static final String DOMAIN = "com.mycompany.eventmanagementapp";
+
+	private final Map<String, OperationMetrics> operations = new ConcurrentSkipListMap<>();
+
+	private volatile boolean enabled = true;
+
+	private volatile MBeanServer mbeanServer;
+
+	// Metrics of the given operation, created and registered over JMX on first use
+	public OperationMetrics operation(String layer, String operation) {
+		return operations.computeIfAbsent(layer + "/" + operation, key -> {
+			OperationMetrics metrics = new OperationMetrics(this, layer, operation);
+			MBeanServer server = mbeanServer;
+			if (server != null) {
+				register(server, metrics, operationName(layer, operation));
+			}
+			return metrics;
+		});
+	}
+
+	// Registers the registry and all its operations with the MBean server, including operations created later
+	public synchronized void registerMBeans(MBeanServer server) {
+		register(server, this, registryName());
+		mbeanServer = server;
+		for (OperationMetrics metrics : operations.values()) {
+			register(server, metrics, operationName(metrics.getLayer(), metrics.getOperation()));
+		}
+	}
+
+	public synchronized void unregisterMBeans() {
+		MBeanServer server = mbeanServer;
+		if (server == null) {
+			return;
+		}
+		mbeanServer = null;
+		unregister(server, registryName());
+		for (OperationMetrics metrics : operations.values()) {
+			unregister(server, operationName(metrics.getLayer(), metrics.getOperation()));
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		LOGGER.info("Metrics recording {}", enabled ? "enabled" : "disabled");
+	}
+
+	@Override
+	public int getOperationCount() {
+		return operations.size();
+	}
+
+	@Override
+	public void reset() {
+		operations.values().forEach(OperationMetrics::reset);
+	}
+
+	@Override
+	public String getReport() {
+		StringBuilder report = new StringBuilder(String.format("%-12s %-50s %8s %7s %10s %10s %10s %10s %10s%n",
+				"layer", "operation", "calls", "errors", "mean(us)", "p50(us)", "p95(us)", "p99(us)", "max(us)"));
+		for (OperationMetrics metrics : operations.values()) {
+			report.append(String.format("%-12s %-50s %8d %7d %10.1f %10d %10d %10d %10d%n", metrics.getLayer(),
+					metrics.getOperation(), metrics.getCalls(), metrics.getErrors(), metrics.getMeanMicros(),
+					metrics.getP50Micros(), metrics.getP95Micros(), metrics.getP99Micros(), metrics.getMaxMicros()));
+		}
+		return report.toString();
+	}
+
+	@Override
+	public String dump(String file) {
+		return dumpTo(Paths.get(file)).toString();
+	}
+
+	public Path dumpTo(Path file) {
+		return writeReport(file, getReport());
+	}
+
+	// Writes a report to a file, creating its directory when needed
+	static Path writeReport(Path file, String report) {
+		Path target = file.toAbsolutePath();
+		try {
+			if (target.getParent() != null) {
+				Files.createDirectories(target.getParent());
+			}
+			Files.write(target, report.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			LOGGER.error("Could not dump metrics to {}", target, e);
+			throw new UncheckedIOException("Could not dump metrics.", e);
+		}
+		LOGGER.info("Metrics dumped to {}", target);
+		return target;
+	}
+
+	static ObjectName registryName() {
+		return objectName(DOMAIN + ":type=Metrics");
+	}
+
+	static ObjectName operationName(String layer, String operation) {
+		return objectName(DOMAIN + ":type=Operation,layer=" + ObjectName.quote(layer) + ",name="
+				+ ObjectName.quote(operation));
+	}
+
+	static ObjectName objectName(String name) {
+		try {
+			return new ObjectName(name);
+		} catch (JMException e) {
+			throw new IllegalArgumentException("Invalid MBean name: " + name, e);
+		}
+	}
+
+	static void register(MBeanServer server, Object mbean, ObjectName name) {
+		try {
+			if (!server.isRegistered(name)) {
+				server.registerMBean(mbean, name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Could not register MBean {}", name, e);
+		}
+	}
+
+	static void unregister(MBeanServer server, ObjectName name) {
+		try {
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Could not unregister MBean {}", name, e);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.mycompany.eventmanagementapp.metrics;
+
+// JMX view of the MetricsRegistry, to switch the recording on and off, reset it and dump it to a file
+public interface MetricsRegistryMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	int getOperationCount();
+
+	String getReport();
+
+	void reset();
+
+	// Writes the report to the given file and returns its absolute path
+	String dump(String file);
+}
@@ -0,0 +1,123 @@
+/**
+ * OperationMetrics holds the call count, error count and latency histogram of one operation of a layer, for
+ * example the "getAllEvents" operation of the "EventRepository" in the "repository" layer.
+ *
+ * An operation counts as failed when it throws. Timing is skipped entirely while the owning MetricsRegistry
+ * is disabled, leaving only one volatile read per call.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationMetrics implements OperationMetricsMXBean {
+
+	private static final long NANOS_PER_MICRO = 1_000L;
+
+	private final MetricsRegistry registry;
+
+	private final String layer;
+
+	private final String operation;
+
+	private final LongAdder calls = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+
+	OperationMetrics(MetricsRegistry registry, String layer, String operation) {
+		this.registry = registry;
+		this.layer = layer;
+		this.operation = operation;
+	}
+
+	// Runs the action, recording its latency and whether it failed
+	public void time(Runnable action) {
+		timeCall(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	// Runs the action and returns its result, recording its latency and whether it failed
+	public <T> T timeCall(Supplier<T> action) {
+		if (!registry.isEnabled()) {
+			return action.get();
+		}
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			T result = action.get();
+			failed = false;
+			return result;
+		} finally {
+			record(System.nanoTime() - start, failed);
+		}
+	}
+
+	public void record(long nanos, boolean failed) {
+		calls.increment();
+		if (failed) {
+			errors.increment();
+		}
+		latencies.record(nanos);
+	}
+
+	public LatencyHistogram getLatencies() {
+		return latencies;
+	}
+
+	@Override
+	public String getLayer() {
+		return layer;
+	}
+
+	@Override
+	public String getOperation() {
+		return operation;
+	}
+
+	@Override
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	@Override
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	@Override
+	public double getMeanMicros() {
+		return latencies.getMean() / NANOS_PER_MICRO;
+	}
+
+	@Override
+	public long getP50Micros() {
+		return latencies.getValueAtPercentile(50) / NANOS_PER_MICRO;
+	}
+
+	@Override
+	public long getP95Micros() {
+		return latencies.getValueAtPercentile(95) / NANOS_PER_MICRO;
+	}
+
+	@Override
+	public long getP99Micros() {
+		return latencies.getValueAtPercentile(99) / NANOS_PER_MICRO;
+	}
+
+	@Override
+	public long getMaxMicros() {
+		return latencies.getMax() / NANOS_PER_MICRO;
+	}
+
+	@Override
+	public void reset() {
+		calls.reset();
+		errors.reset();
+		latencies.reset();
+	}
+}
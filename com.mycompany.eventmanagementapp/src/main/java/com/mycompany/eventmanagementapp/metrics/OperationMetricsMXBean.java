@@ -0,0 +1,25 @@
+package com.mycompany.eventmanagementapp.metrics;
+
+// JMX view of the metrics of one repository or controller operation, latencies in microseconds
+public interface OperationMetricsMXBean {
+
+	String getLayer();
+
+	String getOperation();
+
+	long getCalls();
+
+	long getErrors();
+
+	double getMeanMicros();
+
+	long getP50Micros();
+
+	long getP95Micros();
+
+	long getP99Micros();
+
+	long getMaxMicros();
+
+	void reset();
+}
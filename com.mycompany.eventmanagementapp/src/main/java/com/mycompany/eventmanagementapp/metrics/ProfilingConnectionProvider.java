@@ -0,0 +1,46 @@
+/**
+ * ProfilingConnectionProvider is Hibernate's built-in pooling ConnectionProvider with every connection it hands
+ * out wrapped by a ProfilingJdbcProxy, so that the executions of all statements are measured by a SqlProfiler.
+ *
+ * It is enabled through the "hibernate.connection.provider_class" setting, the SqlProfiler instance is passed
+ * in the PROFILER setting of the same registry. Connections are unwrapped before returning to the pool.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+
+public class ProfilingConnectionProvider extends DriverManagerConnectionProviderImpl {
+
+	private static final long serialVersionUID = 1L;
+
+	// Setting holding the SqlProfiler the statements are recorded in
+	public static final String PROFILER = "com.mycompany.eventmanagementapp.sql_profiler";
+
+	private transient SqlProfiler profiler;
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void configure(Map configurationValues) {
+		Object setting = configurationValues.get(PROFILER);
+		if (!(setting instanceof SqlProfiler)) {
+			throw new HibernateException("The " + PROFILER + " setting must hold a SqlProfiler.");
+		}
+		profiler = (SqlProfiler) setting;
+		super.configure(configurationValues);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return ProfilingJdbcProxy.wrap(super.getConnection(), profiler);
+	}
+
+	@Override
+	public void closeConnection(Connection connection) throws SQLException {
+		super.closeConnection(ProfilingJdbcProxy.unwrap(connection));
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * ProfilingJdbcProxy wraps a JDBC Connection, and the statements it creates, with JDK dynamic proxies timing
+ * every statement execution in a SqlProfiler.
+ *
+ * - The statements returned by createStatement, prepareStatement and prepareCall are wrapped as well, with the
+ *   SQL of prepared statements remembered when they are prepared.
+ * - The values passed to the setXxx(index, value, ...) methods of a prepared statement are kept as its bind
+ *   values until clearParameters is called. For a batch, the bind values of the last row are reported.
+ * - Every other call is forwarded unchanged, exceptions of the driver are rethrown as they are.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.sql.Statement;
+import java.sql.Connection;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Method;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+
+final class ProfilingJdbcProxy implements InvocationHandler {
+
+	private final Object target;
+
+	private final SqlProfiler profiler;
+
+	// SQL of a prepared statement, null for connections and plain statements
+	private final String sql;
+
+	// Bind values of a prepared statement, by parameter index
+	private final Map<Integer, Object> binds = new TreeMap<>();
+
+	private ProfilingJdbcProxy(Object target, SqlProfiler profiler, String sql) {
+		this.target = target;
+		this.profiler = profiler;
+		this.sql = sql;
+	}
+
+	// Returns a proxy of the connection profiling the statements it creates
+	static Connection wrap(Connection connection, SqlProfiler profiler) {
+		return proxy(Connection.class, connection, profiler, null);
+	}
+
+	// The connection wrapped by wrap, or the given connection if it is not wrapped
+	static Connection unwrap(Connection connection) {
+		if (Proxy.isProxyClass(connection.getClass())
+				&& Proxy.getInvocationHandler(connection) instanceof ProfilingJdbcProxy) {
+			return (Connection) ((ProfilingJdbcProxy) Proxy.getInvocationHandler(connection)).target;
+		}
+		return connection;
+	}
+
+	private static <T> T proxy(Class<T> type, T target, SqlProfiler profiler, String sql) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new ProfilingJdbcProxy(target, profiler, sql)));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		if ("equals".equals(name) && method.getParameterCount() == 1) {
+			return proxy == args[0];
+		}
+		if (target instanceof Connection) {
+			return invokeOnConnection(method, args);
+		}
+		if (name.startsWith("execute")) {
+			return execute(method, args);
+		}
+		if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+			binds.put((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+		} else if ("clearParameters".equals(name)) {
+			binds.clear();
+		}
+		return forward(method, args);
+	}
+
+	private Object invokeOnConnection(Method method, Object[] args) throws Throwable {
+		Object result = forward(method, args);
+		String name = method.getName();
+		if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+			String statementSql = "createStatement".equals(name) ? null : (String) args[0];
+			return proxy(method.getReturnType().asSubclass(Statement.class), (Statement) result, profiler,
+					statementSql);
+		}
+		return result;
+	}
+
+	// Times the execution, the SQL is the argument of a plain statement or the prepared one
+	private Object execute(Method method, Object[] args) throws Throwable {
+		String executedSql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+		long start = System.nanoTime();
+		try {
+			return forward(method, args);
+		} finally {
+			long nanos = System.nanoTime() - start;
+			if (executedSql != null) {
+				profiler.record(executedSql, binds, nanos);
+			}
+		}
+	}
+
+	private Object forward(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
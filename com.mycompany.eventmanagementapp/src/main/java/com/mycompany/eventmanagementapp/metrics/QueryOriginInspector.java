@@ -0,0 +1,81 @@
+/**
+ * QueryOriginInspector is a Hibernate StatementInspector counting every SQL statement Hibernate prepares,
+ * grouped by the controller and repository methods it originates from (see CallerLookup).
+ *
+ * Hibernate's own Statistics only break queries down by HQL string, which does not show which user action
+ * generates the load, for example the eager loading of the participants of every event. The statements are
+ * returned unchanged.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryOriginInspector implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, LongAdder>> statementsByOrigin = new ConcurrentHashMap<>();
+
+	@Override
+	public String inspect(String sql) {
+		record(CallerLookup.currentOrigin(), sql);
+		return sql;
+	}
+
+	void record(String origin, String sql) {
+		statementsByOrigin.computeIfAbsent(origin, key -> new ConcurrentHashMap<>())
+				.computeIfAbsent(sql.replaceAll("\\s+", " ").trim(), key -> new LongAdder()).increment();
+	}
+
+	// Statement counts, most executed first
+	public List<StatementCount> getStatementCounts() {
+		List<StatementCount> counts = new ArrayList<>();
+		for (Map.Entry<String, ConcurrentHashMap<String, LongAdder>> origin : statementsByOrigin.entrySet()) {
+			for (Map.Entry<String, LongAdder> statement : origin.getValue().entrySet()) {
+				counts.add(new StatementCount(origin.getKey(), statement.getKey(), statement.getValue().sum()));
+			}
+		}
+		counts.sort(Comparator.comparingLong(StatementCount::getCount).reversed()
+				.thenComparing(StatementCount::getOrigin));
+		return counts;
+	}
+
+	public void clear() {
+		statementsByOrigin.clear();
+	}
+
+	// Number of times one SQL statement was prepared from one origin
+	public static final class StatementCount {
+
+		private final String origin;
+
+		private final String sql;
+
+		private final long count;
+
+		StatementCount(String origin, String sql, long count) {
+			this.origin = origin;
+			this.sql = sql;
+			this.count = count;
+		}
+
+		public String getOrigin() {
+			return origin;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public long getCount() {
+			return count;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * RepositoryCallEvent is the Java Flight Recorder event of one call of a MySQL repository, see
+ * FlightRecorderProbe. Its stack trace shows the controller operation the call belongs to.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+
+@Name("com.mycompany.eventmanagementapp.RepositoryCall")
+@Label("Repository Call")
+@Description("A call of the event or participant repository")
+@Category({ "Event Management App", "Repository" })
+class RepositoryCallEvent extends Event implements FlightRecorderProbe.Operation {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Entity Id")
+	long entityId;
+
+	@Label("Rows")
+	long rows;
+
+	FlightRecorderProbe.Operation start(String operation, Long entityId) {
+		this.operation = operation;
+		this.entityId = entityId == null ? 0 : entityId;
+		begin();
+		return this;
+	}
+
+	@Override
+	public void lockAcquired() {
+		// Repositories do not lock
+	}
+
+	@Override
+	public void setRows(long rows) {
+		this.rows = rows;
+	}
+
+	@Override
+	public void close() {
+		end();
+		if (shouldCommit()) {
+			commit();
+		}
+	}
+}
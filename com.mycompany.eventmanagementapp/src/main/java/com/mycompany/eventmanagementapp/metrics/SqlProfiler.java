@@ -0,0 +1,165 @@
+/**
+ * SqlProfiler measures every SQL statement executed through the ProfilingConnectionProvider when the
+ * application runs with "--profile-jdbc", replacing Hibernate's "show_sql" output which printed every statement
+ * without any timing.
+ *
+ * - Every execution is timed at the JDBC level (execute, executeQuery, executeUpdate, executeBatch), which
+ *   excludes the time spent reading the result set.
+ * - Executions taking at least the threshold are logged as a warning with their bind values and the controller
+ *   and repository methods they originate from (see CallerLookup). The call stack is only walked for these.
+ *   A threshold of zero logs every statement.
+ * - Executions are aggregated per normalized statement: whitespace is collapsed and literals and IN lists are
+ *   replaced by "?", so that the same statement with different values is counted once.
+ * - The report lists the top statements by total time with their executions, slow executions, mean, p95 and
+ *   maximum latency, and is logged when the application exits.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SqlProfiler {
+
+	private static final Logger LOGGER = LogManager.getLogger(SqlProfiler.class);
+
+	private static final int MAX_BIND_LENGTH = 60;
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+	private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+
+	private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+	private final long thresholdNanos;
+
+	private final ConcurrentHashMap<String, StatementProfile> statements = new ConcurrentHashMap<>();
+
+	public SqlProfiler(long thresholdMillis) {
+		this.thresholdNanos = thresholdMillis * 1_000_000L;
+	}
+
+	public long getThresholdMillis() {
+		return thresholdNanos / 1_000_000L;
+	}
+
+	// Records one execution of the statement with the given bind values, by parameter index
+	void record(String sql, Map<Integer, Object> binds, long nanos) {
+		StatementProfile profile = statements.computeIfAbsent(normalize(sql), StatementProfile::new);
+		profile.latencies.record(nanos);
+		profile.totalNanos.add(nanos);
+		if (nanos >= thresholdNanos) {
+			profile.slowExecutions.increment();
+			LOGGER.warn("Slow SQL ({} ms) from {}: {} binds {}", nanos / 1_000_000L, CallerLookup.currentOrigin(),
+					WHITESPACE.matcher(sql).replaceAll(" ").trim(), formatBinds(binds));
+		}
+	}
+
+	// The statements with the highest total execution time, at most limit of them
+	public List<StatementProfile> getTopStatements(int limit) {
+		List<StatementProfile> profiles = new ArrayList<>(statements.values());
+		profiles.sort(Comparator.comparingLong(StatementProfile::getTotalNanos).reversed()
+				.thenComparing(StatementProfile::getSql));
+		return profiles.size() <= limit ? profiles : new ArrayList<>(profiles.subList(0, limit));
+	}
+
+	public String getReport(int limit) {
+		StringBuilder report = new StringBuilder(String.format(
+				"Top %d SQL statements by total time (%d distinct, slow threshold %d ms)%n%8s %6s %10s %9s %9s %9s  %s%n",
+				limit, statements.size(), getThresholdMillis(), "count", "slow", "total(ms)", "mean(ms)", "p95(ms)",
+				"max(ms)", "statement"));
+		for (StatementProfile profile : getTopStatements(limit)) {
+			report.append(String.format("%8d %6d %10.1f %9.2f %9.2f %9.2f  %s%n", profile.getCount(),
+					profile.getSlowExecutions(), profile.getTotalNanos() / 1e6, profile.latencies.getMean() / 1e6,
+					profile.latencies.getValueAtPercentile(95) / 1e6, profile.latencies.getMax() / 1e6,
+					profile.getSql()));
+		}
+		return report.toString();
+	}
+
+	public void logReport(int limit) {
+		LOGGER.info(getReport(limit));
+	}
+
+	public void reset() {
+		statements.clear();
+	}
+
+	// Collapses whitespace and replaces literals and IN lists by "?"
+	static String normalize(String sql) {
+		String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+		normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+		return IN_LIST.matcher(normalized).replaceAll("in (?...)");
+	}
+
+	static String formatBinds(Map<Integer, Object> binds) {
+		StringBuilder formatted = new StringBuilder("[");
+		for (Map.Entry<Integer, Object> bind : binds.entrySet()) {
+			if (formatted.length() > 1) {
+				formatted.append(", ");
+			}
+			formatted.append(bind.getKey()).append('=').append(formatValue(bind.getValue()));
+		}
+		return formatted.append(']').toString();
+	}
+
+	private static String formatValue(Object value) {
+		if (value == null) {
+			return "NULL";
+		}
+		if (value instanceof byte[]) {
+			return "<" + ((byte[]) value).length + " bytes>";
+		}
+		String text = value.toString();
+		if (text.length() > MAX_BIND_LENGTH) {
+			text = text.substring(0, MAX_BIND_LENGTH - 3) + "...";
+		}
+		return value instanceof CharSequence ? "'" + text + "'" : text;
+	}
+
+	// Executions of one normalized statement
+	public static final class StatementProfile {
+
+		private final String sql;
+
+		private final LatencyHistogram latencies = new LatencyHistogram();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final LongAdder slowExecutions = new LongAdder();
+
+		StatementProfile(String sql) {
+			this.sql = sql;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public long getCount() {
+			return latencies.getCount();
+		}
+
+		public long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos() {
+			return latencies.getMax();
+		}
+
+		public long getSlowExecutions() {
+			return slowExecutions.sum();
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * TracedOperation is the FlightRecorderProbe operation used while tracing is enabled: the operation runs in a
+ * tracing Span (see Tracer) carrying its entity id, lock wait and rows, and is forwarded to the Java Flight
+ * Recorder operation as well.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import com.mycompany.eventmanagementapp.tracing.Span;
+import com.mycompany.eventmanagementapp.tracing.Tracer;
+
+final class TracedOperation implements FlightRecorderProbe.Operation {
+
+	private final Span span;
+
+	private final FlightRecorderProbe.Operation recorderOperation;
+
+	TracedOperation(String category, String operation, Long entityId,
+			FlightRecorderProbe.Operation recorderOperation) {
+		this.span = Tracer.start(category, operation);
+		this.recorderOperation = recorderOperation;
+		if (entityId != null) {
+			span.setAttribute("entityId", entityId);
+		}
+	}
+
+	@Override
+	public void lockAcquired() {
+		span.setAttribute("lockWaitMicros", (System.nanoTime() - span.getStartNanos()) / 1000);
+		recorderOperation.lockAcquired();
+	}
+
+	@Override
+	public void setRows(long rows) {
+		span.setAttribute("rows", rows);
+		recorderOperation.setRows(rows);
+	}
+
+	@Override
+	public void close() {
+		try {
+			recorderOperation.close();
+		} finally {
+			span.close();
+		}
+	}
+}
@@ -0,0 +1,17 @@
+/**
+ * Instrumentation of the controllers and repositories, which themselves only open an Operation around their work.
+ * <p>
+ * - Profiling: every controller operation and every call of the MySQL repositories emits a Java Flight Recorder
+ *   event (see FlightRecorderProbe). The controllers take their lock in a synchronized block inside the operation,
+ *   so that the event reports the time spent waiting for it, and the repository calls report the rows they returned.
+ * - Tracing: while tracing is enabled, every operation also runs in a tracing span (see TracedOperation).
+ * - Metrics: with --metrics, the repositories are wrapped by MetricsProxy and the controllers replaced by
+ *   InstrumentedEventController and InstrumentedParticipantController, recording into a MetricsRegistry.
+ * - SQL: SqlProfiler and HibernateStatisticsReporter time the statements below the repositories, attributing them to
+ *   the repository and controller methods they originate from (see CallerLookup).
+ * <p>
+ * The controllers log only the outcome of an operation at INFO, the request and the reloads at DEBUG, passing the
+ * entities as message parameters so that their toString is only called when the message is logged.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
@@ -0,0 +1,102 @@
+/**
+ * Migration is one versioned SQL script of the database schema.
+ *
+ * Scripts are named "V<version>__<description>.sql", for example "V2__indexes.sql". The checksum (CRC32 of the
+ * script lines, ignoring line endings) is recorded when the migration is applied, so that a script changed
+ * after it was applied can be detected instead of silently diverging between databases.
+ *
+ * The statements of a script are separated by a semicolon at the end of a line, lines starting with "--"
+ * are comments.
+ */
+
+package com.mycompany.eventmanagementapp.migration;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
+
+public final class Migration {
+
+	private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+	private final int version;
+
+	private final String description;
+
+	private final String script;
+
+	private final List<String> statements;
+
+	private final long checksum;
+
+	public Migration(String script, String sql) {
+		Matcher matcher = SCRIPT_NAME.matcher(script);
+		if (!matcher.matches()) {
+			throw new MigrationException("Invalid migration script name: " + script);
+		}
+		this.version = Integer.parseInt(matcher.group(1));
+		this.description = matcher.group(2).replace('_', ' ');
+		this.script = script;
+		this.statements = parseStatements(sql);
+		this.checksum = checksum(sql);
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public String getScript() {
+		return script;
+	}
+
+	public List<String> getStatements() {
+		return statements;
+	}
+
+	public long getChecksum() {
+		return checksum;
+	}
+
+	private static List<String> parseStatements(String sql) {
+		List<String> parsed = new ArrayList<>();
+		StringBuilder statement = new StringBuilder();
+		for (String line : sql.split("\\R")) {
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+				continue;
+			}
+			statement.append(trimmed);
+			if (trimmed.endsWith(";")) {
+				statement.setLength(statement.length() - 1);
+				parsed.add(statement.toString());
+				statement.setLength(0);
+			} else {
+				statement.append(' ');
+			}
+		}
+		if (statement.toString().trim().length() > 0) {
+			parsed.add(statement.toString().trim());
+		}
+		return parsed;
+	}
+
+	private static long checksum(String sql) {
+		CRC32 crc32 = new CRC32();
+		for (String line : sql.split("\\R")) {
+			crc32.update(line.getBytes(StandardCharsets.UTF_8));
+		}
+		return crc32.getValue();
+	}
+
+	@Override
+	public String toString() {
+		return "V" + version + " (" + description + ")";
+	}
+}
@@ -0,0 +1,188 @@
+/**
+ * MigrationRunner applies the versioned SQL migrations of the database schema, replacing the schema changes
+ * formerly done by Hibernate's hbm2ddl "update" setting at every startup.
+ *
+ * The migrations of a database vendor are kept in "db/migration/<vendor>" on the classpath, listed in order
+ * in the "migrations.txt" index of that folder (resources in a jar cannot be listed reliably).
+ *
+ * Applied migrations are recorded in the "schema_migrations" table with their version, description, script,
+ * checksum, time of installation and execution time:
+ * - Pending migrations are applied in version order, each one in its own transaction together with its history
+ *   row (MySQL commits DDL statements implicitly, the history row is then written right after the script).
+ * - Migrations which were already applied are skipped, but their checksum must match the current script.
+ *   A modified script stops the run with a MigrationException before any pending migration is applied.
+ *
+ * The following methods are provided:
+ * - forUrl: Creates the runner for the migrations of the database vendor of a JDBC URL.
+ * - loadMigrations: Loads and orders the migrations of the runner's location.
+ * - migrate: Applies the pending migrations on a connection and returns them.
+ */
+
+package com.mycompany.eventmanagementapp.migration;
+
+import java.util.Map;
+import java.util.List;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.io.IOException;
+import java.sql.Connection;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.sql.PreparedStatement;
+import org.apache.logging.log4j.Logger;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.LogManager;
+
+public class MigrationRunner {
+
+	private static final Logger LOGGER = LogManager.getLogger(MigrationRunner.class);
+
+	static final String HISTORY_TABLE = "schema_migrations";
+
+	private static final String INDEX = "migrations.txt";
+
+	private final String location;
+
+	public MigrationRunner(String location) {
+		this.location = location;
+	}
+
+	// Runner for the migrations of the database vendor of the given JDBC URL
+	public static MigrationRunner forUrl(String url) {
+		if (url.startsWith("jdbc:h2:")) {
+			return new MigrationRunner("db/migration/h2");
+		}
+		if (url.startsWith("jdbc:mysql:")) {
+			return new MigrationRunner("db/migration/mysql");
+		}
+		throw new MigrationException("No migrations for database URL: " + url);
+	}
+
+	// Loads the migrations listed in the index, ordered by version
+	public List<Migration> loadMigrations() {
+		List<Migration> migrations = new ArrayList<>();
+		for (String script : readLines(INDEX)) {
+			migrations.add(new Migration(script, String.join("\n", readLines(script))));
+		}
+		migrations.sort(Comparator.comparingInt(Migration::getVersion));
+		for (int i = 1; i < migrations.size(); i++) {
+			if (migrations.get(i).getVersion() == migrations.get(i - 1).getVersion()) {
+				throw new MigrationException("Duplicate migration version in " + location + ": V"
+						+ migrations.get(i).getVersion());
+			}
+		}
+		return migrations;
+	}
+
+	// Applies the pending migrations and returns them, in the order they were applied
+	public synchronized List<Migration> migrate(Connection connection) {
+		List<Migration> migrations = loadMigrations();
+		List<Migration> applied = new ArrayList<>();
+		try {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				createHistoryTable(connection);
+				Map<Integer, Long> appliedChecksums = appliedChecksums(connection);
+				verifyChecksums(migrations, appliedChecksums);
+				for (Migration migration : migrations) {
+					if (!appliedChecksums.containsKey(migration.getVersion())) {
+						apply(connection, migration);
+						applied.add(migration);
+					}
+				}
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException e) {
+			LOGGER.error("Could not read the migration history", e);
+			throw new MigrationException("Could not read the migration history.", e);
+		}
+		return applied;
+	}
+
+	private void apply(Connection connection, Migration migration) throws SQLException {
+		LOGGER.info("Applying migration {}", migration);
+		long start = System.nanoTime();
+		try (Statement statement = connection.createStatement()) {
+			for (String sql : migration.getStatements()) {
+				statement.execute(sql);
+			}
+			recordMigration(connection, migration, (System.nanoTime() - start) / 1_000_000L);
+			connection.commit();
+		} catch (SQLException e) {
+			connection.rollback();
+			LOGGER.error("Could not apply migration {}", migration, e);
+			throw new MigrationException("Could not apply migration " + migration + ".", e);
+		}
+	}
+
+	private static void createHistoryTable(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " (version INT NOT NULL PRIMARY KEY, "
+					+ "description VARCHAR(200) NOT NULL, script VARCHAR(200) NOT NULL, checksum BIGINT NOT NULL, "
+					+ "installed_on TIMESTAMP NOT NULL, execution_ms BIGINT NOT NULL)");
+		}
+		connection.commit();
+	}
+
+	private static Map<Integer, Long> appliedChecksums(Connection connection) throws SQLException {
+		Map<Integer, Long> checksums = new HashMap<>();
+		try (Statement statement = connection.createStatement();
+				ResultSet rows = statement.executeQuery("SELECT version, checksum FROM " + HISTORY_TABLE)) {
+			while (rows.next()) {
+				checksums.put(rows.getInt(1), rows.getLong(2));
+			}
+		}
+		return checksums;
+	}
+
+	private static void verifyChecksums(List<Migration> migrations, Map<Integer, Long> appliedChecksums) {
+		for (Migration migration : migrations) {
+			Long checksum = appliedChecksums.get(migration.getVersion());
+			if (checksum != null && checksum != migration.getChecksum()) {
+				throw new MigrationException("Migration " + migration + " was modified after it was applied.");
+			}
+		}
+	}
+
+	private static void recordMigration(Connection connection, Migration migration, long executionMillis)
+			throws SQLException {
+		try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + HISTORY_TABLE
+				+ " (version, description, script, checksum, installed_on, execution_ms) VALUES (?, ?, ?, ?, ?, ?)")) {
+			insert.setInt(1, migration.getVersion());
+			insert.setString(2, migration.getDescription());
+			insert.setString(3, migration.getScript());
+			insert.setLong(4, migration.getChecksum());
+			insert.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+			insert.setLong(6, executionMillis);
+			insert.executeUpdate();
+		}
+	}
+
+	private List<String> readLines(String resource) {
+		String path = location + "/" + resource;
+		InputStream input = MigrationRunner.class.getClassLoader().getResourceAsStream(path);
+		if (input == null) {
+			throw new MigrationException("Migration resource not found: " + path);
+		}
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!INDEX.equals(resource) || !line.trim().isEmpty()) {
+					lines.add(INDEX.equals(resource) ? line.trim() : line);
+				}
+			}
+		} catch (IOException e) {
+			throw new MigrationException("Could not read migration resource: " + path, e);
+		}
+		return lines;
+	}
+}
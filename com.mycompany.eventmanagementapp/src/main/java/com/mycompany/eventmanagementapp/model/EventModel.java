@@ -24,8 +24,13 @@
  * - Add and remove participants: Utility methods to manage the relationship between 
  *   events and participants.
  * - Getters and setters: For all the properties.
- * - hashCode and equals: Used to compare EventModel objects and generate hash codes for collections.
+ * - hashCode and equals: Based on the eventId only, the identity of the row, so that renaming or moving an event
+ *   does not change its hash while it is in the participants' sets. An event which has not been saved yet (no id)
+ *   is only equal to itself and hashed by identity, its hash changes once it gets an id: it must be saved before
+ *   it is added to a set.
  * - toString: Provides a string representation of the event.
+ * - formatTo: Writes the same representation to a StringBuilder, so that Log4j can log the event without creating
+ *   a String (StringBuilderFormattable).
  *
  * JPA annotations:
  * - @Entity: Marks this class as a JPA entity.
@@ -34,19 +39,24 @@
  * - @Column: Specifies the columns for eventName, eventDate, and eventLocation.
  * - @ManyToMany: Defines the many-to-many relationship with participants.
  * - @JoinTable: Defines the join table to map the relationship between events and participants.
+ * - @DynamicUpdate: The updates of a loaded event only write the columns which changed. The
+ *   repositories change single columns with bulk updates, which never load the event; session.update of a
+ *   detached one still writes them all, there is nothing to compare them with.
  */
 
 package com.mycompany.eventmanagementapp.model;
 
 import java.util.Set;
 import java.util.HashSet;
-import java.util.Objects;
 import javax.persistence.*;
 import java.time.LocalDate;
+import org.hibernate.annotations.DynamicUpdate;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
 
 @Entity
+@DynamicUpdate
 @Table(name = "event")
-public class EventModel {
+public class EventModel implements StringBuilderFormattable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -142,7 +152,7 @@ public class EventModel {
     // Override hashCode and equals
     @Override
     public int hashCode() {
-        return Objects.hash(eventDate, eventId, eventLocation, eventName);
+        return eventId == null ? System.identityHashCode(this) : Long.hashCode(eventId.longValue());
     }
 
     @Override
@@ -154,11 +164,24 @@ public class EventModel {
         if (getClass() != obj.getClass())
             return false;
         EventModel other = (EventModel) obj;
-        return Objects.equals(eventDate, other.eventDate) && Objects.equals(eventId, other.eventId)
-                && Objects.equals(eventLocation, other.eventLocation) && Objects.equals(eventName, other.eventName);
+        return eventId != null && eventId.equals(other.eventId);
     }
     @Override
 	public String toString() {
-		return "Event [" + eventId + ", " + eventName + ", " + eventLocation + ", " + eventDate + "]";
+		StringBuilder buffer = new StringBuilder();
+		formatTo(buffer);
+		return buffer.toString();
+	}
+
+	@Override
+	public void formatTo(StringBuilder buffer) {
+		buffer.append("Event [");
+		if (eventId == null) {
+			buffer.append("null");
+		} else {
+			buffer.append(eventId.longValue());
+		}
+		buffer.append(", ").append(eventName).append(", ").append(eventLocation).append(", ").append(eventDate)
+				.append(']');
 	}
 }
\ No newline at end of file
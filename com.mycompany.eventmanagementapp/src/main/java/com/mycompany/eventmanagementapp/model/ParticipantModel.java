@@ -21,8 +21,12 @@
  * - Add and remove events: Utility methods to manage the relationship between 
  *   participants and events.
  * - Getters and setters: For all the properties.
- * - hashCode and equals: Used to compare ParticipantModel objects and generate hash codes for collections.
+ * - hashCode and equals: Based on the participantId only, like EventModel, so that a participant keeps its hash in
+ *   the events' sets when its name or email changes. A participant which has not been saved yet is only equal to
+ *   itself and, like an unsaved event, must be saved before it is added to a set.
  * - toString: Provides a string representation of the participant.
+ * - formatTo: Writes the same representation to a StringBuilder, so that Log4j can log the participant without
+ *   creating a String (StringBuilderFormattable).
  *
  * JPA annotations:
  * - @Entity: Marks this class as a JPA entity.
@@ -31,6 +35,9 @@
  * - @Column: Specifies the columns for participantName and participantEmail.
  * - @ManyToMany: Defines the many-to-many relationship with events, with the mappedBy attribute indicating 
  *   that the relationship is managed by the EventModel class.
+ * - @DynamicUpdate: The updates of a loaded participant only write the columns which changed. The
+ *   repositories change single columns with bulk updates, which never load the participant; session.update of a
+ *   detached one still writes them all, there is nothing to compare them with.
  */
 
 package com.mycompany.eventmanagementapp.model;
@@ -38,11 +45,13 @@ package com.mycompany.eventmanagementapp.model;
 import java.util.Set;
 import javax.persistence.*;
 import java.util.HashSet;
-import java.util.Objects;
+import org.hibernate.annotations.DynamicUpdate;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
 
 @Entity
+@DynamicUpdate
 @Table(name = "participant")
-public class ParticipantModel {
+public class ParticipantModel implements StringBuilderFormattable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -120,7 +129,7 @@ public class ParticipantModel {
     // Override hashCode and equals
     @Override
     public int hashCode() {
-        return Objects.hash(participantId, participantName, participantEmail);
+        return participantId == null ? System.identityHashCode(this) : Long.hashCode(participantId.longValue());
     }
 
     @Override
@@ -130,13 +139,24 @@ public class ParticipantModel {
         if (obj == null || getClass() != obj.getClass())
             return false;
         ParticipantModel other = (ParticipantModel) obj;
-        return Objects.equals(participantId, other.participantId)
-                && Objects.equals(participantName, other.participantName)
-                && Objects.equals(participantEmail, other.participantEmail);
+        return participantId != null && participantId.equals(other.participantId);
     }
     
     @Override
 	public String toString() {
-		return "Participant [" + participantId + ", " + participantName + ", " + participantEmail + "]";
+		StringBuilder buffer = new StringBuilder();
+		formatTo(buffer);
+		return buffer.toString();
+	}
+
+	@Override
+	public void formatTo(StringBuilder buffer) {
+		buffer.append("Participant [");
+		if (participantId == null) {
+			buffer.append("null");
+		} else {
+			buffer.append(participantId.longValue());
+		}
+		buffer.append(", ").append(participantName).append(", ").append(participantEmail).append(']');
 	}
 }
\ No newline at end of file
@@ -0,0 +1,250 @@
+/**
+ * EmailBloomFilter remembers the emails of the known participants in a Bloom filter, so that the
+ * ParticipantController can skip the getParticipantByEmail round trip of a registration when the email is certainly
+ * new, which is the case of most of them.
+ *
+ * - mightContain answers false only for an email which was never added: the lookup can then be skipped. It answers
+ *   true for the known emails and, at the configured rate, for a few new ones, which are then looked up as before.
+ *   The emails are compared ignoring case, like the invariants of the LoadHarness, so that a database comparing
+ *   them without case (MySQL's default collation) never finds an email the filter calls new.
+ * - add is called by the ParticipantMySqlRepository for every email it writes, before the write commits: a reader
+ *   which sees the committed row has therefore seen the email in the filter, and a write which is rolled back
+ *   only leaves a false positive behind. A Bloom filter cannot forget an email, the deleted participants remain
+ *   positives too, which costs a lookup and nothing else.
+ * - The bits are set with compare and set on an AtomicLongArray, mightContain and add run concurrently without a
+ *   lock. The bit positions come from two 64 bit hashes of the lower case characters, combined as h1 + i * h2
+ *   (Kirsch and Mitzenmacher), the email is not copied.
+ *
+ * load sizes the filter for twice the participants of the database, for the configured false positive rate, then
+ * streams their emails. Only the writes of this application reach the filter: it must not be used when other
+ * instances of the application, or the generate command, add participants while it runs. The database still
+ * rejects the duplicate email such a participant would lead to, the registration then fails.
+ *
+ * The expected and the observed false positive rates are exposed over JMX (EmailBloomFilterMXBean,
+ * "com.mycompany.eventmanagementapp:type=EmailBloomFilter"), a false positive being a lookup which found nothing.
+ */
+
+package com.mycompany.eventmanagementapp.repository;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.ScrollableResults;
+import javax.management.ObjectName;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+
+public class EmailBloomFilter implements EmailBloomFilterMXBean {
+
+	private static final Logger LOGGER = LogManager.getLogger(EmailBloomFilter.class);
+
+	public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+	// The filter of an empty or small database still has room for the participants added while the application runs
+	private static final long MIN_EXPECTED_INSERTIONS = 1024;
+
+	private static final int FETCH_SIZE = 1000;
+
+	private final AtomicLongArray words;
+
+	private final long bitSize;
+
+	private final int hashFunctions;
+
+	private final long expectedInsertions;
+
+	private final double falsePositiveRate;
+
+	private final LongAdder setBits = new LongAdder();
+
+	private final LongAdder insertions = new LongAdder();
+
+	private final LongAdder queries = new LongAdder();
+
+	private final LongAdder negatives = new LongAdder();
+
+	private final LongAdder falsePositives = new LongAdder();
+
+	public EmailBloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions < 1 || !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException("The expected insertions must be positive and the false positive rate "
+					+ "between 0 and 1: " + expectedInsertions + ", " + falsePositiveRate);
+		}
+		double ln2 = Math.log(2);
+		long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+		int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = wordCount * 64L;
+		this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	// Builds a filter of the emails of the participants in the database
+	public static EmailBloomFilter load(SessionFactory sessionFactory) {
+		return load(sessionFactory, DEFAULT_FALSE_POSITIVE_RATE);
+	}
+
+	public static EmailBloomFilter load(SessionFactory sessionFactory, double falsePositiveRate) {
+		long start = System.nanoTime();
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			long participants = session.createQuery("select count(p) from ParticipantModel p", Long.class)
+					.uniqueResult();
+			EmailBloomFilter filter = new EmailBloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, 2 * participants),
+					falsePositiveRate);
+			try (ScrollableResults emails = session
+					.createQuery("select p.participantEmail from ParticipantModel p", String.class)
+					.setFetchSize(FETCH_SIZE).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY)) {
+				while (emails.next()) {
+					filter.add((String) emails.get(0));
+				}
+			}
+			LOGGER.info("Email filter of {} participant(s) loaded in {} ms, {} bits and {} hash functions",
+					participants, (System.nanoTime() - start) / 1_000_000, filter.bitSize, filter.hashFunctions);
+			return filter;
+		}
+	}
+
+	// Remembers the email, returns whether the filter changed
+	public boolean add(String email) {
+		if (email == null) {
+			return false;
+		}
+		long h1 = hash(email, 0);
+		long h2 = hash(email, 0x9E3779B97F4A7C15L) | 1;
+		boolean changed = false;
+		for (int i = 0; i < hashFunctions; i++) {
+			changed |= setBit(index(h1, h2, i));
+		}
+		if (changed) {
+			insertions.increment();
+		}
+		return changed;
+	}
+
+	// False when the email has certainly never been added, true when it probably has
+	public boolean mightContain(String email) {
+		if (email == null) {
+			return true;
+		}
+		queries.increment();
+		long h1 = hash(email, 0);
+		long h2 = hash(email, 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = index(h1, h2, i);
+			if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				negatives.increment();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Called when the lookup of an email the filter might contain found no participant
+	public void recordFalsePositive() {
+		falsePositives.increment();
+	}
+
+	public void registerMBean(MBeanServer server) {
+		try {
+			ObjectName name = new ObjectName(MetricsRegistry.DOMAIN + ":type=EmailBloomFilter");
+			if (!server.isRegistered(name)) {
+				server.registerMBean(this, name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Could not register the email filter MBean", e);
+		}
+	}
+
+	@Override
+	public long getBitSize() {
+		return bitSize;
+	}
+
+	@Override
+	public int getHashFunctions() {
+		return hashFunctions;
+	}
+
+	@Override
+	public long getExpectedInsertions() {
+		return expectedInsertions;
+	}
+
+	@Override
+	public long getInsertions() {
+		return insertions.sum();
+	}
+
+	@Override
+	public double getConfiguredFalsePositiveRate() {
+		return falsePositiveRate;
+	}
+
+	@Override
+	public double getExpectedFalsePositiveRate() {
+		return Math.pow((double) setBits.sum() / bitSize, hashFunctions);
+	}
+
+	@Override
+	public long getQueries() {
+		return queries.sum();
+	}
+
+	@Override
+	public long getNegatives() {
+		return negatives.sum();
+	}
+
+	@Override
+	public long getFalsePositives() {
+		return falsePositives.sum();
+	}
+
+	@Override
+	public double getObservedFalsePositiveRate() {
+		long positivesOfNewEmails = falsePositives.sum();
+		long newEmails = positivesOfNewEmails + negatives.sum();
+		return newEmails == 0 ? 0 : (double) positivesOfNewEmails / newEmails;
+	}
+
+	private boolean setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		while (true) {
+			long bits = words.get(word);
+			if ((bits & mask) != 0) {
+				return false;
+			}
+			if (words.compareAndSet(word, bits, bits | mask)) {
+				setBits.increment();
+				return true;
+			}
+		}
+	}
+
+	private long index(long h1, long h2, int i) {
+		return ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+	}
+
+	// FNV-1a over the lower case characters, finished with the finalizer of MurmurHash3
+	private static long hash(String email, long seed) {
+		long hash = 0xCBF29CE484222325L ^ seed;
+		for (int i = 0; i < email.length(); i++) {
+			hash ^= Character.toLowerCase(email.charAt(i));
+			hash *= 0x100000001B3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
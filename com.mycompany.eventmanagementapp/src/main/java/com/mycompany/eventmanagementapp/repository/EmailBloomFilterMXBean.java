@@ -0,0 +1,31 @@
+package com.mycompany.eventmanagementapp.repository;
+
+// JMX view of the EmailBloomFilter letting the registrations of new emails skip their lookup
+public interface EmailBloomFilterMXBean {
+
+	long getBitSize();
+
+	int getHashFunctions();
+
+	// Emails the filter was sized for
+	long getExpectedInsertions();
+
+	// Emails which set at least one bit, about the number of distinct emails added
+	long getInsertions();
+
+	double getConfiguredFalsePositiveRate();
+
+	// False positive rate of the bits currently set, above the configured one once more emails than expected are added
+	double getExpectedFalsePositiveRate();
+
+	long getQueries();
+
+	// Queries answered with certainly new, each a lookup skipped
+	long getNegatives();
+
+	// Lookups of emails the filter might contain which found no participant
+	long getFalsePositives();
+
+	// Share of the new emails the filter did not recognize as new
+	double getObservedFalsePositiveRate();
+}
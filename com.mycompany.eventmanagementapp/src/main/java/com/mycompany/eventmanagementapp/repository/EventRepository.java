@@ -11,12 +11,20 @@
  * - deleteEvent: Deletes an event from the storage.
  * - getAllEvents: Retrieves a list of all events from the storage.
  * - getEventById: Retrieves a specific event by its ID.
+ * - renameEvent / rescheduleEvent / relocateEvent: Change the name, the date or the location of an event with a
+ *   single UPDATE of that column, without loading the event or its participants.
+ * - updateEventDetails: Writes the name, date and location of the given event, updating only the columns whose
+ *   value changed, and never its participants.
+ * Those return false when the event does not exist.
+ * - existsEventById / countParticipantsOfEvent: Whether an event exists and how many participants are registered to
+ *   it, read from the indexes without loading the event or its participants.
  *
  */
 
 package com.mycompany.eventmanagementapp.repository;
 
 import java.util.List;
+import java.time.LocalDate;
 
 import com.mycompany.eventmanagementapp.model.EventModel;
 
@@ -31,4 +39,16 @@ public interface EventRepository {
 	List<EventModel> getAllEvents();
 
 	EventModel getEventById(long eventId);
+
+	boolean renameEvent(long eventId, String eventName);
+
+	boolean rescheduleEvent(long eventId, LocalDate eventDate);
+
+	boolean relocateEvent(long eventId, String eventLocation);
+
+	boolean updateEventDetails(EventModel event);
+
+	boolean existsEventById(long eventId);
+
+	long countParticipantsOfEvent(long eventId);
 }
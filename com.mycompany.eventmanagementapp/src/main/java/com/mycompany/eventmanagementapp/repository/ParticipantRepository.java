@@ -12,12 +12,34 @@
  * - getAllParticipants: Retrieves a list of all participants from the storage.
  * - getParticipantById: Retrieves a specific participant by their ID.
  * - getParticipantByEmail: Retrieves a participant by their email address.
+ * - registerParticipant: Adds the participant if it is new and registers it to an event, in one transaction which
+ *   completes the returned future once it is committed. An implementation may commit later, together with other
+ *   writes (see GroupCommitPipeline). The future fails with a ConstraintViolationException when the email or the
+ *   registration was added meanwhile.
+ * - addParticipantToEvent: Adds a new participant and registers it to an existing event in one transaction. Returns
+ *   false, writing nothing, when the event does not exist.
+ * - upsertRegistration: Registers the participant to an event without looking it up first, the database rejecting
+ *   the duplicate email and the duplicate registration itself. Sets the id of the new or existing participant on
+ *   the given one and returns what the registration did as a RegistrationOutcome.
+ * - enroll / unenroll: Links an existing participant to an existing event, or unlinks it, by inserting or deleting
+ *   their single association row, without loading or merging either of them. Return whether the row was inserted
+ *   or deleted, false when the participant was already enrolled, or was not.
+ * - renameParticipant / changeParticipantEmail: Change the name or the email of a participant with a single UPDATE
+ *   of that column, without loading the participant or its events.
+ * - updateParticipantDetails: Writes the name and email of the given participant, updating only the columns whose
+ *   value changed, and never its events.
+ *   Those return false when the participant does not exist.
+ * - existsParticipantByEmail / isEnrolled: Whether a participant has the email, and whether the participant with
+ *   the email is registered to an event, read from the indexes without loading the participant or its events.
  *
  */
 
 package com.mycompany.eventmanagementapp.repository;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
 import com.mycompany.eventmanagementapp.model.ParticipantModel;
 
 public interface ParticipantRepository {
@@ -33,4 +55,35 @@ public interface ParticipantRepository {
 	ParticipantModel getParticipantById(long participantId);
 
 	ParticipantModel getParticipantByEmail(String email);
+
+	CompletableFuture<Void> registerParticipant(ParticipantModel participant, EventModel event);
+
+	boolean addParticipantToEvent(ParticipantModel participant, long eventId);
+
+	RegistrationOutcome upsertRegistration(ParticipantModel participant, long eventId);
+
+	boolean enroll(long eventId, long participantId);
+
+	boolean unenroll(long eventId, long participantId);
+
+	boolean renameParticipant(long participantId, String participantName);
+
+	boolean changeParticipantEmail(long participantId, String participantEmail);
+
+	boolean updateParticipantDetails(ParticipantModel participant);
+
+	boolean existsParticipantByEmail(String email);
+
+	boolean isEnrolled(long eventId, String email);
+
+	// What upsertRegistration did, nothing is written unless the participant has been registered
+	enum RegistrationOutcome {
+		// The participant was added and registered to the event
+		PARTICIPANT_ADDED,
+		// A participant with the same email existed and was registered to the event
+		PARTICIPANT_REGISTERED,
+		// A participant with the same email was already registered to the event
+		ALREADY_REGISTERED,
+		EVENT_NOT_FOUND
+	}
 }
\ No newline at end of file
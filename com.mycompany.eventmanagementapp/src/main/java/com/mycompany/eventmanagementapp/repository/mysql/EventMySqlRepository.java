@@ -14,11 +14,22 @@
  * - deleteEvent: Deletes an event from the database.
  * - getAllEvents: Retrieves all events from the database.
  * - getEventById: Retrieves a specific event by its unique ID.
+ * - renameEvent, rescheduleEvent, relocateEvent: Change one column of an event with a bulk HQL update.
+ * - updateEventDetails: Updates the changed columns of an event, without loading its participants.
+ * - existsEventById: Checks whether an event exists, from the primary key.
+ * - countParticipantsOfEvent: Counts the participants of an event from the event_participant table.
  */
 
 package com.mycompany.eventmanagementapp.repository.mysql;
 
+import java.util.Map;
 import java.util.List;
+import java.util.Objects;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.StringJoiner;
+import java.util.LinkedHashMap;
+import org.hibernate.query.Query;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.SessionFactory;
@@ -26,6 +37,8 @@ import org.apache.logging.log4j.Logger;
 import org.hibernate.HibernateException;
 import org.apache.logging.log4j.LogManager;
 
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe;
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe.Operation;
 import com.mycompany.eventmanagementapp.model.EventModel;
 import com.mycompany.eventmanagementapp.repository.EventRepository;
 
@@ -35,6 +48,13 @@ public class EventMySqlRepository implements EventRepository {
     
     private static final Logger LOGGER = LogManager.getLogger(EventMySqlRepository.class);
 
+    private static final String SELECT_DETAILS = "select e.eventName, e.eventDate, e.eventLocation from EventModel e"
+            + " where e.eventId = :eventId";
+
+    private static final String SELECT_ID = "select e.eventId from EventModel e where e.eventId = :eventId";
+
+    private static final String COUNT_PARTICIPANTS = "SELECT COUNT(*) FROM event_participant WHERE event_id = :eventId";
+
     // Constructor to initialize the repository with the session factory
     public EventMySqlRepository(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
@@ -43,73 +63,220 @@ public class EventMySqlRepository implements EventRepository {
     // Adds a new Event to the database
     @Override
     public void addEvent(EventModel event) {
-        Session session = sessionFactory.openSession();
-        Transaction transaction = session.beginTransaction();
-        try {
-            session.save(event);
-            transaction.commit();
-        } catch (Exception e) {
-            transaction.rollback();
-            LOGGER.error("Failed to add event", e);
-            throw new HibernateException("Could not add event.", e);
-        } finally {
-            session.close();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.addEvent",
+                eventId(event))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.save(event);
+                transaction.commit();
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to add event", e);
+                throw new HibernateException("Could not add event.", e);
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Updates an existing Event in the database
     @Override
     public void updateEvent(EventModel event) {
-        Session session = sessionFactory.openSession();
-        Transaction transaction = session.beginTransaction();
-        try {
-            session.update(event);
-            transaction.commit();
-        } catch (Exception e) {
-            transaction.rollback();
-            LOGGER.error("Failed to update event", e);
-            throw new HibernateException("Could not update event.", e);
-        } finally {
-            session.close();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.updateEvent",
+                eventId(event))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.update(event);
+                transaction.commit();
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to update event", e);
+                throw new HibernateException("Could not update event.", e);
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Deletes an Event from the database
     @Override
     public void deleteEvent(EventModel event) {
-        Session session = sessionFactory.openSession();
-        Transaction transaction = session.beginTransaction();
-        try {
-            session.delete(event);
-            transaction.commit();
-        } catch (Exception e) {
-            transaction.rollback();
-            LOGGER.error("Failed to delete event", e);
-            throw new HibernateException("Could not delete event.", e);
-        } finally {
-            session.close();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.deleteEvent",
+                eventId(event))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.delete(event);
+                transaction.commit();
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to delete event", e);
+                throw new HibernateException("Could not delete event.", e);
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Retrieves all Events from the database
     @Override
     public List<EventModel> getAllEvents() {
-        Session session = sessionFactory.openSession();
-        try {
-            return session.createQuery("from EventModel", EventModel.class).list();
-        } finally {
-            session.close();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.getAllEvents", null)) {
+            Session session = sessionFactory.openSession();
+            try {
+                List<EventModel> events = session.createQuery("from EventModel", EventModel.class).list();
+                operation.setRows(events.size());
+                return events;
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Finds an Event by its unique ID
     @Override
     public EventModel getEventById(long eventId) {
-        Session session = sessionFactory.openSession();
-        try {
-            return session.get(EventModel.class, eventId);
-        } finally {
-            session.close();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.getEventById", eventId)) {
+            Session session = sessionFactory.openSession();
+            try {
+                EventModel event = session.get(EventModel.class, eventId);
+                operation.setRows(event == null ? 0 : 1);
+                return event;
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Changes the name of an event
+    @Override
+    public boolean renameEvent(long eventId, String eventName) {
+        return updateColumns("EventMySqlRepository.renameEvent", eventId,
+                Collections.singletonMap("eventName", eventName));
+    }
+
+    // Changes the date of an event
+    @Override
+    public boolean rescheduleEvent(long eventId, LocalDate eventDate) {
+        return updateColumns("EventMySqlRepository.rescheduleEvent", eventId,
+                Collections.singletonMap("eventDate", eventDate));
+    }
+
+    // Changes the location of an event
+    @Override
+    public boolean relocateEvent(long eventId, String eventLocation) {
+        return updateColumns("EventMySqlRepository.relocateEvent", eventId,
+                Collections.singletonMap("eventLocation", eventLocation));
+    }
+
+    // Writes the changed name, date and location of an event, false when it does not exist
+    @Override
+    public boolean updateEventDetails(EventModel event) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.updateEventDetails",
+                eventId(event))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+            try {
+                Object[] current = session.createQuery(SELECT_DETAILS, Object[].class)
+                        .setParameter("eventId", event.getEventId())
+                        .uniqueResult();
+                if (current == null) {
+                    transaction.commit();
+                    return false;
+                }
+                Map<String, Object> changes = new LinkedHashMap<>();
+                putIfChanged(changes, "eventName", current[0], event.getEventName());
+                putIfChanged(changes, "eventDate", current[1], event.getEventDate());
+                putIfChanged(changes, "eventLocation", current[2], event.getEventLocation());
+                if (!changes.isEmpty()) {
+                    executeUpdate(session, event.getEventId(), changes);
+                }
+                transaction.commit();
+                return true;
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to update event", e);
+                throw new HibernateException("Could not update event.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Checks whether an event exists, without loading it
+    @Override
+    public boolean existsEventById(long eventId) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.existsEventById",
+                eventId)) {
+            Session session = sessionFactory.openSession();
+            try {
+                boolean exists = session.createQuery(SELECT_ID, Long.class)
+                        .setParameter("eventId", eventId)
+                        .uniqueResult() != null;
+                operation.setRows(exists ? 1 : 0);
+                return exists;
+            } finally {
+                session.close();
+            }
         }
     }
-}
\ No newline at end of file
+
+    // Counts the participants registered to an event, without loading them
+    @Override
+    public long countParticipantsOfEvent(long eventId) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("EventMySqlRepository.countParticipantsOfEvent",
+                eventId)) {
+            Session session = sessionFactory.openSession();
+            try {
+                Number participants = (Number) session.createNativeQuery(COUNT_PARTICIPANTS)
+                        .setParameter("eventId", eventId)
+                        .uniqueResult();
+                operation.setRows(1);
+                return participants.longValue();
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Updates the given columns of an event in their own transaction
+    private boolean updateColumns(String call, long eventId, Map<String, Object> columns) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall(call, eventId)) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+            try {
+                int updated = executeUpdate(session, eventId, columns);
+                transaction.commit();
+                return updated > 0;
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to update event", e);
+                throw new HibernateException("Could not update event.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // One UPDATE statement setting the given properties of the event, returns the number of rows updated
+    private static int executeUpdate(Session session, long eventId, Map<String, Object> columns) {
+        StringJoiner hql = new StringJoiner(", ", "update EventModel set ", " where eventId = :eventId");
+        columns.keySet().forEach(property -> hql.add(property + " = :" + property));
+        Query<?> query = session.createQuery(hql.toString());
+        columns.forEach(query::setParameter);
+        return query.setParameter("eventId", eventId).executeUpdate();
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, String property, Object current, Object value) {
+        if (!Objects.equals(current, value)) {
+            changes.put(property, value);
+        }
+    }
+
+    // Id of the event for the flight recorder event, null when there is no event
+    private static Long eventId(EventModel event) {
+        return event == null ? null : event.getEventId();
+    }
+}
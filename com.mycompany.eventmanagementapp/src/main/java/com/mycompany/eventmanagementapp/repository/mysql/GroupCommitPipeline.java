@@ -0,0 +1,309 @@
+/**
+ * GroupCommitPipeline commits the writes submitted concurrently by the controllers together, in one transaction,
+ * instead of one transaction each. Under a burst of registrations most of the time of a write is its commit, which
+ * waits for the database to flush its log (MySQL's fsync), so a group of writes costs little more than one of them:
+ * the pipeline trades a few milliseconds of latency for a much higher commit throughput.
+ *
+ * - submit queues a Command, a unit of work on a Hibernate Session, and returns a future completed once the command
+ *   is committed, or failed with its exception. The controllers notify their view from the future.
+ * - A single committer thread takes the first waiting command, then collects the commands submitted within
+ *   maxDelayMillis of it, up to maxBatchSize, and runs them one after the other in one Session and transaction.
+ *   The commands which are already waiting join the group even when the delay is over, so that a backlog is
+ *   committed in groups as large as allowed. With a delay of 0 only those commands are grouped.
+ * - When the group fails, it is rolled back and its commands are committed again one by one, each in a transaction
+ *   of its own, so that a failing command (a duplicate email, a deleted event) only fails its own future. A command
+ *   may therefore run twice: it must not depend on what its rolled back run changed.
+ * - The futures are completed on the committer thread, what depends on them must be quick or move to another
+ *   thread, it delays the next group otherwise.
+ *
+ * The commands share one Session: they load the entities they change in it (session.get) instead of reattaching
+ * detached ones, which would clash with the same entity loaded by another command of the group.
+ *
+ * The group sizes and outcomes are exposed over JMX (GroupCommitPipelineMXBean,
+ * "com.mycompany.eventmanagementapp:type=GroupCommitPipeline"). close commits the waiting commands and stops the
+ * committer thread, which is a daemon thread.
+ */
+
+package com.mycompany.eventmanagementapp.repository.mysql;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.SessionFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+
+public class GroupCommitPipeline implements GroupCommitPipelineMXBean, AutoCloseable {
+
+	private static final Logger LOGGER = LogManager.getLogger(GroupCommitPipeline.class);
+
+	public static final long DEFAULT_MAX_DELAY_MILLIS = 2;
+
+	public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+	private static final AtomicInteger PIPELINES = new AtomicInteger();
+
+	// Queued by close after the last command
+	private static final PendingCommand STOP = new PendingCommand("stop", session -> {
+	});
+
+	// A unit of work on the Session of its group, it must not commit, roll back or close it
+	@FunctionalInterface
+	public interface Command {
+
+		void execute(Session session);
+	}
+
+	private final SessionFactory sessionFactory;
+
+	private final long maxDelayMillis;
+
+	private final int maxBatchSize;
+
+	private final BlockingQueue<PendingCommand> queue = new LinkedBlockingQueue<>();
+
+	private final Thread committer;
+
+	private final AtomicLong committedBatches = new AtomicLong();
+
+	private final AtomicLong committedCommands = new AtomicLong();
+
+	private final AtomicLong failedCommands = new AtomicLong();
+
+	private final AtomicLong retriedBatches = new AtomicLong();
+
+	private final AtomicInteger largestBatch = new AtomicInteger();
+
+	private final Object lock = new Object();
+
+	// Guarded by lock
+	private boolean closed;
+
+	// Creates a pipeline with the default delay and batch size
+	public GroupCommitPipeline(SessionFactory sessionFactory) {
+		this(sessionFactory, DEFAULT_MAX_DELAY_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+	}
+
+	public GroupCommitPipeline(SessionFactory sessionFactory, long maxDelayMillis, int maxBatchSize) {
+		if (maxDelayMillis < 0 || maxBatchSize < 1) {
+			throw new IllegalArgumentException("The delay must not be negative and the batch size must be positive: "
+					+ maxDelayMillis + " ms, batch size " + maxBatchSize);
+		}
+		this.sessionFactory = sessionFactory;
+		this.maxDelayMillis = maxDelayMillis;
+		this.maxBatchSize = maxBatchSize;
+		committer = new Thread(this::run, "group-commit-" + PIPELINES.incrementAndGet());
+		committer.setDaemon(true);
+		committer.start();
+	}
+
+	// Queues the command, the future completes once it is committed or fails with the command's exception
+	public CompletableFuture<Void> submit(String name, Command command) {
+		PendingCommand pending = new PendingCommand(name, command);
+		synchronized (lock) {
+			if (closed) {
+				pending.future.completeExceptionally(new IllegalStateException("The group commit pipeline is closed"));
+			} else {
+				queue.add(pending);
+			}
+		}
+		return pending.future;
+	}
+
+	// Commits the waiting commands, then stops the committer thread, the commands submitted later fail
+	@Override
+	public void close() {
+		synchronized (lock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			queue.add(STOP);
+		}
+		try {
+			committer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public void registerMBean(MBeanServer server) {
+		try {
+			ObjectName name = new ObjectName(MetricsRegistry.DOMAIN + ":type=GroupCommitPipeline");
+			if (!server.isRegistered(name)) {
+				server.registerMBean(this, name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Could not register the group commit pipeline MBean", e);
+		}
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	@Override
+	public long getMaxDelayMillis() {
+		return maxDelayMillis;
+	}
+
+	@Override
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	@Override
+	public long getCommittedBatches() {
+		return committedBatches.get();
+	}
+
+	@Override
+	public long getCommittedCommands() {
+		return committedCommands.get();
+	}
+
+	@Override
+	public long getFailedCommands() {
+		return failedCommands.get();
+	}
+
+	@Override
+	public long getRetriedBatches() {
+		return retriedBatches.get();
+	}
+
+	@Override
+	public double getAverageBatchSize() {
+		long batches = committedBatches.get();
+		return batches == 0 ? 0 : (double) committedCommands.get() / batches;
+	}
+
+	@Override
+	public int getLargestBatch() {
+		return largestBatch.get();
+	}
+
+	// Loop of the committer thread, collects a group and commits it until close
+	private void run() {
+		List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+		boolean stopping = false;
+		try {
+			while (!stopping) {
+				PendingCommand first = queue.take();
+				if (first == STOP) {
+					break;
+				}
+				batch.add(first);
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+				while (batch.size() < maxBatchSize) {
+					long remaining = deadline - System.nanoTime();
+					PendingCommand next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+					if (next == null) {
+						break;
+					}
+					if (next == STOP) {
+						stopping = true;
+						break;
+					}
+					batch.add(next);
+				}
+				commit(batch);
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			// Only close stops the pipeline, the commands collected so far still fail below
+			Thread.currentThread().interrupt();
+		} finally {
+			synchronized (lock) {
+				closed = true;
+			}
+			batch.addAll(queue);
+			batch.remove(STOP);
+			batch.forEach(pending -> pending.future
+					.completeExceptionally(new IllegalStateException("The group commit pipeline was stopped")));
+		}
+	}
+
+	private void commit(List<PendingCommand> batch) {
+		if (batch.size() == 1) {
+			commitAlone(batch.get(0));
+			return;
+		}
+		try {
+			runInTransaction(batch);
+		} catch (RuntimeException e) {
+			retriedBatches.incrementAndGet();
+			LOGGER.warn("Group of {} command(s) failed, committing them one by one", batch.size(), e);
+			batch.forEach(this::commitAlone);
+			return;
+		}
+		committed(batch.size());
+		batch.forEach(pending -> pending.future.complete(null));
+	}
+
+	private void commitAlone(PendingCommand pending) {
+		try {
+			runInTransaction(Collections.singletonList(pending));
+		} catch (RuntimeException e) {
+			failedCommands.incrementAndGet();
+			LOGGER.debug("Command {} failed", pending.name, e);
+			pending.future.completeExceptionally(e);
+			return;
+		}
+		committed(1);
+		pending.future.complete(null);
+	}
+
+	private void runInTransaction(List<PendingCommand> commands) {
+		Session session = sessionFactory.openSession();
+		Transaction transaction = session.beginTransaction();
+		try {
+			for (PendingCommand pending : commands) {
+				pending.command.execute(session);
+			}
+			transaction.commit();
+		} catch (RuntimeException e) {
+			if (transaction.getStatus().canRollback()) {
+				transaction.rollback();
+			}
+			throw e;
+		} finally {
+			session.close();
+		}
+	}
+
+	private void committed(int commands) {
+		committedBatches.incrementAndGet();
+		committedCommands.addAndGet(commands);
+		largestBatch.accumulateAndGet(commands, Math::max);
+	}
+
+	// A submitted command with the future of its outcome
+	private static final class PendingCommand {
+
+		private final String name;
+
+		private final Command command;
+
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		private PendingCommand(String name, Command command) {
+			this.name = name;
+			this.command = command;
+		}
+	}
+}
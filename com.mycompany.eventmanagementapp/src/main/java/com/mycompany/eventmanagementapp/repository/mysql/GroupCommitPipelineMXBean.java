@@ -0,0 +1,27 @@
+package com.mycompany.eventmanagementapp.repository.mysql;
+
+// JMX view of the GroupCommitPipeline grouping the writes of the controllers into shared transactions
+public interface GroupCommitPipelineMXBean {
+
+	// Commands waiting for the next group
+	int getQueueDepth();
+
+	long getMaxDelayMillis();
+
+	int getMaxBatchSize();
+
+	// Transactions committed with at least one command
+	long getCommittedBatches();
+
+	long getCommittedCommands();
+
+	long getFailedCommands();
+
+	// Groups which failed as a whole and had their commands committed one by one
+	long getRetriedBatches();
+
+	// Committed commands per committed transaction
+	double getAverageBatchSize();
+
+	int getLargestBatch();
+}
@@ -15,121 +15,637 @@
  * - getAllParticipants: Retrieves all participants from the database.
  * - getParticipantById: Retrieves a specific participant by their unique ID.
  * - getParticipantByEmail: Retrieves a participant by their email address.
+ * - registerParticipant: Saves the participant if it is new and registers it to the event, committed in a group
+ *   when a GroupCommitPipeline is set.
+ * - addParticipantToEvent: Saves a new participant and registers it to an existing event in one transaction.
+ * - upsertRegistration: Registers the participant to the event with upserts, the database rejecting the duplicates.
+ * - enroll / unenroll: Insert or delete the row of the event_participant table linking a participant to an event.
+ * - renameParticipant, changeParticipantEmail: Change one column of a participant with a bulk HQL update.
+ * - updateParticipantDetails: Updates the changed columns of a participant, without loading its events.
+ * - existsParticipantByEmail: Checks whether a participant has the email, from its unique index.
+ * - isEnrolled: Checks whether the participant with the email is registered to the event.
  */
 
 package com.mycompany.eventmanagementapp.repository.mysql;
 
+import java.util.Map;
 import java.util.List;
+import java.util.Objects;
+import java.util.Collections;
+import java.util.StringJoiner;
+import java.util.LinkedHashMap;
+import java.sql.ResultSet;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.PreparedStatement;
+import java.util.concurrent.CompletableFuture;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
 import org.apache.logging.log4j.Logger;
 import org.hibernate.HibernateException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.apache.logging.log4j.LogManager;
 
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe;
+import com.mycompany.eventmanagementapp.metrics.FlightRecorderProbe.Operation;
+import com.mycompany.eventmanagementapp.model.EventModel;
 import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
 import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
 
 public class ParticipantMySqlRepository implements ParticipantRepository {
 
     private static final Logger LOGGER = LogManager.getLogger(ParticipantMySqlRepository.class);
     
+    // The upserts of upsertRegistration, merged on H2 and inserted on MySQL, whose INSERT ... ON DUPLICATE KEY UPDATE
+    // counts an existing row as a changed one with the driver's default settings
+    private static final String MERGE_PARTICIPANT = "MERGE INTO participant p USING (SELECT"
+            + " CAST(? AS VARCHAR(255)) AS participant_name, CAST(? AS VARCHAR(255)) AS participant_email) v"
+            + " ON (p.participant_email = v.participant_email) WHEN NOT MATCHED THEN"
+            + " INSERT (participant_name, participant_email) VALUES (v.participant_name, v.participant_email)";
+
+    private static final String INSERT_PARTICIPANT = "INSERT INTO participant (participant_name, participant_email)"
+            + " VALUES (?, ?)";
+
+    private static final String MERGE_REGISTRATION = "MERGE INTO event_participant r USING (SELECT"
+            + " CAST(? AS BIGINT) AS event_id, CAST(? AS BIGINT) AS participant_id) v"
+            + " ON (r.event_id = v.event_id AND r.participant_id = v.participant_id) WHEN NOT MATCHED THEN"
+            + " INSERT (event_id, participant_id) VALUES (v.event_id, v.participant_id)";
+
+    private static final String INSERT_REGISTRATION = "INSERT INTO event_participant (event_id, participant_id)"
+            + " VALUES (?, ?)";
+
+    private static final String DELETE_REGISTRATION = "DELETE FROM event_participant"
+            + " WHERE event_id = :eventId AND participant_id = :participantId";
+
+    private static final String SELECT_DETAILS = "select p.participantName, p.participantEmail from ParticipantModel p"
+            + " where p.participantId = :participantId";
+
+    private static final String SELECT_ID_BY_EMAIL = "select p.participantId from ParticipantModel p"
+            + " where p.participantEmail = :email";
+
+    private static final String SELECT_REGISTRATION = "SELECT r.participant_id FROM participant p"
+            + " JOIN event_participant r ON r.participant_id = p.participantId"
+            + " WHERE p.participant_email = :email AND r.event_id = :eventId";
+
+    private static final String SELECT_PARTICIPANT_ID = "SELECT participantId FROM participant"
+            + " WHERE participant_email = ?";
+
+    // MySQL's error codes of a duplicate key and of a foreign key without its referenced row
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
+    // H2's SQL states of the same violations
+    private static final String H2_DUPLICATE_KEY = "23505";
+
+    private static final String H2_NO_REFERENCED_ROW = "23506";
+
     private SessionFactory sessionFactory;
 
+    // Commits the registrations in groups when set, null to commit each of them right away
+    private volatile GroupCommitPipeline groupCommitPipeline;
+
+    // Learns the emails written, null when there is no filter
+    private volatile EmailBloomFilter emailFilter;
+
     // Constructor to initialize the ParticipantMySqlRepository with the session factory
     public ParticipantMySqlRepository(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
     }
 
+    public void setGroupCommitPipeline(GroupCommitPipeline groupCommitPipeline) {
+        this.groupCommitPipeline = groupCommitPipeline;
+    }
+
+    public void setEmailFilter(EmailBloomFilter emailFilter) {
+        this.emailFilter = emailFilter;
+    }
+
     // Adds a new participant to the database
     @Override
     public void addParticipant(ParticipantModel participant) {
-        Session session = sessionFactory.openSession();
-        Transaction transaction = session.beginTransaction();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.addParticipant",
+                participantId(participant))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
 
-        try {
-            session.save(participant);
-            transaction.commit();
-        } catch (Exception e) {
-            transaction.rollback();
-            LOGGER.error("Failed to add participant", e);
-            throw new HibernateException("Could not add participant.", e);
-        } finally {
-            session.close();
+            try {
+                rememberEmail(participant);
+                session.save(participant);
+                transaction.commit();
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to add participant", e);
+                throw new HibernateException("Could not add participant.", e);
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Updates an existing participant in the database
     @Override
     public void updateParticipant(ParticipantModel participant) {
-        Session session = sessionFactory.openSession();
-        Transaction transaction = session.beginTransaction();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.updateParticipant",
+                participantId(participant))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
 
-        try {
-            session.update(participant);
-            transaction.commit();
-        } catch (Exception e) {
-            transaction.rollback();
-            LOGGER.error("Failed to update participant", e);
-            throw new HibernateException("Could not update participant.", e);
-        } finally {
-            session.close();
+            try {
+                rememberEmail(participant);
+                session.update(participant);
+                transaction.commit();
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to update participant", e);
+                throw new HibernateException("Could not update participant.", e);
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Deletes a participant from the database
     @Override
     public void deleteParticipant(ParticipantModel participant) {
-        Session session = sessionFactory.openSession();
-        Transaction transaction = session.beginTransaction();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.deleteParticipant",
+                participantId(participant))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
 
-        try {
-            session.delete(participant);
-            transaction.commit();
-        } catch (Exception e) {
-            transaction.rollback();
-            LOGGER.error("Failed to delete participant", e);
-            throw new HibernateException("Could not delete participant.", e);
-        } finally {
-            session.close();
+            try {
+                session.delete(participant);
+                transaction.commit();
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to delete participant", e);
+                throw new HibernateException("Could not delete participant.", e);
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Retrieves all participants from the database
     @Override
     public List<ParticipantModel> getAllParticipants() {
-        Session session = sessionFactory.openSession();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.getAllParticipants",
+                null)) {
+            Session session = sessionFactory.openSession();
 
-        try {
-            return session.createQuery("from ParticipantModel", ParticipantModel.class).list();
-        } finally {
-            session.close();
+            try {
+                List<ParticipantModel> participants = session
+                        .createQuery("from ParticipantModel", ParticipantModel.class).list();
+                operation.setRows(participants.size());
+                return participants;
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Retrieves a participant by their ID from the database
     @Override
     public ParticipantModel getParticipantById(long participantId) {
-        Session session = sessionFactory.openSession();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.getParticipantById",
+                participantId)) {
+            Session session = sessionFactory.openSession();
 
-        try {
-            return session.get(ParticipantModel.class, participantId);
-        } finally {
-            session.close();
+            try {
+                ParticipantModel participant = session.get(ParticipantModel.class, participantId);
+                operation.setRows(participant == null ? 0 : 1);
+                return participant;
+            } finally {
+                session.close();
+            }
         }
     }
 
     // Retrieves a participant by their email address
     @Override
     public ParticipantModel getParticipantByEmail(String email) {
-        Session session = sessionFactory.openSession();
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.getParticipantByEmail",
+                null)) {
+            Session session = sessionFactory.openSession();
+
+            try {
+                ParticipantModel participant = session
+                        .createQuery("from ParticipantModel where participantEmail = :email", ParticipantModel.class)
+                        .setParameter("email", email)
+                        .uniqueResult();
+                operation.setRows(participant == null ? 0 : 1);
+                return participant;
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Registers the participant to the event, saving the participant first if it is new
+    @Override
+    public CompletableFuture<Void> registerParticipant(ParticipantModel participant, EventModel event) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.registerParticipant",
+                participantId(participant))) {
+            GroupCommitPipeline.Command registration = registration(participant, event.getEventId());
+            rememberEmail(participant);
+            CompletableFuture<Void> registered = new CompletableFuture<>();
+            GroupCommitPipeline pipeline = groupCommitPipeline;
+            if (pipeline != null) {
+                pipeline.submit("ParticipantMySqlRepository.registerParticipant", registration)
+                        .whenComplete((ignored, failure) -> completeRegistration(registered, failure));
+                return registered;
+            }
+
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+            try {
+                registration.execute(session);
+                transaction.commit();
+                registered.complete(null);
+            } catch (Exception e) {
+                transaction.rollback();
+                completeRegistration(registered, e);
+            } finally {
+                session.close();
+            }
+            return registered;
+        }
+    }
+
+    // Saves the new participant and its row of the event_participant table in one transaction, returns false when the
+    // event doesn't exist, nothing being written then
+    @Override
+    public boolean addParticipantToEvent(ParticipantModel participant, long eventId) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.addParticipantToEvent",
+                participantId(participant))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                rememberEmail(participant);
+                session.save(participant);
+                long participantId = participant.getParticipantId();
+                boolean added = session
+                        .doReturningWork(connection -> insertRegistration(connection, eventId, participantId));
+                if (added) {
+                    transaction.commit();
+                } else {
+                    transaction.rollback();
+                    participant.setParticipantId(null);
+                }
+                return added;
+            } catch (Exception e) {
+                if (transaction.getStatus().canRollback()) {
+                    transaction.rollback();
+                }
+                participant.setParticipantId(null);
+                LOGGER.error("Failed to add participant to event", e);
+                throw new HibernateException("Could not add participant to event.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Registers the participant to the event with upserts, nothing is written unless it has been registered
+    @Override
+    public RegistrationOutcome upsertRegistration(ParticipantModel participant, long eventId) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.upsertRegistration",
+                participantId(participant))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                rememberEmail(participant);
+                RegistrationOutcome outcome = session
+                        .doReturningWork(connection -> upsertRegistration(connection, participant, eventId));
+                if (outcome == RegistrationOutcome.PARTICIPANT_ADDED
+                        || outcome == RegistrationOutcome.PARTICIPANT_REGISTERED) {
+                    transaction.commit();
+                } else {
+                    transaction.rollback();
+                }
+                return outcome;
+            } catch (Exception e) {
+                if (transaction.getStatus().canRollback()) {
+                    transaction.rollback();
+                }
+                LOGGER.error("Failed to upsert registration", e);
+                throw new HibernateException("Could not register participant.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
 
+    // Links the participant to the event with a single row, returns false when it was already linked
+    @Override
+    public boolean enroll(long eventId, long participantId) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.enroll",
+                participantId)) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                boolean enrolled = session.doReturningWork(
+                        connection -> insertRow(connection, INSERT_REGISTRATION, eventId, participantId));
+                transaction.commit();
+                return enrolled;
+            } catch (Exception e) {
+                if (transaction.getStatus().canRollback()) {
+                    transaction.rollback();
+                }
+                LOGGER.error("Failed to enroll participant", e);
+                throw new HibernateException("Could not enroll participant.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Unlinks the participant from the event by deleting its row, returns false when they were not linked
+    @Override
+    public boolean unenroll(long eventId, long participantId) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.unenroll",
+                participantId)) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                int deleted = session.createNativeQuery(DELETE_REGISTRATION)
+                        .setParameter("eventId", eventId)
+                        .setParameter("participantId", participantId)
+                        .executeUpdate();
+                transaction.commit();
+                return deleted > 0;
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to unenroll participant", e);
+                throw new HibernateException("Could not unenroll participant.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Changes the name of a participant
+    @Override
+    public boolean renameParticipant(long participantId, String participantName) {
+        return updateColumns("ParticipantMySqlRepository.renameParticipant", participantId,
+                Collections.singletonMap("participantName", participantName));
+    }
+
+    // Changes the email of a participant
+    @Override
+    public boolean changeParticipantEmail(long participantId, String participantEmail) {
+        return updateColumns("ParticipantMySqlRepository.changeParticipantEmail", participantId,
+                Collections.singletonMap("participantEmail", participantEmail));
+    }
+
+    // Writes the changed name and email of a participant, false when it does not exist
+    @Override
+    public boolean updateParticipantDetails(ParticipantModel participant) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall(
+                "ParticipantMySqlRepository.updateParticipantDetails", participantId(participant))) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                Object[] current = session.createQuery(SELECT_DETAILS, Object[].class)
+                        .setParameter("participantId", participant.getParticipantId())
+                        .uniqueResult();
+                if (current == null) {
+                    transaction.commit();
+                    return false;
+                }
+                Map<String, Object> changes = new LinkedHashMap<>();
+                putIfChanged(changes, "participantName", current[0], participant.getParticipantName());
+                putIfChanged(changes, "participantEmail", current[1], participant.getParticipantEmail());
+                if (!changes.isEmpty()) {
+                    rememberEmail((String) changes.get("participantEmail"));
+                    executeUpdate(session, participant.getParticipantId(), changes);
+                }
+                transaction.commit();
+                return true;
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to update participant", e);
+                throw new HibernateException("Could not update participant.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Checks whether a participant has the email, without loading it
+    @Override
+    public boolean existsParticipantByEmail(String email) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall(
+                "ParticipantMySqlRepository.existsParticipantByEmail", null)) {
+            Session session = sessionFactory.openSession();
+
+            try {
+                boolean exists = session.createQuery(SELECT_ID_BY_EMAIL, Long.class)
+                        .setParameter("email", email)
+                        .uniqueResult() != null;
+                operation.setRows(exists ? 1 : 0);
+                return exists;
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Checks whether the participant with the email is registered to the event, without loading either of them
+    @Override
+    public boolean isEnrolled(long eventId, String email) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall("ParticipantMySqlRepository.isEnrolled",
+                eventId)) {
+            Session session = sessionFactory.openSession();
+
+            try {
+                boolean enrolled = session.createNativeQuery(SELECT_REGISTRATION)
+                        .setParameter("email", email)
+                        .setParameter("eventId", eventId)
+                        .uniqueResult() != null;
+                operation.setRows(enrolled ? 1 : 0);
+                return enrolled;
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // Updates the given columns of a participant in their own transaction
+    private boolean updateColumns(String call, long participantId, Map<String, Object> columns) {
+        try (Operation operation = FlightRecorderProbe.repositoryCall(call, participantId)) {
+            Session session = sessionFactory.openSession();
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                rememberEmail((String) columns.get("participantEmail"));
+                int updated = executeUpdate(session, participantId, columns);
+                transaction.commit();
+                return updated > 0;
+            } catch (Exception e) {
+                transaction.rollback();
+                LOGGER.error("Failed to update participant", e);
+                throw new HibernateException("Could not update participant.", e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    // One UPDATE statement setting the given properties of the participant, returns the number of rows updated
+    private static int executeUpdate(Session session, long participantId, Map<String, Object> columns) {
+        StringJoiner hql = new StringJoiner(", ", "update ParticipantModel set ",
+                " where participantId = :participantId");
+        columns.keySet().forEach(property -> hql.add(property + " = :" + property));
+        Query<?> query = session.createQuery(hql.toString());
+        columns.forEach(query::setParameter);
+        return query.setParameter("participantId", participantId).executeUpdate();
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, String property, Object current, Object value) {
+        if (!Objects.equals(current, value)) {
+            changes.put(property, value);
+        }
+    }
+
+    private static RegistrationOutcome upsertRegistration(Connection connection, ParticipantModel participant,
+            long eventId) throws SQLException {
+        boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+        boolean added = insertRow(connection, h2 ? MERGE_PARTICIPANT : INSERT_PARTICIPANT,
+                participant.getParticipantName(), participant.getParticipantEmail());
+        long participantId = participantIdByEmail(connection, participant.getParticipantEmail());
+        boolean registered;
         try {
-            return session.createQuery("from ParticipantModel where participantEmail = :email", ParticipantModel.class)
-                    .setParameter("email", email)
-                    .uniqueResult();
-        } finally {
-            session.close();
+            registered = insertRow(connection, h2 ? MERGE_REGISTRATION : INSERT_REGISTRATION, eventId, participantId);
+        } catch (SQLException e) {
+            if (e.getErrorCode() == MYSQL_NO_REFERENCED_ROW || H2_NO_REFERENCED_ROW.equals(e.getSQLState())) {
+                return RegistrationOutcome.EVENT_NOT_FOUND;
+            }
+            throw e;
+        }
+        // The existing participant's id, or the new one which is committed
+        participant.setParticipantId(participantId);
+        if (!registered) {
+            return RegistrationOutcome.ALREADY_REGISTERED;
         }
+        return added ? RegistrationOutcome.PARTICIPANT_ADDED : RegistrationOutcome.PARTICIPANT_REGISTERED;
+    }
+
+    // Inserts or merges a row, returns false when it existed already, whether reported as a count or as an error
+    private static boolean insertRow(Connection connection, String sql, Object... values) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            if (isDuplicateKey(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static long participantIdByEmail(Connection connection, String email) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_PARTICIPANT_ID)) {
+            statement.setString(1, email);
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next()) {
+                    // Deleted between the upsert and the query
+                    throw new SQLException("Participant with email " + email + " disappeared during its registration");
+                }
+                return result.getLong(1);
+            }
+        }
+    }
+
+    // The registration as a command, which can run again after its group was rolled back. Like enroll, it inserts
+    // the single association row, without loading the event and its participants.
+    private static GroupCommitPipeline.Command registration(ParticipantModel participant, long eventId) {
+        boolean newParticipant = participant.getParticipantId() == null;
+        return session -> {
+            if (newParticipant) {
+                // Forgets the id of a rolled back run, the identity insert sets the new one right away
+                participant.setParticipantId(null);
+                session.save(participant);
+            }
+            long participantId = participant.getParticipantId();
+            if (!session.doReturningWork(connection -> insertRegistration(connection, eventId, participantId))) {
+                throw new HibernateException("Event " + eventId + " or participant " + participantId + " doesn't exist");
+            }
+        };
+    }
+
+    // Inserts the association row, returns false when the event or the participant doesn't exist. A duplicate
+    // registration fails.
+    private static boolean insertRegistration(Connection connection, long eventId, long participantId)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_REGISTRATION)) {
+            statement.setLong(1, eventId);
+            statement.setLong(2, participantId);
+            statement.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            if (e.getErrorCode() == MYSQL_NO_REFERENCED_ROW || H2_NO_REFERENCED_ROW.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // The failure is logged by the caller, which waits for the registration
+    private static void completeRegistration(CompletableFuture<Void> registered, Throwable failure) {
+        if (failure == null) {
+            registered.complete(null);
+            return;
+        }
+        SQLException duplicate = duplicateKey(failure);
+        if (duplicate != null) {
+            registered.completeExceptionally(
+                    new ConstraintViolationException("Participant or registration already exists.", duplicate, null));
+        } else {
+            registered.completeExceptionally(new HibernateException("Could not register participant.", failure));
+        }
+    }
+
+    // The duplicate key error which caused the failure, null when it has another cause
+    private static SQLException duplicateKey(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && isDuplicateKey((SQLException) cause)) {
+                return (SQLException) cause;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        return e.getErrorCode() == MYSQL_DUPLICATE_ENTRY || H2_DUPLICATE_KEY.equals(e.getSQLState());
+    }
+
+    // Adds the email to the filter before it is committed, so that no reader sees the row before the filter has it
+    private void rememberEmail(ParticipantModel participant) {
+        if (participant != null) {
+            rememberEmail(participant.getParticipantEmail());
+        }
+    }
+
+    private void rememberEmail(String email) {
+        EmailBloomFilter filter = emailFilter;
+        if (filter != null) {
+            filter.add(email);
+        }
+    }
+
+    // Id of the participant for the flight recorder event, null when there is no participant
+    private static Long participantId(ParticipantModel participant) {
+        return participant == null ? null : participant.getParticipantId();
     }
-}
\ No newline at end of file
+}
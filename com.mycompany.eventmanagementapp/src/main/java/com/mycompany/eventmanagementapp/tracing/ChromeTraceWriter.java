@@ -0,0 +1,130 @@
+/**
+ * ChromeTraceWriter writes spans in the Chrome Trace Event Format (a JSON object with a "traceEvents" array),
+ * the de facto standard understood by chrome://tracing, Perfetto and Speedscope.
+ *
+ * - Every span is a complete event ("ph":"X") on the row of its thread, timestamps and durations are in
+ *   microseconds since the origin of the Tracer. The trace, span and parent ids and the span attributes are
+ *   written as its arguments.
+ * - A span which crossed threads (see Tracer.wrap) also gets a flow ("ph":"s" on the submitting thread,
+ *   "ph":"f" on its own), drawn as an arrow from the submitting thread to the span.
+ * - The thread names are written as metadata events ("ph":"M").
+ */
+
+package com.mycompany.eventmanagementapp.tracing;
+
+import java.util.Map;
+import java.util.List;
+import java.io.Writer;
+import java.util.Locale;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.nio.charset.StandardCharsets;
+
+class ChromeTraceWriter {
+
+	private static final int PROCESS_ID = 1;
+
+	private final long originNanos;
+
+	ChromeTraceWriter(long originNanos) {
+		this.originNanos = originNanos;
+	}
+
+	Path write(List<Span> spans, Path file) throws IOException {
+		Path target = file.toAbsolutePath();
+		if (target.getParent() != null) {
+			Files.createDirectories(target.getParent());
+		}
+		try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+			write(spans, writer);
+		}
+		return target;
+	}
+
+	void write(List<Span> spans, Writer writer) throws IOException {
+		writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+		Map<Long, String> threads = new LinkedHashMap<>();
+		boolean first = true;
+		for (Span span : spans) {
+			threads.putIfAbsent(span.getThreadId(), span.getThreadName());
+			first = separate(writer, first);
+			writeSpan(span, writer);
+			if (span.getFlowId() != 0) {
+				writer.write(",\n");
+				writer.write(String.format(Locale.ROOT,
+						"{\"name\":\"thread hop\",\"cat\":\"flow\",\"ph\":\"s\",\"id\":%d,\"ts\":%s,\"pid\":%d,\"tid\":%d}",
+						span.getFlowId(), micros(span.getFlowNanos()), PROCESS_ID, span.getFlowThreadId()));
+				writer.write(",\n");
+				writer.write(String.format(Locale.ROOT,
+						"{\"name\":\"thread hop\",\"cat\":\"flow\",\"ph\":\"f\",\"bp\":\"e\",\"id\":%d,\"ts\":%s,\"pid\":%d,\"tid\":%d}",
+						span.getFlowId(), micros(span.getStartNanos()), PROCESS_ID, span.getThreadId()));
+			}
+		}
+		for (Map.Entry<Long, String> thread : threads.entrySet()) {
+			first = separate(writer, first);
+			writer.write(String.format(Locale.ROOT,
+					"{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":%d,\"tid\":%d,\"args\":{\"name\":%s}}", PROCESS_ID,
+					thread.getKey(), quote(thread.getValue())));
+		}
+		writer.write("]}\n");
+	}
+
+	private void writeSpan(Span span, Writer writer) throws IOException {
+		StringBuilder args = new StringBuilder().append("\"trace\":").append(span.getTraceId()).append(",\"span\":")
+				.append(span.getSpanId()).append(",\"parent\":").append(span.getParentId());
+		for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+			Object value = attribute.getValue();
+			args.append(',').append(quote(attribute.getKey())).append(':').append(
+					value instanceof Number || value instanceof Boolean ? value.toString() : quote(String.valueOf(value)));
+		}
+		writer.write(String.format(Locale.ROOT,
+				"{\"name\":%s,\"cat\":%s,\"ph\":\"X\",\"ts\":%s,\"dur\":%s,\"pid\":%d,\"tid\":%d,\"args\":{%s}}",
+				quote(span.getName()), quote(span.getCategory()), micros(span.getStartNanos()),
+				String.format(Locale.ROOT, "%.3f", span.getDurationNanos() / 1000.0), PROCESS_ID, span.getThreadId(),
+				args));
+	}
+
+	private static boolean separate(Writer writer, boolean first) throws IOException {
+		if (!first) {
+			writer.write(",\n");
+		}
+		return false;
+	}
+
+	private String micros(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", (nanos - originNanos) / 1000.0);
+	}
+
+	static String quote(String text) {
+		StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '"':
+				quoted.append("\\\"");
+				break;
+			case '\\':
+				quoted.append("\\\\");
+				break;
+			case '\n':
+				quoted.append("\\n");
+				break;
+			case '\r':
+				quoted.append("\\r");
+				break;
+			case '\t':
+				quoted.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					quoted.append(String.format("\\u%04x", (int) c));
+				} else {
+					quoted.append(c);
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ * Span is one timed step of a traced user action, for example a button click on the Event Dispatch Thread,
+ * a controller operation or a repository call (see Tracer).
+ *
+ * A span belongs to the trace of its parent, or starts a new trace when it has no parent. It is opened by
+ * Tracer.start, becomes the current span of its thread, and is finished by close, which restores the span
+ * that was current before. Spans started by a task wrapped with Tracer.wrap remember the thread that
+ * submitted the task, so that the thread hop can be drawn as a flow arrow.
+ *
+ * Spans are only used by the thread that opened them until they are closed, they are not thread-safe.
+ */
+
+package com.mycompany.eventmanagementapp.tracing;
+
+import java.util.Map;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+
+public final class Span implements AutoCloseable {
+
+	// Returned while tracing is disabled, records nothing
+	static final Span NO_SPAN = new Span(null, 0, 0, 0, "", "", null, 0);
+
+	private final Tracer tracer;
+
+	private final long traceId;
+
+	private final long spanId;
+
+	private final long parentId;
+
+	private final String category;
+
+	private final String name;
+
+	private final Span previous;
+
+	private final long startNanos;
+
+	private final String threadName = Thread.currentThread().getName();
+
+	private final long threadId = Thread.currentThread().getId();
+
+	private long endNanos = -1;
+
+	private Map<String, Object> attributes = Collections.emptyMap();
+
+	// Thread and time the task running this span was submitted from, when it crossed threads
+	private long flowId;
+
+	private long flowThreadId;
+
+	private long flowNanos;
+
+	Span(Tracer tracer, long traceId, long spanId, long parentId, String category, String name, Span previous,
+			long startNanos) {
+		this.tracer = tracer;
+		this.traceId = traceId;
+		this.spanId = spanId;
+		this.parentId = parentId;
+		this.category = category;
+		this.name = name;
+		this.previous = previous;
+		this.startNanos = startNanos;
+	}
+
+	public boolean isRecording() {
+		return tracer != null;
+	}
+
+	// Adds a key/value pair shown with the span in the trace viewer
+	public Span setAttribute(String key, Object value) {
+		if (isRecording()) {
+			if (attributes.isEmpty()) {
+				attributes = new LinkedHashMap<>();
+			}
+			attributes.put(key, value);
+		}
+		return this;
+	}
+
+	void setFlow(long flowId, long flowThreadId, long flowNanos) {
+		this.flowId = flowId;
+		this.flowThreadId = flowThreadId;
+		this.flowNanos = flowNanos;
+	}
+
+	@Override
+	public void close() {
+		finish(System.nanoTime());
+	}
+
+	void finish(long endNanos) {
+		if (isRecording() && this.endNanos < 0) {
+			this.endNanos = endNanos;
+			tracer.finish(this);
+		}
+	}
+
+	Span getPrevious() {
+		return previous;
+	}
+
+	public long getTraceId() {
+		return traceId;
+	}
+
+	public long getSpanId() {
+		return spanId;
+	}
+
+	public long getParentId() {
+		return parentId;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getThreadName() {
+		return threadName;
+	}
+
+	public long getThreadId() {
+		return threadId;
+	}
+
+	public long getStartNanos() {
+		return startNanos;
+	}
+
+	public long getEndNanos() {
+		return endNanos;
+	}
+
+	public long getDurationNanos() {
+		return endNanos - startNanos;
+	}
+
+	public Map<String, Object> getAttributes() {
+		return Collections.unmodifiableMap(attributes);
+	}
+
+	public long getFlowId() {
+		return flowId;
+	}
+
+	public long getFlowThreadId() {
+		return flowThreadId;
+	}
+
+	public long getFlowNanos() {
+		return flowNanos;
+	}
+
+	@Override
+	public String toString() {
+		return category + ":" + name + " [trace " + traceId + ", span " + spanId + ", parent " + parentId + "]";
+	}
+}
@@ -0,0 +1,141 @@
+/**
+ * Tracer is a minimal in-process tracing facility following a user action from the button click to the database
+ * and back to the view, enabled with the "--trace" option.
+ *
+ * - Tracer.start opens a Span which becomes the current span of the thread, nested spans are its children.
+ *   The view opens a span for every button click, the FlightRecorderProbe opens one for every controller
+ *   operation and repository call.
+ * - Tracer.wrap carries the current span over a thread hop: the wrapped task runs in a child span on the thread
+ *   executing it, which records how long the task was queued. The view wraps the worker thread started by a
+ *   click, the ViewUpdateScheduler wraps the updates sent back to the Event Dispatch Thread.
+ * - Finished spans are kept in memory, up to a maximum after which new spans are dropped and counted, and are
+ *   written as a Chrome trace (see ChromeTraceWriter) which chrome://tracing, Perfetto or Speedscope can open.
+ *
+ * While tracing is disabled, start returns a shared no-op span and wrap returns the task itself, so the
+ * instrumented code only pays one volatile read.
+ */
+
+package com.mycompany.eventmanagementapp.tracing;
+
+import java.util.List;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class Tracer {
+
+	public static final int DEFAULT_MAX_SPANS = 100_000;
+
+	private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+	private static volatile Tracer instance;
+
+	private final int maxSpans;
+
+	// Time all the timestamps of the trace are relative to
+	private final long originNanos = System.nanoTime();
+
+	private final AtomicLong ids = new AtomicLong();
+
+	private final ConcurrentLinkedQueue<Span> finishedSpans = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger finishedCount = new AtomicInteger();
+
+	private final AtomicLong droppedSpans = new AtomicLong();
+
+	Tracer(int maxSpans) {
+		this.maxSpans = maxSpans;
+	}
+
+	// Starts collecting spans, forgetting those collected before
+	public static void enable(int maxSpans) {
+		instance = new Tracer(maxSpans);
+	}
+
+	public static void disable() {
+		instance = null;
+		CURRENT.remove();
+	}
+
+	public static boolean isEnabled() {
+		return instance != null;
+	}
+
+	// Opens a span as a child of the current span of this thread
+	public static Span start(String category, String name) {
+		Tracer tracer = instance;
+		if (tracer == null) {
+			return Span.NO_SPAN;
+		}
+		Span parent = CURRENT.get();
+		long spanId = tracer.ids.incrementAndGet();
+		boolean sameTrace = parent != null && parent.isRecording();
+		Span span = new Span(tracer, sameTrace ? parent.getTraceId() : spanId, spanId,
+				sameTrace ? parent.getSpanId() : 0, category, name, parent, System.nanoTime());
+		CURRENT.set(span);
+		return span;
+	}
+
+	public static Span current() {
+		Span span = CURRENT.get();
+		return span == null ? Span.NO_SPAN : span;
+	}
+
+	// Runs the task in a child span of the current span, on whichever thread executes it
+	public static Runnable wrap(String name, Runnable task) {
+		Tracer tracer = instance;
+		Span parent = CURRENT.get();
+		if (tracer == null || parent == null || !parent.isRecording()) {
+			return task;
+		}
+		long flowId = tracer.ids.incrementAndGet();
+		long submitThreadId = Thread.currentThread().getId();
+		long submitNanos = System.nanoTime();
+		return () -> {
+			Span previous = CURRENT.get();
+			CURRENT.set(parent);
+			try (Span span = start("async", name)) {
+				span.setFlow(flowId, submitThreadId, submitNanos);
+				span.setAttribute("queuedMicros", (span.getStartNanos() - submitNanos) / 1000);
+				task.run();
+			} finally {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	void finish(Span span) {
+		if (CURRENT.get() == span) {
+			CURRENT.set(span.getPrevious());
+		}
+		if (finishedCount.incrementAndGet() > maxSpans) {
+			finishedCount.decrementAndGet();
+			droppedSpans.incrementAndGet();
+			return;
+		}
+		finishedSpans.add(span);
+	}
+
+	// The finished spans, in the order they finished
+	public static List<Span> finishedSpans() {
+		Tracer tracer = instance;
+		return tracer == null ? new ArrayList<>() : new ArrayList<>(tracer.finishedSpans);
+	}
+
+	public static long droppedSpans() {
+		Tracer tracer = instance;
+		return tracer == null ? 0 : tracer.droppedSpans.get();
+	}
+
+	// Writes the finished spans as a Chrome trace and returns the absolute path of the file
+	public static Path exportTo(Path file) throws IOException {
+		Tracer tracer = instance;
+		if (tracer == null) {
+			throw new IllegalStateException("Tracing is not enabled.");
+		}
+		return new ChromeTraceWriter(tracer.originNanos).write(new ArrayList<>(tracer.finishedSpans), file);
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * DiagnosticsDialog shows the end to end latency of the user actions measured by an InteractionLatencyRecorder:
+ * the number of times each action ran, how many ended with an error, and its mean, p50, p90, p95, p99 and maximum
+ * latency in milliseconds, from the click to the painted view update.
+ *
+ * The dialog is opened with Ctrl+Shift+D on the event and participant screens (see installShortcut). It offers:
+ * - Refresh: Reads the histograms again, they keep being updated while the dialog is open.
+ * - Reset: Clears the histograms, for example before measuring a scenario.
+ * - Export CSV: Writes the table as CSV to a file chosen by the user, for capacity planning.
+ */
+
+package com.mycompany.eventmanagementapp.view.screen;
+
+import java.awt.Frame;
+import java.nio.file.Path;
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import javax.swing.JTable;
+import javax.swing.JPanel;
+import javax.swing.JFrame;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.KeyStroke;
+import java.io.File;
+import javax.swing.JComponent;
+import javax.swing.JScrollPane;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import java.awt.event.KeyEvent;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import javax.swing.AbstractAction;
+import javax.swing.BorderFactory;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import javax.swing.table.DefaultTableModel;
+
+import com.mycompany.eventmanagementapp.metrics.LatencyHistogram;
+import com.mycompany.eventmanagementapp.metrics.OperationMetrics;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+
+public class DiagnosticsDialog extends JDialog {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final String SHOW_DIAGNOSTICS = "showDiagnostics";
+
+	private static final String[] COLUMNS = { "Action", "Count", "Errors", "Mean (ms)", "p50 (ms)", "p90 (ms)", "p95 (ms)",
+			"p99 (ms)", "Max (ms)" };
+
+	private final transient InteractionLatencyRecorder recorder;
+
+	private final DefaultTableModel tableModel = new DefaultTableModel(COLUMNS, 0) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public boolean isCellEditable(int row, int column) {
+			return false;
+		}
+	};
+
+	public DiagnosticsDialog(Frame owner, InteractionLatencyRecorder recorder) {
+		super(owner, "Diagnostics - User Action Latency", false);
+		this.recorder = recorder;
+
+		JTable table = new JTable(tableModel);
+		table.setName("tblLatency");
+		table.setAutoCreateRowSorter(true);
+
+		JButton btnRefresh = new JButton("Refresh");
+		btnRefresh.setName("Refresh");
+		btnRefresh.addActionListener(e -> refresh());
+		JButton btnReset = new JButton("Reset");
+		btnReset.setName("Reset");
+		btnReset.addActionListener(e -> {
+			recorder.reset();
+			refresh();
+		});
+		JButton btnExport = new JButton("Export CSV...");
+		btnExport.setName("Export CSV");
+		btnExport.addActionListener(e -> exportCsv());
+		JButton btnClose = new JButton("Close");
+		btnClose.setName("Close");
+		btnClose.addActionListener(e -> dispose());
+
+		JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 5));
+		buttonPanel.add(btnRefresh);
+		buttonPanel.add(btnReset);
+		buttonPanel.add(btnExport);
+		buttonPanel.add(btnClose);
+
+		JPanel contentPane = new JPanel(new BorderLayout(5, 5));
+		contentPane.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+		contentPane.add(new JScrollPane(table), BorderLayout.CENTER);
+		contentPane.add(buttonPanel, BorderLayout.SOUTH);
+		setContentPane(contentPane);
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		setSize(900, 300);
+		setLocationRelativeTo(owner);
+		refresh();
+	}
+
+	// Opens the dialog for the frame with Ctrl+Shift+D, the recorder is looked up when the dialog opens
+	public static void installShortcut(JFrame frame, Supplier<InteractionLatencyRecorder> recorder) {
+		frame.getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(
+				KeyStroke.getKeyStroke(KeyEvent.VK_D, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK),
+				SHOW_DIAGNOSTICS);
+		frame.getRootPane().getActionMap().put(SHOW_DIAGNOSTICS, new AbstractAction() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				new DiagnosticsDialog(frame, recorder.get()).setVisible(true);
+			}
+		});
+	}
+
+	// Replaces the rows with the current content of the histograms
+	void refresh() {
+		tableModel.setRowCount(0);
+		for (OperationMetrics metrics : recorder.getActions()) {
+			LatencyHistogram latencies = metrics.getLatencies();
+			tableModel.addRow(new Object[] { metrics.getOperation(), metrics.getCalls(), metrics.getErrors(),
+					millis(latencies.getMean()), millis(latencies.getValueAtPercentile(50)),
+					millis(latencies.getValueAtPercentile(90)), millis(latencies.getValueAtPercentile(95)),
+					millis(latencies.getValueAtPercentile(99)), millis(latencies.getMax()) });
+		}
+	}
+
+	private void exportCsv() {
+		JFileChooser chooser = new JFileChooser();
+		chooser.setSelectedFile(new File("ui-latency.csv"));
+		if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+			return;
+		}
+		try {
+			Path file = recorder.exportCsv(chooser.getSelectedFile().toPath());
+			JOptionPane.showMessageDialog(this, "Exported to " + file, getTitle(), JOptionPane.INFORMATION_MESSAGE);
+		} catch (UncheckedIOException e) {
+			JOptionPane.showMessageDialog(this, "Could not export: " + e.getCause().getMessage(), getTitle(),
+					JOptionPane.ERROR_MESSAGE);
+		}
+	}
+
+	// Nanoseconds as milliseconds rounded to a hundredth, sortable as a number
+	private static Double millis(double nanos) {
+		return Math.round(nanos / 1e4) / 100.0;
+	}
+}
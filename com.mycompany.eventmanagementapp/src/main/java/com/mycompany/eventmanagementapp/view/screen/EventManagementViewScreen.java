@@ -10,6 +10,16 @@
  * - Enabling or disabling buttons based on user inputs and event selection.
  * - Displaying error messages related to event management.
  * - Providing navigation to the participant management screen.
+ * - Sorting the event list by date, name, location or participant count and filtering it while typing.
+ *   Sort orders and filter matches are computed off the Event Dispatch Thread by a SortFilterIndex, an added
+ *   event is inserted at its sorted position, or hidden by the filter, until the index has been rebuilt. The list
+ *   stays a JList rather than a sortable JTable, the GUI tests, integration tests and BDD steps address it by name.
+ * - Running the add, update and delete actions on the workers of an OperationExecutor, each click starting a trace
+ *   when tracing is enabled (see Tracer). The reloads, requested after an error, by the refresh button or when the
+ *   window is activated, run there too, after the waiting writes, and the add, update and delete buttons are
+ *   disabled while the executor's queue is full. The activation which follows showPreloadedEvents reloads nothing.
+ * - Measuring every action from the click to the painted view update (see InteractionLatencyRecorder), the
+ *   latencies are shown by the DiagnosticsDialog opened with Ctrl+Shift+D.
  * 
  * The class uses Java Swing components to build the interface, including JTextFields for event data 
  * input, JList for displaying the event list, and buttons for performing actions like adding, updating, 
@@ -20,11 +30,16 @@
  * <p>
  * The following methods are provided:
  * - showAllEvents: Displays a list of all events.
+ * - showPreloadedEvents: Displays the events loaded at startup.
  * - eventAdded: Notifies the view that an event has been successfully added.
  * - showError: Displays an error message related to an event.
  * - eventDeleted: Notifies the view that an event has been successfully deleted.
  * - eventUpdated: Notifies the view that an event has been successfully updated.
  * - setParticipantView: Sets the participant management view for navigation.
+ * - setParticipantViewProvider: Sets a provider creating the participant management view the first time
+ *   the user navigates to it, so that the screen is not built at startup.
+ * - setLatencyRecorder: Sets the recorder the user actions are measured in, shared by both screens.
+ * - setOperationExecutor: Sets the executor the actions run on, shared by both screens.
  */
 
 package com.mycompany.eventmanagementapp.view.screen;
@@ -32,17 +47,33 @@ package com.mycompany.eventmanagementapp.view.screen;
 import java.awt.*;
 import javax.swing.*;
 import java.util.List;
+import java.util.Objects;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.awt.event.KeyEvent;
 import java.util.regex.Pattern;
 import java.awt.event.KeyAdapter;
 import java.awt.event.WindowEvent;
 import java.util.stream.IntStream;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.awt.event.WindowAdapter;
+import javax.swing.event.DocumentEvent;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentListener;
 
+import com.mycompany.eventmanagementapp.tracing.Span;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
 import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.tracing.Tracer;
 import com.mycompany.eventmanagementapp.view.EventManagementView;
+import com.mycompany.eventmanagementapp.view.utils.SortColumn;
+import com.mycompany.eventmanagementapp.view.utils.SortFilterIndex;
+import com.mycompany.eventmanagementapp.view.utils.OperationExecutor;
+import com.mycompany.eventmanagementapp.view.utils.ViewUpdateScheduler;
+import com.mycompany.eventmanagementapp.view.utils.OperationExecutor.Priority;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder.Interaction;
 import com.mycompany.eventmanagementapp.controller.EventController;
 
 public class EventManagementViewScreen extends JFrame implements EventManagementView {
@@ -69,6 +100,10 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 
 	private JButton btnRefresh;
 
+	private JTextField txtEventFilter;
+
+	private JComboBox<SortColumn<EventModel>> cmbEventSort;
+
 	private JList<EventModel> eventList;
 
 	private DefaultListModel<EventModel> eventListModel;
@@ -78,9 +113,36 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 	private transient EventController eventController;
 
 	private ParticipantManagementViewScreen participantManagementView;
+
+	private transient Supplier<ParticipantManagementViewScreen> participantViewProvider;
 	
 	private static final long DEFAULT_EVENT_ID = -1;
 
+	// Batches controller notifications into one model update and one reload per frame
+	private final transient ViewUpdateScheduler updateScheduler = new ViewUpdateScheduler();
+
+	// Measures the user actions from the click to the painted view update, replaced by the application's recorder
+	private transient InteractionLatencyRecorder latencyRecorder = new InteractionLatencyRecorder(new MetricsRegistry());
+
+	// Runs the add, update, delete and reload operations, replaced by the application's executor
+	private transient OperationExecutor operationExecutor = new OperationExecutor();
+
+	private final transient Runnable saturationListener = () -> SwingUtilities.invokeLater(this::updateWriteButtons);
+
+	private final transient Runnable refreshEvents = () -> operationExecutor.submit(Priority.BACKGROUND,
+			"EventManagementViewScreen.refreshEvents", this::getAllEvents);
+
+	// Set by showPreloadedEvents, the activation which follows does not load the events again
+	private boolean preloaded;
+
+	private static final SortColumn<EventModel> SORT_BY_DATABASE_ORDER = SortColumn.databaseOrder("Database Order");
+
+	// All events received from the controller, the list shows them sorted and filtered.
+	// Replaced (copy on write) on every change, so the index can cache per snapshot.
+	private transient List<EventModel> allEvents = new ArrayList<>();
+
+	private final transient SortFilterIndex<EventModel> eventIndex = new SortFilterIndex<>(this::getDisplayString);
+
 	DefaultListModel<EventModel> getEventListModel() {
 		return eventListModel;
 	}
@@ -89,13 +151,29 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 		this.eventController = eventController;
 	}
 
+	// Records the user actions of this screen in the given recorder, shared with the other screen
+	public void setLatencyRecorder(InteractionLatencyRecorder latencyRecorder) {
+		this.latencyRecorder = latencyRecorder;
+	}
+
+	// Runs the operations of this screen on the given executor, shared with the other screen
+	public void setOperationExecutor(OperationExecutor operationExecutor) {
+		this.operationExecutor.removeSaturationListener(saturationListener);
+		this.operationExecutor = operationExecutor;
+		operationExecutor.addSaturationListener(saturationListener);
+	}
+
 	public EventManagementViewScreen() {
 
 		addWindowListener(new WindowAdapter() {
 			@Override
 			public void windowActivated(WindowEvent e) {
-				eventListModel.removeAllElements();
-				getAllEvents();
+				// The events preloaded at startup are already shown
+				if (preloaded) {
+					preloaded = false;
+					return;
+				}
+				refreshEvents.run();
 			}
 		});
 
@@ -156,12 +234,27 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 		});
 		JScrollPane scrollPane = new JScrollPane(eventList);
 
+		// **Sort and Filter Controls for the Event List**
+		txtEventFilter = new JTextField();
+		txtEventFilter.setName("txtEventFilter");
+		cmbEventSort = new JComboBox<>(createEventSortColumns());
+		cmbEventSort.setName("cmbEventSort");
+		JPanel filterPanelEvent = new JPanel(new GridLayout(1, 4, 5, 5));
+		filterPanelEvent.add(new JLabel("Filter Events:"));
+		filterPanelEvent.add(txtEventFilter);
+		filterPanelEvent.add(new JLabel("Sort By:"));
+		filterPanelEvent.add(cmbEventSort);
+
+		JPanel listPanelEvent = new JPanel(new BorderLayout(5, 5));
+		listPanelEvent.add(filterPanelEvent, BorderLayout.NORTH);
+		listPanelEvent.add(scrollPane, BorderLayout.CENTER);
+
 		gridBagConstraints.fill = GridBagConstraints.BOTH;
 		gridBagConstraints.gridwidth = 2;
 		gridBagConstraints.gridx = 0;
 		gridBagConstraints.gridy = 1;
 		gridBagConstraints.weighty = 1.0;
-		contentPaneEventScreen.add(scrollPane, gridBagConstraints);
+		contentPaneEventScreen.add(listPanelEvent, gridBagConstraints);
 
 		// **Buttons Panel**
 		JPanel buttonPanel = new JPanel(new GridLayout(1, 4, 5, 5));
@@ -217,14 +310,32 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 		contentPaneEventScreen.add(lblErrorEvent, gridBagConstraints);
 
 		// **Button Actions**
-		btnAddEvent.addActionListener(e -> new Thread(this::addEvent).start());
-		btnUpdateEvent.addActionListener(e -> new Thread((this::updateEvent)).start());
-		btnDeleteEvent.addActionListener(e -> new Thread((this::deleteEvent)).start());
-		btnParticipantScreen.addActionListener(e -> openParticipantScreen());
-		btnRefresh.addActionListener(e -> refreshScreen());
+		btnAddEvent.addActionListener(e -> runInBackground("EventManagementViewScreen.addEvent", this::addEvent));
+		btnUpdateEvent.addActionListener(e -> runInBackground("EventManagementViewScreen.updateEvent", this::updateEvent));
+		btnDeleteEvent.addActionListener(e -> runInBackground("EventManagementViewScreen.deleteEvent", this::deleteEvent));
+		btnParticipantScreen.addActionListener(e -> runMeasured("EventManagementViewScreen.openParticipantScreen", this::openParticipantScreen));
+		btnRefresh.addActionListener(e -> runMeasured("EventManagementViewScreen.refresh", this::refreshScreen));
 
 		eventList.addListSelectionListener(e -> updateSelection());
 
+		cmbEventSort.addActionListener(e -> applyEventSortAndFilter());
+		txtEventFilter.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				applyEventSortAndFilter();
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				applyEventSortAndFilter();
+			}
+
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+				applyEventSortAndFilter();
+			}
+		});
+
 		// **Enable Add and Update Button Only When Fields Are Filled**
 		KeyAdapter btnEnabler = new KeyAdapter() {
 			@Override
@@ -237,6 +348,41 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 		txtEventName.addKeyListener(btnEnabler);
 		txtEventLocation.addKeyListener(btnEnabler);
 		txtEventDate.addKeyListener(btnEnabler);
+
+		operationExecutor.addSaturationListener(saturationListener);
+		DiagnosticsDialog.installShortcut(this, () -> latencyRecorder);
+	}
+
+	// Runs a button action on the operation executor, measured and traced (when enabled) from the click
+	private void runInBackground(String action, Runnable task) {
+		Interaction interaction = latencyRecorder.begin(action);
+		try (Span span = Tracer.start("view", action)) {
+			if (!operationExecutor.submit(Priority.WRITE, action,
+					InteractionLatencyRecorder.wrap(interaction, Tracer.wrap(action, task)))) {
+				interaction.fail();
+				lblErrorEvent.setText(OperationExecutor.BUSY_MESSAGE);
+				interaction.complete();
+			}
+		}
+	}
+
+	// Runs a button action on the EDT, measured until the changes it made to the screen are painted
+	private void runMeasured(String action, Runnable task) {
+		Interaction interaction = latencyRecorder.begin(action);
+		InteractionLatencyRecorder.runWithin(interaction, task);
+		interaction.complete();
+	}
+
+	// Submits a model update answering the current user action, which ends once the update is painted
+	private void submitUpdate(Runnable update) {
+		Interaction interaction = InteractionLatencyRecorder.current();
+		updateScheduler.submitUpdate(() -> {
+			try {
+				update.run();
+			} finally {
+				interaction.complete();
+			}
+		});
 	}
 
 	private void toggleAddButton() {
@@ -245,7 +391,8 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 		boolean isEventDateFilled = !txtEventDate.getText().trim().isEmpty()
 				&& isValidDate(txtEventDate.getText().trim());
 
-		btnAddEvent.setEnabled(isEventNameFilled && isEventLocationFilled && isEventDateFilled);
+		btnAddEvent.setEnabled(
+				isEventNameFilled && isEventLocationFilled && isEventDateFilled && !operationExecutor.isSaturated());
 	}
 
 	private void toggleUpdateButton() {
@@ -255,7 +402,15 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 				&& isValidDate(txtEventDate.getText().trim());
 		boolean isEventSelected = !eventList.isSelectionEmpty();
 
-		btnUpdateEvent.setEnabled(isEventSelected && isEventNameFilled && isEventLocationFilled && isEventDateFilled);
+		btnUpdateEvent.setEnabled(isEventSelected && isEventNameFilled && isEventLocationFilled && isEventDateFilled
+				&& !operationExecutor.isSaturated());
+	}
+
+	// Disables the write buttons while the operation executor is saturated, and restores them afterwards
+	private void updateWriteButtons() {
+		toggleAddButton();
+		toggleUpdateButton();
+		btnDeleteEvent.setEnabled(!eventList.isSelectionEmpty() && !operationExecutor.isSaturated());
 	}
 
 	private boolean isValidDate(String date) {
@@ -273,6 +428,11 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 		EventModel event = new EventModel(txtEventName.getText().trim(), LocalDate.parse(txtEventDate.getText().trim()),
 				txtEventLocation.getText().trim());
 		event.setEventId(eventId);
+		// The update only writes the columns of the event, the participants shown are kept
+		EventModel selectedEvent = eventList.getSelectedValue();
+		if (selectedEvent != null) {
+			event.setParticipants(selectedEvent.getParticipants());
+		}
 		eventController.updateEvent(event);
 	}
 
@@ -281,6 +441,9 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 	}
 
 	private void openParticipantScreen() {
+		if (participantManagementView == null && participantViewProvider != null) {
+			participantManagementView = participantViewProvider.get();
+		}
 		participantManagementView.setVisible(true);
 		this.dispose();
 		clearErrorLabel();
@@ -290,7 +453,7 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 	private void refreshScreen() {
 		clearErrorLabel();
 		clearFieldsAndButtons();
-		getAllEvents();
+		refreshEvents.run();
 	}
 
 	private void updateSelection() {
@@ -300,9 +463,10 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 			txtEventName.setText(selectedEvent.getEventName());
 			txtEventLocation.setText(selectedEvent.getEventLocation());
 			txtEventDate.setText(String.valueOf(selectedEvent.getEventDate()));
-			btnAddEvent.setEnabled(true);
-			btnUpdateEvent.setEnabled(true);
-			btnDeleteEvent.setEnabled(true);
+			boolean writable = !operationExecutor.isSaturated();
+			btnAddEvent.setEnabled(writable);
+			btnUpdateEvent.setEnabled(writable);
+			btnDeleteEvent.setEnabled(writable);
 		} else {
 			clearFieldsAndButtons();
 		}
@@ -322,14 +486,34 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 
 	@Override
 	public void showAllEvents(List<EventModel> events) {
+		// The reloads run on the operation executor
+		if (!SwingUtilities.isEventDispatchThread()) {
+			SwingUtilities.invokeLater(() -> showAllEvents(events));
+			return;
+		}
+		allEvents = new ArrayList<>(events);
+		if (isSortOrFilterActive()) {
+			applyEventSortAndFilter();
+			return;
+		}
 		eventListModel.clear();
 		events.stream().forEach(eventListModel::addElement);
 	}
 
+	// Shows the events loaded at startup, before the screen is first activated
+	public void showPreloadedEvents(List<EventModel> events) {
+		preloaded = true;
+		showAllEvents(events);
+	}
+
 	@Override
 	public void eventAdded(EventModel event) {
-		SwingUtilities.invokeLater(() -> {
-			eventListModel.addElement(event);
+		submitUpdate(() -> {
+			int index = addedEventIndex(event);
+			if (index >= 0) {
+				eventListModel.add(index, event);
+			}
+			updateAllEvents(events -> events.add(event));
 			clearErrorLabel();
 			resetFormAndClearEventList();
 		});
@@ -337,16 +521,16 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 
 	@Override
 	public void showError(String message, EventModel event) {
-		SwingUtilities.invokeLater(() -> {
-			lblErrorEvent.setText(message + ": " + event);
-			getAllEvents();
-		});
+		InteractionLatencyRecorder.current().fail();
+		submitUpdate(() -> lblErrorEvent.setText(message + ": " + event));
+		updateScheduler.requestRefresh(refreshEvents);
 	}
 
 	@Override
 	public void eventDeleted(EventModel event) {
-		SwingUtilities.invokeLater(() -> {
+		submitUpdate(() -> {
 			eventListModel.removeElement(event);
+			updateAllEvents(events -> events.remove(event));
 			clearErrorLabel();
 			resetFormAndClearEventList();
 		});
@@ -354,7 +538,7 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 
 	@Override
 	public void eventUpdated(EventModel event) {
-		SwingUtilities.invokeLater(() -> {
+		submitUpdate(() -> {
 			int index = IntStream.range(0, eventListModel.size())
 					.filter(i -> (eventListModel.get(i).getEventId()).equals(event.getEventId())).findFirst()
 					.orElse(-1);
@@ -362,6 +546,8 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 			if (index == -1)
 				return;
 			eventListModel.set(index, event);
+			updateAllEvents(events -> events.replaceAll(
+					existing -> Objects.equals(existing.getEventId(), event.getEventId()) ? event : existing));
 			clearErrorLabel();
 			resetFormAndClearEventList();
 		});
@@ -372,6 +558,11 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 
 	}
 
+	// The participant view is created by the provider on the first navigation to it
+	public void setParticipantViewProvider(Supplier<ParticipantManagementViewScreen> participantViewProvider) {
+		this.participantViewProvider = participantViewProvider;
+	}
+
 	private String getDisplayString(EventModel event) {
 		return event.getEventId() + " | " + event.getEventName() + " | " + event.getEventLocation() + " | "
 				+ event.getEventDate();
@@ -389,4 +580,63 @@ public class EventManagementViewScreen extends JFrame implements EventManagement
 	private void getAllEvents() {
 		eventController.getAllEvents();
 	}
+
+	private static SortColumn<EventModel>[] createEventSortColumns() {
+		@SuppressWarnings("unchecked")
+		SortColumn<EventModel>[] columns = new SortColumn[] { SORT_BY_DATABASE_ORDER,
+				SortColumn.<EventModel>numeric("Date",
+						event -> event.getEventDate() == null ? Long.MIN_VALUE : event.getEventDate().toEpochDay()),
+				SortColumn.<EventModel>text("Name", EventModel::getEventName),
+				SortColumn.<EventModel>text("Location", EventModel::getEventLocation),
+				SortColumn.<EventModel>numeric("Participant Count",
+						event -> event.getParticipants() == null ? 0 : event.getParticipants().size()) };
+		return columns;
+	}
+
+	// Where the added event is shown until the index has been rebuilt: at the position the sort gives it, -1 when
+	// the filter hides it
+	private int addedEventIndex(EventModel event) {
+		if (!isSortOrFilterActive()) {
+			return eventListModel.size();
+		}
+		return eventIndex.insertionIndex(eventListModel, event, getSelectedEventSortColumn(),
+				txtEventFilter.getText());
+	}
+
+	private SortColumn<EventModel> getSelectedEventSortColumn() {
+		@SuppressWarnings("unchecked")
+		SortColumn<EventModel> column = (SortColumn<EventModel>) cmbEventSort.getSelectedItem();
+		return column == null ? SORT_BY_DATABASE_ORDER : column;
+	}
+
+	private boolean isSortOrFilterActive() {
+		return !txtEventFilter.getText().trim().isEmpty() || !getSelectedEventSortColumn().isDatabaseOrder();
+	}
+
+	// Shows all events in database order directly, otherwise lets the index compute the visible rows
+	private void applyEventSortAndFilter() {
+		if (!isSortOrFilterActive()) {
+			eventIndex.cancel();
+			showEventRows(allEvents);
+			return;
+		}
+		eventIndex.update(allEvents, getSelectedEventSortColumn(), txtEventFilter.getText(), this::showEventRows);
+	}
+
+	// Installs a freshly filled model in one step instead of firing one list event per row
+	private void showEventRows(List<EventModel> rows) {
+		DefaultListModel<EventModel> model = new DefaultListModel<>();
+		rows.forEach(model::addElement);
+		eventListModel = model;
+		eventList.setModel(model);
+	}
+
+	private void updateAllEvents(Consumer<List<EventModel>> change) {
+		List<EventModel> events = new ArrayList<>(allEvents);
+		change.accept(events);
+		allEvents = events;
+		if (isSortOrFilterActive()) {
+			applyEventSortAndFilter();
+		}
+	}
 }
\ No newline at end of file
@@ -13,6 +13,19 @@
  * - View participants and their events
  * - Display error messages and notifications
  * - Event-driven design with listeners for buttons and list selection changes
+ * - Controller notifications are coalesced by a ViewUpdateScheduler, so a burst of operations
+ *   results in one list update per frame and a single reload of the event and participant lists
+ * - Sorting the participant list by name, email or number of events and filtering it while typing,
+ *   with sort orders and filter matches computed off the Event Dispatch Thread by a SortFilterIndex. An added
+ *   participant is inserted at its sorted position, or hidden by the filter, until the index has been rebuilt.
+ *   The list stays a JList rather than a sortable JTable, the GUI tests, integration tests and BDD steps
+ *   address it by name
+ * - Add, update and delete run on the workers of the OperationExecutor shared with the event screen, traced from
+ *   the click to the view update (see Tracer). The reloads requested after a change, by the refresh button or
+ *   when the window is activated run there too, after the waiting writes, and the write buttons are disabled
+ *   while the executor's queue is full. The lists shown until then are replaced once the reload completes
+ * - Every action is measured from the click to the painted view update (see InteractionLatencyRecorder), the
+ *   latencies are shown by the DiagnosticsDialog opened with Ctrl+Shift+D
  */
 
 package com.mycompany.eventmanagementapp.view.screen;
@@ -20,17 +33,32 @@ package com.mycompany.eventmanagementapp.view.screen;
 import java.awt.*;
 import javax.swing.*;
 import java.util.List;
+import java.util.Objects;
+import java.util.ArrayList;
 import java.awt.event.KeyEvent;
 import java.util.regex.Pattern;
 import java.awt.event.KeyAdapter;
 import java.awt.event.WindowEvent;
 import java.util.stream.IntStream;
+import java.util.function.Consumer;
 import java.awt.event.WindowAdapter;
+import javax.swing.event.DocumentEvent;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentListener;
 
+import com.mycompany.eventmanagementapp.tracing.Span;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
 import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.tracing.Tracer;
 import com.mycompany.eventmanagementapp.model.ParticipantModel;
 import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
+import com.mycompany.eventmanagementapp.view.utils.SortColumn;
+import com.mycompany.eventmanagementapp.view.utils.SortFilterIndex;
+import com.mycompany.eventmanagementapp.view.utils.OperationExecutor;
+import com.mycompany.eventmanagementapp.view.utils.OperationExecutor.Priority;
+import com.mycompany.eventmanagementapp.view.utils.ViewUpdateScheduler;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder.Interaction;
 import com.mycompany.eventmanagementapp.controller.ParticipantController;
 
 public class ParticipantManagementViewScreen extends JFrame implements ParticipantManagementView {
@@ -57,6 +85,10 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 
 	private JButton btnRefresh;
 
+	private JTextField txtParticipantFilter;
+
+	private JComboBox<SortColumn<ParticipantModel>> cmbParticipantSort;
+
 	private JList<ParticipantModel> participantList;
 
 	private DefaultListModel<ParticipantModel> participantListModel;
@@ -71,6 +103,33 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 
 	private EventManagementViewScreen eventManagementView;
 
+	// Batches controller notifications into one model update and one reload per frame
+	private final transient ViewUpdateScheduler updateScheduler = new ViewUpdateScheduler();
+
+	// Measures the user actions from the click to the painted view update, replaced by the application's recorder
+	private transient InteractionLatencyRecorder latencyRecorder = new InteractionLatencyRecorder(new MetricsRegistry());
+
+	// Runs the add, update, delete and reload operations, replaced by the application's executor
+	private transient OperationExecutor operationExecutor = new OperationExecutor();
+
+	private final transient Runnable saturationListener = () -> SwingUtilities.invokeLater(this::updateWriteButtons);
+
+	private final transient Runnable refreshEvents = () -> operationExecutor.submit(Priority.BACKGROUND,
+			"ParticipantManagementViewScreen.refreshEvents", this::getAllEventsForParticipantScreen);
+
+	private final transient Runnable refreshParticipants = () -> operationExecutor.submit(Priority.BACKGROUND,
+			"ParticipantManagementViewScreen.refreshParticipants", this::getAllParticipants);
+
+	private static final SortColumn<ParticipantModel> SORT_BY_DATABASE_ORDER = SortColumn
+			.databaseOrder("Database Order");
+
+	// All participants received from the controller, the list shows them sorted and filtered.
+	// Replaced (copy on write) on every change, so the index can cache per snapshot.
+	private transient List<ParticipantModel> allParticipants = new ArrayList<>();
+
+	private final transient SortFilterIndex<ParticipantModel> participantIndex = new SortFilterIndex<>(
+			ParticipantModel::toString);
+
 	public DefaultListModel<ParticipantModel> getParticipantListModel() {
 		return participantListModel;
 	}
@@ -79,14 +138,24 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 		this.participantController = participantController;
 	}
 
+	// Records the user actions of this screen in the given recorder, shared with the other screen
+	public void setLatencyRecorder(InteractionLatencyRecorder latencyRecorder) {
+		this.latencyRecorder = latencyRecorder;
+	}
+
+	// Runs the operations of this screen on the given executor, shared with the other screen
+	public void setOperationExecutor(OperationExecutor operationExecutor) {
+		this.operationExecutor.removeSaturationListener(saturationListener);
+		this.operationExecutor = operationExecutor;
+		operationExecutor.addSaturationListener(saturationListener);
+	}
+
 	public ParticipantManagementViewScreen() {
 		addWindowListener(new WindowAdapter() {
 			@Override
 			public void windowActivated(WindowEvent e) {
-				eventListModelForParticipant.removeAllElements();
-				participantListModel.removeAllElements();
-				getAllEventsForParticipantScreen();
-				getAllParticipants();
+				refreshEvents.run();
+				refreshParticipants.run();
 			}
 		});
 
@@ -138,12 +207,27 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 		participantScrollPane.setPreferredSize(new Dimension(350, 150));
 		participantScrollPane.setMinimumSize(new Dimension(350, 150));
 
+		// **Sort and Filter Controls for the Participant List**
+		txtParticipantFilter = new JTextField();
+		txtParticipantFilter.setName("txtParticipantFilter");
+		cmbParticipantSort = new JComboBox<>(createParticipantSortColumns());
+		cmbParticipantSort.setName("cmbParticipantSort");
+		JPanel filterPanel = new JPanel(new GridLayout(2, 2, 5, 5));
+		filterPanel.add(new JLabel("Filter Participants:"));
+		filterPanel.add(txtParticipantFilter);
+		filterPanel.add(new JLabel("Sort By:"));
+		filterPanel.add(cmbParticipantSort);
+
+		JPanel participantListPanel = new JPanel(new BorderLayout(5, 5));
+		participantListPanel.add(filterPanel, BorderLayout.NORTH);
+		participantListPanel.add(participantScrollPane, BorderLayout.CENTER);
+
 		gbc.fill = GridBagConstraints.BOTH;
 		gbc.gridwidth = 1;
 		gbc.gridx = 0;
 		gbc.gridy = 1;
 		gbc.weighty = 1.0;
-		contentPane.add(participantScrollPane, gbc);
+		contentPane.add(participantListPanel, gbc);
 
 		// **Nested Event List for Selected Participant**
 		eventListModelForParticipant = new DefaultListModel<>();
@@ -209,14 +293,32 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 		contentPane.add(lblError, gbc);
 
 		// **Button Actions**
-		btnAddParticipant.addActionListener(e -> new Thread((this::addParticipant)).start());
-		btnUpdateParticipant.addActionListener(e -> new Thread((this::updateParticipant)).start());
-		btnDeleteParticipant.addActionListener(e -> new Thread((this::deleteParticipant)).start());
-		btnEventScreen.addActionListener(e -> openEventScreen());
-		btnRefresh.addActionListener(e -> refreshScreen());
+		btnAddParticipant.addActionListener(e -> runInBackground("ParticipantManagementViewScreen.addParticipant", this::addParticipant));
+		btnUpdateParticipant.addActionListener(e -> runInBackground("ParticipantManagementViewScreen.updateParticipant", this::updateParticipant));
+		btnDeleteParticipant.addActionListener(e -> runInBackground("ParticipantManagementViewScreen.deleteParticipant", this::deleteParticipant));
+		btnEventScreen.addActionListener(e -> runMeasured("ParticipantManagementViewScreen.openEventScreen", this::openEventScreen));
+		btnRefresh.addActionListener(e -> runMeasured("ParticipantManagementViewScreen.refresh", this::refreshScreen));
 
 		participantList.addListSelectionListener(e -> updateSelection());
 
+		cmbParticipantSort.addActionListener(e -> applyParticipantSortAndFilter());
+		txtParticipantFilter.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				applyParticipantSortAndFilter();
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				applyParticipantSortAndFilter();
+			}
+
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+				applyParticipantSortAndFilter();
+			}
+		});
+
 		eventListForParticipant.addListSelectionListener(e -> updateEventSelection());
 
 		// **Enable Add and Update Button Only When Fields Are Filled**
@@ -231,6 +333,41 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 		txtParticipantName.addKeyListener(btnEnabler);
 		txtParticipantEmail.addKeyListener(btnEnabler);
 		txtEventId.addKeyListener(btnEnabler);
+
+		operationExecutor.addSaturationListener(saturationListener);
+		DiagnosticsDialog.installShortcut(this, () -> latencyRecorder);
+	}
+
+	// Runs a button action on the operation executor, measured and traced (when enabled) from the click
+	private void runInBackground(String action, Runnable task) {
+		Interaction interaction = latencyRecorder.begin(action);
+		try (Span span = Tracer.start("view", action)) {
+			if (!operationExecutor.submit(Priority.WRITE, action,
+					InteractionLatencyRecorder.wrap(interaction, Tracer.wrap(action, task)))) {
+				interaction.fail();
+				lblError.setText(OperationExecutor.BUSY_MESSAGE);
+				interaction.complete();
+			}
+		}
+	}
+
+	// Runs a button action on the EDT, measured until the changes it made to the screen are painted
+	private void runMeasured(String action, Runnable task) {
+		Interaction interaction = latencyRecorder.begin(action);
+		InteractionLatencyRecorder.runWithin(interaction, task);
+		interaction.complete();
+	}
+
+	// Submits a model update answering the current user action, which ends once the update is painted
+	private void submitUpdate(Runnable update) {
+		Interaction interaction = InteractionLatencyRecorder.current();
+		updateScheduler.submitUpdate(() -> {
+			try {
+				update.run();
+			} finally {
+				interaction.complete();
+			}
+		});
 	}
 
 	private void toggleAddButton() {
@@ -238,7 +375,8 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 		boolean isParticipantEmailFilled = !txtParticipantEmail.getText().trim().isEmpty();
 		boolean isEventIdFilled = !txtEventId.getText().trim().isEmpty() && isValidNumber(txtEventId.getText().trim());
 
-		btnAddParticipant.setEnabled(isParticipantNameFilled && isParticipantEmailFilled && isEventIdFilled);
+		btnAddParticipant.setEnabled(isParticipantNameFilled && isParticipantEmailFilled && isEventIdFilled
+				&& !operationExecutor.isSaturated());
 	}
 
 	private void toggleUpdateButton() {
@@ -246,7 +384,15 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 		boolean isParticipantEmailFilled = !txtParticipantEmail.getText().trim().isEmpty();
 		boolean isParticipantSelected = !participantList.isSelectionEmpty();
 
-		btnUpdateParticipant.setEnabled(isParticipantNameFilled && isParticipantEmailFilled && isParticipantSelected);
+		btnUpdateParticipant.setEnabled(isParticipantNameFilled && isParticipantEmailFilled && isParticipantSelected
+				&& !operationExecutor.isSaturated());
+	}
+
+	// Disables the write buttons while the operation executor is saturated, and restores them afterwards
+	private void updateWriteButtons() {
+		toggleAddButton();
+		toggleUpdateButton();
+		updateEventSelection();
 	}
 
 	private boolean isValidNumber(String text) {
@@ -288,8 +434,8 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 	private void refreshScreen() {
 		clearParticipantErrorLabel();
 		clearParticipantFieldsAndButtons();
-		getAllParticipants();
-		getAllEventsForParticipantScreen();
+		refreshParticipants.run();
+		refreshEvents.run();
 	}
 
 	private void clearParticipantFieldsAndButtons() {
@@ -314,7 +460,7 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 
 			clearEventListModel();
 			selectedParticipant.getEvents().stream().forEach(eventListModelForParticipant::addElement);
-			btnUpdateParticipant.setEnabled(true);
+			btnUpdateParticipant.setEnabled(!operationExecutor.isSaturated());
 		} else {
 			btnUpdateParticipant.setEnabled(false);
 			clearParticipantFieldsAndButtons();
@@ -324,46 +470,66 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 	private void updateEventSelection() {
 		EventModel selectedEvent = eventListForParticipant.getSelectedValue();
 		ParticipantModel selectedParticipant = participantList.getSelectedValue();
-		btnDeleteParticipant.setEnabled(selectedParticipant != null && selectedEvent != null);
+		btnDeleteParticipant.setEnabled(
+				selectedParticipant != null && selectedEvent != null && !operationExecutor.isSaturated());
 	}
 
 	// **Implementing All Required Methods from ParticipantManagementView**
 	@Override
 	public void showAllParticipants(List<ParticipantModel> participants) {
+		// The reloads run on the operation executor
+		if (!SwingUtilities.isEventDispatchThread()) {
+			SwingUtilities.invokeLater(() -> showAllParticipants(participants));
+			return;
+		}
+		allParticipants = new ArrayList<>(participants);
+		if (isSortOrFilterActive()) {
+			applyParticipantSortAndFilter();
+			return;
+		}
 		participantListModel.clear();
 		participants.stream().forEach(participantListModel::addElement);
 	}
 
 	@Override
 	public void showAllEvents(List<EventModel> events) {
+		if (!SwingUtilities.isEventDispatchThread()) {
+			SwingUtilities.invokeLater(() -> showAllEvents(events));
+			return;
+		}
 		clearEventListModel();
 		events.stream().forEach(eventListModelForParticipant::addElement);
 	}
 
 	@Override
 	public void participantAdded(ParticipantModel participant) {
-		SwingUtilities.invokeLater(() -> {
-			participantListModel.addElement(participant);
+		submitUpdate(() -> {
+			int index = addedParticipantIndex(participant);
+			if (index >= 0) {
+				participantListModel.add(index, participant);
+			}
+			updateAllParticipants(participants -> participants.add(participant));
 			clearParticipantErrorLabel();
-			getAllEventsForParticipantScreen();
 			clearParticipantFieldsAndButtons();
 		});
+		updateScheduler.requestRefresh(refreshEvents);
 	}
 
 	@Override
 	public void participantDeleted(ParticipantModel participant) {
-		SwingUtilities.invokeLater(() -> {
+		submitUpdate(() -> {
 			participantListModel.removeElement(participant);
+			updateAllParticipants(participants -> participants.remove(participant));
 			clearParticipantErrorLabel();
-			getAllEventsForParticipantScreen();
 			participantList.clearSelection();
 			clearParticipantFieldsAndButtons();
 		});
+		updateScheduler.requestRefresh(refreshEvents);
 	}
 
 	@Override
 	public void participantUpdated(ParticipantModel participant) {
-		SwingUtilities.invokeLater(() -> {
+		submitUpdate(() -> {
 			int index = IntStream.range(0, participantListModel.size()).filter(
 					i -> (participantListModel.get(i).getParticipantId()).equals(participant.getParticipantId()))
 					.findFirst().orElse(-1);
@@ -371,20 +537,21 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 			if (index == -1)
 				return;
 			participantListModel.set(index, participant);
+			updateAllParticipants(participants -> participants.replaceAll(existing -> Objects
+					.equals(existing.getParticipantId(), participant.getParticipantId()) ? participant : existing));
 			clearParticipantErrorLabel();
-			getAllEventsForParticipantScreen();
 			participantList.clearSelection();
 			clearParticipantFieldsAndButtons();
 		});
+		updateScheduler.requestRefresh(refreshEvents);
 	}
 
 	@Override
 	public void showError(String message, ParticipantModel participant) {
-		SwingUtilities.invokeLater(() -> {
-			lblError.setText(message + ": " + participant);
-			getAllEventsForParticipantScreen();
-			getAllParticipants();
-		});
+		InteractionLatencyRecorder.current().fail();
+		submitUpdate(() -> lblError.setText(message + ": " + participant));
+		updateScheduler.requestRefresh(refreshEvents);
+		updateScheduler.requestRefresh(refreshParticipants);
 	}
 
 	public void setEventView(EventManagementViewScreen eventView) {
@@ -406,4 +573,63 @@ public class ParticipantManagementViewScreen extends JFrame implements Participa
 	private void clearParticipantErrorLabel() {
 		lblError.setText(" ");
 	}
+
+	private static SortColumn<ParticipantModel>[] createParticipantSortColumns() {
+		@SuppressWarnings("unchecked")
+		SortColumn<ParticipantModel>[] columns = new SortColumn[] { SORT_BY_DATABASE_ORDER,
+				SortColumn.<ParticipantModel>text("Name", ParticipantModel::getParticipantName),
+				SortColumn.<ParticipantModel>text("Email", ParticipantModel::getParticipantEmail),
+				SortColumn.<ParticipantModel>numeric("Event Count",
+						participant -> participant.getEvents() == null ? 0 : participant.getEvents().size()) };
+		return columns;
+	}
+
+	// Where the added participant is shown until the index has been rebuilt: at the position the sort gives it, -1
+	// when the filter hides it
+	private int addedParticipantIndex(ParticipantModel participant) {
+		if (!isSortOrFilterActive()) {
+			return participantListModel.size();
+		}
+		return participantIndex.insertionIndex(participantListModel, participant, getSelectedParticipantSortColumn(),
+				txtParticipantFilter.getText());
+	}
+
+	private SortColumn<ParticipantModel> getSelectedParticipantSortColumn() {
+		@SuppressWarnings("unchecked")
+		SortColumn<ParticipantModel> column = (SortColumn<ParticipantModel>) cmbParticipantSort.getSelectedItem();
+		return column == null ? SORT_BY_DATABASE_ORDER : column;
+	}
+
+	private boolean isSortOrFilterActive() {
+		return !txtParticipantFilter.getText().trim().isEmpty()
+				|| !getSelectedParticipantSortColumn().isDatabaseOrder();
+	}
+
+	// Shows all participants in database order directly, otherwise lets the index compute the visible rows
+	private void applyParticipantSortAndFilter() {
+		if (!isSortOrFilterActive()) {
+			participantIndex.cancel();
+			showParticipantRows(allParticipants);
+			return;
+		}
+		participantIndex.update(allParticipants, getSelectedParticipantSortColumn(), txtParticipantFilter.getText(),
+				this::showParticipantRows);
+	}
+
+	// Installs a freshly filled model in one step instead of firing one list event per row
+	private void showParticipantRows(List<ParticipantModel> rows) {
+		DefaultListModel<ParticipantModel> model = new DefaultListModel<>();
+		rows.forEach(model::addElement);
+		participantListModel = model;
+		participantList.setModel(model);
+	}
+
+	private void updateAllParticipants(Consumer<List<ParticipantModel>> change) {
+		List<ParticipantModel> participants = new ArrayList<>(allParticipants);
+		change.accept(participants);
+		allParticipants = participants;
+		if (isSortOrFilterActive()) {
+			applyParticipantSortAndFilter();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+/**
+ * StartupSplashScreen is the small undecorated window shown while the application starts.
+ *
+ * It is displayed as soon as the application is launched, while the Hibernate SessionFactory is built
+ * and the initial events and participants are loaded on background threads, and it is disposed once the
+ * Event Management Screen becomes visible or the startup fails.
+ */
+
+package com.mycompany.eventmanagementapp.view.screen;
+
+import java.awt.BorderLayout;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JWindow;
+import javax.swing.JProgressBar;
+import javax.swing.SwingConstants;
+import javax.swing.BorderFactory;
+
+public class StartupSplashScreen extends JWindow {
+
+	private static final long serialVersionUID = 1L;
+
+	public StartupSplashScreen() {
+		JPanel contentPane = new JPanel(new BorderLayout(0, 10));
+		contentPane.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
+
+		JLabel lblTitle = new JLabel("Event Management App", SwingConstants.CENTER);
+		lblTitle.setName("lblSplashTitle");
+		contentPane.add(lblTitle, BorderLayout.NORTH);
+
+		JProgressBar progressBar = new JProgressBar();
+		progressBar.setName("splashProgress");
+		progressBar.setIndeterminate(true);
+		progressBar.setString("Loading...");
+		progressBar.setStringPainted(true);
+		contentPane.add(progressBar, BorderLayout.CENTER);
+
+		setContentPane(contentPane);
+		pack();
+		setLocationRelativeTo(null);
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * IntSorter sorts arrays of row indexes with a primitive comparator, so that sort orders for large lists
+ * can be computed without boxing every index into an Integer.
+ *
+ * The sort is a stable merge sort (insertion sort for short runs), which keeps rows with equal keys in
+ * their original (database) order.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+public final class IntSorter {
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	// Compares two row indexes
+	@FunctionalInterface
+	public interface IntComparator {
+		int compare(int left, int right);
+	}
+
+	// Private constructor to prevent instantiation since this is a utility class
+	private IntSorter() {
+	}
+
+	// Returns the identity permutation 0..size-1
+	public static int[] identity(int size) {
+		int[] rows = new int[size];
+		for (int i = 0; i < size; i++) {
+			rows[i] = i;
+		}
+		return rows;
+	}
+
+	// Sorts the given indexes in place using the comparator, equal elements keep their relative order
+	public static void sort(int[] rows, IntComparator comparator) {
+		if (rows.length < 2) {
+			return;
+		}
+		int[] buffer = rows.clone();
+		mergeSort(buffer, rows, 0, rows.length, comparator);
+	}
+
+	// Sorts source[from, to) into target[from, to), both arrays must contain the same values on entry
+	private static void mergeSort(int[] source, int[] target, int from, int to, IntComparator comparator) {
+		int length = to - from;
+		if (length <= INSERTION_SORT_THRESHOLD) {
+			insertionSort(target, from, to, comparator);
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(target, source, from, middle, comparator);
+		mergeSort(target, source, middle, to, comparator);
+
+		// Already ordered halves only need to be copied
+		if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+			System.arraycopy(source, from, target, from, length);
+			return;
+		}
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || (left < middle && comparator.compare(source[left], source[right]) <= 0)) {
+				target[i] = source[left++];
+			} else {
+				target[i] = source[right++];
+			}
+		}
+	}
+
+	private static void insertionSort(int[] rows, int from, int to, IntComparator comparator) {
+		for (int i = from + 1; i < to; i++) {
+			int current = rows[i];
+			int j = i - 1;
+			while (j >= from && comparator.compare(rows[j], current) > 0) {
+				rows[j + 1] = rows[j];
+				j--;
+			}
+			rows[j + 1] = current;
+		}
+	}
+}
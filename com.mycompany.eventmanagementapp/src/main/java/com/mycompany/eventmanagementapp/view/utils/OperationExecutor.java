@@ -0,0 +1,299 @@
+/**
+ * OperationExecutor runs the controller operations triggered by the screens on a fixed number of worker threads,
+ * instead of every button click starting a thread of its own. A user hammering a button, or a scripted client,
+ * therefore queues operations instead of piling up threads which all contend on the controller's monitor.
+ *
+ * - The queue is bounded: submit refuses an operation once capacity operations are waiting, and returns false so
+ *   that the screen can tell the user.
+ * - The executor is saturated from the moment the queue is full until it has drained to half of its capacity. The
+ *   saturation listeners are called on every change, the screens disable their add, update and delete buttons
+ *   meanwhile, so that the user feels the backpressure before an operation is refused.
+ * - WRITE operations (the user's adds, updates and deletes) are taken before BACKGROUND ones (the list reloads the
+ *   screens request after a change), each priority in submission order. A BACKGROUND operation is not queued again
+ *   while the same action is still waiting, the reload which is already queued will read the latest state.
+ * - The time every operation waited in the queue is recorded in the MetricsRegistry as the "executor" operation
+ *   "wait.write" or "wait.background", the queue depth, its peak and the refused operations are exposed over JMX
+ *   (OperationExecutorMXBean, "com.mycompany.eventmanagementapp:type=OperationExecutor").
+ *
+ * The workers are daemon threads, started on demand and stopped after a minute without work.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.Set;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import org.apache.logging.log4j.Logger;
+import java.util.function.LongSupplier;
+import org.apache.logging.log4j.LogManager;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+
+public class OperationExecutor implements OperationExecutorMXBean {
+
+	private static final Logger LOGGER = LogManager.getLogger(OperationExecutor.class);
+
+	public static final String LAYER = "executor";
+
+	public static final int DEFAULT_WORKERS = 2;
+
+	public static final int DEFAULT_CAPACITY = 32;
+
+	// Shown by the screens when an operation is refused
+	public static final String BUSY_MESSAGE = "Too many operations are waiting, please try again in a moment";
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private static final AtomicInteger EXECUTORS = new AtomicInteger();
+
+	public enum Priority {
+		// Declared from the most urgent to the least
+		WRITE, BACKGROUND;
+
+		private final String waitOperation = "wait." + name().toLowerCase(Locale.ROOT);
+	}
+
+	private final int workers;
+
+	private final int capacity;
+
+	private final MetricsRegistry registry;
+
+	private final LongSupplier clock;
+
+	private final ThreadPoolExecutor pool;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final AtomicLong rejected = new AtomicLong();
+
+	private final AtomicLong completed = new AtomicLong();
+
+	private final List<Runnable> saturationListeners = new CopyOnWriteArrayList<>();
+
+	private final Object lock = new Object();
+
+	// Guarded by lock
+	private int queued;
+
+	private int peakQueued;
+
+	private boolean saturated;
+
+	private final Set<String> queuedBackgroundActions = new HashSet<>();
+
+	// Creates an executor with the default workers and capacity, recording in a registry of its own
+	public OperationExecutor() {
+		this(DEFAULT_WORKERS, DEFAULT_CAPACITY, new MetricsRegistry());
+	}
+
+	public OperationExecutor(int workers, int capacity, MetricsRegistry registry) {
+		this(workers, capacity, registry, System::nanoTime);
+	}
+
+	OperationExecutor(int workers, int capacity, MetricsRegistry registry, LongSupplier clock) {
+		if (workers < 1 || capacity < 1) {
+			throw new IllegalArgumentException(
+					"Workers and capacity must be positive: " + workers + " worker(s), capacity " + capacity);
+		}
+		this.workers = workers;
+		this.capacity = capacity;
+		this.registry = registry;
+		this.clock = clock;
+		int executor = EXECUTORS.incrementAndGet();
+		AtomicInteger threads = new AtomicInteger();
+		pool = new ThreadPoolExecutor(workers, workers, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new PriorityBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable,
+							"view-operation-" + executor + "-" + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		pool.allowCoreThreadTimeOut(true);
+	}
+
+	// Queues the operation, returns false when it was refused because the queue is full
+	public boolean submit(Priority priority, String action, Runnable task) {
+		boolean saturationChanged = false;
+		synchronized (lock) {
+			if (priority == Priority.BACKGROUND && queuedBackgroundActions.contains(action)) {
+				return true;
+			}
+			if (queued >= capacity) {
+				rejected.incrementAndGet();
+				LOGGER.warn("Operation {} refused, {} operation(s) are already waiting", action, queued);
+				return false;
+			}
+			if (priority == Priority.BACKGROUND) {
+				queuedBackgroundActions.add(action);
+			}
+			queued++;
+			peakQueued = Math.max(peakQueued, queued);
+			if (!saturated && queued >= capacity) {
+				saturated = true;
+				saturationChanged = true;
+			}
+		}
+		if (saturationChanged) {
+			LOGGER.warn("Operation queue full with {} operation(s), new writes are blocked", capacity);
+			notifySaturationListeners();
+		}
+		try {
+			pool.execute(new QueuedOperation(priority, action, task, sequence.getAndIncrement(), clock.getAsLong()));
+			return true;
+		} catch (RejectedExecutionException e) {
+			LOGGER.warn("Operation {} refused, the executor is shut down", action);
+			dequeued(priority, action);
+			rejected.incrementAndGet();
+			return false;
+		}
+	}
+
+	// Called on every change of isSaturated, on the thread which caused it
+	public void addSaturationListener(Runnable listener) {
+		saturationListeners.add(listener);
+	}
+
+	public void removeSaturationListener(Runnable listener) {
+		saturationListeners.remove(listener);
+	}
+
+	// Stops the workers, the waiting operations are dropped
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	public void registerMBean(MBeanServer server) {
+		try {
+			ObjectName name = new ObjectName(MetricsRegistry.DOMAIN + ":type=OperationExecutor");
+			if (!server.isRegistered(name)) {
+				server.registerMBean(this, name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Could not register the operation executor MBean", e);
+		}
+	}
+
+	@Override
+	public int getQueueDepth() {
+		synchronized (lock) {
+			return queued;
+		}
+	}
+
+	@Override
+	public int getPeakQueueDepth() {
+		synchronized (lock) {
+			return peakQueued;
+		}
+	}
+
+	@Override
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public int getWorkers() {
+		return workers;
+	}
+
+	@Override
+	public boolean isSaturated() {
+		synchronized (lock) {
+			return saturated;
+		}
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return rejected.get();
+	}
+
+	@Override
+	public long getCompletedCount() {
+		return completed.get();
+	}
+
+	private void run(QueuedOperation operation) {
+		dequeued(operation.priority, operation.action);
+		if (registry.isEnabled()) {
+			registry.operation(LAYER, operation.priority.waitOperation).record(clock.getAsLong() - operation.queuedAt,
+					false);
+		}
+		try {
+			operation.task.run();
+		} catch (RuntimeException e) {
+			// Logs the failure, the worker goes on with the next operation
+			LOGGER.error("Operation {} failed", operation.action, e);
+		} finally {
+			completed.incrementAndGet();
+		}
+	}
+
+	private void dequeued(Priority priority, String action) {
+		boolean saturationChanged = false;
+		synchronized (lock) {
+			queued--;
+			if (priority == Priority.BACKGROUND) {
+				queuedBackgroundActions.remove(action);
+			}
+			if (saturated && queued <= capacity / 2) {
+				saturated = false;
+				saturationChanged = true;
+			}
+		}
+		if (saturationChanged) {
+			LOGGER.info("Operation queue drained to {} operation(s), writes are accepted again", capacity / 2);
+			notifySaturationListeners();
+		}
+	}
+
+	private void notifySaturationListeners() {
+		saturationListeners.forEach(Runnable::run);
+	}
+
+	// An operation waiting in the queue, ordered by priority then submission
+	private final class QueuedOperation implements Runnable, Comparable<QueuedOperation> {
+
+		private final Priority priority;
+
+		private final String action;
+
+		private final Runnable task;
+
+		private final long sequenceNumber;
+
+		private final long queuedAt;
+
+		private QueuedOperation(Priority priority, String action, Runnable task, long sequenceNumber, long queuedAt) {
+			this.priority = priority;
+			this.action = action;
+			this.task = task;
+			this.sequenceNumber = sequenceNumber;
+			this.queuedAt = queuedAt;
+		}
+
+		@Override
+		public void run() {
+			OperationExecutor.this.run(this);
+		}
+
+		@Override
+		public int compareTo(QueuedOperation other) {
+			int byPriority = priority.compareTo(other.priority);
+			return byPriority != 0 ? byPriority : Long.compare(sequenceNumber, other.sequenceNumber);
+		}
+	}
+}
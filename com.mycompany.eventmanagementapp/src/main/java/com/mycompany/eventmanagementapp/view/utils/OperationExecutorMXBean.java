@@ -0,0 +1,21 @@
+package com.mycompany.eventmanagementapp.view.utils;
+
+// JMX view of the queue of the OperationExecutor running the operations of the screens
+public interface OperationExecutorMXBean {
+
+	// Operations waiting for a worker
+	int getQueueDepth();
+
+	int getPeakQueueDepth();
+
+	int getCapacity();
+
+	int getWorkers();
+
+	// Whether the screens currently refuse new writes, see OperationExecutor
+	boolean isSaturated();
+
+	long getRejectedCount();
+
+	long getCompletedCount();
+}
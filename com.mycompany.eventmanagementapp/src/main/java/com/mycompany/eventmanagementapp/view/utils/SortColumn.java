@@ -0,0 +1,91 @@
+/**
+ * SortColumn describes one column a list screen can be sorted by.
+ *
+ * A column either keeps the database order, or extracts one key per row into a primitive long array
+ * (dates, counts, ids) or a lower-cased String array (names, locations, emails). The keys are extracted
+ * once per sort and the row indexes are then ordered with IntSorter, so sorting never boxes the indexes
+ * and never calls back into the model objects while comparing.
+ *
+ * The display name is returned by toString so that columns can be shown directly in a JComboBox.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public final class SortColumn<T> {
+
+	private final String displayName;
+
+	private final ToLongFunction<T> numericKey;
+
+	private final Function<T, String> textKey;
+
+	private SortColumn(String displayName, ToLongFunction<T> numericKey, Function<T, String> textKey) {
+		this.displayName = displayName;
+		this.numericKey = numericKey;
+		this.textKey = textKey;
+	}
+
+	// Column keeping the rows in the order they were loaded from the database
+	public static <T> SortColumn<T> databaseOrder(String displayName) {
+		return new SortColumn<>(displayName, null, null);
+	}
+
+	// Column sorted by a numeric key such as a date (epoch day), a count or an id
+	public static <T> SortColumn<T> numeric(String displayName, ToLongFunction<T> key) {
+		return new SortColumn<>(displayName, key, null);
+	}
+
+	// Column sorted case-insensitively by a text key, null values are sorted first
+	public static <T> SortColumn<T> text(String displayName, Function<T, String> key) {
+		return new SortColumn<>(displayName, null, key);
+	}
+
+	public boolean isDatabaseOrder() {
+		return numericKey == null && textKey == null;
+	}
+
+	// Computes the sorted permutation of the row indexes for the given rows
+	public int[] sort(List<T> rows) {
+		int[] order = IntSorter.identity(rows.size());
+		if (numericKey != null) {
+			long[] keys = new long[rows.size()];
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = numericKey.applyAsLong(rows.get(i));
+			}
+			IntSorter.sort(order, (left, right) -> Long.compare(keys[left], keys[right]));
+		} else if (textKey != null) {
+			String[] keys = new String[rows.size()];
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = lowerCaseKey(rows.get(i));
+			}
+			IntSorter.sort(order, (left, right) -> keys[left].compareTo(keys[right]));
+		}
+		return order;
+	}
+
+	// Compares two rows by the key of the column, as sort orders them. Rows in database order are all equal.
+	public int compare(T left, T right) {
+		if (numericKey != null) {
+			return Long.compare(numericKey.applyAsLong(left), numericKey.applyAsLong(right));
+		}
+		if (textKey != null) {
+			return lowerCaseKey(left).compareTo(lowerCaseKey(right));
+		}
+		return 0;
+	}
+
+	private String lowerCaseKey(T row) {
+		String key = textKey.apply(row);
+		return key == null ? "" : key.toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public String toString() {
+		return displayName;
+	}
+}
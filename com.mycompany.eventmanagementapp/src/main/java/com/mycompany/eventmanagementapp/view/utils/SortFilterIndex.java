@@ -0,0 +1,207 @@
+/**
+ * SortFilterIndex computes which rows a list screen shows, and in which order, when the user sorts the list
+ * or types into its filter field.
+ *
+ * All work happens on a background thread so the Event Dispatch Thread (EDT) never blocks on large lists:
+ * - Sort orders are computed once per rows snapshot and column, as int[] permutations (see SortColumn),
+ *   and are cached until the rows change.
+ * - The lower-cased search text of every row is extracted once per rows snapshot into a String array.
+ * - Filter matches are int[] subsequences of the sort order. When the user keeps typing (the new filter
+ *   extends the previous one) only the previous matches are scanned again (type-ahead).
+ *
+ * Only the result of the most recent request is delivered, results of superseded requests are dropped.
+ * Results are handed over with the result dispatcher, SwingUtilities.invokeLater by default.
+ *
+ * A row added while a result is being computed is placed with insertionIndex: on the EDT, it finds where the
+ * row belongs among the rows shown, or that the filter hides it, so the screen never shows it out of order
+ * until the new result replaces the rows.
+ *
+ * The rows list passed to update is treated as an immutable snapshot: callers pass a new list whenever
+ * the rows change, which is also what invalidates the cached sort orders and search texts.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.Map;
+import java.util.List;
+import java.util.Locale;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.swing.ListModel;
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SortFilterIndex<T> {
+
+	private final Function<T, String> searchText;
+
+	private final Executor background;
+
+	private final Executor resultDispatcher;
+
+	private final AtomicLong generation = new AtomicLong();
+
+	private volatile long lastBuildNanos;
+
+	// Caches, guarded by this
+	private List<T> indexedRows;
+
+	private String[] lowerCaseSearchText;
+
+	private final Map<SortColumn<T>, int[]> sortOrders = new HashMap<>();
+
+	private SortColumn<T> lastColumn;
+
+	private String lastFilter = "";
+
+	private int[] lastMatches;
+
+	// Creates an index computing on its own daemon thread and delivering results on the EDT
+	public SortFilterIndex(Function<T, String> searchText) {
+		this(searchText, Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "view-index-builder");
+			thread.setDaemon(true);
+			return thread;
+		}), SwingUtilities::invokeLater);
+	}
+
+	public SortFilterIndex(Function<T, String> searchText, Executor background, Executor resultDispatcher) {
+		this.searchText = searchText;
+		this.background = background;
+		this.resultDispatcher = resultDispatcher;
+	}
+
+	// Schedules the computation of the visible rows, onReady receives them unless a newer request superseded it
+	public void update(List<T> rows, SortColumn<T> column, String filter, Consumer<List<T>> onReady) {
+		long request = generation.incrementAndGet();
+		background.execute(() -> {
+			if (generation.get() != request) {
+				return;
+			}
+			List<T> visibleRows = rowsView(rows, visibleRows(rows, column, filter));
+			resultDispatcher.execute(() -> {
+				if (generation.get() == request) {
+					onReady.accept(visibleRows);
+				}
+			});
+		});
+	}
+
+	// Discards any pending result, for example when the screen goes back to showing all rows directly
+	public void cancel() {
+		generation.incrementAndGet();
+	}
+
+	// Computes the indexes of the rows matching the filter, in the order of the given column
+	public synchronized int[] visibleRows(List<T> rows, SortColumn<T> column, String filter) {
+		long start = System.nanoTime();
+		if (rows != indexedRows) {
+			indexedRows = rows;
+			lowerCaseSearchText = null;
+			sortOrders.clear();
+			lastMatches = null;
+		}
+		int[] order = sortOrders.computeIfAbsent(column, sortColumn -> sortColumn.sort(rows));
+		String normalizedFilter = filter == null ? "" : filter.trim().toLowerCase(Locale.ROOT);
+
+		int[] matches;
+		if (normalizedFilter.isEmpty()) {
+			matches = order;
+		} else if (lastMatches != null && column == lastColumn && !lastFilter.isEmpty()
+				&& normalizedFilter.startsWith(lastFilter)) {
+			// Type-ahead, the new matches are a subset of the previous ones
+			matches = filter(lastMatches, normalizedFilter);
+		} else {
+			matches = filter(order, normalizedFilter);
+		}
+
+		lastColumn = column;
+		lastFilter = normalizedFilter;
+		lastMatches = matches;
+		lastBuildNanos = System.nanoTime() - start;
+		return matches;
+	}
+
+	private int[] filter(int[] candidates, String normalizedFilter) {
+		String[] texts = searchTexts();
+		int[] matches = new int[candidates.length];
+		int count = 0;
+		for (int row : candidates) {
+			if (texts[row].contains(normalizedFilter)) {
+				matches[count++] = row;
+			}
+		}
+		return Arrays.copyOf(matches, count);
+	}
+
+	private String[] searchTexts() {
+		if (lowerCaseSearchText == null) {
+			String[] texts = new String[indexedRows.size()];
+			for (int i = 0; i < texts.length; i++) {
+				String text = searchText.apply(indexedRows.get(i));
+				texts[i] = text == null ? "" : text.toLowerCase(Locale.ROOT);
+			}
+			lowerCaseSearchText = texts;
+		}
+		return lowerCaseSearchText;
+	}
+
+	// Index at which the row goes among the visible rows, after the rows with an equal key as a new row is sorted
+	// in the index, -1 when the filter hides it
+	public int insertionIndex(ListModel<T> visibleRows, T row, SortColumn<T> column, String filter) {
+		String normalizedFilter = filter == null ? "" : filter.trim().toLowerCase(Locale.ROOT);
+		String text = searchText.apply(row);
+		if (!(text == null ? "" : text.toLowerCase(Locale.ROOT)).contains(normalizedFilter)) {
+			return -1;
+		}
+		int low = 0;
+		int high = visibleRows.getSize();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (column.compare(visibleRows.getElementAt(middle), row) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	// Time spent computing the last result, in nanoseconds
+	public long getLastBuildNanos() {
+		return lastBuildNanos;
+	}
+
+	// Read-only list of the rows at the given indexes, without copying them
+	public static <T> List<T> rowsView(List<T> rows, int[] indexes) {
+		return new IndexedRows<>(rows, indexes);
+	}
+
+	private static final class IndexedRows<T> extends AbstractList<T> implements RandomAccess {
+
+		private final List<T> rows;
+
+		private final int[] indexes;
+
+		private IndexedRows(List<T> rows, int[] indexes) {
+			this.rows = rows;
+			this.indexes = indexes;
+		}
+
+		@Override
+		public T get(int index) {
+			return rows.get(indexes[index]);
+		}
+
+		@Override
+		public int size() {
+			return indexes.length;
+		}
+	}
+}
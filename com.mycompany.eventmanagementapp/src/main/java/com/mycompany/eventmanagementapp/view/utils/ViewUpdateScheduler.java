@@ -0,0 +1,146 @@
+/**
+ * ViewUpdateScheduler coalesces the notifications that controllers send to a Swing view screen.
+ * Controllers call the view from worker threads, and every notification used to post its own
+ * task to the Event Dispatch Thread (EDT) and trigger a full reload of the lists shown on the screen.
+ * A burst of operations therefore caused one full reload per operation.
+ *
+ * This scheduler collects the notifications instead:
+ * - submitUpdate: Queues a model update. All updates submitted before the EDT gets to run the
+ *   pending drain are applied together, in submission order, within a single EDT task (one frame).
+ * - requestRefresh: Queues a refresh (reload) action. Refresh requests are de-duplicated by identity,
+ *   so any number of requests for the same refresh within a frame result in one reload, executed
+ *   after all pending updates of that frame have been applied.
+ *
+ * Only one drain task is ever pending at a time. Refresh actions must therefore be stored in a field
+ * by the caller (for example a method reference assigned once), because two different method reference
+ * instances are considered two different refreshes.
+ *
+ * Updates are wrapped with Tracer.wrap, so that a traced controller operation continues with the view update
+ * it caused on the EDT. Refreshes are shared by several operations and are not traced.
+ *
+ * The dispatcher used to run the drain is SwingUtilities.invokeLater by default, and can be replaced
+ * (for example with a direct executor) to test the coalescing behaviour without a display.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.Set;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.concurrent.Executor;
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.mycompany.eventmanagementapp.tracing.Tracer;
+
+public class ViewUpdateScheduler {
+
+	private final Executor dispatcher;
+
+	private final Object lock = new Object();
+
+	private List<Runnable> pendingUpdates = new ArrayList<>();
+
+	private Set<Runnable> pendingRefreshes = new LinkedHashSet<>();
+
+	private boolean drainScheduled;
+
+	private final AtomicLong submittedUpdates = new AtomicLong();
+
+	private final AtomicLong requestedRefreshes = new AtomicLong();
+
+	private final AtomicLong executedRefreshes = new AtomicLong();
+
+	private final AtomicLong drains = new AtomicLong();
+
+	// Creates a scheduler which applies the collected updates on the Event Dispatch Thread
+	public ViewUpdateScheduler() {
+		this(SwingUtilities::invokeLater);
+	}
+
+	// Creates a scheduler which runs the drain task with the given dispatcher
+	public ViewUpdateScheduler(Executor dispatcher) {
+		this.dispatcher = dispatcher;
+	}
+
+	// Queues a model update to be applied in the next drain
+	public void submitUpdate(Runnable update) {
+		submittedUpdates.incrementAndGet();
+		synchronized (lock) {
+			pendingUpdates.add(Tracer.wrap("view update", update));
+		}
+		scheduleDrain();
+	}
+
+	// Queues a refresh action, requests for an already pending refresh are collapsed into one
+	public void requestRefresh(Runnable refresh) {
+		requestedRefreshes.incrementAndGet();
+		synchronized (lock) {
+			pendingRefreshes.add(refresh);
+		}
+		scheduleDrain();
+	}
+
+	// Posts the drain task unless one is already pending
+	private void scheduleDrain() {
+		synchronized (lock) {
+			if (drainScheduled) {
+				return;
+			}
+			drainScheduled = true;
+		}
+		dispatcher.execute(this::drain);
+	}
+
+	// Applies all pending updates and then runs each pending refresh exactly once
+	private void drain() {
+		List<Runnable> updates;
+		Set<Runnable> refreshes;
+		synchronized (lock) {
+			updates = pendingUpdates;
+			refreshes = pendingRefreshes;
+			pendingUpdates = new ArrayList<>();
+			pendingRefreshes = new LinkedHashSet<>();
+			drainScheduled = false;
+		}
+		drains.incrementAndGet();
+		RuntimeException failure = null;
+		for (Runnable update : updates) {
+			failure = runIsolated(update, failure);
+		}
+		for (Runnable refresh : refreshes) {
+			failure = runIsolated(refresh, failure);
+		}
+		executedRefreshes.addAndGet(refreshes.size());
+		// A failing task must not swallow the rest of the frame, the first failure is rethrown at the end
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static RuntimeException runIsolated(Runnable task, RuntimeException previousFailure) {
+		try {
+			task.run();
+			return previousFailure;
+		} catch (RuntimeException e) {
+			return previousFailure != null ? previousFailure : e;
+		}
+	}
+
+	public long getSubmittedUpdates() {
+		return submittedUpdates.get();
+	}
+
+	public long getRequestedRefreshes() {
+		return requestedRefreshes.get();
+	}
+
+	public long getExecutedRefreshes() {
+		return executedRefreshes.get();
+	}
+
+	public long getDrains() {
+		return drains.get();
+	}
+}
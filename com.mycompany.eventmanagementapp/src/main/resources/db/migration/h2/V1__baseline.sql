@@ -0,0 +1,28 @@
+-- Baseline schema, matching the entity mapping of EventModel and ParticipantModel.
+-- The tables are only created when missing, so databases created by Hibernate
+-- can be migrated as they are.
+
+CREATE TABLE IF NOT EXISTS event (
+    eventId BIGINT NOT NULL AUTO_INCREMENT,
+    event_date DATE NOT NULL,
+    event_location VARCHAR(255) NOT NULL,
+    event_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (eventId)
+);
+
+CREATE TABLE IF NOT EXISTS participant (
+    participantId BIGINT NOT NULL AUTO_INCREMENT,
+    participant_email VARCHAR(255) NOT NULL,
+    participant_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (participantId),
+    CONSTRAINT uk_participant_email UNIQUE (participant_email)
+);
+
+-- The composite primary key serves the lookups of the participants of an event
+CREATE TABLE IF NOT EXISTS event_participant (
+    event_id BIGINT NOT NULL,
+    participant_id BIGINT NOT NULL,
+    PRIMARY KEY (event_id, participant_id),
+    CONSTRAINT fk_event_participant_event FOREIGN KEY (event_id) REFERENCES event (eventId),
+    CONSTRAINT fk_event_participant_participant FOREIGN KEY (participant_id) REFERENCES participant (participantId)
+);
@@ -0,0 +1,6 @@
+-- Reverse index of the join table, serves the lookups of the events of a participant
+-- without scanning the primary key.
+CREATE INDEX idx_event_participant_participant ON event_participant (participant_id, event_id);
+
+-- Events are listed and filtered by date.
+CREATE INDEX idx_event_date ON event (event_date);
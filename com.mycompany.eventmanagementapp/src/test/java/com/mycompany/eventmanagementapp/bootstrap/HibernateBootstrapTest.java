@@ -0,0 +1,203 @@
+/**
+ * Unit tests for the HibernateBootstrap class in the Event Management Application.
+ *
+ * Every test uses its own in-memory H2 database and its own fingerprint store in a temporary folder.
+ *
+ * The tests verify that:
+ * 1. Startup does not create the schema, it fails validation on an empty database asking to run the "migrate"
+ *    command and stores no fingerprint.
+ * 2. A schema created by the migrations is validated once, later startups match the fingerprint and skip validation.
+ * 3. A stale fingerprint makes the startup validate the schema again, and so does a migration applied after it
+ *    was stored.
+ * 4. The VALIDATE, UPDATE and NONE modes behave as documented.
+ * 5. The fingerprint is stable for the same mapping.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.After;
+import org.junit.Before;
+import java.time.LocalDate;
+import java.sql.Connection;
+import org.hibernate.Session;
+import java.sql.DriverManager;
+import org.hibernate.SessionFactory;
+import org.junit.rules.TemporaryFolder;
+import org.hibernate.boot.MetadataSources;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.migration.MigrationRunner;
+import com.mycompany.eventmanagementapp.bootstrap.HibernateBootstrap.SchemaMode;
+import com.mycompany.eventmanagementapp.bootstrap.HibernateBootstrap.SchemaOutcome;
+
+public class HibernateBootstrapTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static int databases;
+
+	private String url;
+
+	private SchemaFingerprintStore fingerprintStore;
+
+	private HibernateBootstrap hibernateBootstrap;
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() throws Exception {
+		url = "jdbc:h2:mem:bootstrap" + (++databases) + ";DB_CLOSE_DELAY=-1";
+		fingerprintStore = new SchemaFingerprintStore(temporaryFolder.getRoot().toPath().resolve("fingerprints"));
+		hibernateBootstrap = new HibernateBootstrap(fingerprintStore);
+	}
+
+	@After
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// Test startup on an empty database fails validation and stores no fingerprint
+	@Test
+	public void testStartupDoesNotCreateSchema() {
+		//Exercise & Verify
+		assertThatThrownBy(
+				() -> hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT))
+				.isInstanceOf(SchemaManagementException.class).hasMessageContaining("\"migrate\"");
+		assertThat(fingerprintStore.get(url)).isNull();
+	}
+
+	// Test migrated schema is validated once, later startups match the fingerprint
+	@Test
+	public void testMigratedSchemaIsValidatedOnceThenFingerprintMatches() throws Exception {
+		//Setup
+		migrate();
+
+		//Exercise
+		SessionFactory first = hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT);
+		SchemaOutcome firstOutcome = hibernateBootstrap.getLastOutcome();
+		first.close();
+		sessionFactory = hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT);
+
+		//Verify
+		assertThat(firstOutcome).isEqualTo(SchemaOutcome.VALIDATED);
+		assertThat(hibernateBootstrap.getLastOutcome()).isEqualTo(SchemaOutcome.FINGERPRINT_MATCHED);
+		assertThat(fingerprintStore.get(url)).hasSize(64);
+		try (Session session = sessionFactory.openSession()) {
+			session.beginTransaction();
+			session.save(new EventModel("Music Festival", LocalDate.now().plusDays(10), "Florence"));
+			session.getTransaction().commit();
+			assertThat(session.createQuery("from EventModel", EventModel.class).list()).hasSize(1);
+		}
+	}
+
+	// Test stale fingerprint makes the startup validate the schema again
+	@Test
+	public void testStaleFingerprintIsValidatedAgain() throws Exception {
+		//Setup
+		migrate();
+		hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT).close();
+		String fingerprint = fingerprintStore.get(url);
+		fingerprintStore.put(url, "stale");
+
+		//Exercise
+		sessionFactory = hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT);
+
+		//Verify
+		assertThat(hibernateBootstrap.getLastOutcome()).isEqualTo(SchemaOutcome.VALIDATED);
+		assertThat(fingerprintStore.get(url)).isEqualTo(fingerprint);
+	}
+
+	// Test a migration applied after the fingerprint was stored makes the startup validate the schema again
+	@Test
+	public void testMigrationForgetsTheFingerprint() throws Exception {
+		//Setup
+		fingerprintStore.put(url, "verified before the migration");
+
+		//Exercise
+		try (Connection connection = DriverManager.getConnection(url, "testDB", "")) {
+			assertThat(hibernateBootstrap.migrate(connection, url)).isNotEmpty();
+		}
+
+		//Verify
+		assertThat(fingerprintStore.get(url)).isNull();
+		hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT).close();
+		assertThat(hibernateBootstrap.getLastOutcome()).isEqualTo(SchemaOutcome.VALIDATED);
+		String fingerprint = fingerprintStore.get(url);
+		// Nothing pending, the fingerprint is kept
+		try (Connection connection = DriverManager.getConnection(url, "testDB", "")) {
+			assertThat(hibernateBootstrap.migrate(connection, url)).isEmpty();
+		}
+		assertThat(fingerprintStore.get(url)).isEqualTo(fingerprint);
+	}
+
+	// Test VALIDATE mode validates even when the fingerprint matches
+	@Test
+	public void testValidateModeAlwaysValidates() throws Exception {
+		//Setup
+		migrate();
+		hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.FINGERPRINT).close();
+
+		//Exercise
+		sessionFactory = hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.VALIDATE);
+
+		//Verify
+		assertThat(hibernateBootstrap.getLastOutcome()).isEqualTo(SchemaOutcome.VALIDATED);
+	}
+
+	// Test UPDATE mode creates the schema and NONE mode skips any check
+	@Test
+	public void testUpdateAndNoneModes() {
+		//Exercise
+		SessionFactory updated = hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.UPDATE);
+		SchemaOutcome updateOutcome = hibernateBootstrap.getLastOutcome();
+		updated.close();
+		sessionFactory = hibernateBootstrap.buildSessionFactory(this::registryBuilder, SchemaMode.NONE);
+
+		//Verify
+		assertThat(updateOutcome).isEqualTo(SchemaOutcome.UPDATED);
+		assertThat(hibernateBootstrap.getLastOutcome()).isEqualTo(SchemaOutcome.SKIPPED);
+		assertThat(fingerprintStore.get(url)).isNull();
+		try (Session session = sessionFactory.openSession()) {
+			assertThat(session.createQuery("from EventModel", EventModel.class).list()).isEmpty();
+		}
+	}
+
+	// Test fingerprint is stable for the same mapping
+	@Test
+	public void testFingerprintIsStable() {
+		//Setup
+		StandardServiceRegistry registry = registryBuilder().build();
+		try {
+			//Exercise
+			String first = HibernateBootstrap.fingerprint(new MetadataSources(registry).buildMetadata());
+			String second = HibernateBootstrap.fingerprint(new MetadataSources(registry).buildMetadata());
+
+			//Verify
+			assertThat(first).hasSize(64).isEqualTo(second);
+		} finally {
+			StandardServiceRegistryBuilder.destroy(registry);
+		}
+	}
+
+	// Helper Methods
+	private StandardServiceRegistryBuilder registryBuilder() {
+		return new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", url);
+	}
+
+	private void migrate() throws Exception {
+		try (Connection connection = DriverManager.getConnection(url, "testDB", "")) {
+			MigrationRunner.forUrl(url).migrate(connection);
+		}
+	}
+}
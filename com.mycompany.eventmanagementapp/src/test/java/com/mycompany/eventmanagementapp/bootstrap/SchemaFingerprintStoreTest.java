@@ -0,0 +1,87 @@
+/**
+ * Unit tests for the SchemaFingerprintStore class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. A missing store file has no fingerprints.
+ * 2. Stored fingerprints are kept per database URL and survive a new store instance (a new launch).
+ * 3. Removing a fingerprint forgets it.
+ * 4. An unusable store file is treated as an empty store instead of failing the startup.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.Before;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import org.junit.rules.TemporaryFolder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaFingerprintStoreTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static final String MYSQL_URL = "jdbc:mysql://localhost:3306/event_management_app";
+
+	private static final String H2_URL = "jdbc:h2:mem:test";
+
+	private Path file;
+
+	private SchemaFingerprintStore fingerprintStore;
+
+	@Before
+	public void setup() {
+		file = temporaryFolder.getRoot().toPath().resolve("app").resolve("schema-fingerprints.properties");
+		fingerprintStore = new SchemaFingerprintStore(file);
+	}
+
+	// Test missing store has no fingerprints
+	@Test
+	public void testMissingStoreHasNoFingerprint() {
+		//Setup, Exercise & Verify
+		assertThat(fingerprintStore.get(MYSQL_URL)).isNull();
+	}
+
+	// Test fingerprints are kept per URL across store instances
+	@Test
+	public void testFingerprintsArePersistedPerUrl() {
+		//Setup & Exercise
+		fingerprintStore.put(MYSQL_URL, "mysql-fingerprint");
+		fingerprintStore.put(H2_URL, "h2-fingerprint");
+		SchemaFingerprintStore nextLaunch = new SchemaFingerprintStore(file);
+
+		//Verify
+		assertThat(nextLaunch.get(MYSQL_URL)).isEqualTo("mysql-fingerprint");
+		assertThat(nextLaunch.get(H2_URL)).isEqualTo("h2-fingerprint");
+	}
+
+	// Test removed fingerprint is forgotten
+	@Test
+	public void testRemoveForgetsFingerprint() {
+		//Setup
+		fingerprintStore.put(MYSQL_URL, "mysql-fingerprint");
+
+		//Exercise
+		fingerprintStore.remove(MYSQL_URL);
+
+		//Verify
+		assertThat(new SchemaFingerprintStore(file).get(MYSQL_URL)).isNull();
+	}
+
+	// Test unusable store file is treated as empty
+	@Test
+	public void testUnusableStoreIsTreatedAsEmpty() throws Exception {
+		//Setup
+		Files.createDirectories(file);
+		Files.createFile(file.resolve("not-a-properties-file"));
+		SchemaFingerprintStore unusableStore = new SchemaFingerprintStore(file);
+
+		//Exercise
+		unusableStore.put(MYSQL_URL, "mysql-fingerprint");
+
+		//Verify
+		assertThat(unusableStore.get(MYSQL_URL)).isNull();
+	}
+}
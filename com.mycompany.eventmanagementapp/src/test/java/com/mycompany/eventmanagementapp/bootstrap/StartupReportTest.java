@@ -0,0 +1,97 @@
+/**
+ * Unit tests for the StartupReport class in the Event Management Application.
+ *
+ * The report is created with a manual clock, so the recorded offsets and durations are deterministic.
+ *
+ * The tests verify that:
+ * 1. A measured phase records its start offset and duration, and returns the result of the action.
+ * 2. A phase is recorded even if its action fails.
+ * 3. Milestones are recorded with a zero duration.
+ * 4. The report lists the phases in the order they finished, together with the JVM uptime at launch.
+ */
+
+package com.mycompany.eventmanagementapp.bootstrap;
+
+import org.junit.Test;
+import org.junit.Before;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StartupReportTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	private AtomicLong clock;
+
+	private StartupReport startupReport;
+
+	@Before
+	public void setup() {
+		clock = new AtomicLong(500 * MILLIS);
+		startupReport = new StartupReport(clock::get, 250);
+	}
+
+	// Test measured phase records its offset and duration and returns the action result
+	@Test
+	public void testMeasureRecordsPhaseAndReturnsResult() {
+		//Setup
+		clock.addAndGet(10 * MILLIS);
+
+		//Exercise
+		String result = startupReport.measure("SessionFactory built", () -> {
+			clock.addAndGet(1200 * MILLIS);
+			return "sessionFactory";
+		});
+
+		//Verify
+		assertThat(result).isEqualTo("sessionFactory");
+		assertThat(startupReport.getPhaseNames()).containsExactly("SessionFactory built");
+		assertThat(startupReport.format()).contains("SessionFactory built").contains("started at     10 ms")
+				.contains("took   1200 ms");
+		assertThat(startupReport.getElapsedMillis()).isEqualTo(1210);
+	}
+
+	// Test phase is recorded when its action fails
+	@Test
+	public void testMeasureRecordsFailedPhase() {
+		//Exercise & Verify
+		assertThatThrownBy(() -> startupReport.measure("Events loaded", () -> {
+			clock.addAndGet(5 * MILLIS);
+			throw new IllegalStateException("Database unavailable");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(startupReport.getPhaseNames()).containsExactly("Events loaded");
+		assertThat(startupReport.format()).contains("took      5 ms");
+	}
+
+	// Test milestones have a zero duration
+	@Test
+	public void testMarkRecordsMilestone() {
+		//Setup
+		clock.addAndGet(42 * MILLIS);
+
+		//Exercise
+		startupReport.mark("First frame visible");
+
+		//Verify
+		assertThat(startupReport.format()).contains("First frame visible").contains("started at     42 ms")
+				.contains("took      0 ms");
+	}
+
+	// Test report lists phases in the order they finished
+	@Test
+	public void testFormatListsPhasesInOrder() {
+		//Setup
+		startupReport.measure("Events loaded", () -> clock.addAndGet(MILLIS));
+		startupReport.measure("Participants loaded", () -> clock.addAndGet(MILLIS));
+		startupReport.mark("First frame visible");
+
+		//Exercise
+		String report = startupReport.format();
+
+		//Verify
+		assertThat(report).startsWith("Startup report (JVM uptime at launch 250 ms)");
+		assertThat(report.indexOf("Events loaded")).isLessThan(report.indexOf("Participants loaded"));
+		assertThat(report.indexOf("Participants loaded")).isLessThan(report.indexOf("First frame visible"));
+	}
+}
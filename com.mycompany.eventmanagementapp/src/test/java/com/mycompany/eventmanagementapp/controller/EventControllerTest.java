@@ -109,7 +109,7 @@ public class EventControllerTest {
 		EventModel event = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(null);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(false);
 		eventController.addEvent(event);
 		
 		//Verify
@@ -125,14 +125,13 @@ public class EventControllerTest {
 	public void testAddEventWhenEventAlreadyExists() {
 		//Setup
 		EventModel newEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
-		EventModel existingEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(existingEvent);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
 		eventController.addEvent(newEvent);
 		
 		//Verify
-		verify(eventManagementView).showError("Event already existed with id " + EVENT_ID, existingEvent);
+		verify(eventManagementView).showError("Event already existed with id " + EVENT_ID, newEvent);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
 		verifyNoMoreInteractions(eventManagementView);
 	}
@@ -235,7 +234,8 @@ public class EventControllerTest {
 		EventModel deleteEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(deleteEvent);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(eventRepository.countParticipantsOfEvent(EVENT_ID)).thenReturn(0L);
 		eventController.deleteEvent(deleteEvent);
 		
 		//Verify
@@ -253,7 +253,7 @@ public class EventControllerTest {
 		EventModel deleteEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(null);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(false);
 		eventController.deleteEvent(deleteEvent);
 		
 		//Verify
@@ -273,7 +273,26 @@ public class EventControllerTest {
 		Set<ParticipantModel> participants = new HashSet<>();
 		participants.add(participant);
 		deleteEvent.setParticipants(participants);
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(deleteEvent);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(eventRepository.countParticipantsOfEvent(EVENT_ID)).thenReturn(1L);
+		eventController.deleteEvent(deleteEvent);
+		
+		//Verify
+		verify(eventManagementView).showError("Event cannot be deleted. Participants are associated with it",
+				deleteEvent);
+		verifyNoMoreInteractions(ignoreStubs(eventRepository));
+		verifyNoMoreInteractions(eventManagementView);
+	}
+
+	// Test case for deleting an event whose copy in the view has no participants, while the stored event has
+	@Test
+	public void testDeleteEventWhenStoredEventHasParticipants() {
+		//Setup
+		EventModel deleteEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(eventRepository.countParticipantsOfEvent(EVENT_ID)).thenReturn(2L);
 		eventController.deleteEvent(deleteEvent);
 		
 		//Verify
@@ -284,25 +303,24 @@ public class EventControllerTest {
 	}
 
 	// Update Event Test Cases
-	// Test case for updating an event name, here we are also verifying the EventModel.SetParticipants function that is being called in updateEvent function. This will give our Controller class 100 % mutation score.
+	// Test case for updating an event name, the participants of the event are left as the view passed them
 	@Test
 	public void testUpdateEventNameWhenExist() {
 		//Setup
 	    EventModel updatedEvent = new EventModel(EVENT_ID, EVENT_NAME + " Updated", EVENT_DATE, EVENT_LOCATION);
-	    EventModel existingEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 	    
 	    //Exercise
-	    when(eventRepository.getEventById(EVENT_ID)).thenReturn(existingEvent);
 	    // Create a spy on updatedEvent to track method calls
 	    EventModel spyUpdatedEvent = spy(updatedEvent);
+	    when(eventRepository.updateEventDetails(spyUpdatedEvent)).thenReturn(true);
 	    eventController.updateEvent(spyUpdatedEvent);
 
 	    //Verify
 	    InOrder inOrder = inOrder(eventRepository, eventManagementView);
-	    inOrder.verify(eventRepository).updateEvent(spyUpdatedEvent);
+	    inOrder.verify(eventRepository).updateEventDetails(spyUpdatedEvent);
 	    inOrder.verify(eventManagementView).eventUpdated(spyUpdatedEvent);
-	    // Verify that the setParticipants method was called with the existing participants
-	    verify(spyUpdatedEvent).setParticipants(existingEvent.getParticipants());
+	    // Verify that the participants are neither loaded nor replaced
+	    verify(spyUpdatedEvent, never()).setParticipants(any());
 	    verifyNoMoreInteractions(ignoreStubs(eventRepository));
 	    verifyNoMoreInteractions((eventManagementView));
 	}
@@ -312,15 +330,14 @@ public class EventControllerTest {
 	public void testUpdateEventLocationWhenExist() {
 		//Setup
 		EventModel updatedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION + " Updated");
-		EventModel existingEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(existingEvent);
+		when(eventRepository.updateEventDetails(updatedEvent)).thenReturn(true);
 		eventController.updateEvent(updatedEvent);
 		
 		//Verify
 		InOrder inOrder = inOrder(eventRepository, eventManagementView);
-		inOrder.verify(eventRepository).updateEvent(updatedEvent);
+		inOrder.verify(eventRepository).updateEventDetails(updatedEvent);
 		inOrder.verify(eventManagementView).eventUpdated(updatedEvent);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
 	    verifyNoMoreInteractions((eventManagementView));
@@ -331,15 +348,14 @@ public class EventControllerTest {
 	public void testUpdateEventDateWhenExist() {
 		//Setup
 		EventModel updatedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_UPDATED_DATE, EVENT_LOCATION);
-		EventModel existingEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(existingEvent);
+		when(eventRepository.updateEventDetails(updatedEvent)).thenReturn(true);
 		eventController.updateEvent(updatedEvent);
 		
 		//Verify
 		InOrder inOrder = inOrder(eventRepository, eventManagementView);
-		inOrder.verify(eventRepository).updateEvent(updatedEvent);
+		inOrder.verify(eventRepository).updateEventDetails(updatedEvent);
 		inOrder.verify(eventManagementView).eventUpdated(updatedEvent);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
 	    verifyNoMoreInteractions((eventManagementView));
@@ -352,7 +368,7 @@ public class EventControllerTest {
 		EventModel updatedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_UPDATED_DATE, EVENT_LOCATION);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(null);
+		when(eventRepository.updateEventDetails(updatedEvent)).thenReturn(false);
 		eventController.updateEvent(updatedEvent);
 		
 		//Verify
@@ -28,6 +28,20 @@
  * - testAddParticipantToEventWhenParticipantWithEmailDoesNotExist()
  * - testAddParticipantToEventWhenParticipantAlreadyAssosciatedWithSelectedEvent()
  * - testAddParticipantToEventWhenParticipantWithEmailExistButNotAssociatedWithSelectedEvent()
+ * - testAddParticipantToEventWhenParticipantWasEnrolledMeanwhile()
+ * - testAddParticipantWithGroupCommitWhenParticipantWithEmailDoesNotExist()
+ * - testAddParticipantWithGroupCommitWhenParticipantWithEmailExistButNotAssociatedWithSelectedEvent()
+ * - testAddParticipantWithGroupCommitWhenRegistrationFails()
+ * - testAddParticipantWithGroupCommitWhenEmailWasRegisteredMeanwhile()
+ * - testAddParticipantWithGroupCommitCarriesTheInteractionToTheCommittingThread()
+ * - testAddParticipantWithEmailFilterWhenEmailIsNew()
+ * - testAddParticipantWithEmailFilterWhenEmailIsKnown()
+ * - testAddParticipantWithEmailFilterRecordsFalsePositives()
+ * - testAddParticipantWithUpsertWhenParticipantWithEmailDoesNotExist()
+ * - testAddParticipantWithUpsertWhenParticipantWithEmailExistButNotAssociatedWithSelectedEvent()
+ * - testAddParticipantWithUpsertWhenParticipantAlreadyAssociatedWithSelectedEvent()
+ * - testAddParticipantWithUpsertWhenSelectedEventDoesNotExist()
+ * - testAddParticipantWithUpsertWhenEmailFormatIsInvalid()
  * - testDeleteParticipantWhenParticipantIsNull()
  * - testDeleteParticipantWhenEventIsNull()
  * - testDeleteParticipantWhenDoesNotExist()
@@ -57,12 +71,23 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import static org.mockito.Mockito.*;
 import org.mockito.MockitoAnnotations;
+import java.sql.SQLException;
+import org.hibernate.HibernateException;
+import org.hibernate.exception.ConstraintViolationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.mycompany.eventmanagementapp.model.EventModel;
 import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder;
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder.Interaction;
 import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
 import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
 import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository.RegistrationOutcome;
 
 public class ParticipantControllerTest {
 	@Mock
@@ -178,7 +203,7 @@ public class ParticipantControllerTest {
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(null);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(false);
 		participantController.addParticipant(participant, selectedEvent);
 		
 		//Verify
@@ -199,14 +224,14 @@ public class ParticipantControllerTest {
 		ParticipantModel spyParticipant = spy(participant);
 
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(selectedEvent);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
 		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.addParticipantToEvent(spyParticipant, EVENT_ID)).thenReturn(true);
 		participantController.addParticipant(spyParticipant, selectedEvent);
 
 		//Verify
 		InOrder inOrder = inOrder(eventRepository, participantRepository, participantManagementView);
-		inOrder.verify(participantRepository).addParticipant(spyParticipant);
-		inOrder.verify(eventRepository).updateEvent(selectedEvent);
+		inOrder.verify(participantRepository).addParticipantToEvent(spyParticipant, EVENT_ID);
 		inOrder.verify(participantManagementView).participantAdded(spyParticipant);
 		verify(spyParticipant).addEvent(selectedEvent);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
@@ -214,6 +239,27 @@ public class ParticipantControllerTest {
 		verifyNoMoreInteractions(participantManagementView);
 	}
 
+	// Test case for adding a new Participant to an event deleted after it was checked, nothing is saved
+	@Test
+	public void testAddParticipantWhenSelectedEventIsDeletedMeanwhile() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.addParticipantToEvent(participant, EVENT_ID)).thenReturn(false);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).showError("Event doesn't exist with id " + EVENT_ID, participant);
+		assertThat(participant.getEvents()).isEmpty();
+		verify(participantRepository, never()).addParticipant(participant);
+		verify(participantRepository, never()).upsertRegistration(participant, EVENT_ID);
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
 	// Test case for adding a Participant to event when participant is already
 	// associated with selected event
 	@Test
@@ -224,7 +270,7 @@ public class ParticipantControllerTest {
 		participant.addEvent(selectedEvent);
 		
 		//Exercise
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(selectedEvent);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
 		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
 		participantController.addParticipant(participant, selectedEvent);
 		
@@ -247,14 +293,14 @@ public class ParticipantControllerTest {
 	    ParticipantModel spyParticipant = spy(participant);
 
 	    //Exercise
-	    when(eventRepository.getEventById(EVENT_ID)).thenReturn(selectedEvent);
+	    when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
 	    when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(spyParticipant);
+	    when(participantRepository.enroll(EVENT_ID, PARTICIPANT_ID)).thenReturn(true);
 	    participantController.addParticipant(spyParticipant, selectedEvent);
 
 	    //Verify
 	    InOrder inOrder = inOrder(eventRepository, participantRepository, participantManagementView);
-	    inOrder.verify(participantRepository).updateParticipant(spyParticipant);
-	    inOrder.verify(eventRepository).updateEvent(selectedEvent);
+	    inOrder.verify(participantRepository).enroll(EVENT_ID, PARTICIPANT_ID);
 	    inOrder.verify(participantManagementView).participantUpdated(spyParticipant);
 	    // Verify that addEvent was called on the participant with the selectedEvent
 	    verify(spyParticipant).addEvent(selectedEvent);
@@ -263,6 +309,340 @@ public class ParticipantControllerTest {
 		verifyNoMoreInteractions(participantManagementView);
 	}
 
+	// Test case for adding an existing Participant to event when another instance enrolled it since the lookup
+	@Test
+	public void testAddParticipantToEventWhenParticipantWasEnrolledMeanwhile() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
+		when(participantRepository.enroll(EVENT_ID, PARTICIPANT_ID)).thenReturn(false);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).showError("Participant already existed with email " + PARTICIPANT_EMAIL
+				+ " and associated with event Id " + EVENT_ID, participant);
+		assertThat(participant.getEvents()).isEmpty();
+		verifyNoMoreInteractions(ignoreStubs(eventRepository));
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for adding a new Participant to event with group commit, registered in one call and announced once
+	// the registration is committed
+	@Test
+	public void testAddParticipantWithGroupCommitWhenParticipantWithEmailDoesNotExist() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		participantController.setGroupCommit(true);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.registerParticipant(participant, selectedEvent))
+				.thenReturn(CompletableFuture.completedFuture(null));
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		InOrder inOrder = inOrder(participantRepository, participantManagementView);
+		inOrder.verify(participantRepository).registerParticipant(participant, selectedEvent);
+		inOrder.verify(participantManagementView).participantAdded(participant);
+		assertThat(participant.getEvents()).containsExactly(selectedEvent);
+		verifyNoMoreInteractions(ignoreStubs(eventRepository));
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for adding an existing Participant to another event with group commit
+	@Test
+	public void testAddParticipantWithGroupCommitWhenParticipantWithEmailExistButNotAssociatedWithSelectedEvent() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		participantController.setGroupCommit(true);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
+		when(participantRepository.registerParticipant(participant, selectedEvent))
+				.thenReturn(CompletableFuture.completedFuture(null));
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).participantUpdated(participant);
+		assertThat(participant.getEvents()).containsExactly(selectedEvent);
+		verifyNoMoreInteractions(ignoreStubs(eventRepository));
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for a group committed registration which fails, the error is shown and the association undone
+	@Test
+	public void testAddParticipantWithGroupCommitWhenRegistrationFails() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		CompletableFuture<Void> failedRegistration = new CompletableFuture<>();
+		failedRegistration.completeExceptionally(new HibernateException("Could not register participant."));
+		participantController.setGroupCommit(true);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.registerParticipant(participant, selectedEvent)).thenReturn(failedRegistration);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView)
+				.showError("Could not register participant with email " + PARTICIPANT_EMAIL, participant);
+		assertThat(participant.getEvents()).isEmpty();
+		assertThat(selectedEvent.getParticipants()).isEmpty();
+		verifyNoMoreInteractions(ignoreStubs(eventRepository));
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for a group committed registration rejected as a duplicate, the email having been registered by
+	// another clerk since the lookup
+	@Test
+	public void testAddParticipantWithGroupCommitWhenEmailWasRegisteredMeanwhile() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		CompletableFuture<Void> duplicateRegistration = new CompletableFuture<>();
+		duplicateRegistration.completeExceptionally(new ConstraintViolationException(
+				"Participant or registration already exists.", new SQLException("Duplicate entry", "23505"), null));
+		participantController.setGroupCommit(true);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.registerParticipant(participant, selectedEvent)).thenReturn(duplicateRegistration);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).showError("Participant already existed with email " + PARTICIPANT_EMAIL
+				+ " and associated with event Id " + EVENT_ID, participant);
+		assertThat(participant.getParticipantId()).isNull();
+		assertThat(participant.getEvents()).isEmpty();
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for a group committed registration completed by another thread, the view is notified there within
+	// the interaction of the action
+	@Test
+	public void testAddParticipantWithGroupCommitCarriesTheInteractionToTheCommittingThread() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		Interaction interaction = new InteractionLatencyRecorder(new MetricsRegistry())
+				.begin("ParticipantManagementViewScreen.addParticipant");
+		AtomicReference<Interaction> seenByView = new AtomicReference<>();
+		AtomicReference<Thread> notifyingThread = new AtomicReference<>();
+		participantController.setGroupCommit(true);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.registerParticipant(participant, selectedEvent))
+				.thenAnswer(invocation -> completedByAnotherThread());
+		doAnswer(invocation -> {
+			seenByView.set(InteractionLatencyRecorder.current());
+			notifyingThread.set(Thread.currentThread());
+			return null;
+		}).when(participantManagementView).participantAdded(participant);
+		InteractionLatencyRecorder.runWithin(interaction,
+				() -> participantController.addParticipant(participant, selectedEvent));
+
+		//Verify
+		assertThat(notifyingThread.get()).isNotSameAs(Thread.currentThread());
+		assertThat(seenByView.get()).isSameAs(interaction);
+		assertThat(InteractionLatencyRecorder.current()).isNotSameAs(interaction);
+	}
+
+	// Test case for adding a Participant whose email the filter has never seen, its lookup is skipped
+	@Test
+	public void testAddParticipantWithEmailFilterWhenEmailIsNew() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		EmailBloomFilter emailFilter = new EmailBloomFilter(1000, 0.01);
+		participantController.setEmailFilter(emailFilter);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.addParticipantToEvent(participant, EVENT_ID)).thenReturn(true);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantRepository, never()).getParticipantByEmail(anyString());
+		verify(participantRepository).addParticipantToEvent(participant, EVENT_ID);
+		verify(participantManagementView).participantAdded(participant);
+		assertThat(emailFilter.getNegatives()).isEqualTo(1);
+	}
+
+	// Test case for adding a Participant whose email the filter knows, it is looked up as without the filter
+	@Test
+	public void testAddParticipantWithEmailFilterWhenEmailIsKnown() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		EmailBloomFilter emailFilter = new EmailBloomFilter(1000, 0.01);
+		emailFilter.add(PARTICIPANT_EMAIL);
+		participantController.setEmailFilter(emailFilter);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
+		when(participantRepository.enroll(EVENT_ID, PARTICIPANT_ID)).thenReturn(true);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantRepository).getParticipantByEmail(PARTICIPANT_EMAIL);
+		verify(participantManagementView).participantUpdated(participant);
+		assertThat(emailFilter.getFalsePositives()).isZero();
+	}
+
+	// Test case for a lookup the filter asked for which found nothing, it is recorded as a false positive
+	@Test
+	public void testAddParticipantWithEmailFilterRecordsFalsePositives() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		EmailBloomFilter emailFilter = new EmailBloomFilter(1000, 0.01);
+		// A deleted participant remains in the filter
+		emailFilter.add(PARTICIPANT_EMAIL);
+		participantController.setEmailFilter(emailFilter);
+
+		//Exercise
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.addParticipantToEvent(participant, EVENT_ID)).thenReturn(true);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantRepository).addParticipantToEvent(participant, EVENT_ID);
+		verify(participantManagementView).participantAdded(participant);
+		assertThat(emailFilter.getFalsePositives()).isEqualTo(1);
+		assertThat(emailFilter.getObservedFalsePositiveRate()).isEqualTo(1.0);
+	}
+
+	// Test case for adding a new Participant to event with an upsert, no lookup before the registration
+	@Test
+	public void testAddParticipantWithUpsertWhenParticipantWithEmailDoesNotExist() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		participantController.setUpsertRegistration(true);
+
+		//Exercise
+		when(participantRepository.upsertRegistration(participant, EVENT_ID))
+				.thenReturn(RegistrationOutcome.PARTICIPANT_ADDED);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantRepository).upsertRegistration(participant, EVENT_ID);
+		verify(participantManagementView).participantAdded(participant);
+		assertThat(participant.getEvents()).containsExactly(selectedEvent);
+		verifyNoInteractions(eventRepository);
+		verifyNoMoreInteractions(participantRepository);
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for adding an existing Participant to another event with an upsert, reloaded for the view
+	@Test
+	public void testAddParticipantWithUpsertWhenParticipantWithEmailExistButNotAssociatedWithSelectedEvent() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		ParticipantModel registeredParticipant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME,
+				PARTICIPANT_EMAIL);
+		registeredParticipant.addEvent(selectedEvent);
+		participantController.setUpsertRegistration(true);
+
+		//Exercise
+		when(participantRepository.upsertRegistration(participant, EVENT_ID)).thenAnswer(invocation -> {
+			participant.setParticipantId(PARTICIPANT_ID);
+			return RegistrationOutcome.PARTICIPANT_REGISTERED;
+		});
+		when(participantRepository.getParticipantById(PARTICIPANT_ID)).thenReturn(registeredParticipant);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		InOrder inOrder = inOrder(participantRepository, participantManagementView);
+		inOrder.verify(participantRepository).upsertRegistration(participant, EVENT_ID);
+		inOrder.verify(participantRepository).getParticipantById(PARTICIPANT_ID);
+		inOrder.verify(participantManagementView).participantUpdated(registeredParticipant);
+		verifyNoInteractions(eventRepository);
+		verifyNoMoreInteractions(participantRepository);
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for an upsert of a registration which exists already, the database rejected it
+	@Test
+	public void testAddParticipantWithUpsertWhenParticipantAlreadyAssociatedWithSelectedEvent() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		participantController.setUpsertRegistration(true);
+
+		//Exercise
+		when(participantRepository.upsertRegistration(participant, EVENT_ID))
+				.thenReturn(RegistrationOutcome.ALREADY_REGISTERED);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).showError("Participant already existed with email " + PARTICIPANT_EMAIL
+				+ " and associated with event Id " + EVENT_ID, participant);
+		assertThat(participant.getEvents()).isEmpty();
+		verifyNoInteractions(eventRepository);
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for an upsert to an event which does not exist
+	@Test
+	public void testAddParticipantWithUpsertWhenSelectedEventDoesNotExist() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		participantController.setUpsertRegistration(true);
+
+		//Exercise
+		when(participantRepository.upsertRegistration(participant, EVENT_ID))
+				.thenReturn(RegistrationOutcome.EVENT_NOT_FOUND);
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).showError("Event doesn't exist with id " + EVENT_ID, participant);
+		assertThat(participant.getEvents()).isEmpty();
+		verifyNoInteractions(eventRepository);
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for an upsert of an invalid participant, nothing reaches the database
+	@Test
+	public void testAddParticipantWithUpsertWhenEmailFormatIsInvalid() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME, PARTICIPANT_INVALID_EMAIL);
+		participantController.setUpsertRegistration(true);
+
+		//Exercise
+		participantController.addParticipant(participant, selectedEvent);
+
+		//Verify
+		verify(participantManagementView).showError(anyString(), eq(participant));
+		verifyNoInteractions(eventRepository);
+		verifyNoInteractions(participantRepository);
+	}
+
 	// Test case for adding a participant to event when the name is null
 	@Test
 	public void testAddParticipantWhenNameIsNull() {
@@ -388,12 +768,11 @@ public class ParticipantControllerTest {
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		
 		//Exercise
-		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
-		when(eventRepository.getEventById(selectedEvent.getEventId())).thenReturn(selectedEvent);
+		when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL)).thenReturn(false);
+		when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(false);
 		participantController.deleteParticipant(participant, selectedEvent);
 		
 		//Verify
-		verify(eventRepository).getEventById(selectedEvent.getEventId());
 		verify(participantManagementView).showError("Participant doesn't exist with email " + PARTICIPANT_EMAIL,
 				participant);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
@@ -410,14 +789,35 @@ public class ParticipantControllerTest {
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		
 		//Exercise
-		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
-		when(eventRepository.getEventById(selectedEvent.getEventId())).thenReturn(selectedEvent);
+		when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL)).thenReturn(false);
+		when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(true);
 		participantController.deleteParticipant(participant, selectedEvent);
 		
 		//Verify
-		verify(eventRepository).getEventById(selectedEvent.getEventId());
 		verify(participantManagementView).showError("Participant with email " + PARTICIPANT_EMAIL
 				+ " is not associated with event Id " + selectedEvent.getEventId(), participant);
+		verify(participantRepository, never()).getParticipantByEmail(anyString());
+		verifyNoMoreInteractions(ignoreStubs(eventRepository));
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
+	// Test case for deleting a participant from event when it was deleted between the check of its association and
+	// its lookup
+	@Test
+	public void testDeleteParticipantWhenDeletedMeanwhile() {
+		//Setup
+		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		
+		//Exercise
+		when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL)).thenReturn(true);
+		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		participantController.deleteParticipant(participant, selectedEvent);
+		
+		//Verify
+		verify(participantManagementView).showError("Participant doesn't exist with email " + PARTICIPANT_EMAIL,
+				participant);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
 		verifyNoMoreInteractions(ignoreStubs(participantRepository));
 		verifyNoMoreInteractions(participantManagementView);
@@ -432,15 +832,14 @@ public class ParticipantControllerTest {
 		EventModel selectedEvent = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		participant.addEvent(selectedEvent);
+		when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL)).thenReturn(true);
 		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
-		when(eventRepository.getEventById(selectedEvent.getEventId())).thenReturn(selectedEvent);
 		participantController.deleteParticipant(participant, selectedEvent);
 		
 		//Verify
 		InOrder inOrder = inOrder(eventRepository, participantRepository, participantManagementView);
-		inOrder.verify(eventRepository).getEventById(selectedEvent.getEventId());
-		inOrder.verify(participantRepository).updateParticipant(participant);
-		inOrder.verify(eventRepository).updateEvent(selectedEvent);
+		inOrder.verify(participantRepository).isEnrolled(EVENT_ID, PARTICIPANT_EMAIL);
+		inOrder.verify(participantRepository).unenroll(EVENT_ID, PARTICIPANT_ID);
 		inOrder.verify(participantRepository).deleteParticipant(participant);
 		inOrder.verify(participantManagementView).participantDeleted(participant);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
@@ -459,16 +858,16 @@ public class ParticipantControllerTest {
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		participant.addEvent(selectedEvent);
 		participant.addEvent(additionalEvent);
+		when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL)).thenReturn(true);
 		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
-		when(eventRepository.getEventById(selectedEvent.getEventId())).thenReturn(selectedEvent);
 		participantController.deleteParticipant(participant, selectedEvent);
 		
 		//Verify
 		InOrder inOrder = inOrder(eventRepository, participantRepository, participantManagementView);
-		inOrder.verify(eventRepository).getEventById(selectedEvent.getEventId());
-		inOrder.verify(participantRepository).updateParticipant(participant);
-		inOrder.verify(eventRepository).updateEvent(selectedEvent);
+		inOrder.verify(participantRepository).isEnrolled(EVENT_ID, PARTICIPANT_EMAIL);
+		inOrder.verify(participantRepository).unenroll(EVENT_ID, PARTICIPANT_ID);
 		inOrder.verify(participantManagementView).participantUpdated(participant);
+		assertThat(participant.getEvents()).containsExactly(additionalEvent);
 		verifyNoMoreInteractions(ignoreStubs(eventRepository));
 		verifyNoMoreInteractions(ignoreStubs(participantRepository));
 		verifyNoMoreInteractions(participantManagementView);
@@ -497,7 +896,7 @@ public class ParticipantControllerTest {
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		
 		//Exercise
-		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(null);
+		when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(false);
 		participantController.updateParticipant(participant);
 		
 		//Verify
@@ -514,17 +913,36 @@ public class ParticipantControllerTest {
 		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 		
 		//Exercise
-		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(participant);
+		when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(true);
+		when(participantRepository.updateParticipantDetails(participant)).thenReturn(true);
 		participantController.updateParticipant(participant);
 		
 		//Verify
 		InOrder inOrder = inOrder(participantRepository, participantManagementView);
-		inOrder.verify(participantRepository).updateParticipant(participant);
+		inOrder.verify(participantRepository).updateParticipantDetails(participant);
 		inOrder.verify(participantManagementView).participantUpdated(participant);
 		verifyNoMoreInteractions(ignoreStubs(participantRepository));
 		verifyNoMoreInteractions(participantManagementView);
 	}
 
+	// Test case for updating a Participant deleted between its lookup and its update
+	@Test
+	public void testUpdateParticipantWhenDeletedMeanwhile() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
+		
+		//Exercise
+		when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(true);
+		when(participantRepository.updateParticipantDetails(participant)).thenReturn(false);
+		participantController.updateParticipant(participant);
+		
+		//Verify
+		verify(participantManagementView).showError("Participant doesn't exist with email " + PARTICIPANT_EMAIL,
+				participant);
+		verifyNoMoreInteractions(ignoreStubs(participantRepository));
+		verifyNoMoreInteractions(participantManagementView);
+	}
+
 	// Test case for updating participant when the name is null
 	@Test
 	public void testUpdateParticipantWhenNameIsNull() {
@@ -600,4 +1018,17 @@ public class ParticipantControllerTest {
 		verifyNoMoreInteractions(ignoreStubs(participantRepository));
 		verifyNoMoreInteractions(participantManagementView);
 	}
+
+	// Helper Methods
+	// Completes the registration on its own thread once the controller waits for it
+	private static CompletableFuture<Void> completedByAnotherThread() {
+		CompletableFuture<Void> registration = new CompletableFuture<>();
+		new Thread(() -> {
+			while (registration.getNumberOfDependents() == 0) {
+				Thread.yield();
+			}
+			registration.complete(null);
+		}, "group-commit-test").start();
+		return registration;
+	}
 }
@@ -94,9 +94,8 @@ public class EventControllerRaceConditionTest {
 	    List<EventModel> eventList = new ArrayList<>();
 	    // Create a new event
 	    EventModel event = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
-	    // Mock the getEventById method to simulate the repository behavior
-	    when(eventRepository.getEventById(EVENT_ID))
-	            .thenAnswer(invocation -> eventList.stream().findFirst().orElse(null));
+	    // Mock the existsEventById method to simulate the repository behavior
+	    when(eventRepository.existsEventById(EVENT_ID)).thenAnswer(invocation -> !eventList.isEmpty());
 	    // Mock the addEvent method to simulate adding the event to the storage
 	    doAnswer(invocation -> {
 	        eventList.add(event);
@@ -121,9 +120,8 @@ public class EventControllerRaceConditionTest {
 	    // Create and add an event to the list
 	    EventModel event = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 	    eventList.add(event);
-	    // Mock the getEventById method to simulate the repository behavior
-	    when(eventRepository.getEventById(EVENT_ID))
-	    .thenAnswer(invocation -> eventList.stream().findFirst().orElse(null));
+	    // Mock the existsEventById method to simulate the repository behavior
+	    when(eventRepository.existsEventById(EVENT_ID)).thenAnswer(invocation -> !eventList.isEmpty());
 	    // Mock the delete method to simulate event deletion
 	    doAnswer(invocation -> {
 	        eventList.remove(event);
@@ -152,15 +150,14 @@ public class EventControllerRaceConditionTest {
 	    // Create and add an event to the list
 	    EventModel event = new EventModel(EVENT_ID, EVENT_NAME, EVENT_DATE, EVENT_LOCATION);
 	    eventList.add(event);
-	    // Mock the getEventById method to simulate the repository behavior
-	    when(eventRepository.getEventById(EVENT_ID))
-	    .thenAnswer(invocation -> eventList.stream().findFirst().orElse(null));
-	    // Mock the update method to simulate the event update
+	    // Mock the update method to simulate the event update, which fails once the event is gone
 	    doAnswer(invocation -> {
-	        eventList.remove(event);
+	        if (!eventList.remove(event)) {
+	            return false;
+	        }
 	        updatedEventList.add(event);
-	        return null;
-	    }).when(eventRepository).updateEvent(any(EventModel.class));
+	        return true;
+	    }).when(eventRepository).updateEventDetails(any(EventModel.class));
 	    // Simulate concurrent updates by creating multiple threads
 	    List<Thread> threads = IntStream.range(0, 10)
 	            .mapToObj(i -> new Thread(() -> eventController.updateEvent(event))).peek(Thread::start)
@@ -170,7 +167,8 @@ public class EventControllerRaceConditionTest {
 	    // Ensure that the event is updated correctly
 	    assertThat(eventList).isEmpty();
 	    assertThat(updatedEventList).containsExactly(event);
-	    // Verify that the update method was called only once
-	    verify(eventRepository, times(1)).updateEvent(any(EventModel.class));
+	    // Verify that only one update succeeded and the others reported the missing event to the view
+	    verify(eventManagementView, times(1)).eventUpdated(event);
+	    verify(eventManagementView, times(9)).showError("Event doesn't exist with id " + EVENT_ID, event);
 	}
 }
\ No newline at end of file
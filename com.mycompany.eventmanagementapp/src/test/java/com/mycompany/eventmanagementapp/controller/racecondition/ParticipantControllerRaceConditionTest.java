@@ -53,6 +53,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.doAnswer;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -123,25 +124,19 @@ public class ParticipantControllerRaceConditionTest {
 		ParticipantModel newParticipant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 
 		// Stub the repository methods
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(event);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
 
 		// Simulate the scenario where the participant does not exist initially
 		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL))
 				.thenAnswer(invocation -> participants.stream().findFirst().orElse(null));
 
-		// Stub the addParticipant and updateEvent methods to simulate the behavior
-		doAnswer(invocation -> {
-			newParticipant.addEvent(event); // Create Link with Participant and Event
-			participants.add(newParticipant); // Add the participant to the "database"
-			return null;
-		}).when(participantRepository).addParticipant(any(ParticipantModel.class));
-
-		doAnswer(invocation -> {
-			// updateEvent make sure that linking between Participant and Event will Persist
-			// in Database, here we will not add any method to copy that functionality
-			// because it is not required here.
-			return null;
-		}).when(eventRepository).updateEvent(any(EventModel.class));
+		// Stub the addParticipantToEvent method, which saves the participant and its link to the Event together,
+		// the controller links the models itself
+		when(participantRepository.addParticipantToEvent(any(ParticipantModel.class), eq(EVENT_ID)))
+				.thenAnswer(invocation -> {
+					participants.add(newParticipant); // Add the participant to the "database"
+					return true;
+				});
 
 		// Start multiple threads to simulate concurrent access
 		List<Thread> threads = IntStream.range(0, 10)
@@ -156,10 +151,8 @@ public class ParticipantControllerRaceConditionTest {
 		// Verify that participant has been linked to specific event
 		assertThat(participants.get(0).getEvents()).containsExactly(event);
 
-		// Verify that the addParticipant method was called exactly once
-		verify(participantRepository, times(1)).addParticipant(any(ParticipantModel.class));
-		// Verify that the updateEvent method was called exactly once
-		verify(eventRepository, times(1)).updateEvent(any(EventModel.class));
+		// Verify that the addParticipantToEvent method was called exactly once
+		verify(participantRepository, times(1)).addParticipantToEvent(any(ParticipantModel.class), eq(EVENT_ID));
 	}
 
 	@Test
@@ -176,19 +169,11 @@ public class ParticipantControllerRaceConditionTest {
 		participants.add(existingParticipant);
 
 		// Stub the repository methods
-		when(eventRepository.getEventById(EVENT_ID)).thenReturn(event);
+		when(eventRepository.existsEventById(EVENT_ID)).thenReturn(true);
 		when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenReturn(existingParticipant);
 
-		// Stub the updateParticipant and updateEvent methods
-		doAnswer(invocation -> {
-			participants.get(0).addEvent(event); // Adding link between Existing Participant and Event
-			return null;
-		}).when(participantRepository).updateParticipant(any(ParticipantModel.class));
-
-		doAnswer(invocation -> {
-			// In the eventRepository, simulate updating the event (no-op for this test)
-			return null;
-		}).when(eventRepository).updateEvent(any(EventModel.class));
+		// Stub the enroll method, the controller adds the link between Existing Participant and Event
+		when(participantRepository.enroll(EVENT_ID, PARTICIPANT_ID)).thenReturn(true);
 
 		// Start multiple threads to simulate concurrent access
 		List<Thread> threads = IntStream.range(0, 10)
@@ -202,10 +187,8 @@ public class ParticipantControllerRaceConditionTest {
 		// duplicated
 		assertThat(existingParticipant.getEvents()).containsExactly(event);
 
-		// Verify that the updateParticipant method was called exactly once
-		verify(participantRepository, times(1)).updateParticipant(any(ParticipantModel.class));
-		// Verify that the updateEvent method was called exactly once
-		verify(eventRepository, times(1)).updateEvent(any(EventModel.class));
+		// Verify that the enroll method was called exactly once
+		verify(participantRepository, times(1)).enroll(EVENT_ID, PARTICIPANT_ID);
 	}
 
 	@Test
@@ -222,19 +205,15 @@ public class ParticipantControllerRaceConditionTest {
 	    participants.add(participant);
 
 	    // Stub repository methods
-	    when(eventRepository.getEventById(EVENT_ID)).thenReturn(event);
+	    when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL))
+	            .thenAnswer(invocation -> participants.stream().anyMatch(p -> p.getEvents().contains(event)));
+	    when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL))
+	            .thenAnswer(invocation -> !participants.isEmpty());
 	    when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenAnswer(invocation -> participants.stream().findFirst().orElse(null));
 
 	    // Stub methods to simulate removing the event and deleting the participant
-	    doAnswer(invocation -> {
-	        //No Activity required here, event removal will be handled by controller itself, Update method will only persists those changes in DB
-	        return null;
-	    }).when(participantRepository).updateParticipant(any(ParticipantModel.class));
-	    
-	    doAnswer(invocation -> {
-	        //No Activity required here
-	        return null;
-	    }).when(eventRepository).updateEvent(any(EventModel.class));
+	    //No Activity required for unenroll, event removal will be handled by controller itself, unenroll will only persists it in DB
+	    when(participantRepository.unenroll(EVENT_ID, PARTICIPANT_ID)).thenReturn(true);
 	    
 	    doAnswer(invocation -> {
 	        participants.remove(participant);
@@ -253,10 +232,9 @@ public class ParticipantControllerRaceConditionTest {
 	    assertThat(participants).isEmpty();
 	    assertThat(events).containsExactly(event);  // Event should remain intact
 
-	    // Verify that the updateParticipant method was called once
-	    verify(participantRepository, times(1)).updateParticipant(any(ParticipantModel.class));
+	    // Verify that the unenroll method was called once
+	    verify(participantRepository, times(1)).unenroll(EVENT_ID, PARTICIPANT_ID);
 	    verify(participantRepository, times(1)).deleteParticipant(any(ParticipantModel.class));
-	    verify(eventRepository, times(1)).updateEvent(any(EventModel.class));
 	}
 	
 	@Test
@@ -273,19 +251,14 @@ public class ParticipantControllerRaceConditionTest {
 	    participants.add(participant);
 
 	    // Stub repository methods
-	    when(eventRepository.getEventById(EVENT_ID)).thenReturn(event1);
+	    when(participantRepository.isEnrolled(EVENT_ID, PARTICIPANT_EMAIL))
+	            .thenAnswer(invocation -> participants.stream().anyMatch(p -> p.getEvents().contains(event1)));
+	    when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL))
+	            .thenAnswer(invocation -> !participants.isEmpty());
 	    when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenAnswer(invocation -> participants.stream().findFirst().orElse(null));
 
 	    // Stub methods to simulate removing the event from the participant's list
-	    doAnswer(invocation -> {
-	        // No Activity Required.
-	        return null;
-	    }).when(participantRepository).updateParticipant(any(ParticipantModel.class));
-
-	    doAnswer(invocation -> {
-	        // No Activity Required
-	        return null;
-	    }).when(eventRepository).updateEvent(any(EventModel.class));
+	    when(participantRepository.unenroll(EVENT_ID, PARTICIPANT_ID)).thenReturn(true);
 
 	    // Start 10 threads to simulate concurrent access
 	    List<Thread> threads = IntStream.range(0, 10)
@@ -300,10 +273,9 @@ public class ParticipantControllerRaceConditionTest {
 	    assertThat(participants).containsExactly(participant);
 	    assertThat(participant.getEvents()).containsExactly(event2);  // Only event1 was removed
 
-	    // Verify that the updateParticipant method was called once
-	    verify(participantRepository, times(1)).updateParticipant(any(ParticipantModel.class));
+	    // Verify that the unenroll method was called once
+	    verify(participantRepository, times(1)).unenroll(EVENT_ID, PARTICIPANT_ID);
 	    verify(participantRepository, times(0)).deleteParticipant(any(ParticipantModel.class));
-	    verify(eventRepository, times(1)).updateEvent(any(EventModel.class));
 	}
 	
 	@Test
@@ -315,14 +287,15 @@ public class ParticipantControllerRaceConditionTest {
 	    // Create and add participant to the list
 	    ParticipantModel participant = new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME, PARTICIPANT_EMAIL);
 	    participants.add(participant);
-	    // Mock the getParticipantByEmail method to simulate the repository behavior
-	    when(participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL)).thenAnswer(invocation -> participants.stream().findFirst().orElse(null));
+	    // Mock the existsParticipantByEmail method to simulate the repository behavior
+	    when(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL))
+	            .thenAnswer(invocation -> !participants.isEmpty());
 
 	    doAnswer(invocation -> {
 	    	participants.remove(participant);
 	    	updatedParticipants.add(participant);
-	        return null;
-	    }).when(participantRepository).updateParticipant(any(ParticipantModel.class));
+	        return true;
+	    }).when(participantRepository).updateParticipantDetails(any(ParticipantModel.class));
 	    // Simulate concurrent updates by creating multiple threads
 	    List<Thread> threads = IntStream.range(0, 10)
 	            .mapToObj(i -> new Thread(() -> participantController.updateParticipant(participant))).peek(Thread::start)
@@ -333,6 +306,6 @@ public class ParticipantControllerRaceConditionTest {
 	    assertThat(participants).isEmpty();
 	    assertThat(updatedParticipants).containsExactly(participant);
 	    // Verify that the update method was called only once
-	    verify(participantRepository, times(1)).updateParticipant(any(ParticipantModel.class));
+	    verify(participantRepository, times(1)).updateParticipantDetails(any(ParticipantModel.class));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+/**
+ * Unit tests for the ValidationEngine and ValidationResult classes in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. The email scanner accepts exactly what the regular expression ValidationConfigurations used to accept.
+ * 2. Blank strings are recognized like String.trim does, and past dates like LocalDate.isBefore(LocalDate.now()).
+ * 3. Valid entities leave the result valid, and a reset result can be reused.
+ * 4. Invalid entities report every invalid field with the messages of ValidationConfigurations.
+ * 5. Collections report the violations with the index of their item, in order, the same sequentially and in
+ *    parallel.
+ */
+
+package com.mycompany.eventmanagementapp.controller.utils;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.controller.utils.ValidationResult.Violation;
+
+public class ValidationEngineTest {
+
+	// The regular expression ValidationConfigurations used before the scanner
+	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+	private static final LocalDate VALID_DATE = LocalDate.now().plusDays(10);
+
+	// Test the email scanner agrees with the regular expression
+	@Test
+	public void testEmailScannerAgreesWithTheRegularExpression() {
+		//Setup
+		List<String> emails = new ArrayList<>(Arrays.asList("John@gmail.com", "first.last+tag@mail.example.co.uk",
+				"a_b-c@d-e.fg", "x@y.zz", "John@gmail", "@gmail.com", "John@.com", "John@gmail.c", "John@gmail.c0m",
+				"John@@gmail.com", "John@gm@il.com", "John@gmail.com.", "John@gm_ail.com", "Jo hn@gmail.com",
+				" John@gmail.com", "John@gmail.com\n", "Jöhn@gmail.com", "John@gmail..com", ".@-.ab", "John", ""));
+		Random random = new Random(42);
+		String alphabet = "aZ09+_.-@ é";
+		for (int i = 0; i < 20_000; i++) {
+			StringBuilder email = new StringBuilder();
+			for (int length = random.nextInt(10); length > 0; length--) {
+				email.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			emails.add(email.toString());
+		}
+
+		//Verify
+		for (String email : emails) {
+			assertThat(ValidationEngine.isValidEmail(email)).as(email)
+					.isEqualTo(EMAIL_PATTERN.matcher(email).matches());
+		}
+		assertThat(ValidationEngine.isValidEmail(null)).isFalse();
+	}
+
+	// Test blank strings and past dates
+	@Test
+	public void testBlankStringsAndPastDates() {
+		//Verify
+		for (String string : Arrays.asList(null, "", " ", "\t\n ", "\u0000", " a ", " ", "Name")) {
+			assertThat(ValidationEngine.isBlank(string)).as("[%s]", string)
+					.isEqualTo(string == null || string.trim().isEmpty());
+		}
+		assertThat(ValidationEngine.isPast(LocalDate.now().minusDays(1))).isTrue();
+		assertThat(ValidationEngine.isPast(LocalDate.now())).isFalse();
+		assertThat(ValidationEngine.isPast(VALID_DATE)).isFalse();
+	}
+
+	// Test valid entities leave a reused result valid
+	@Test
+	public void testValidEntitiesLeaveTheResultValid() {
+		//Setup
+		ValidationResult result = new ValidationResult();
+		ValidationEngine.validateParticipant(new ParticipantModel("", "John@gmail"), result);
+
+		//Exercise
+		boolean validEvent = ValidationEngine.validateEvent(new EventModel("Music Festival", VALID_DATE, "Florence"),
+				result.reset());
+		boolean validParticipant = ValidationEngine
+				.validateParticipant(new ParticipantModel("John", "John@gmail.com"), result);
+
+		//Verify
+		assertThat(validEvent).isTrue();
+		assertThat(validParticipant).isTrue();
+		assertThat(result.isValid()).isTrue();
+		assertThat(result.getViolations()).isEmpty();
+		assertThat(result.getFirstMessage()).isNull();
+		assertThat(result).hasToString("Valid");
+	}
+
+	// Test every invalid field is reported
+	@Test
+	public void testEveryInvalidFieldIsReported() {
+		//Setup
+		ValidationResult result = new ValidationResult();
+
+		//Exercise
+		boolean validEvent = ValidationEngine
+				.validateEvent(new EventModel(" ", LocalDate.now().minusDays(1), null), result);
+		boolean validParticipant = ValidationEngine.validateParticipant(new ParticipantModel(null, " "), result);
+		ValidationEngine.validateEvent(new EventModel("Music Festival", null, "Florence"), result);
+		ValidationEngine.validateParticipant(new ParticipantModel("John", "John@gmail"), result);
+		ValidationEngine.validateParticipant(null, result);
+
+		//Verify
+		assertThat(validEvent).isFalse();
+		assertThat(validParticipant).isFalse();
+		assertThat(result.isValid()).isFalse();
+		assertThat(result.getViolations()).extracting(Violation::getIndex, Violation::getField, Violation::getMessage)
+				.containsExactly(
+						tuple(ValidationResult.NO_INDEX, "Name", "Name is required and cannot be null or empty"),
+						tuple(ValidationResult.NO_INDEX, "Location",
+								"Location is required and cannot be null or empty"),
+						tuple(ValidationResult.NO_INDEX, "Date", "Date cannot be in the past"),
+						tuple(ValidationResult.NO_INDEX, "Name", "Name is required and cannot be null or empty"),
+						tuple(ValidationResult.NO_INDEX, "Email", "Email cannot be null or empty"),
+						tuple(ValidationResult.NO_INDEX, "Date", "Date is required and cannot be null"),
+						tuple(ValidationResult.NO_INDEX, "Email", "Invalid email format."),
+						tuple(ValidationResult.NO_INDEX, "Participant", "Participant is null"));
+		assertThat(result.getFirstMessage()).isEqualTo("Name is required and cannot be null or empty");
+	}
+
+	// Test collections report the index of their items, the same sequentially and in parallel
+	@Test
+	public void testCollectionsReportTheIndexOfTheirItems() {
+		//Setup
+		int size = 3 * ValidationEngine.PARALLEL_CHUNK + 7;
+		List<ParticipantModel> participants = new ArrayList<>();
+		List<EventModel> events = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			participants.add(i % 500 == 3 ? new ParticipantModel("Participant", "participant" + i + "@example")
+					: new ParticipantModel("Participant", "participant" + i + "@example.com"));
+			events.add(i % 700 == 5 ? new EventModel("", VALID_DATE, "Florence")
+					: new EventModel("Event", VALID_DATE, "Florence"));
+		}
+
+		//Exercise
+		ValidationResult sequential = ValidationEngine.validateParticipants(participants, new ValidationResult());
+		ValidationResult parallel = ValidationEngine.validateParticipantsInParallel(participants,
+				new ValidationResult());
+		ValidationResult parallelEvents = ValidationEngine.validateEventsInParallel(events, new ValidationResult());
+
+		//Verify
+		assertThat(sequential.getViolations()).extracting(Violation::getIndex).containsExactly(3, 503, 1003, 1503,
+				2003, 2503, 3003);
+		assertThat(parallel.getViolations()).extracting(Violation::toString)
+				.isEqualTo(sequential.getViolations().stream().map(Violation::toString)
+						.collect(Collectors.toList()));
+		assertThat(parallel.getViolations().get(0)).hasToString("[3] Email: Invalid email format.");
+		assertThat(parallelEvents.getViolations()).extracting(Violation::getIndex).containsExactly(5, 705, 1405,
+				2105, 2805);
+		assertThat(ValidationEngine.validateEvents(events.subList(0, 5), new ValidationResult()).isValid()).isTrue();
+	}
+}
@@ -0,0 +1,192 @@
+/**
+ * Unit tests for the DatasetGenerator class in the Event Management Application.
+ *
+ * The datasets are generated into an in-memory H2 database in MySQL mode whose schema is created from the
+ * entities, and read back through the repositories.
+ *
+ * The tests verify that:
+ * 1. The configured numbers of events and participants are generated, every participant being registered to at
+ *    least one event, with the configured mean, and all the data passing the validation.
+ * 2. The event sizes are skewed by the Zipf exponent, and even without skew.
+ * 3. The same seed generates the same data.
+ * 4. A generation appends to the existing data, and the entities added through the repositories afterwards get
+ *    the following ids.
+ * 5. Invalid settings are rejected.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.Set;
+import java.util.List;
+import org.junit.Test;
+import org.junit.After;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.boot.MetadataSources;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.loadtest.DatasetGenerator.Summary;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+public class DatasetGeneratorTest {
+
+	private static final AtomicInteger DATABASES = new AtomicInteger();
+
+	private final List<StandardServiceRegistry> registries = new ArrayList<>();
+
+	private final List<SessionFactory> sessionFactories = new ArrayList<>();
+
+	@After
+	public void tearDown() {
+		sessionFactories.forEach(SessionFactory::close);
+		registries.forEach(StandardServiceRegistryBuilder::destroy);
+	}
+
+	// Test the dataset has the configured size and passes the validation
+	@Test
+	public void testDatasetIsGenerated() throws Exception {
+		//Setup
+		SessionFactory sessionFactory = newDatabase();
+		DatasetGenerator generator = generator(20, 2000, 1.5, 1.0, 7);
+
+		//Exercise
+		Summary summary = generate(sessionFactory, generator);
+
+		//Verify
+		List<EventModel> events = new EventMySqlRepository(sessionFactory).getAllEvents();
+		List<ParticipantModel> participants = new ParticipantMySqlRepository(sessionFactory).getAllParticipants();
+		assertThat(summary.getEvents()).isEqualTo(20);
+		assertThat(summary.getParticipants()).isEqualTo(2000);
+		assertThat(events).hasSize(20).allMatch(event -> event.getEventDate().isAfter(LocalDate.now()));
+		assertThat(participants).hasSize(2000).allMatch(participant -> !participant.getEvents().isEmpty());
+		assertThat(participants.stream().map(ParticipantModel::getParticipantEmail).distinct()).hasSize(2000);
+		long registrations = participants.stream().mapToLong(participant -> participant.getEvents().size()).sum();
+		assertThat(summary.getRegistrations()).isEqualTo(registrations);
+		assertThat(registrations / 2000.0).isCloseTo(1.5, within(0.15));
+		assertThat(summary.getLargestEvent())
+				.isEqualTo(events.stream().mapToInt(event -> event.getParticipants().size()).max().getAsInt());
+		assertThat(summary.toString()).startsWith("Generated 20 event(s), 2000 participant(s) and " + registrations);
+	}
+
+	// Test the event sizes follow the skew
+	@Test
+	public void testEventSizesAreSkewed() throws Exception {
+		//Exercise
+		Summary skewed = generate(newDatabase(), generator(100, 3000, 1.0, 1.0, 7));
+		Summary even = generate(newDatabase(), generator(100, 3000, 1.0, 0, 7));
+
+		//Verify
+		// 30 participants per event on average, the largest Zipf rank gets a fifth of all of them
+		assertThat(skewed.getLargestEvent()).isGreaterThan(10 * 30);
+		assertThat(even.getLargestEvent()).isLessThan(3 * 30);
+	}
+
+	// Test the same seed generates the same data
+	@Test
+	public void testSameSeedGeneratesSameData() throws Exception {
+		//Setup
+		SessionFactory first = newDatabase();
+		SessionFactory second = newDatabase();
+
+		//Exercise
+		generate(first, generator(10, 300, 2, 1.0, 11));
+		generate(second, generator(10, 300, 2, 1.0, 11));
+
+		//Verify
+		String events = "select eventId, event_name, event_date, event_location from event";
+		String registrations = "select event_id, participant_id from event_participant";
+		assertThat(rows(second, events)).hasSize(10).isEqualTo(rows(first, events));
+		assertThat(rows(second, registrations)).isNotEmpty().isEqualTo(rows(first, registrations));
+	}
+
+	// Test a generation appends to the data and the ids continue after it
+	@Test
+	public void testGenerationAppendsAndIdsContinue() throws Exception {
+		//Setup
+		SessionFactory sessionFactory = newDatabase();
+		EventMySqlRepository eventRepository = new EventMySqlRepository(sessionFactory);
+		ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		eventRepository.addEvent(new EventModel("Music Festival", LocalDate.now().plusDays(10), "Florence"));
+
+		//Exercise
+		generate(sessionFactory, generator(5, 50, 1, 1.0, 1));
+		generate(sessionFactory, generator(5, 50, 1, 1.0, 2));
+		EventModel event = new EventModel("Conference", LocalDate.now().plusDays(10), "Rome");
+		eventRepository.addEvent(event);
+		ParticipantModel participant = new ParticipantModel("John", "John@gmail.com");
+		participant.addEvent(event);
+		participantRepository.addParticipant(participant);
+
+		//Verify
+		assertThat(event.getEventId()).isEqualTo(12);
+		assertThat(participant.getParticipantId()).isEqualTo(101);
+		assertThat(eventRepository.getAllEvents()).hasSize(12);
+		assertThat(participantRepository.getAllParticipants()).hasSize(101);
+	}
+
+	// Test invalid settings are rejected
+	@Test
+	public void testInvalidSettingsAreRejected() {
+		//Setup
+		DatasetGenerator generator = new DatasetGenerator();
+
+		//Verify
+		assertThatThrownBy(() -> generator.setEvents(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> generator.setParticipants(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> generator.setRegistrationsPerParticipant(0.5))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> generator.setSkew(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> generator.setBatchSize(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// Helper Methods
+	private SessionFactory newDatabase() {
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url",
+						"jdbc:h2:mem:dataset-" + DATABASES.incrementAndGet() + ";MODE=MySQL")
+				.applySetting("hibernate.show_sql", "false").build();
+		registries.add(registry);
+		SessionFactory sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+		sessionFactories.add(sessionFactory);
+		return sessionFactory;
+	}
+
+	private DatasetGenerator generator(int events, int participants, double registrations, double skew, long seed) {
+		DatasetGenerator generator = new DatasetGenerator();
+		generator.setEvents(events);
+		generator.setParticipants(participants);
+		generator.setRegistrationsPerParticipant(registrations);
+		generator.setSkew(skew);
+		generator.setSeed(seed);
+		generator.setBatchSize(64);
+		return generator;
+	}
+
+	private Summary generate(SessionFactory sessionFactory, DatasetGenerator generator) {
+		try (Session session = sessionFactory.openSession()) {
+			return session.doReturningWork(generator::generate);
+		}
+	}
+
+	private Set<List<Object>> rows(SessionFactory sessionFactory, String query) {
+		try (Session session = sessionFactory.openSession()) {
+			Set<List<Object>> rows = new HashSet<>();
+			for (Object row : session.createNativeQuery(query).list()) {
+				rows.add(Arrays.asList((Object[]) row));
+			}
+			return rows;
+		}
+	}
+}
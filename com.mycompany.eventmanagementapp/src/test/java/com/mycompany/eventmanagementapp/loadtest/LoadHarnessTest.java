@@ -0,0 +1,203 @@
+/**
+ * Unit tests for the LoadHarness class in the Event Management Application.
+ *
+ * The clerks run against the repositories on an in-memory H2 database in MySQL mode, for a short time.
+ *
+ * The tests verify that:
+ * 1. The clerks perform every operation of the mix, the report counts them per operation in the "load" layer
+ *    of the registry and the invariants of the data hold afterwards.
+ * 2. The registrations of concurrent clerks committed in groups, registered with upserts or skipping the lookup of
+ *    the emails the email filter calls new, keep the invariants.
+ * 3. Only the operations of the mix are performed.
+ * 4. Lost or duplicated writes and participants without events are reported as invariant violations.
+ * 5. A run needs at least one clerk and the participant pool must not be empty.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.After;
+import org.junit.Before;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.metrics.OperationMetrics;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+import com.mycompany.eventmanagementapp.repository.mysql.GroupCommitPipeline;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+public class LoadHarnessTest {
+
+	private static final Duration RUN_TIME = Duration.ofMillis(1500);
+
+	private static final long SEED = 42;
+
+	private StandardServiceRegistry registry;
+
+	private SessionFactory sessionFactory;
+
+	private EventMySqlRepository eventRepository;
+
+	private ParticipantMySqlRepository participantRepository;
+
+	private MetricsRegistry metricsRegistry;
+
+	private LoadHarness harness;
+
+	@Before
+	public void setup() {
+		registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:load-harness;MODE=MySQL")
+				.applySetting("hibernate.show_sql", "false").build();
+		sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+		eventRepository = new EventMySqlRepository(sessionFactory);
+		participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		metricsRegistry = new MetricsRegistry();
+		harness = new LoadHarness(eventRepository, participantRepository, metricsRegistry);
+		for (int i = 1; i <= 3; i++) {
+			eventRepository.addEvent(new EventModel("Event " + i, LocalDate.now().plusDays(i), "Florence"));
+		}
+	}
+
+	@After
+	public void tearDown() {
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy(registry);
+	}
+
+	// Test the clerks perform the mix and the invariants hold
+	@Test
+	public void testClerksPerformTheMixAndTheInvariantsHold() throws Exception {
+		//Setup
+		harness.setParticipantPool(20);
+
+		//Exercise
+		LoadReport report = harness.run(3, RUN_TIME, OperationMix.parse(OperationMix.DEFAULT), SEED);
+
+		//Verify
+		assertThat(report.getClerks()).isEqualTo(3);
+		assertThat(report.getOperations()).extracting(OperationMetrics::getOperation).containsExactly("list-events",
+				"add-event", "update-event", "delete-event", "list-participants", "add-participant",
+				"update-participant", "delete-participant");
+		assertThat(report.getOperations().get(1)).isSameAs(metricsRegistry.operation(LoadHarness.LAYER, "add-event"));
+		assertThat(report.getTotalOperations()).isPositive().isEqualTo(
+				report.getOperations().stream().mapToLong(OperationMetrics::getCalls).sum());
+		assertThat(report.getThroughput()).isPositive();
+		assertThat(report.getInvariantViolations()).isEmpty();
+		assertThat(report.format()).contains("Load report: 3 clerk(s)", "add-participant", "Invariants: all hold");
+	}
+
+	// Test the registrations of concurrent clerks committed in groups keep the invariants
+	@Test
+	public void testClerksRegisterThroughGroupCommit() throws Exception {
+		//Setup
+		harness.setParticipantPool(20);
+		harness.setGroupCommit(true);
+		try (GroupCommitPipeline pipeline = new GroupCommitPipeline(sessionFactory)) {
+			participantRepository.setGroupCommitPipeline(pipeline);
+
+			//Exercise
+			LoadReport report = harness.run(3, RUN_TIME, OperationMix.parse("add-participant=3,list-participants=1"),
+					SEED);
+
+			//Verify
+			assertThat(pipeline.getCommittedCommands()).isPositive();
+			assertThat(report.getInvariantViolations()).isEmpty();
+		}
+	}
+
+	// Test concurrent clerks registering with upserts leave no duplicate behind
+	@Test
+	public void testClerksRegisterWithUpserts() throws Exception {
+		//Setup
+		harness.setParticipantPool(20);
+		harness.setUpsertRegistration(true);
+
+		//Exercise
+		LoadReport report = harness.run(3, RUN_TIME, OperationMix.parse("add-participant=3,list-participants=1"), SEED);
+
+		//Verify
+		assertThat(participantRepository.getAllParticipants()).isNotEmpty();
+		assertThat(report.getInvariantViolations()).isEmpty();
+	}
+
+	// Test concurrent clerks skipping the lookup of new emails leave no duplicate behind
+	@Test
+	public void testClerksRegisterWithEmailFilter() throws Exception {
+		//Setup
+		EmailBloomFilter emailFilter = EmailBloomFilter.load(sessionFactory);
+		participantRepository.setEmailFilter(emailFilter);
+		harness.setParticipantPool(20);
+		harness.setEmailFilter(emailFilter);
+
+		//Exercise
+		LoadReport report = harness.run(3, RUN_TIME, OperationMix.parse("add-participant=3,list-participants=1"), SEED);
+
+		//Verify
+		assertThat(emailFilter.getNegatives()).isPositive();
+		assertThat(report.getInvariantViolations()).isEmpty();
+	}
+
+	// Test only the operations of the mix are performed
+	@Test
+	public void testOnlyTheOperationsOfTheMixArePerformed() throws Exception {
+		//Exercise
+		LoadReport report = harness.run(2, Duration.ofMillis(300), OperationMix.parse("list-events=1"), SEED);
+
+		//Verify
+		assertThat(report.getOperations()).extracting(OperationMetrics::getOperation).containsExactly("list-events");
+		assertThat(report.getErrors()).isZero();
+		assertThat(eventRepository.getAllEvents()).hasSize(3);
+		assertThat(participantRepository.getAllParticipants()).isEmpty();
+	}
+
+	// Test broken data is reported as invariant violations
+	@Test
+	public void testInvariantViolationsAreReported() {
+		//Setup
+		participantRepository.addParticipant(new ParticipantModel("John", "John@gmail.com"));
+		ParticipantModel registered = new ParticipantModel("Martin", "Martin@gmail.com");
+		participantRepository.addParticipant(registered);
+		insertRegistration(eventRepository.getAllEvents().get(0).getEventId(), registered.getParticipantId());
+
+		//Exercise
+		List<String> violations = harness.checkInvariants(4, 2);
+
+		//Verify
+		assertThat(violations).containsExactly(
+				"Expected 4 event(s) from the notified additions and deletions but found 3",
+				"Participant John@gmail.com is not registered to any event");
+	}
+
+	// Test a run needs clerks and participants to draw from
+	@Test
+	public void testInvalidSettingsAreRejected() {
+		//Verify
+		assertThatThrownBy(() -> harness.run(0, RUN_TIME, OperationMix.parse(OperationMix.DEFAULT), SEED))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("At least one clerk");
+		assertThatThrownBy(() -> harness.setParticipantPool(0)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("participant pool");
+	}
+
+	// Helper Methods
+	private void insertRegistration(long eventId, long participantId) {
+		try (Session session = sessionFactory.openSession()) {
+			session.beginTransaction();
+			session.createNativeQuery("insert into event_participant (event_id, participant_id) values (?, ?)")
+					.setParameter(1, eventId).setParameter(2, participantId).executeUpdate();
+			session.getTransaction().commit();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/**
+ * Unit tests for the OperationMix class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. A specification is parsed into the weights of its operations, ignoring case and blanks, and printed back.
+ * 2. The operations are picked in proportion to their weights, those not listed are never picked.
+ * 3. Invalid specifications are rejected with an IllegalArgumentException.
+ */
+
+package com.mycompany.eventmanagementapp.loadtest;
+
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import java.util.EnumMap;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OperationMixTest {
+
+	// Test a specification is parsed and printed back
+	@Test
+	public void testSpecificationIsParsed() {
+		//Exercise
+		OperationMix mix = OperationMix.parse(" LIST-events = 3, add-event=1,add-event=1 ");
+
+		//Verify
+		assertThat(mix.getWeight(LoadOperation.LIST_EVENTS)).isEqualTo(3);
+		assertThat(mix.getWeight(LoadOperation.ADD_EVENT)).isEqualTo(2);
+		assertThat(mix.getWeight(LoadOperation.DELETE_PARTICIPANT)).isZero();
+		assertThat(mix).hasToString("list-events=3,add-event=2");
+		assertThat(OperationMix.parse(OperationMix.DEFAULT)).hasToString(OperationMix.DEFAULT);
+	}
+
+	// Test operations are picked in proportion to their weights
+	@Test
+	public void testOperationsArePickedByWeight() {
+		//Setup
+		OperationMix mix = OperationMix.parse("list-events=3,add-event=1,delete-event=0");
+		Random random = new Random(1);
+		Map<LoadOperation, Integer> picks = new EnumMap<>(LoadOperation.class);
+
+		//Exercise
+		for (int i = 0; i < 10_000; i++) {
+			picks.merge(mix.next(random), 1, Integer::sum);
+		}
+
+		//Verify
+		assertThat(picks).containsOnlyKeys(LoadOperation.LIST_EVENTS, LoadOperation.ADD_EVENT);
+		assertThat(picks.get(LoadOperation.LIST_EVENTS) / 10_000.0).isCloseTo(0.75, within(0.02));
+	}
+
+	// Test invalid specifications are rejected
+	@Test
+	public void testInvalidSpecificationsAreRejected() {
+		//Verify
+		assertThatThrownBy(() -> OperationMix.parse("list-events")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("operation=weight");
+		assertThatThrownBy(() -> OperationMix.parse("list-rooms=1")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Unknown operation: list-rooms");
+		assertThatThrownBy(() -> OperationMix.parse("add-event=many")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Invalid weight");
+		assertThatThrownBy(() -> OperationMix.parse("add-event=-1")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Negative weight");
+		assertThatThrownBy(() -> OperationMix.parse("add-event=0")).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("no operation with a positive weight");
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ * Unit tests for the CallerLookup class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. The innermost controller and repository frames are combined into the origin.
+ * 2. Inner classes and lambdas are reported with their enclosing class.
+ * 3. Accesses outside of any controller are reported as such.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallerLookupTest {
+
+	// Test origin combines the controller and repository frames
+	@Test
+	public void testOriginCombinesControllerAndRepository() {
+		//Setup
+		StackTraceElement[] stack = {
+				frame("org.hibernate.loader.Loader", "prepareQueryStatement"),
+				frame("com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository", "getEventById"),
+				frame("com.sun.proxy.$Proxy12", "getEventById"),
+				frame("com.mycompany.eventmanagementapp.controller.EventController", "deleteEvent"),
+				frame("com.mycompany.eventmanagementapp.controller.EventController", "lambda$0") };
+
+		//Exercise & Verify
+		assertThat(CallerLookup.origin(stack)).isEqualTo("EventController.deleteEvent > EventMySqlRepository.getEventById");
+	}
+
+	// Test inner classes are reported with their enclosing class
+	@Test
+	public void testInnerClassesAreReportedWithEnclosingClass() {
+		//Setup
+		StackTraceElement[] stack = {
+				frame("com.mycompany.eventmanagementapp.controller.ParticipantController$1", "run") };
+
+		//Exercise & Verify
+		assertThat(CallerLookup.findCaller(stack, CallerLookup.CONTROLLER_PACKAGE))
+				.isEqualTo("ParticipantController.run");
+		assertThat(CallerLookup.findCaller(stack, CallerLookup.REPOSITORY_PACKAGE)).isNull();
+	}
+
+	// Test access outside of any controller
+	@Test
+	public void testAccessOutsideOfController() {
+		//Setup
+		StackTraceElement[] stack = {
+				frame("com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository",
+						"getAllParticipants"),
+				frame("com.mycompany.eventmanagementapp.EventManagementApp", "lambda$call$1") };
+
+		//Exercise & Verify
+		assertThat(CallerLookup.origin(stack))
+				.isEqualTo(CallerLookup.NO_CONTROLLER + " > ParticipantMySqlRepository.getAllParticipants");
+	}
+
+	// Helper Methods
+	private static StackTraceElement frame(String className, String methodName) {
+		return new StackTraceElement(className, methodName, null, -1);
+	}
+}
@@ -0,0 +1,126 @@
+/**
+ * Unit tests for the EdtWatchdog class in the Event Management Application.
+ *
+ * The watchdog runs with a manual clock, and its probes are dispatched to a single "fake-edt" thread instead of
+ * the Event Dispatch Thread, so that the tests can block it without a display.
+ *
+ * The tests verify that:
+ * 1. A quick dispatch records its latency and is not a freeze.
+ * 2. Only one probe is pending at a time.
+ * 3. A blocked EDT has its stack captured while it is blocked, and the freeze is counted with its duration
+ *    once the EDT recovers.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.junit.After;
+import org.junit.Before;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EdtWatchdogTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	private AtomicLong clock;
+
+	private ExecutorService fakeEdt;
+
+	private EdtWatchdog watchdog;
+
+	@Before
+	public void setup() {
+		clock = new AtomicLong(1000 * MILLIS);
+		fakeEdt = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "fake-edt"));
+		watchdog = new EdtWatchdog(new MetricsRegistry(), 250, clock::get, fakeEdt);
+	}
+
+	@After
+	public void tearDown() {
+		fakeEdt.shutdownNow();
+	}
+
+	// Test quick dispatch is recorded and is not a freeze
+	@Test
+	public void testQuickDispatchIsNotAFreeze() throws Exception {
+		//Exercise
+		watchdog.check();
+		awaitFakeEdtIdle();
+
+		//Verify
+		assertThat(watchdog.getDispatchLatency().getCalls()).isEqualTo(1);
+		assertThat(watchdog.getFreezeCount()).isZero();
+		assertThat(watchdog.getLastFreezeStack()).isEmpty();
+	}
+
+	// Test only one probe is pending at a time
+	@Test
+	public void testOnlyOneProbeIsPending() throws Exception {
+		//Setup
+		CountDownLatch release = new CountDownLatch(1);
+		fakeEdt.execute(() -> awaitQuietly(release));
+
+		//Exercise
+		watchdog.check();
+		clock.addAndGet(100 * MILLIS);
+		watchdog.check();
+		release.countDown();
+		awaitFakeEdtIdle();
+
+		//Verify
+		assertThat(watchdog.getDispatchLatency().getCalls()).isEqualTo(1);
+		assertThat(watchdog.getDispatchLatency().getMaxMicros()).isBetween(95_000L, 105_000L);
+	}
+
+	// Test blocked EDT has its stack captured and the freeze counted
+	@Test
+	public void testFreezeIsCapturedAndCounted() throws Exception {
+		//Setup
+		watchdog.check();
+		awaitFakeEdtIdle();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		fakeEdt.execute(() -> loadEventsOnTheEdt(blocked, release));
+		blocked.await();
+
+		//Exercise
+		watchdog.check();
+		clock.addAndGet(300 * MILLIS);
+		watchdog.check();
+		StackTraceElement[] stack = watchdog.getLastFreezeStack();
+		clock.addAndGet(200 * MILLIS);
+		release.countDown();
+		awaitFakeEdtIdle();
+
+		//Verify
+		assertThat(Arrays.stream(stack).map(StackTraceElement::getMethodName)).contains("loadEventsOnTheEdt");
+		assertThat(watchdog.getFreezeCount()).isEqualTo(1);
+		assertThat(watchdog.getFreezes().getMaxMicros()).isBetween(475_000L, 525_000L);
+		assertThat(watchdog.getDispatchLatency().getCalls()).isEqualTo(2);
+	}
+
+	// Helper Methods
+	private static void loadEventsOnTheEdt(CountDownLatch blocked, CountDownLatch release) {
+		blocked.countDown();
+		awaitQuietly(release);
+	}
+
+	private void awaitFakeEdtIdle() throws Exception {
+		fakeEdt.submit(() -> {
+		}).get(5, TimeUnit.SECONDS);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/**
+ * Unit tests for the FlightRecorderProbe class in the Event Management Application.
+ *
+ * The tests start a Java Flight Recorder recording of the application's events, drive a real EventController
+ * and EventMySqlRepository on the in-memory H2 test database (the view is mocked), and read the events back
+ * from the dumped recording.
+ *
+ * The tests verify that:
+ * 1. Controller operations and repository calls are recorded with their operation, entity id and rows.
+ * 2. The time a controller operation waited for the controller's lock is recorded.
+ * 3. No event is created when no recording is running.
+ * 4. When tracing is enabled, controller operations and repository calls are traced as nested spans.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.After;
+import org.mockito.Mock;
+import org.junit.Before;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import jdk.jfr.Recording;
+import java.util.stream.Collectors;
+import java.util.concurrent.CountDownLatch;
+import org.hibernate.SessionFactory;
+import org.mockito.MockitoAnnotations;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.rules.TemporaryFolder;
+import org.hibernate.boot.MetadataSources;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.tracing.Span;
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.tracing.Tracer;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+import com.mycompany.eventmanagementapp.controller.EventController;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+
+public class FlightRecorderProbeTest {
+
+	private static final String CONTROLLER_OPERATION = "com.mycompany.eventmanagementapp.ControllerOperation";
+
+	private static final String REPOSITORY_CALL = "com.mycompany.eventmanagementapp.RepositoryCall";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Mock
+	private EventManagementView eventManagementView;
+
+	private AutoCloseable closeable;
+
+	private StandardServiceRegistry registry;
+
+	private SessionFactory sessionFactory;
+
+	private EventController eventController;
+
+	@Before
+	public void setup() {
+		closeable = MockitoAnnotations.openMocks(this);
+		registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:flightrecorder").build();
+		sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+		eventController = new EventController(eventManagementView, new EventMySqlRepository(sessionFactory));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy(registry);
+		closeable.close();
+	}
+
+	// Test controller operations and repository calls are recorded
+	@Test
+	public void testOperationsAreRecorded() throws Exception {
+		//Setup
+		assertThat(FlightRecorderProbe.isAvailable()).isTrue();
+		List<RecordedEvent> events;
+
+		//Exercise
+		try (Recording recording = startRecording()) {
+			eventController.addEvent(new EventModel(1, "Music Festival", LocalDate.now().plusDays(10), "Florence"));
+			eventController.getAllEvents();
+			events = stopAndRead(recording);
+		}
+
+		//Verify
+		assertThat(eventsOfType(events, CONTROLLER_OPERATION))
+				.extracting(event -> event.getString("operation"), event -> event.getLong("entityId"))
+				.containsExactly(tuple("EventController.addEvent", 1L), tuple("EventController.getAllEvents", 0L));
+		assertThat(eventsOfType(events, REPOSITORY_CALL)).extracting(event -> event.getString("operation"),
+				event -> event.getLong("entityId"), event -> event.getLong("rows")).containsExactly(
+						tuple("EventMySqlRepository.existsEventById", 1L, 0L),
+						tuple("EventMySqlRepository.addEvent", 1L, 0L),
+						tuple("EventMySqlRepository.getAllEvents", 0L, 1L));
+	}
+
+	// Test lock wait is recorded
+	@Test
+	public void testLockWaitIsRecorded() throws Exception {
+		//Setup
+		EventModel event = new EventModel(1, "Music Festival", LocalDate.now().plusDays(10), "Florence");
+		CountDownLatch lockHeld = new CountDownLatch(1);
+		List<RecordedEvent> events;
+
+		//Exercise
+		try (Recording recording = startRecording()) {
+			Thread holder = new Thread(() -> {
+				synchronized (eventController) {
+					lockHeld.countDown();
+					sleep(200);
+				}
+			});
+			holder.start();
+			lockHeld.await();
+			eventController.deleteEvent(event);
+			holder.join();
+			events = stopAndRead(recording);
+		}
+
+		//Verify
+		List<RecordedEvent> deletes = eventsOfType(events, CONTROLLER_OPERATION);
+		assertThat(deletes).hasSize(1);
+		Duration lockWait = deletes.get(0).getDuration("lockWait");
+		assertThat(lockWait).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+		assertThat(deletes.get(0).getDuration()).isGreaterThanOrEqualTo(lockWait);
+	}
+
+	// Test no event is created without a recording
+	@Test
+	public void testNoEventWithoutRecording() {
+		//Exercise
+		FlightRecorderProbe.Operation operation = FlightRecorderProbe.controllerOperation("EventController.addEvent",
+				1L);
+
+		//Verify
+		assertThat(operation).isNotInstanceOf(ControllerOperationEvent.class)
+				.isSameAs(FlightRecorderProbe.repositoryCall("EventMySqlRepository.addEvent", 1L));
+	}
+
+	// Test operations are traced as nested spans when tracing is enabled
+	@Test
+	public void testOperationsAreTracedWhenTracingIsEnabled() {
+		//Setup
+		Tracer.enable(100);
+		try {
+			//Exercise
+			try (Span click = Tracer.start("view", "EventManagementViewScreen.addEvent")) {
+				eventController.addEvent(new EventModel(1, "Music Festival", LocalDate.now().plusDays(10),
+						"Florence"));
+			}
+
+			//Verify
+			List<Span> spans = Tracer.finishedSpans();
+			Span click = spans.get(spans.size() - 1);
+			Span addEvent = spans.get(spans.size() - 2);
+			assertThat(addEvent.getName()).isEqualTo("EventController.addEvent");
+			assertThat(addEvent.getParentId()).isEqualTo(click.getSpanId());
+			assertThat(addEvent.getAttributes()).containsEntry("entityId", 1L).containsKey("lockWaitMicros");
+			assertThat(spans.subList(0, spans.size() - 2))
+					.extracting(Span::getCategory, Span::getName, Span::getTraceId, Span::getParentId)
+					.containsExactly(
+							tuple("repository", "EventMySqlRepository.existsEventById", click.getTraceId(),
+									addEvent.getSpanId()),
+							tuple("repository", "EventMySqlRepository.addEvent", click.getTraceId(),
+									addEvent.getSpanId()));
+			assertThat(spans.get(0).getAttributes()).containsEntry("rows", 0L);
+		} finally {
+			Tracer.disable();
+		}
+	}
+
+	// Helper Methods
+	private static Recording startRecording() {
+		Recording recording = new Recording();
+		recording.enable(CONTROLLER_OPERATION);
+		recording.enable(REPOSITORY_CALL);
+		recording.start();
+		return recording;
+	}
+
+	private List<RecordedEvent> stopAndRead(Recording recording) throws Exception {
+		recording.stop();
+		Path file = temporaryFolder.newFile("recording.jfr").toPath();
+		recording.dump(file);
+		return RecordingFile.readAllEvents(file);
+	}
+
+	private static List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String type) {
+		return events.stream().filter(event -> event.getEventType().getName().equals(type))
+				.sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime())).collect(Collectors.toList());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/**
+ * Unit tests for the HibernateStatisticsReporter class in the Event Management Application.
+ *
+ * The tests use the in-memory H2 test database with statistics enabled and the QueryOriginInspector installed,
+ * and drive it through a real EventController and EventMySqlRepository with a mocked view.
+ *
+ * The tests verify that:
+ * 1. The summary reports the queries, entity operations and statements.
+ * 2. The query report breaks the load down per HQL query, per originating controller method, per entity and
+ *    per collection.
+ * 3. The statistics are exposed over JMX and can be dumped to a file.
+ * 4. Reset clears the statistics and the statement origins.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.After;
+import org.mockito.Mock;
+import org.junit.Before;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import javax.management.MBeanServer;
+import org.mockito.MockitoAnnotations;
+import org.junit.rules.TemporaryFolder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.boot.MetadataSources;
+import javax.management.MBeanServerFactory;
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+import com.mycompany.eventmanagementapp.controller.EventController;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+
+public class HibernateStatisticsReporterTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Mock
+	private EventManagementView eventManagementView;
+
+	private AutoCloseable closeable;
+
+	private StandardServiceRegistry registry;
+
+	private SessionFactory sessionFactory;
+
+	private QueryOriginInspector queryOrigins;
+
+	private HibernateStatisticsReporter statisticsReporter;
+
+	private EventController eventController;
+
+	@Before
+	public void setup() {
+		closeable = MockitoAnnotations.openMocks(this);
+		queryOrigins = new QueryOriginInspector();
+		registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:statistics")
+				.applySetting(AvailableSettings.GENERATE_STATISTICS, "true")
+				.applySetting(AvailableSettings.STATEMENT_INSPECTOR, queryOrigins).build();
+		sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+		statisticsReporter = new HibernateStatisticsReporter(sessionFactory.getStatistics(), queryOrigins);
+		eventController = new EventController(eventManagementView, new EventMySqlRepository(sessionFactory));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		statisticsReporter.stop();
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy(registry);
+		closeable.close();
+	}
+
+	// Test summary reports queries, entity operations and statements
+	@Test
+	public void testSummary() {
+		//Setup
+		eventController.addEvent(new EventModel(1, "Music Festival", LocalDate.now().plusDays(10), "Florence"));
+		eventController.getAllEvents();
+
+		//Exercise
+		String summary = statisticsReporter.getSummary();
+
+		//Verify
+		// The existence check of addEvent and getAllEvents, either of which may be the slowest
+		assertThat(summary).startsWith("Hibernate statistics: 2 queries").contains("1 inserts")
+				.containsPattern("slowest \\d+ ms \\[(from EventModel|select e.eventId from EventModel .*)\\]");
+		assertThat(sessionFactory.getStatistics().getPrepareStatementCount()).isPositive();
+	}
+
+	// Test query report breaks the load down by query, origin, entity and collection
+	@Test
+	public void testQueryReport() {
+		//Setup
+		eventController.addEvent(new EventModel(1, "Music Festival", LocalDate.now().plusDays(10), "Florence"));
+		eventController.getAllEvents();
+		eventController.getAllEvents();
+
+		//Exercise
+		String report = statisticsReporter.getQueryReport();
+
+		//Verify
+		assertThat(report).containsPattern("\\s+2\\s+\\d+\\s+[\\d.]+\\s+\\d+\\s+2\\s+from EventModel");
+		assertThat(report).contains("EventController.getAllEvents > EventMySqlRepository.getAllEvents")
+				.contains("EventController.addEvent > EventMySqlRepository.addEvent")
+				.contains("EventController.addEvent > EventMySqlRepository.existsEventById");
+		assertThat(report).contains("com.mycompany.eventmanagementapp.model.EventModel")
+				.contains("com.mycompany.eventmanagementapp.model.EventModel.participants");
+	}
+
+	// Test statistics are exposed over JMX and dumped to a file
+	@Test
+	public void testStatisticsAreExposedOverJmxAndDumped() throws Exception {
+		//Setup
+		MBeanServer server = MBeanServerFactory.newMBeanServer();
+		statisticsReporter.registerMBean(server);
+		eventController.getAllEvents();
+		Path file = temporaryFolder.getRoot().toPath().resolve("stats.txt");
+
+		//Exercise
+		server.invoke(HibernateStatisticsReporter.objectName(), "dump", new Object[] { file.toString() },
+				new String[] { String.class.getName() });
+
+		//Verify
+		assertThat((String) server.getAttribute(HibernateStatisticsReporter.objectName(), "Summary"))
+				.startsWith("Hibernate statistics: 1 queries");
+		assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))
+				.contains("Hibernate statistics").contains("SQL statements by origin");
+	}
+
+	// Test reset clears the statistics and origins
+	@Test
+	public void testReset() {
+		//Setup
+		eventController.getAllEvents();
+
+		//Exercise
+		statisticsReporter.reset();
+
+		//Verify
+		assertThat(statisticsReporter.getSummary()).startsWith("Hibernate statistics: 0 queries");
+		assertThat(queryOrigins.getStatementCounts()).isEmpty();
+	}
+}
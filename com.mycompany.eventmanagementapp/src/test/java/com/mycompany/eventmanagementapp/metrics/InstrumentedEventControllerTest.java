@@ -0,0 +1,86 @@
+/**
+ * Unit tests for the InstrumentedEventController class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. The operations delegate to the EventController behaviour and are recorded in the "controller" layer.
+ * 2. An exception escaping an operation is rethrown and counted as an error.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.junit.After;
+import org.mockito.Mock;
+import org.junit.Before;
+import java.time.LocalDate;
+import static java.util.Arrays.asList;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import org.hibernate.HibernateException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+
+public class InstrumentedEventControllerTest {
+
+	@Mock
+	private EventRepository eventRepository;
+
+	@Mock
+	private EventManagementView eventManagementView;
+
+	private AutoCloseable closeable;
+
+	private MetricsRegistry registry;
+
+	private InstrumentedEventController eventController;
+
+	private static final EventModel EVENT = new EventModel(1, "Music Festival", LocalDate.now().plusDays(10),
+			"Florence");
+
+	@Before
+	public void setup() {
+		closeable = MockitoAnnotations.openMocks(this);
+		registry = new MetricsRegistry();
+		eventController = new InstrumentedEventController(eventManagementView, eventRepository, registry);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		closeable.close();
+	}
+
+	// Test operations delegate and are recorded
+	@Test
+	public void testOperationsAreDelegatedAndRecorded() {
+		//Setup
+		when(eventRepository.getAllEvents()).thenReturn(asList(EVENT));
+		when(eventRepository.updateEventDetails(EVENT)).thenReturn(true);
+
+		//Exercise
+		eventController.getAllEvents();
+		eventController.updateEvent(EVENT);
+
+		//Verify
+		verify(eventManagementView).showAllEvents(asList(EVENT));
+		verify(eventManagementView).eventUpdated(EVENT);
+		assertThat(registry.operation("controller", "EventController.getAllEvents").getCalls()).isEqualTo(1);
+		assertThat(registry.operation("controller", "EventController.updateEvent").getCalls()).isEqualTo(1);
+		assertThat(registry.operation("controller", "EventController.addEvent").getCalls()).isZero();
+	}
+
+	// Test escaping exception is counted as an error
+	@Test
+	public void testEscapingExceptionIsCounted() {
+		//Setup
+		when(eventRepository.getAllEvents()).thenThrow(new HibernateException("Database unavailable"));
+
+		//Exercise & Verify
+		assertThatThrownBy(eventController::getAllEvents).isInstanceOf(HibernateException.class);
+		assertThat(registry.operation("controller", "EventController.getAllEvents").getErrors()).isEqualTo(1);
+	}
+}
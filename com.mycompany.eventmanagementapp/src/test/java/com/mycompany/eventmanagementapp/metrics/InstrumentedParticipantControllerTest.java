@@ -0,0 +1,92 @@
+/**
+ * Unit tests for the InstrumentedParticipantController class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. The operations delegate to the ParticipantController behaviour and are recorded in the "controller" layer.
+ * 2. An exception escaping an operation is rethrown and counted as an error.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.junit.After;
+import org.mockito.Mock;
+import org.junit.Before;
+import static java.util.Arrays.asList;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import org.hibernate.HibernateException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+import com.mycompany.eventmanagementapp.view.ParticipantManagementView;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository;
+
+public class InstrumentedParticipantControllerTest {
+
+	@Mock
+	private ParticipantRepository participantRepository;
+
+	@Mock
+	private EventRepository eventRepository;
+
+	@Mock
+	private ParticipantManagementView participantManagementView;
+
+	private AutoCloseable closeable;
+
+	private MetricsRegistry registry;
+
+	private InstrumentedParticipantController participantController;
+
+	private static final ParticipantModel PARTICIPANT = new ParticipantModel(1, "Mario", "mario@gmail.com");
+
+	@Before
+	public void setup() {
+		closeable = MockitoAnnotations.openMocks(this);
+		registry = new MetricsRegistry();
+		participantController = new InstrumentedParticipantController(participantManagementView,
+				participantRepository, eventRepository, registry);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		closeable.close();
+	}
+
+	// Test operations delegate and are recorded
+	@Test
+	public void testOperationsAreDelegatedAndRecorded() {
+		//Setup
+		when(participantRepository.getAllParticipants()).thenReturn(asList(PARTICIPANT));
+
+		//Exercise
+		participantController.getAllParticipants();
+		participantController.getAllEvents();
+		participantController.updateParticipant(null);
+
+		//Verify
+		verify(participantManagementView).showAllParticipants(asList(PARTICIPANT));
+		verify(participantManagementView).showError("Participant is null", null);
+		assertThat(registry.operation("controller", "ParticipantController.getAllParticipants").getCalls())
+				.isEqualTo(1);
+		assertThat(registry.operation("controller", "ParticipantController.getAllEvents").getCalls()).isEqualTo(1);
+		assertThat(registry.operation("controller", "ParticipantController.updateParticipant").getCalls())
+				.isEqualTo(1);
+	}
+
+	// Test escaping exception is counted as an error
+	@Test
+	public void testEscapingExceptionIsCounted() {
+		//Setup
+		when(participantRepository.getAllParticipants()).thenThrow(new HibernateException("Database unavailable"));
+
+		//Exercise & Verify
+		assertThatThrownBy(participantController::getAllParticipants).isInstanceOf(HibernateException.class);
+		assertThat(registry.operation("controller", "ParticipantController.getAllParticipants").getErrors())
+				.isEqualTo(1);
+	}
+}
@@ -0,0 +1,195 @@
+/**
+ * Unit tests for the InteractionLatencyRecorder class in the Event Management Application.
+ *
+ * The recorder runs with a manual clock, and the tasks it posts to record the latencies are collected instead of
+ * being dispatched to the Event Dispatch Thread, so that the tests decide when the "painting" is over.
+ *
+ * The tests verify that:
+ * 1. An interaction carried to a worker thread is the current one there, and is recorded with the time from
+ *    begin to the recording task posted by complete.
+ * 2. Only the first completion of an interaction is recorded.
+ * 3. An interaction which was failed, or whose action threw, is recorded as an error.
+ * 4. Outside of an action and while the registry is disabled nothing is recorded.
+ * 5. The latencies are exported as CSV, one line per action, and are registered as "ui" operations.
+ * 6. Reset clears the latencies.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.Before;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import org.junit.rules.TemporaryFolder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.eventmanagementapp.metrics.InteractionLatencyRecorder.Interaction;
+
+public class InteractionLatencyRecorderTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private AtomicLong clock;
+
+	private List<Runnable> postedTasks;
+
+	private MetricsRegistry registry;
+
+	private InteractionLatencyRecorder recorder;
+
+	@Before
+	public void setup() {
+		clock = new AtomicLong(1000 * MILLIS);
+		postedTasks = new ArrayList<>();
+		registry = new MetricsRegistry();
+		recorder = new InteractionLatencyRecorder(registry, clock::get, postedTasks::add);
+	}
+
+	// Test interaction is current on the worker thread and recorded once painted
+	@Test
+	public void testInteractionIsCarriedToTheWorkerAndRecorded() throws Exception {
+		//Setup
+		Interaction interaction = recorder.begin("EventManagementViewScreen.addEvent");
+		AtomicReference<Interaction> seenByWorker = new AtomicReference<>();
+		Thread worker = new Thread(InteractionLatencyRecorder.wrap(interaction,
+				() -> seenByWorker.set(InteractionLatencyRecorder.current())));
+
+		//Exercise
+		worker.start();
+		worker.join();
+		clock.addAndGet(40 * MILLIS);
+		seenByWorker.get().complete();
+		clock.addAndGet(10 * MILLIS);
+		runPostedTasks();
+
+		//Verify
+		assertThat(seenByWorker.get()).isSameAs(interaction);
+		OperationMetrics metrics = registry.operation(InteractionLatencyRecorder.LAYER,
+				"EventManagementViewScreen.addEvent");
+		assertThat(recorder.getActions()).containsExactly(metrics);
+		assertThat(metrics.getCalls()).isEqualTo(1);
+		assertThat(metrics.getErrors()).isZero();
+		assertThat(metrics.getLatencies().getMax()).isEqualTo(50 * MILLIS);
+		assertThat(InteractionLatencyRecorder.current().getAction()).isNull();
+	}
+
+	// Test only the first completion is recorded
+	@Test
+	public void testOnlyTheFirstCompletionIsRecorded() {
+		//Setup
+		Interaction interaction = recorder.begin("ParticipantManagementViewScreen.refresh");
+
+		//Exercise
+		InteractionLatencyRecorder.runWithin(interaction, () -> InteractionLatencyRecorder.current().complete());
+		interaction.complete();
+		runPostedTasks();
+
+		//Verify
+		assertThat(postedTasks).isEmpty();
+		assertThat(recorder.getActions()).hasSize(1);
+		assertThat(recorder.getActions().get(0).getCalls()).isEqualTo(1);
+	}
+
+	// Test failed and throwing interactions are recorded as errors
+	@Test
+	public void testFailedInteractionsAreErrors() {
+		//Setup
+		Interaction failed = recorder.begin("EventManagementViewScreen.deleteEvent");
+		Interaction throwing = recorder.begin("EventManagementViewScreen.deleteEvent");
+
+		//Exercise
+		InteractionLatencyRecorder.runWithin(failed, () -> {
+			InteractionLatencyRecorder.current().fail();
+			InteractionLatencyRecorder.current().complete();
+		});
+		assertThatThrownBy(() -> InteractionLatencyRecorder.runWithin(throwing, () -> {
+			throw new IllegalStateException("Event not found");
+		})).isInstanceOf(IllegalStateException.class);
+		runPostedTasks();
+
+		//Verify
+		OperationMetrics metrics = recorder.getActions().get(0);
+		assertThat(metrics.getCalls()).isEqualTo(2);
+		assertThat(metrics.getErrors()).isEqualTo(2);
+	}
+
+	// Test nothing is recorded outside of an action or while the registry is disabled
+	@Test
+	public void testNothingIsRecordedWithoutAnInteraction() {
+		//Setup
+		registry.setEnabled(false);
+		Interaction disabled = recorder.begin("EventManagementViewScreen.addEvent");
+
+		//Exercise
+		InteractionLatencyRecorder.current().fail();
+		InteractionLatencyRecorder.current().complete();
+		InteractionLatencyRecorder.runWithin(disabled, disabled::complete);
+		Runnable task = this::runPostedTasks;
+
+		//Verify
+		assertThat(postedTasks).isEmpty();
+		assertThat(recorder.getActions()).isEmpty();
+		assertThat(InteractionLatencyRecorder.wrap(disabled, task)).isSameAs(task);
+	}
+
+	// Test latencies are exported as CSV
+	@Test
+	public void testLatenciesAreExportedAsCsv() throws Exception {
+		//Setup
+		record("EventManagementViewScreen.addEvent", 20, false);
+		record("EventManagementViewScreen.addEvent", 40, true);
+		record("ParticipantManagementViewScreen.openEventScreen", 5, false);
+
+		//Exercise
+		Path file = recorder.exportCsv(temporaryFolder.getRoot().toPath().resolve("reports/ui-latency.csv"));
+
+		//Verify
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(3);
+		assertThat(lines.get(0)).isEqualTo("action,count,errors,mean_ms,p50_ms,p90_ms,p95_ms,p99_ms,max_ms");
+		assertThat(lines.get(1)).startsWith("EventManagementViewScreen.addEvent,2,1,30.000,").endsWith(",40.000");
+		assertThat(lines.get(2)).startsWith("ParticipantManagementViewScreen.openEventScreen,1,0,5.000,");
+		assertThat(registry.getReport()).contains("ui", "ParticipantManagementViewScreen.openEventScreen");
+	}
+
+	// Test reset clears the latencies
+	@Test
+	public void testResetClearsTheLatencies() {
+		//Setup
+		record("EventManagementViewScreen.refresh", 20, false);
+
+		//Exercise
+		recorder.reset();
+
+		//Verify
+		assertThat(recorder.getActions().get(0).getCalls()).isZero();
+		assertThat(recorder.getActions().get(0).getLatencies().getCount()).isZero();
+	}
+
+	// Helper Methods
+	private void record(String action, long millis, boolean failed) {
+		Interaction interaction = recorder.begin(action);
+		clock.addAndGet(millis * MILLIS);
+		if (failed) {
+			interaction.fail();
+		}
+		interaction.complete();
+		runPostedTasks();
+	}
+
+	private void runPostedTasks() {
+		List<Runnable> tasks = new ArrayList<>(postedTasks);
+		postedTasks.clear();
+		tasks.forEach(Runnable::run);
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Unit tests for the LatencyHistogram class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. An empty histogram reports zero for every statistic.
+ * 2. Bucket indexes are continuous and every value falls within its bucket, with a relative error below 1/16.
+ * 3. Percentiles of a known distribution are reported within the bucket precision and never above the maximum.
+ * 4. Concurrent recording loses no samples.
+ * 5. Reset clears every statistic.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.junit.Before;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+
+	private LatencyHistogram histogram;
+
+	@Before
+	public void setup() {
+		histogram = new LatencyHistogram();
+	}
+
+	// Test empty histogram
+	@Test
+	public void testEmptyHistogram() {
+		//Setup, Exercise & Verify
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getMean()).isZero();
+		assertThat(histogram.getValueAtPercentile(99)).isZero();
+	}
+
+	// Test bucket indexes are continuous and bound their values
+	@Test
+	public void testBucketsBoundTheirValues() {
+		//Setup
+		long[] values = { 0, 1, 15, 16, 17, 31, 32, 1_000, 123_456, 1_000_000_007L, Long.MAX_VALUE };
+
+		//Exercise & Verify
+		for (long value : values) {
+			int index = LatencyHistogram.bucketIndex(value);
+			long upperBound = LatencyHistogram.bucketUpperBound(index);
+			assertThat(upperBound).isGreaterThanOrEqualTo(value);
+			assertThat(upperBound - value).isLessThanOrEqualTo(Math.max(0, value / 16));
+			if (index > 0) {
+				assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+			}
+		}
+		for (int index = 1; index < 200; index++) {
+			long upperBound = LatencyHistogram.bucketUpperBound(index);
+			assertThat(LatencyHistogram.bucketIndex(upperBound)).isEqualTo(index);
+			assertThat(LatencyHistogram.bucketIndex(upperBound + 1)).isEqualTo(index + 1);
+		}
+	}
+
+	// Test percentiles of a uniform distribution
+	@Test
+	public void testPercentilesOfUniformDistribution() {
+		//Setup
+		for (long value = 1; value <= 10_000; value++) {
+			histogram.record(value * 1_000);
+		}
+
+		//Exercise & Verify
+		assertThat(histogram.getCount()).isEqualTo(10_000);
+		assertThat(histogram.getMean()).isCloseTo(5_000_500, within(1.0));
+		assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(5_000_000, within(5_000_000 / 16.0));
+		assertThat((double) histogram.getValueAtPercentile(95)).isCloseTo(9_500_000, within(9_500_000 / 16.0));
+		assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(9_900_000, within(9_900_000 / 16.0));
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000);
+		assertThat(histogram.getMax()).isEqualTo(10_000_000);
+	}
+
+	// Test concurrent recording loses no samples
+	@Test
+	public void testConcurrentRecording() throws Exception {
+		//Setup
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Runnable> writers = new ArrayList<>();
+		for (int thread = 0; thread < 4; thread++) {
+			long offset = thread;
+			writers.add(() -> {
+				for (int i = 0; i < 25_000; i++) {
+					histogram.record(i + offset);
+				}
+			});
+		}
+
+		//Exercise
+		writers.forEach(executor::execute);
+		executor.shutdown();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+
+		//Verify
+		assertThat(histogram.getCount()).isEqualTo(100_000);
+		assertThat(histogram.getMax()).isEqualTo(25_002);
+	}
+
+	// Test reset clears the statistics
+	@Test
+	public void testReset() {
+		//Setup
+		histogram.record(42);
+
+		//Exercise
+		histogram.reset();
+
+		//Verify
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getValueAtPercentile(50)).isZero();
+	}
+}
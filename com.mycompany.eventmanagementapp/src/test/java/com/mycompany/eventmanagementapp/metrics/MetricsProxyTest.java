@@ -0,0 +1,115 @@
+/**
+ * Unit tests for the MetricsProxy class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. Every interface method of the repository is recorded under "<interface>.<method>" and its result returned.
+ * 2. Exceptions of the repository are rethrown unchanged and counted as errors.
+ * 3. The methods of Object are forwarded without being recorded.
+ * 4. A disabled registry forwards the calls without recording them.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.After;
+import org.mockito.Mock;
+import org.junit.Before;
+import java.time.LocalDate;
+import static java.util.Arrays.asList;
+import org.mockito.MockitoAnnotations;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import org.hibernate.HibernateException;
+import static org.mockito.Mockito.doThrow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.repository.EventRepository;
+
+public class MetricsProxyTest {
+
+	@Mock
+	private EventRepository eventRepository;
+
+	private AutoCloseable closeable;
+
+	private MetricsRegistry registry;
+
+	private EventRepository instrumentedRepository;
+
+	private static final EventModel EVENT = new EventModel(1, "Music Festival", LocalDate.now().plusDays(10),
+			"Florence");
+
+	@Before
+	public void setup() {
+		closeable = MockitoAnnotations.openMocks(this);
+		registry = new MetricsRegistry();
+		instrumentedRepository = MetricsProxy.instrument(EventRepository.class, eventRepository, registry,
+				"repository");
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		closeable.close();
+	}
+
+	// Test calls are recorded and results returned
+	@Test
+	public void testCallsAreRecorded() {
+		//Setup
+		when(eventRepository.getAllEvents()).thenReturn(asList(EVENT));
+
+		//Exercise
+		List<EventModel> events = instrumentedRepository.getAllEvents();
+		instrumentedRepository.getAllEvents();
+
+		//Verify
+		assertThat(events).containsExactly(EVENT);
+		OperationMetrics metrics = registry.operation("repository", "EventRepository.getAllEvents");
+		assertThat(metrics.getCalls()).isEqualTo(2);
+		assertThat(metrics.getErrors()).isZero();
+		assertThat(registry.getOperationCount()).isEqualTo(11);
+	}
+
+	// Test exceptions are rethrown unchanged and counted
+	@Test
+	public void testExceptionsAreRethrownAndCounted() {
+		//Setup
+		doThrow(new HibernateException("Could not add event.")).when(eventRepository).addEvent(EVENT);
+
+		//Exercise & Verify
+		assertThatThrownBy(() -> instrumentedRepository.addEvent(EVENT)).isInstanceOf(HibernateException.class)
+				.hasMessage("Could not add event.");
+		OperationMetrics metrics = registry.operation("repository", "EventRepository.addEvent");
+		assertThat(metrics.getCalls()).isEqualTo(1);
+		assertThat(metrics.getErrors()).isEqualTo(1);
+	}
+
+	// Test methods of Object are not recorded
+	@Test
+	public void testObjectMethodsAreNotRecorded() {
+		//Setup & Exercise
+		instrumentedRepository.toString();
+		instrumentedRepository.hashCode();
+
+		//Verify
+		assertThat(registry.getOperationCount()).isEqualTo(11);
+		assertThat(registry.getReport()).doesNotContain("toString");
+	}
+
+	// Test disabled registry forwards without recording
+	@Test
+	public void testDisabledRegistryForwardsCalls() {
+		//Setup
+		registry.setEnabled(false);
+
+		//Exercise
+		instrumentedRepository.getEventById(1);
+
+		//Verify
+		verify(eventRepository).getEventById(1);
+		assertThat(registry.operation("repository", "EventRepository.getEventById").getCalls()).isZero();
+	}
+}
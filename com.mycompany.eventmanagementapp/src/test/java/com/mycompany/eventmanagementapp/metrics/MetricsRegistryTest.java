@@ -0,0 +1,139 @@
+/**
+ * Unit tests for the MetricsRegistry and OperationMetrics classes in the Event Management Application.
+ *
+ * JMX is tested with a private MBean server, so the tests do not depend on the platform MBean server.
+ *
+ * The tests verify that:
+ * 1. Timed operations count their calls, their failures and their latencies.
+ * 2. A disabled registry runs the actions without recording them.
+ * 3. The registry and its operations, including operations created later, are exposed as MXBeans.
+ * 4. The report lists every operation and can be dumped to a file, also through JMX.
+ * 5. Reset clears every operation.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.Before;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import javax.management.ObjectName;
+import javax.management.MBeanServer;
+import org.junit.rules.TemporaryFolder;
+import javax.management.MBeanServerFactory;
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MetricsRegistryTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private MetricsRegistry registry;
+
+	@Before
+	public void setup() {
+		registry = new MetricsRegistry();
+	}
+
+	// Test timed operation records calls, failures and latencies
+	@Test
+	public void testTimedOperationIsRecorded() {
+		//Setup
+		OperationMetrics metrics = registry.operation("repository", "EventRepository.getAllEvents");
+
+		//Exercise
+		String result = metrics.timeCall(() -> "events");
+		assertThatThrownBy(() -> metrics.time(() -> {
+			throw new IllegalStateException("Database unavailable");
+		})).isInstanceOf(IllegalStateException.class);
+
+		//Verify
+		assertThat(result).isEqualTo("events");
+		assertThat(metrics.getCalls()).isEqualTo(2);
+		assertThat(metrics.getErrors()).isEqualTo(1);
+		assertThat(metrics.getLatencies().getCount()).isEqualTo(2);
+		assertThat(registry.operation("repository", "EventRepository.getAllEvents")).isSameAs(metrics);
+	}
+
+	// Test disabled registry does not record
+	@Test
+	public void testDisabledRegistryDoesNotRecord() {
+		//Setup
+		OperationMetrics metrics = registry.operation("controller", "EventController.addEvent");
+		registry.setEnabled(false);
+		StringBuilder calls = new StringBuilder();
+
+		//Exercise
+		metrics.time(() -> calls.append("called"));
+
+		//Verify
+		assertThat(calls.toString()).isEqualTo("called");
+		assertThat(metrics.getCalls()).isZero();
+	}
+
+	// Test registry and operations are exposed over JMX
+	@Test
+	public void testOperationsAreExposedOverJmx() throws Exception {
+		//Setup
+		MBeanServer server = MBeanServerFactory.newMBeanServer();
+		OperationMetrics before = registry.operation("repository", "EventRepository.getAllEvents");
+		before.record(2_000_000, false);
+
+		//Exercise
+		registry.registerMBeans(server);
+		registry.operation("controller", "EventController.addEvent").record(1_000, true);
+
+		//Verify
+		ObjectName beforeName = MetricsRegistry.operationName("repository", "EventRepository.getAllEvents");
+		ObjectName afterName = MetricsRegistry.operationName("controller", "EventController.addEvent");
+		assertThat(server.getAttribute(beforeName, "Calls")).isEqualTo(1L);
+		assertThat((Long) server.getAttribute(beforeName, "MaxMicros")).isEqualTo(2_000);
+		assertThat(server.getAttribute(afterName, "Errors")).isEqualTo(1L);
+		assertThat(server.getAttribute(MetricsRegistry.registryName(), "OperationCount")).isEqualTo(2);
+
+		registry.unregisterMBeans();
+		assertThat(server.isRegistered(beforeName)).isFalse();
+		assertThat(server.isRegistered(MetricsRegistry.registryName())).isFalse();
+	}
+
+	// Test report is dumped to a file, also through JMX
+	@Test
+	public void testReportIsDumpedToFile() throws Exception {
+		//Setup
+		MBeanServer server = MBeanServerFactory.newMBeanServer();
+		registry.registerMBeans(server);
+		registry.operation("repository", "EventRepository.getAllEvents").record(1_500_000, false);
+		registry.operation("controller", "EventController.getAllEvents").record(2_500_000, false);
+		Path file = temporaryFolder.getRoot().toPath().resolve("dumps").resolve("metrics.txt");
+
+		//Exercise
+		Object dumped = server.invoke(MetricsRegistry.registryName(), "dump", new Object[] { file.toString() },
+				new String[] { String.class.getName() });
+
+		//Verify
+		assertThat(dumped).isEqualTo(file.toAbsolutePath().toString());
+		String report = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+		assertThat(report).contains("p95(us)").contains("EventRepository.getAllEvents")
+				.contains("EventController.getAllEvents");
+		assertThat(report.indexOf("controller")).isLessThan(report.indexOf("repository"));
+	}
+
+	// Test reset clears every operation
+	@Test
+	public void testResetClearsOperations() {
+		//Setup
+		OperationMetrics metrics = registry.operation("repository", "EventRepository.addEvent");
+		metrics.record(1_000, true);
+
+		//Exercise
+		registry.reset();
+
+		//Verify
+		assertThat(metrics.getCalls()).isZero();
+		assertThat(metrics.getErrors()).isZero();
+		assertThat(metrics.getMaxMicros()).isZero();
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * Unit tests for the ProfilingConnectionProvider class in the Event Management Application.
+ *
+ * The tests use the in-memory H2 test database with the profiling provider configured, and drive it through a
+ * real EventController and EventMySqlRepository with a mocked view.
+ *
+ * The tests verify that:
+ * 1. The statements Hibernate executes are recorded by the SqlProfiler.
+ * 2. The provider requires a SqlProfiler in its settings.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import org.junit.Test;
+import org.mockito.Mock;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.mockito.MockitoAnnotations;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.boot.MetadataSources;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.view.EventManagementView;
+import com.mycompany.eventmanagementapp.controller.EventController;
+import com.mycompany.eventmanagementapp.repository.mysql.EventMySqlRepository;
+
+public class ProfilingConnectionProviderTest {
+
+	@Mock
+	private EventManagementView eventManagementView;
+
+	// Test statements executed by Hibernate are recorded
+	@Test
+	public void testStatementsAreRecorded() throws Exception {
+		//Setup
+		try (AutoCloseable closeable = MockitoAnnotations.openMocks(this)) {
+			SqlProfiler profiler = new SqlProfiler(0);
+			StandardServiceRegistry registry = configuration().applySetting(ProfilingConnectionProvider.PROFILER,
+					profiler).build();
+			try (SessionFactory sessionFactory = new MetadataSources(registry).buildMetadata()
+					.buildSessionFactory()) {
+				EventController eventController = new EventController(eventManagementView,
+						new EventMySqlRepository(sessionFactory));
+				profiler.reset();
+
+				//Exercise
+				eventController.addEvent(new EventModel(1, "Music Festival", LocalDate.now().plusDays(10),
+						"Florence"));
+				eventController.getAllEvents();
+				eventController.getAllEvents();
+
+				//Verify
+				assertThat(profiler.getTopStatements(20)).extracting("sql")
+						.anyMatch(sql -> ((String) sql).startsWith("insert into event"));
+				assertThat(profiler.getTopStatements(20))
+						.filteredOn(profile -> profile.getSql().startsWith("select") && profile.getCount() == 2)
+						.isNotEmpty()
+						.allMatch(profile -> profile.getSlowExecutions() == profile.getCount());
+			} finally {
+				StandardServiceRegistryBuilder.destroy(registry);
+			}
+		}
+	}
+
+	// Test provider requires a profiler
+	@Test
+	public void testProfilerIsRequired() {
+		//Exercise & Verify
+		StandardServiceRegistry registry = configuration().build();
+		try {
+			assertThatThrownBy(() -> new MetadataSources(registry).buildMetadata().buildSessionFactory())
+					.hasStackTraceContaining(ProfilingConnectionProvider.PROFILER);
+		} finally {
+			StandardServiceRegistryBuilder.destroy(registry);
+		}
+	}
+
+	// Helper Methods
+	private static StandardServiceRegistryBuilder configuration() {
+		return new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:profiling")
+				.applySetting(AvailableSettings.CONNECTION_PROVIDER, ProfilingConnectionProvider.class.getName());
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Unit tests for the ProfilingJdbcProxy class in the Event Management Application.
+ *
+ * The connection and statements are mocked, the SqlProfiler records the statements and bind values it is passed.
+ *
+ * The tests verify that:
+ * 1. Prepared statements are recorded with their SQL and bind values, until the parameters are cleared.
+ * 2. Plain statements are recorded with the SQL passed to execute.
+ * 3. Statements are recorded when their execution fails, and the driver's exception is rethrown.
+ * 4. Wrapped connections can be unwrapped, and other calls are forwarded.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import org.junit.Test;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.junit.Before;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.sql.SQLException;
+import java.sql.PreparedStatement;
+import static org.mockito.Mockito.*;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProfilingJdbcProxyTest {
+
+	private Connection connection;
+
+	private List<String> recorded;
+
+	private Connection profiledConnection;
+
+	@Before
+	public void setup() {
+		connection = mock(Connection.class);
+		recorded = new ArrayList<>();
+		SqlProfiler profiler = new SqlProfiler(1000) {
+			@Override
+			void record(String sql, Map<Integer, Object> binds, long nanos) {
+				recorded.add(sql + " " + SqlProfiler.formatBinds(binds));
+			}
+		};
+		profiledConnection = ProfilingJdbcProxy.wrap(connection, profiler);
+	}
+
+	// Test prepared statements are recorded with their bind values
+	@Test
+	public void testPreparedStatementIsRecordedWithBinds() throws SQLException {
+		//Setup
+		String sql = "select * from event where eventName=? and eventId=?";
+		PreparedStatement statement = mock(PreparedStatement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(connection.prepareStatement(sql)).thenReturn(statement);
+		when(statement.executeQuery()).thenReturn(resultSet);
+
+		//Exercise
+		PreparedStatement profiledStatement = profiledConnection.prepareStatement(sql);
+		profiledStatement.setString(1, "Music Festival");
+		profiledStatement.setInt(2, 7);
+		ResultSet result = profiledStatement.executeQuery();
+
+		//Verify
+		assertThat(result).isSameAs(resultSet);
+		verify(statement).setString(1, "Music Festival");
+		assertThat(recorded).containsExactly(sql + " [1='Music Festival', 2=7]");
+
+		//Exercise
+		profiledStatement.clearParameters();
+		profiledStatement.setNull(1, java.sql.Types.VARCHAR);
+		profiledStatement.executeUpdate();
+
+		//Verify
+		assertThat(recorded).endsWith(sql + " [1=NULL]");
+	}
+
+	// Test plain statements are recorded with the executed SQL
+	@Test
+	public void testPlainStatementIsRecorded() throws SQLException {
+		//Setup
+		Statement statement = mock(Statement.class);
+		when(connection.createStatement()).thenReturn(statement);
+
+		//Exercise
+		profiledConnection.createStatement().execute("delete from event");
+
+		//Verify
+		verify(statement).execute("delete from event");
+		assertThat(recorded).containsExactly("delete from event []");
+	}
+
+	// Test failing executions are recorded and rethrown
+	@Test
+	public void testFailingExecutionIsRecordedAndRethrown() throws SQLException {
+		//Setup
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement("insert into event values (?)")).thenReturn(statement);
+		SQLException failure = new SQLException("Duplicate entry");
+		when(statement.executeUpdate()).thenThrow(failure);
+		PreparedStatement profiledStatement = profiledConnection.prepareStatement("insert into event values (?)");
+
+		//Exercise & Verify
+		assertThatThrownBy(profiledStatement::executeUpdate).isSameAs(failure);
+		assertThat(recorded).containsExactly("insert into event values (?) []");
+	}
+
+	// Test wrapped connections are unwrapped and other calls are forwarded
+	@Test
+	public void testUnwrapAndForward() throws SQLException {
+		//Setup
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		//Exercise & Verify
+		assertThat(profiledConnection.getAutoCommit()).isTrue();
+		assertThat(ProfilingJdbcProxy.unwrap(profiledConnection)).isSameAs(connection);
+		assertThat(ProfilingJdbcProxy.unwrap(connection)).isSameAs(connection);
+		assertThat(profiledConnection).isEqualTo(profiledConnection).isNotEqualTo(connection);
+		assertThat(recorded).isEmpty();
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Unit tests for the QueryOriginInspector class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. Statements are returned unchanged and counted per origin, with their whitespace normalized.
+ * 2. The counts are sorted with the most executed statements first.
+ * 3. Clear forgets every count.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.Before;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryOriginInspectorTest {
+
+	private QueryOriginInspector queryOrigins;
+
+	@Before
+	public void setup() {
+		queryOrigins = new QueryOriginInspector();
+	}
+
+	// Test statements are returned unchanged and counted by origin
+	@Test
+	public void testStatementsAreCountedByOrigin() {
+		//Setup
+		String sql = "select *\n  from event";
+
+		//Exercise
+		String inspected = queryOrigins.inspect(sql);
+		queryOrigins.record("EventController.addEvent > EventMySqlRepository.getEventById",
+				"select * from event where eventId=?");
+		queryOrigins.record("EventController.addEvent > EventMySqlRepository.getEventById",
+				"select * from event where eventId=?");
+
+		//Verify
+		assertThat(inspected).isSameAs(sql);
+		List<QueryOriginInspector.StatementCount> counts = queryOrigins.getStatementCounts();
+		assertThat(counts).extracting("origin", "sql", "count").containsExactly(
+				tuple("EventController.addEvent > EventMySqlRepository.getEventById",
+						"select * from event where eventId=?", 2L),
+				tuple(CallerLookup.NO_CONTROLLER, "select * from event", 1L));
+	}
+
+	// Test clear forgets the counts
+	@Test
+	public void testClear() {
+		//Setup
+		queryOrigins.record("origin", "select 1");
+
+		//Exercise
+		queryOrigins.clear();
+
+		//Verify
+		assertThat(queryOrigins.getStatementCounts()).isEmpty();
+	}
+}
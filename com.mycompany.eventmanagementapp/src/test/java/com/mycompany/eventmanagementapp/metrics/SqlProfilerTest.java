@@ -0,0 +1,95 @@
+/**
+ * Unit tests for the SqlProfiler class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. Statements are normalized: whitespace is collapsed, literals and IN lists are replaced by "?".
+ * 2. Bind values are formatted by parameter index, quoted when textual and abbreviated when long.
+ * 3. Executions are aggregated per normalized statement and counted as slow from the threshold on.
+ * 4. The report lists the top statements by total time.
+ */
+
+package com.mycompany.eventmanagementapp.metrics;
+
+import java.util.Map;
+import org.junit.Test;
+import java.util.TreeMap;
+import java.util.Collections;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlProfilerTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	// Test statements are normalized
+	@Test
+	public void testNormalize() {
+		//Exercise & Verify
+		assertThat(SqlProfiler.normalize("select event0_.eventId from event event0_\n  where event0_.eventName='It''s'"
+				+ " and event0_.eventId in (1, 2,3) and event0_.price > -4.5"))
+				.isEqualTo("select event0_.eventId from event event0_ where event0_.eventName=? and "
+						+ "event0_.eventId in (?...) and event0_.price > ?");
+		assertThat(SqlProfiler.normalize("delete from event_participant where participant_id IN (?, ?)"))
+				.isEqualTo("delete from event_participant where participant_id in (?...)");
+	}
+
+	// Test bind values are formatted by index
+	@Test
+	public void testFormatBinds() {
+		//Setup
+		Map<Integer, Object> binds = new TreeMap<>();
+		binds.put(2, "Florence");
+		binds.put(1, 42);
+		binds.put(3, null);
+		binds.put(4, new byte[16]);
+		binds.put(5, String.join("", Collections.nCopies(100, "x")));
+
+		//Exercise
+		String formatted = SqlProfiler.formatBinds(binds);
+
+		//Verify
+		assertThat(formatted).startsWith("[1=42, 2='Florence', 3=NULL, 4=<16 bytes>, 5='xxx")
+				.endsWith("...']");
+	}
+
+	// Test executions are aggregated per normalized statement and counted as slow from the threshold on
+	@Test
+	public void testRecordAggregatesStatements() {
+		//Setup
+		SqlProfiler profiler = new SqlProfiler(10);
+
+		//Exercise
+		profiler.record("select * from event where eventId=1", Collections.emptyMap(), 2 * MILLIS);
+		profiler.record("select * from event where eventId=2", Collections.emptyMap(), 10 * MILLIS);
+		profiler.record("select * from participant", Collections.emptyMap(), 30 * MILLIS);
+
+		//Verify
+		assertThat(profiler.getTopStatements(10))
+				.extracting("sql", "count", "slowExecutions", "totalNanos", "maxNanos").containsExactly(
+						tuple("select * from participant", 1L, 1L, 30 * MILLIS, 30 * MILLIS),
+						tuple("select * from event where eventId=?", 2L, 1L, 12 * MILLIS, 10 * MILLIS));
+		assertThat(profiler.getTopStatements(1)).extracting("sql").containsExactly("select * from participant");
+	}
+
+	// Test report lists the top statements
+	@Test
+	public void testReport() {
+		//Setup
+		SqlProfiler profiler = new SqlProfiler(100);
+		profiler.record("select * from event", Collections.emptyMap(), 5 * MILLIS);
+		profiler.record("select * from participant", Collections.emptyMap(), MILLIS);
+
+		//Exercise
+		String report = profiler.getReport(1);
+
+		//Verify
+		assertThat(report).startsWith("Top 1 SQL statements by total time (2 distinct, slow threshold 100 ms)")
+				.contains("select * from event").doesNotContain("participant");
+
+		//Exercise
+		profiler.reset();
+
+		//Verify
+		assertThat(profiler.getTopStatements(10)).isEmpty();
+	}
+}
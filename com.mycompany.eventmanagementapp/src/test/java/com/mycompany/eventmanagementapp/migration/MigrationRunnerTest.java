@@ -0,0 +1,190 @@
+/**
+ * Unit tests for the MigrationRunner and Migration classes in the Event Management Application.
+ *
+ * Every test runs the migrations on its own in-memory H2 database.
+ *
+ * The tests verify that:
+ * 1. The migrations are applied in version order and recorded with their checksum in the history table.
+ * 2. A second run applies nothing.
+ * 3. A migration modified after it was applied is detected.
+ * 4. A failing migration is rolled back and not recorded, the migrations before it stay applied.
+ * 5. Script names and statements are parsed as documented.
+ * 6. The query plans of H2 use the indexes created by the migrations: the composite primary key and the reverse
+ *    index of the join table, the index on the event date and the unique index on the email.
+ */
+
+package com.mycompany.eventmanagementapp.migration;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.After;
+import org.junit.Before;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MigrationRunnerTest {
+
+	private static int databases;
+
+	private Connection connection;
+
+	private MigrationRunner migrationRunner;
+
+	@Before
+	public void setup() throws Exception {
+		connection = DriverManager.getConnection("jdbc:h2:mem:migration" + (++databases), "testDB", "");
+		migrationRunner = MigrationRunner.forUrl("jdbc:h2:mem:test");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		connection.close();
+	}
+
+	// Test migrations are applied in order and recorded
+	@Test
+	public void testMigrationsAreAppliedInOrderAndRecorded() throws Exception {
+		//Exercise
+		List<Migration> applied = migrationRunner.migrate(connection);
+
+		//Verify
+		assertThat(applied).extracting(Migration::getVersion).containsExactly(1, 2);
+		assertThat(applied).extracting(Migration::getDescription).containsExactly("baseline", "indexes");
+		assertThat(queryString("SELECT COUNT(*) FROM " + MigrationRunner.HISTORY_TABLE)).isEqualTo("2");
+		assertThat(queryString("SELECT checksum FROM " + MigrationRunner.HISTORY_TABLE + " WHERE version = 2"))
+				.isEqualTo(Long.toString(applied.get(1).getChecksum()));
+	}
+
+	// Test second run applies nothing
+	@Test
+	public void testSecondRunAppliesNothing() {
+		//Setup
+		migrationRunner.migrate(connection);
+
+		//Exercise & Verify
+		assertThat(migrationRunner.migrate(connection)).isEmpty();
+	}
+
+	// Test modified migration is detected
+	@Test
+	public void testModifiedMigrationIsDetected() throws Exception {
+		//Setup
+		migrationRunner.migrate(connection);
+		execute("UPDATE " + MigrationRunner.HISTORY_TABLE + " SET checksum = 42 WHERE version = 1");
+
+		//Exercise & Verify
+		assertThatThrownBy(() -> migrationRunner.migrate(connection)).isInstanceOf(MigrationException.class)
+				.hasMessage("Migration V1 (baseline) was modified after it was applied.");
+	}
+
+	// Test failing migration is rolled back and not recorded
+	@Test
+	public void testFailingMigrationIsRolledBack() throws Exception {
+		//Setup
+		MigrationRunner brokenRunner = new MigrationRunner("db/migration/broken");
+
+		//Exercise & Verify
+		assertThatThrownBy(() -> brokenRunner.migrate(connection)).isInstanceOf(MigrationException.class)
+				.hasMessage("Could not apply migration V2 (broken).");
+		assertThat(queryString("SELECT COUNT(*) FROM note")).isEqualTo("0");
+		assertThat(queryString("SELECT MAX(version) FROM " + MigrationRunner.HISTORY_TABLE)).isEqualTo("1");
+		assertThat(connection.getAutoCommit()).isTrue();
+	}
+
+	// Test unsupported database URL
+	@Test
+	public void testUnsupportedDatabaseUrl() {
+		//Setup, Exercise & Verify
+		assertThatThrownBy(() -> MigrationRunner.forUrl("jdbc:postgresql://localhost/app"))
+				.isInstanceOf(MigrationException.class)
+				.hasMessage("No migrations for database URL: jdbc:postgresql://localhost/app");
+	}
+
+	// Test script names and statements are parsed
+	@Test
+	public void testMigrationParsing() {
+		//Exercise
+		Migration migration = new Migration("V12__add_event_notes.sql",
+				"-- comment\nCREATE TABLE a (\n  id INT\n);\r\n\r\nDROP TABLE b;\nSELECT 1");
+
+		//Verify
+		assertThat(migration.getVersion()).isEqualTo(12);
+		assertThat(migration.getDescription()).isEqualTo("add event notes");
+		assertThat(migration.getStatements()).containsExactly("CREATE TABLE a ( id INT )", "DROP TABLE b",
+				"SELECT 1");
+		assertThat(migration.getChecksum()).isEqualTo(new Migration("V12__add_event_notes.sql",
+				"-- comment\nCREATE TABLE a (\n  id INT\n);\n\nDROP TABLE b;\nSELECT 1").getChecksum());
+		assertThatThrownBy(() -> new Migration("add_notes.sql", "")).isInstanceOf(MigrationException.class);
+	}
+
+	// Test participants of an event are read through the composite primary key
+	@Test
+	public void testParticipantsOfEventUsePrimaryKey() throws Exception {
+		//Setup
+		migrationRunner.migrate(connection);
+
+		//Exercise & Verify
+		assertThat(explain("SELECT participant_id FROM event_participant WHERE event_id = 1"))
+				.containsIgnoringCase("PRIMARY_KEY");
+	}
+
+	// Test events of a participant are read through the reverse index
+	@Test
+	public void testEventsOfParticipantUseReverseIndex() throws Exception {
+		//Setup
+		migrationRunner.migrate(connection);
+
+		//Exercise & Verify
+		assertThat(explain("SELECT event_id FROM event_participant WHERE participant_id = 1"))
+				.containsIgnoringCase("IDX_EVENT_PARTICIPANT_PARTICIPANT");
+	}
+
+	// Test events by date use the date index
+	@Test
+	public void testEventsByDateUseDateIndex() throws Exception {
+		//Setup
+		migrationRunner.migrate(connection);
+
+		//Exercise & Verify
+		assertThat(explain("SELECT * FROM event WHERE event_date >= DATE '2030-01-01' ORDER BY event_date"))
+				.containsIgnoringCase("IDX_EVENT_DATE");
+	}
+
+	// Test email lookups use the unique index on the email
+	@Test
+	public void testEmailLookupUsesUniqueEmailIndex() throws Exception {
+		//Setup
+		migrationRunner.migrate(connection);
+		execute("INSERT INTO participant (participant_name, participant_email) VALUES ('Mario', 'mario@gmail.com')");
+
+		//Exercise
+		String plan = explain("SELECT * FROM participant WHERE participant_email = 'mario@gmail.com'");
+
+		//Verify
+		assertThat(plan).containsIgnoringCase("UK_PARTICIPANT_EMAIL");
+		assertThat(queryString("SELECT participant_name FROM participant "
+				+ "WHERE participant_email = 'mario@gmail.com'")).isEqualTo("Mario");
+	}
+
+	// Helper Methods
+	private String explain(String sql) throws Exception {
+		return queryString("EXPLAIN " + sql);
+	}
+
+	private String queryString(String sql) throws Exception {
+		try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(sql)) {
+			rows.next();
+			return rows.getString(1);
+		}
+	}
+
+	private void execute(String sql) throws Exception {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+}
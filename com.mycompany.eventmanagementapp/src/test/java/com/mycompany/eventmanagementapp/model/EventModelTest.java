@@ -0,0 +1,86 @@
+/**
+ * Unit tests for the identity of the EventModel class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. Events with the same id are equal, with the same hash, whatever their other fields.
+ * 2. An event which has not been saved is only equal to itself.
+ * 3. Changing the fields of a saved event keeps it in the sets it is in.
+ * 4. An event which gets its id has the hash of the other events with that id.
+ */
+
+package com.mycompany.eventmanagementapp.model;
+
+import java.util.Set;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.time.LocalDate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventModelTest {
+
+	private static final LocalDate EVENT_DATE = LocalDate.now().plusDays(10);
+
+	// Test events with the same id are equal
+	@Test
+	public void testEventsWithTheSameIdAreEqual() {
+		//Setup
+		EventModel event = new EventModel(1, "Music Festival", EVENT_DATE, "Florence");
+		EventModel renamed = new EventModel(1, "Conference", EVENT_DATE.plusDays(1), "Rome");
+		EventModel other = new EventModel(2, "Music Festival", EVENT_DATE, "Florence");
+
+		//Verify
+		assertThat(renamed).isEqualTo(event).hasSameHashCodeAs(event);
+		assertThat(other).isNotEqualTo(event);
+		assertThat(event).isNotEqualTo(null).isNotEqualTo("Music Festival");
+	}
+
+	// Test unsaved events are only equal to themselves
+	@Test
+	public void testUnsavedEventsAreOnlyEqualToThemselves() {
+		//Setup
+		EventModel event = new EventModel("Music Festival", EVENT_DATE, "Florence");
+		EventModel copy = new EventModel("Music Festival", EVENT_DATE, "Florence");
+
+		//Verify
+		assertThat(event).isEqualTo(event).isNotEqualTo(copy);
+		assertThat(new HashSet<>(Arrays.asList(event, copy))).hasSize(2);
+	}
+
+	// Test changing an event keeps it in its sets
+	@Test
+	public void testChangedEventStaysInItsSets() {
+		//Setup
+		EventModel saved = new EventModel(1, "Music Festival", EVENT_DATE, "Florence");
+		Set<EventModel> events = new HashSet<>();
+		events.add(saved);
+
+		//Exercise
+		saved.setEventName("Renamed Festival");
+		saved.setEventLocation("Milan");
+		saved.setEventDate(EVENT_DATE.plusDays(5));
+
+		//Verify
+		assertThat(events).contains(saved);
+		assertThat(events.remove(new EventModel(1, "Music Festival", EVENT_DATE, "Florence"))).isTrue();
+		assertThat(events).isEmpty();
+	}
+
+	// Test an event hashed before it gets its id is then found through its copies
+	@Test
+	public void testSavedEventHasTheHashOfItsCopies() {
+		//Setup
+		EventModel event = new EventModel("Music Festival", EVENT_DATE, "Florence");
+		event.hashCode();
+
+		//Exercise
+		event.setEventId(1L);
+		Set<EventModel> events = new HashSet<>();
+		events.add(event);
+
+		//Verify
+		EventModel copy = new EventModel(1, "Music Festival", EVENT_DATE, "Florence");
+		assertThat(event).isEqualTo(copy).hasSameHashCodeAs(copy);
+		assertThat(events.remove(copy)).isTrue();
+	}
+}
@@ -0,0 +1,60 @@
+/**
+ * Unit tests for the identity of the ParticipantModel class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. Participants with the same id are equal, with the same hash, whatever their name and email.
+ * 2. A participant which has not been saved is only equal to itself.
+ * 3. Renaming a participant, or changing its email, keeps it in the participants of its events.
+ */
+
+package com.mycompany.eventmanagementapp.model;
+
+import org.junit.Test;
+import java.time.LocalDate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParticipantModelTest {
+
+	// Test participants with the same id are equal
+	@Test
+	public void testParticipantsWithTheSameIdAreEqual() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel(1, "John", "John@gmail.com");
+		ParticipantModel renamed = new ParticipantModel(1, "Johnny", "Johnny@gmail.com");
+		ParticipantModel other = new ParticipantModel(2, "John", "John@gmail.com");
+
+		//Verify
+		assertThat(renamed).isEqualTo(participant).hasSameHashCodeAs(participant);
+		assertThat(other).isNotEqualTo(participant);
+		assertThat(participant).isNotEqualTo(null).isNotEqualTo("John");
+	}
+
+	// Test unsaved participants are only equal to themselves
+	@Test
+	public void testUnsavedParticipantsAreOnlyEqualToThemselves() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel("John", "John@gmail.com");
+		ParticipantModel copy = new ParticipantModel("John", "John@gmail.com");
+
+		//Verify
+		assertThat(participant).isEqualTo(participant).isNotEqualTo(copy);
+	}
+
+	// Test renaming a participant keeps it in the participants of its events
+	@Test
+	public void testRenamedParticipantStaysInItsEvents() {
+		//Setup
+		EventModel event = new EventModel(1, "Music Festival", LocalDate.now().plusDays(10), "Florence");
+		ParticipantModel participant = new ParticipantModel(1, "John", "John@gmail.com");
+		participant.addEvent(event);
+
+		//Exercise
+		participant.setParticipantName("Johnny");
+		participant.setParticipantEmail("Johnny@gmail.com");
+		participant.removeEvent(event);
+
+		//Verify
+		assertThat(event.getParticipants()).isEmpty();
+		assertThat(participant.getEvents()).isEmpty();
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * Unit tests for the EmailBloomFilter class in the Event Management Application.
+ *
+ * The filters are sized for 10000 emails at a false positive rate of 1%, load reads an in-memory H2 database.
+ *
+ * The tests verify that:
+ * 1. Every added email is contained, whatever its case, also when added concurrently.
+ * 2. Most of the emails never added are reported as new, close to the configured false positive rate.
+ * 3. The queries, negatives and false positives are counted and give the observed false positive rate.
+ * 4. load adds the emails of the participants of the database.
+ * 5. A non positive size and a false positive rate outside of (0, 1) are refused.
+ */
+
+package com.mycompany.eventmanagementapp.repository;
+
+import java.util.List;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.concurrent.Future;
+import org.hibernate.SessionFactory;
+import java.util.concurrent.Executors;
+import org.hibernate.boot.MetadataSources;
+import java.util.concurrent.ExecutorService;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.mysql.ParticipantMySqlRepository;
+
+public class EmailBloomFilterTest {
+
+	private static final int EMAILS = 10_000;
+
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+
+	// Test the added emails are contained, ignoring case
+	@Test
+	public void testAddedEmailsAreContained() {
+		//Setup
+		EmailBloomFilter filter = new EmailBloomFilter(EMAILS, FALSE_POSITIVE_RATE);
+
+		//Exercise
+		for (int i = 0; i < EMAILS; i++) {
+			filter.add(email("known", i));
+		}
+
+		//Verify
+		for (int i = 0; i < EMAILS; i++) {
+			assertThat(filter.mightContain(email("known", i))).isTrue();
+			assertThat(filter.mightContain(email("KNOWN", i))).isTrue();
+		}
+		assertThat(filter.getNegatives()).isZero();
+		// An email whose bits were all set already is not counted
+		assertThat(filter.getInsertions()).isBetween((long) (EMAILS * (1 - FALSE_POSITIVE_RATE * 2)), (long) EMAILS);
+	}
+
+	// Test the emails never added are reported as new, but for about the configured share of them
+	@Test
+	public void testNewEmailsAreMostlyReportedAsNew() {
+		//Setup
+		EmailBloomFilter filter = new EmailBloomFilter(EMAILS, FALSE_POSITIVE_RATE);
+		for (int i = 0; i < EMAILS; i++) {
+			filter.add(email("known", i));
+		}
+
+		//Exercise
+		int positives = 0;
+		for (int i = 0; i < EMAILS; i++) {
+			if (filter.mightContain(email("new", i))) {
+				positives++;
+			}
+		}
+
+		//Verify
+		assertThat((double) positives / EMAILS).isLessThan(2 * FALSE_POSITIVE_RATE);
+		assertThat(filter.getExpectedFalsePositiveRate()).isLessThan(2 * FALSE_POSITIVE_RATE);
+	}
+
+	// Test the counters give the observed false positive rate
+	@Test
+	public void testFalsePositivesAreCounted() {
+		//Setup
+		EmailBloomFilter filter = new EmailBloomFilter(EMAILS, FALSE_POSITIVE_RATE);
+		filter.add("John@gmail.com");
+
+		//Exercise
+		boolean known = filter.mightContain("john@gmail.com");
+		boolean unknown = filter.mightContain("Martin@gmail.com");
+		filter.recordFalsePositive();
+
+		//Verify
+		assertThat(known).isTrue();
+		assertThat(unknown).isFalse();
+		assertThat(filter.getQueries()).isEqualTo(2);
+		assertThat(filter.getNegatives()).isEqualTo(1);
+		assertThat(filter.getFalsePositives()).isEqualTo(1);
+		assertThat(filter.getObservedFalsePositiveRate()).isEqualTo(0.5);
+	}
+
+	// Test the emails added by concurrent threads are all contained
+	@Test
+	public void testConcurrentlyAddedEmailsAreContained() throws Exception {
+		//Setup
+		EmailBloomFilter filter = new EmailBloomFilter(EMAILS, FALSE_POSITIVE_RATE);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		//Exercise
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				String prefix = "thread" + thread;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < EMAILS / 4; i++) {
+						filter.add(email(prefix, i));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		//Verify
+		for (int thread = 0; thread < 4; thread++) {
+			for (int i = 0; i < EMAILS / 4; i++) {
+				assertThat(filter.mightContain(email("thread" + thread, i))).isTrue();
+			}
+		}
+	}
+
+	// Test load adds the emails of the database
+	@Test
+	public void testLoadAddsTheEmailsOfTheDatabase() {
+		//Setup
+		StandardServiceRegistry registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:email-filter")
+				.applySetting("hibernate.show_sql", "false").build();
+		SessionFactory sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+		try {
+			ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+			for (int i = 0; i < 50; i++) {
+				participantRepository.addParticipant(new ParticipantModel("Participant " + i, email("known", i)));
+			}
+
+			//Exercise
+			EmailBloomFilter filter = EmailBloomFilter.load(sessionFactory);
+
+			//Verify
+			for (int i = 0; i < 50; i++) {
+				assertThat(filter.mightContain(email("known", i))).isTrue();
+			}
+			assertThat(filter.getInsertions()).isEqualTo(50);
+			assertThat(filter.getConfiguredFalsePositiveRate()).isEqualTo(EmailBloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+		} finally {
+			sessionFactory.close();
+			StandardServiceRegistryBuilder.destroy(registry);
+		}
+	}
+
+	// Test the settings are validated
+	@Test
+	public void testInvalidSettingsAreRefused() {
+		//Setup, Exercise & Verify
+		assertThatThrownBy(() -> new EmailBloomFilter(0, FALSE_POSITIVE_RATE))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new EmailBloomFilter(EMAILS, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new EmailBloomFilter(EMAILS, 1)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// Helper Methods
+	private static String email(String prefix, int number) {
+		return prefix + "." + number + "@example.com";
+	}
+}
@@ -9,6 +9,10 @@
  * 3. Validating that events can be deleted and the repository reflects this change.
  * 4. Testing for edge cases, such as null events, and ensuring appropriate exceptions are thrown.
  * 5. Checking that events can be updated properly, and changes are reflected in the repository.
+ * 6. Checking that single columns and the changed details of an event are updated, keeping its participants, and
+ *    that an event which does not exist is reported.
+ * 7. Checking the existence of an event and counting its participants.
+ * 8. Finding saved events and participants in sets through their copies loaded separately.
  * 
  * The tests utilize JUnit and Hibernate for testing the persistence layer and verifying expected behavior,
  * including handling of database transactions and session management. Additionally, assertions from AssertJ are used
@@ -20,6 +24,9 @@
  * - addEvent(EventModel event)
  * - deleteEvent(EventModel event)
  * - updateEvent(EventModel event)
+ * - renameEvent, rescheduleEvent, relocateEvent
+ * - updateEventDetails(EventModel event)
+ * - existsEventById(long eventId) / countParticipantsOfEvent(long eventId)
  * 
  * The tests are set up with in memory test database using Hibernate and a custom configuration to ensure a controlled
  * environment for the repository's functionality.
@@ -27,7 +34,10 @@
 
 package com.mycompany.eventmanagementapp.repository.mysql;
 
+import java.util.Set;
 import org.junit.Test;
+import java.util.HashSet;
+import java.util.Collections;
 import org.junit.Before;
 import java.time.LocalDate;
 import org.junit.AfterClass;
@@ -43,6 +53,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 
 import com.mycompany.eventmanagementapp.model.EventModel;
+import com.mycompany.eventmanagementapp.model.ParticipantModel;
 
 public class EventMySqlRepositoryTest {
 
@@ -201,6 +212,133 @@ public class EventMySqlRepositoryTest {
 				.hasMessageContaining("Could not update event.");
 	}
 
+	// Test for changing the name, the date and the location of an event one column at a time
+	@Test
+	public void testRenameRescheduleAndRelocateEvent() {
+		//Setup
+		long eventId = addEventToTestDatabase(new EventModel(EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1));
+		
+		//Exercise
+		boolean renamed = eventRepository.renameEvent(eventId, EVENT_NAME_2);
+		boolean rescheduled = eventRepository.rescheduleEvent(eventId, EVENT_DATE_2);
+		boolean relocated = eventRepository.relocateEvent(eventId, EVENT_LOCATION_2);
+		
+		//Verify
+		assertThat(renamed).isTrue();
+		assertThat(rescheduled).isTrue();
+		assertThat(relocated).isTrue();
+		EventModel storedEvent = eventRepository.getEventById(eventId);
+		assertThat(storedEvent.getEventName()).isEqualTo(EVENT_NAME_2);
+		assertThat(storedEvent.getEventDate()).isEqualTo(EVENT_DATE_2);
+		assertThat(storedEvent.getEventLocation()).isEqualTo(EVENT_LOCATION_2);
+	}
+
+	// Test for changing a column of an event which does not exist
+	@Test
+	public void testRenameEventWhenNotFound() {
+		//Setup, Exercise & Verify
+		assertThat(eventRepository.renameEvent(EVENT_ID, EVENT_NAME_2)).isFalse();
+		assertThat(eventRepository.getAllEvents()).isEmpty();
+	}
+
+	// Test for updating the details of an event passed without its participants, which are kept
+	@Test
+	public void testUpdateEventDetailsKeepsParticipants() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel("John", "john@gmail.com");
+		new ParticipantMySqlRepository(sessionFactory).addParticipant(participant);
+		EventModel event = new EventModel(EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1);
+		event.addParticipant(participant);
+		long eventId = addEventToTestDatabase(event);
+		
+		//Exercise
+		boolean updated = eventRepository
+				.updateEventDetails(new EventModel(eventId, EVENT_NAME_1, EVENT_DATE_2, EVENT_LOCATION_2));
+		
+		//Verify
+		assertThat(updated).isTrue();
+		EventModel storedEvent = eventRepository.getEventById(eventId);
+		assertThat(storedEvent.getEventName()).isEqualTo(EVENT_NAME_1);
+		assertThat(storedEvent.getEventDate()).isEqualTo(EVENT_DATE_2);
+		assertThat(storedEvent.getEventLocation()).isEqualTo(EVENT_LOCATION_2);
+		assertThat(storedEvent.getParticipants()).extracting(ParticipantModel::getParticipantEmail)
+				.containsExactly("john@gmail.com");
+	}
+
+	// Test for updating the details of an event which does not exist
+	@Test
+	public void testUpdateEventDetailsWhenNotFound() {
+		//Setup, Exercise & Verify
+		assertThat(eventRepository
+				.updateEventDetails(new EventModel(EVENT_ID, EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1))).isFalse();
+		assertThat(eventRepository.getAllEvents()).isEmpty();
+	}
+
+	// Test for updating the details of a null event
+	@Test
+	public void testUpdateEventDetailsWhenEventIsNull() {
+		//Setup, Exercise & Verify
+		assertThatThrownBy(() -> eventRepository.updateEventDetails(null)).isInstanceOf(HibernateException.class)
+				.hasMessageContaining("Could not update event.");
+	}
+
+	// Test for checking whether an event exists
+	@Test
+	public void testExistsEventById() {
+		//Setup
+		long eventId = addEventToTestDatabase(new EventModel(EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1));
+		
+		//Exercise & Verify
+		assertThat(eventRepository.existsEventById(eventId)).isTrue();
+		assertThat(eventRepository.existsEventById(eventId + 1)).isFalse();
+	}
+
+	// Test for counting the participants of an event, only the ones of that event
+	@Test
+	public void testCountParticipantsOfEvent() {
+		//Setup
+		ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		long eventId1 = addEventToTestDatabase(new EventModel(EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1));
+		long eventId2 = addEventToTestDatabase(new EventModel(EVENT_NAME_2, EVENT_DATE_2, EVENT_LOCATION_2));
+		participantRepository.upsertRegistration(new ParticipantModel("John", "john@gmail.com"), eventId1);
+		participantRepository.upsertRegistration(new ParticipantModel("Robert", "robert@gmail.com"), eventId1);
+		participantRepository.upsertRegistration(new ParticipantModel("John", "john@gmail.com"), eventId2);
+		
+		//Exercise & Verify
+		assertThat(eventRepository.countParticipantsOfEvent(eventId1)).isEqualTo(2);
+		assertThat(eventRepository.countParticipantsOfEvent(eventId2)).isEqualTo(1);
+		assertThat(eventRepository.countParticipantsOfEvent(eventId2 + 1)).isZero();
+	}
+
+	// Test for the saved event and participant being found in sets through their loaded copies
+	@Test
+	public void testSavedEntitiesAreFoundThroughLoadedCopies() {
+		//Setup
+		ParticipantMySqlRepository participantRepository = new ParticipantMySqlRepository(sessionFactory);
+		EventModel event = new EventModel(EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1);
+		ParticipantModel participant = new ParticipantModel("John", "john@gmail.com");
+		// Hashed before they get their ids
+		event.hashCode();
+		participant.hashCode();
+		eventRepository.addEvent(event);
+		participantRepository.addParticipant(participant);
+		participantRepository.enroll(event.getEventId(), participant.getParticipantId());
+		Set<EventModel> events = new HashSet<>(Collections.singleton(event));
+		Set<ParticipantModel> participants = new HashSet<>(Collections.singleton(participant));
+
+		//Exercise
+		EventModel loadedEvent = eventRepository.getEventById(event.getEventId());
+		ParticipantModel loadedParticipant = participantRepository.getParticipantById(participant.getParticipantId());
+
+		//Verify
+		assertThat(loadedEvent).isEqualTo(event).hasSameHashCodeAs(event);
+		assertThat(loadedParticipant).isEqualTo(participant).hasSameHashCodeAs(participant);
+		assertThat(loadedEvent.getParticipants()).contains(participant);
+		assertThat(loadedParticipant.getEvents()).contains(event);
+		assertThat(events.remove(loadedEvent)).isTrue();
+		assertThat(participants.remove(loadedParticipant)).isTrue();
+	}
+
 	// Utility Functions
 	// Utility function to insert an event into the database.
 	private long addEventToTestDatabase(EventModel event) {
@@ -0,0 +1,164 @@
+/**
+ * Unit tests for the GroupCommitPipeline class in the Event Management Application.
+ *
+ * The commands save events on an in-memory H2 database, the pipelines wait long enough for the commands submitted
+ * one after the other by a test to end up in the same group.
+ *
+ * The tests verify that:
+ * 1. The commands submitted together are committed in one transaction and their futures completed.
+ * 2. A group holds at most maxBatchSize commands.
+ * 3. A failing command fails its own future only, the others of its group are committed one by one.
+ * 4. close commits the waiting commands and the commands submitted afterwards fail.
+ * 5. A negative delay and a batch size below one are refused.
+ */
+
+package com.mycompany.eventmanagementapp.repository.mysql;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.After;
+import org.junit.Before;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import java.util.concurrent.CompletableFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+
+public class GroupCommitPipelineTest {
+
+	private static final long MAX_DELAY_MILLIS = 200;
+
+	private StandardServiceRegistry registry;
+
+	private SessionFactory sessionFactory;
+
+	private GroupCommitPipeline pipeline;
+
+	@Before
+	public void setup() {
+		registry = new StandardServiceRegistryBuilder().configure("hibernate-test.cfg.xml")
+				.applySetting("hibernate.connection.url", "jdbc:h2:mem:group-commit")
+				.applySetting("hibernate.show_sql", "false").build();
+		sessionFactory = new MetadataSources(registry).buildMetadata().buildSessionFactory();
+	}
+
+	@After
+	public void tearDown() {
+		if (pipeline != null) {
+			pipeline.close();
+		}
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy(registry);
+	}
+
+	// Test the commands submitted together share one transaction
+	@Test
+	public void testCommandsSubmittedTogetherAreCommittedInOneTransaction() {
+		//Setup
+		pipeline = new GroupCommitPipeline(sessionFactory, MAX_DELAY_MILLIS, 10);
+
+		//Exercise
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			futures.add(pipeline.submit("save", saveEvent("Event " + i)));
+		}
+		futures.forEach(CompletableFuture::join);
+
+		//Verify
+		assertThat(countEvents()).isEqualTo(5);
+		assertThat(pipeline.getCommittedBatches()).isEqualTo(1);
+		assertThat(pipeline.getCommittedCommands()).isEqualTo(5);
+		assertThat(pipeline.getLargestBatch()).isEqualTo(5);
+		assertThat(pipeline.getAverageBatchSize()).isEqualTo(5.0);
+		assertThat(pipeline.getFailedCommands()).isZero();
+	}
+
+	// Test a group does not grow beyond the batch size
+	@Test
+	public void testGroupsAreLimitedToMaxBatchSize() {
+		//Setup
+		pipeline = new GroupCommitPipeline(sessionFactory, MAX_DELAY_MILLIS, 2);
+
+		//Exercise
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			futures.add(pipeline.submit("save", saveEvent("Event " + i)));
+		}
+		futures.forEach(CompletableFuture::join);
+
+		//Verify
+		assertThat(countEvents()).isEqualTo(5);
+		assertThat(pipeline.getCommittedBatches()).isEqualTo(3);
+		assertThat(pipeline.getLargestBatch()).isEqualTo(2);
+	}
+
+	// Test a failing command does not fail the other commands of its group
+	@Test
+	public void testFailingCommandOnlyFailsItsOwnFuture() {
+		//Setup
+		pipeline = new GroupCommitPipeline(sessionFactory, MAX_DELAY_MILLIS, 10);
+		IllegalStateException failure = new IllegalStateException("Command failed");
+
+		//Exercise
+		CompletableFuture<Void> first = pipeline.submit("save", saveEvent("Event 1"));
+		CompletableFuture<Void> failing = pipeline.submit("fail", session -> {
+			session.save(new EventModel("Event 2", LocalDate.now().plusDays(1), "Florence"));
+			throw failure;
+		});
+		CompletableFuture<Void> last = pipeline.submit("save", saveEvent("Event 3"));
+
+		//Verify
+		first.join();
+		last.join();
+		assertThatThrownBy(failing::join).hasCause(failure);
+		assertThat(countEvents()).isEqualTo(2);
+		assertThat(pipeline.getRetriedBatches()).isEqualTo(1);
+		assertThat(pipeline.getFailedCommands()).isEqualTo(1);
+		assertThat(pipeline.getCommittedCommands()).isEqualTo(2);
+	}
+
+	// Test close commits what is waiting and refuses the later commands
+	@Test
+	public void testCloseCommitsWaitingCommandsAndRefusesNewOnes() {
+		//Setup
+		pipeline = new GroupCommitPipeline(sessionFactory, 60_000, 10);
+		CompletableFuture<Void> waiting = pipeline.submit("save", saveEvent("Event 1"));
+
+		//Exercise
+		pipeline.close();
+		CompletableFuture<Void> late = pipeline.submit("save", saveEvent("Event 2"));
+
+		//Verify
+		assertThat(waiting).isCompleted();
+		assertThatThrownBy(late::join).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(countEvents()).isEqualTo(1);
+	}
+
+	// Test the settings are validated
+	@Test
+	public void testInvalidSettingsAreRefused() {
+		//Setup, Exercise & Verify
+		assertThatThrownBy(() -> new GroupCommitPipeline(sessionFactory, -1, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new GroupCommitPipeline(sessionFactory, MAX_DELAY_MILLIS, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// Helper Methods
+	private static GroupCommitPipeline.Command saveEvent(String eventName) {
+		return session -> session.save(new EventModel(eventName, LocalDate.now().plusDays(1), "Florence"));
+	}
+
+	private long countEvents() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.createQuery("select count(e) from EventModel e", Long.class).uniqueResult();
+		}
+	}
+}
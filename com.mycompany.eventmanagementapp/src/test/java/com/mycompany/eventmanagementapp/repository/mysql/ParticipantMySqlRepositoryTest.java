@@ -9,6 +9,12 @@
  * 3. Validating that participants can be deleted and the repository reflects this change.
  * 4. Testing for edge cases, such as null participants, and ensuring appropriate exceptions are thrown.
  * 5. Checking that participants can be updated properly, and changes are reflected in the repository.
+ * 6. Registering new and existing participants to events, right away and through a group commit pipeline.
+ * 7. Upserting registrations, the database rejecting the duplicate emails and registrations, concurrent ones too.
+ * 8. The emails written are added to the email filter.
+ * 9. Enrolling and unenrolling participants, writing the association row only.
+ * 10. Renaming participants, changing their emails and updating their changed details, keeping their events.
+ * 11. Checking the existence of a participant and its registration to an event by email.
  * 
  * The tests utilize JUnit and Hibernate for testing the persistence layer and verifying expected behavior,
  * including handling of database transactions and session management. Additionally, assertions from AssertJ are used
@@ -21,6 +27,12 @@
  * - addParticipant(ParticipantModel participant)
  * - deleteParticipant(ParticipantModel participant)
  * - updateParticipant(ParticipantModel participant)
+ * - registerParticipant(ParticipantModel participant, EventModel event)
+ * - addParticipantToEvent(ParticipantModel participant, long eventId)
+ * - upsertRegistration(ParticipantModel participant, long eventId)
+ * - enroll(long eventId, long participantId) / unenroll(long eventId, long participantId)
+ * - renameParticipant, changeParticipantEmail, updateParticipantDetails
+ * - existsParticipantByEmail(String email) / isEnrolled(long eventId, String email)
  * 
  * The tests are set up with in memory test database using Hibernate and a custom configuration to ensure a controlled
  * environment for the repository's functionality.
@@ -29,6 +41,13 @@
 package com.mycompany.eventmanagementapp.repository.mysql;
 
 import org.junit.Test;
+import java.util.List;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -36,13 +55,17 @@ import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.assertj.core.api.Assertions;
 import org.hibernate.HibernateException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.hibernate.boot.MetadataSources;
 import static org.assertj.core.api.Assertions.assertThat;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 
+import com.mycompany.eventmanagementapp.model.EventModel;
 import com.mycompany.eventmanagementapp.model.ParticipantModel;
+import com.mycompany.eventmanagementapp.repository.EmailBloomFilter;
+import com.mycompany.eventmanagementapp.repository.ParticipantRepository.RegistrationOutcome;
 
 public class ParticipantMySqlRepositoryTest {
 
@@ -62,6 +85,16 @@ public class ParticipantMySqlRepositoryTest {
 	
 	private static final String PARTICIPANT_EMAIL_2 = "Robert@gmail.com";
 
+	private static final long EVENT_ID = 1;
+
+	private static final String EVENT_NAME_1 = "Music Festival";
+
+	private static final String EVENT_NAME_2 = "Book Fair";
+
+	private static final LocalDate EVENT_DATE = LocalDate.now().plusDays(10);
+
+	private static final String EVENT_LOCATION = "Florence";
+
 	@BeforeClass
 	public static void setupServer() {
 		// Setup Hibernate configuration for test database
@@ -226,7 +259,450 @@ public class ParticipantMySqlRepositoryTest {
 				.hasMessageContaining("Could not update participant.");
 	}
 
+	// Test for registering a new Participant to an event, which adds the participant
+	@Test
+	public void testRegisterParticipantWhenParticipantIsNew() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		CompletableFuture<Void> registration = participantRepository.registerParticipant(participant, event);
+
+		//Verify
+		assertThat(registration).isCompleted();
+		assertThat(participant.getParticipantId()).isNotNull();
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents())
+				.containsExactly(event);
+	}
+
+	// Test for registering an existing Participant to another event, which keeps its other registrations
+	@Test
+	public void testRegisterParticipantWhenParticipantExists() {
+		//Setup
+		EventModel event1 = addEventToTestDatabase(EVENT_NAME_1);
+		EventModel event2 = addEventToTestDatabase(EVENT_NAME_2);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.registerParticipant(participant, event1).join();
+
+		//Exercise
+		CompletableFuture<Void> registration = participantRepository
+				.registerParticipant(participantRepository.getParticipantById(participant.getParticipantId()), event2);
+
+		//Verify
+		assertThat(registration).isCompleted();
+		assertThat(participantRepository.getAllParticipants()).containsExactly(participant);
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents())
+				.containsExactlyInAnyOrder(event1, event2);
+	}
+
+	// Test for registering a Participant to an event it is already registered to, rejected as a duplicate
+	@Test
+	public void testRegisterParticipantWhenAlreadyRegistered() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.registerParticipant(participant, event).join();
+
+		//Exercise
+		CompletableFuture<Void> registration = participantRepository
+				.registerParticipant(participantRepository.getParticipantById(participant.getParticipantId()), event);
+
+		//Verify
+		assertThatThrownBy(registration::join).hasCauseInstanceOf(ConstraintViolationException.class);
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents())
+				.containsExactly(event);
+	}
+
+	// Test for registering a Participant to an event which does not exist
+	@Test
+	public void testRegisterParticipantWhenEventDoesNotExist() {
+		//Setup
+		EventModel event = new EventModel(EVENT_ID, EVENT_NAME_1, EVENT_DATE, EVENT_LOCATION);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		CompletableFuture<Void> registration = participantRepository.registerParticipant(participant, event);
+
+		//Verify
+		assertThatThrownBy(registration::join).hasCauseInstanceOf(HibernateException.class)
+				.hasMessageContaining("Could not register participant.")
+				.satisfies(e -> assertThat(e.getCause()).isNotInstanceOf(ConstraintViolationException.class));
+		assertThat(participantRepository.getAllParticipants()).isEmpty();
+	}
+
+	// Test for registering Participants through a group commit pipeline, a duplicate email only fails its own
+	// registration
+	@Test
+	public void testRegisterParticipantWithGroupCommitPipeline() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant1 = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		ParticipantModel participant2 = new ParticipantModel(PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_2);
+		ParticipantModel duplicate = new ParticipantModel(PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_1);
+
+		try (GroupCommitPipeline pipeline = new GroupCommitPipeline(sessionFactory, 200, 10)) {
+			participantRepository.setGroupCommitPipeline(pipeline);
+
+			//Exercise
+			CompletableFuture<Void> registration1 = participantRepository.registerParticipant(participant1, event);
+			CompletableFuture<Void> registration2 = participantRepository.registerParticipant(participant2, event);
+			CompletableFuture<Void> duplicateRegistration = participantRepository.registerParticipant(duplicate,
+					event);
+
+			//Verify
+			registration1.join();
+			registration2.join();
+			assertThatThrownBy(duplicateRegistration::join).hasCauseInstanceOf(ConstraintViolationException.class);
+			assertThat(pipeline.getRetriedBatches()).isEqualTo(1);
+			assertThat(participantRepository.getAllParticipants()).containsExactlyInAnyOrder(participant1,
+					participant2);
+		}
+	}
+
+	// Test for adding a new Participant to an event, saved with its registration
+	@Test
+	public void testAddParticipantToEvent() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		boolean added = participantRepository.addParticipantToEvent(participant, event.getEventId());
+
+		//Verify
+		assertThat(added).isTrue();
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents())
+				.containsExactly(event);
+	}
+
+	// Test for adding a new Participant to an event which does not exist, nothing is saved
+	@Test
+	public void testAddParticipantToEventWhenEventDoesNotExist() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		boolean added = participantRepository.addParticipantToEvent(participant, EVENT_ID);
+
+		//Verify
+		assertThat(added).isFalse();
+		assertThat(participant.getParticipantId()).isNull();
+		assertThat(participantRepository.getAllParticipants()).isEmpty();
+	}
+
+	// Test for upserting the registration of a new Participant, which adds it
+	@Test
+	public void testUpsertRegistrationWhenParticipantIsNew() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		RegistrationOutcome outcome = participantRepository.upsertRegistration(participant, event.getEventId());
+
+		//Verify
+		assertThat(outcome).isEqualTo(RegistrationOutcome.PARTICIPANT_ADDED);
+		assertThat(participant.getParticipantId()).isNotNull();
+		ParticipantModel added = participantRepository.getParticipantByEmail(PARTICIPANT_EMAIL_1);
+		assertThat(added).isEqualTo(participant);
+		assertThat(added.getParticipantName()).isEqualTo(PARTICIPANT_NAME_1);
+		assertThat(added.getEvents()).containsExactly(event);
+	}
+
+	// Test for upserting the registration of an existing Participant to another event, its name is kept
+	@Test
+	public void testUpsertRegistrationWhenParticipantExists() {
+		//Setup
+		EventModel event1 = addEventToTestDatabase(EVENT_NAME_1);
+		EventModel event2 = addEventToTestDatabase(EVENT_NAME_2);
+		ParticipantModel existing = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.upsertRegistration(existing, event1.getEventId());
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		RegistrationOutcome outcome = participantRepository.upsertRegistration(participant, event2.getEventId());
+
+		//Verify
+		assertThat(outcome).isEqualTo(RegistrationOutcome.PARTICIPANT_REGISTERED);
+		assertThat(participant.getParticipantId()).isEqualTo(existing.getParticipantId());
+		assertThat(participantRepository.getAllParticipants()).containsExactly(existing);
+		ParticipantModel registered = participantRepository.getParticipantById(existing.getParticipantId());
+		assertThat(registered.getParticipantName()).isEqualTo(PARTICIPANT_NAME_1);
+		assertThat(registered.getEvents()).containsExactlyInAnyOrder(event1, event2);
+	}
+
+	// Test for upserting a registration which exists already
+	@Test
+	public void testUpsertRegistrationWhenAlreadyRegistered() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel existing = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.upsertRegistration(existing, event.getEventId());
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		RegistrationOutcome outcome = participantRepository.upsertRegistration(participant, event.getEventId());
+
+		//Verify
+		assertThat(outcome).isEqualTo(RegistrationOutcome.ALREADY_REGISTERED);
+		assertThat(participant.getParticipantId()).isEqualTo(existing.getParticipantId());
+		assertThat(participantRepository.getAllParticipants()).containsExactly(existing);
+	}
+
+	// Test for upserting a registration to an event which does not exist, the new participant is not kept
+	@Test
+	public void testUpsertRegistrationWhenEventDoesNotExist() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+
+		//Exercise
+		RegistrationOutcome outcome = participantRepository.upsertRegistration(participant, EVENT_ID);
+
+		//Verify
+		assertThat(outcome).isEqualTo(RegistrationOutcome.EVENT_NOT_FOUND);
+		assertThat(participant.getParticipantId()).isNull();
+		assertThat(participantRepository.getAllParticipants()).isEmpty();
+	}
+
+	// Test for concurrent upserts of the same registration, the database lets only one of them add the participant
+	@Test
+	public void testUpsertRegistrationWhenRunConcurrently() throws Exception {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		//Exercise
+		List<Future<RegistrationOutcome>> outcomes = new ArrayList<>();
+		try {
+			for (int i = 0; i < 4; i++) {
+				outcomes.add(executor.submit(() -> participantRepository.upsertRegistration(
+						new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1), event.getEventId())));
+			}
+			List<RegistrationOutcome> results = new ArrayList<>();
+			for (Future<RegistrationOutcome> outcome : outcomes) {
+				results.add(outcome.get());
+			}
+
+			//Verify
+			assertThat(results).containsOnlyOnce(RegistrationOutcome.PARTICIPANT_ADDED)
+					.containsOnly(RegistrationOutcome.PARTICIPANT_ADDED, RegistrationOutcome.ALREADY_REGISTERED);
+			assertThat(participantRepository.getAllParticipants()).hasSize(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// Test for enrolling an existing participant to an event, only the association row is written
+	@Test
+	public void testEnrollWhenNotEnrolled() {
+		//Setup
+		EventModel event1 = addEventToTestDatabase(EVENT_NAME_1);
+		EventModel event2 = addEventToTestDatabase(EVENT_NAME_2);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.upsertRegistration(participant, event1.getEventId());
+
+		//Exercise
+		boolean enrolled = participantRepository.enroll(event2.getEventId(), participant.getParticipantId());
+
+		//Verify
+		assertThat(enrolled).isTrue();
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents())
+				.containsExactlyInAnyOrder(event1, event2);
+	}
+
+	// Test for enrolling a participant twice to the same event
+	@Test
+	public void testEnrollWhenAlreadyEnrolled() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.upsertRegistration(participant, event.getEventId());
+
+		//Exercise
+		boolean enrolled = participantRepository.enroll(event.getEventId(), participant.getParticipantId());
+
+		//Verify
+		assertThat(enrolled).isFalse();
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents())
+				.containsExactly(event);
+	}
+
+	// Test for enrolling a participant to an event which does not exist
+	@Test
+	public void testEnrollWhenEventDoesNotExist() {
+		//Setup
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.addParticipant(participant);
+
+		//Exercise & Verify
+		assertThatThrownBy(() -> participantRepository.enroll(EVENT_ID, participant.getParticipantId()))
+				.isInstanceOf(HibernateException.class).hasMessage("Could not enroll participant.");
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents()).isEmpty();
+	}
+
+	// Test for unenrolling a participant, the participant and the event themselves are kept
+	@Test
+	public void testUnenrollWhenEnrolled() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.upsertRegistration(participant, event.getEventId());
+
+		//Exercise
+		boolean unenrolled = participantRepository.unenroll(event.getEventId(), participant.getParticipantId());
+
+		//Verify
+		assertThat(unenrolled).isTrue();
+		assertThat(participantRepository.getParticipantById(participant.getParticipantId()).getEvents()).isEmpty();
+		assertThat(getEventFromTestDatabase(event.getEventId()).getParticipants()).isEmpty();
+	}
+
+	// Test for unenrolling a participant which is not enrolled to the event
+	@Test
+	public void testUnenrollWhenNotEnrolled() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.addParticipant(participant);
+
+		//Exercise & Verify
+		assertThat(participantRepository.unenroll(event.getEventId(), participant.getParticipantId())).isFalse();
+	}
+
+	// Test the email filter learns the emails of the added, registered and upserted participants
+	@Test
+	public void testEmailFilterLearnsTheWrittenEmails() {
+		//Setup
+		EmailBloomFilter emailFilter = new EmailBloomFilter(1000, 0.01);
+		participantRepository.setEmailFilter(emailFilter);
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+
+		//Exercise
+		participantRepository.addParticipant(new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1));
+		participantRepository.registerParticipant(new ParticipantModel(PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_2), event)
+				.join();
+		participantRepository.upsertRegistration(new ParticipantModel(PARTICIPANT_NAME_1, "Martin@gmail.com"),
+				event.getEventId());
+
+		//Verify
+		assertThat(emailFilter.mightContain(PARTICIPANT_EMAIL_1)).isTrue();
+		assertThat(emailFilter.mightContain(PARTICIPANT_EMAIL_2)).isTrue();
+		assertThat(emailFilter.mightContain("Martin@gmail.com")).isTrue();
+		assertThat(emailFilter.getInsertions()).isEqualTo(3);
+	}
+
+	// Test for changing the name and the email of a participant one column at a time, the filter learns the email
+	@Test
+	public void testRenameParticipantAndChangeEmail() {
+		//Setup
+		EmailBloomFilter emailFilter = new EmailBloomFilter(1000, 0.01);
+		participantRepository.setEmailFilter(emailFilter);
+		long participantId = addParticipantToTestDatabase(new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1));
+
+		//Exercise
+		boolean renamed = participantRepository.renameParticipant(participantId, PARTICIPANT_NAME_2);
+		boolean emailChanged = participantRepository.changeParticipantEmail(participantId, PARTICIPANT_EMAIL_2);
+
+		//Verify
+		assertThat(renamed).isTrue();
+		assertThat(emailChanged).isTrue();
+		ParticipantModel storedParticipant = participantRepository.getParticipantById(participantId);
+		assertThat(storedParticipant.getParticipantName()).isEqualTo(PARTICIPANT_NAME_2);
+		assertThat(storedParticipant.getParticipantEmail()).isEqualTo(PARTICIPANT_EMAIL_2);
+		assertThat(emailFilter.mightContain(PARTICIPANT_EMAIL_2)).isTrue();
+	}
+
+	// Test for changing the email of a participant to the email of another one
+	@Test
+	public void testChangeParticipantEmailWhenEmailIsTaken() {
+		//Setup
+		long participantId = addParticipantToTestDatabase(new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1));
+		addParticipantToTestDatabase(new ParticipantModel(PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_2));
+
+		//Exercise & Verify
+		assertThatThrownBy(() -> participantRepository.changeParticipantEmail(participantId, PARTICIPANT_EMAIL_2))
+				.isInstanceOf(HibernateException.class).hasMessage("Could not update participant.");
+		assertThat(participantRepository.getParticipantById(participantId).getParticipantEmail())
+				.isEqualTo(PARTICIPANT_EMAIL_1);
+	}
+
+	// Test for updating the details of a participant passed without its events, which are kept
+	@Test
+	public void testUpdateParticipantDetailsKeepsEvents() {
+		//Setup
+		EventModel event = addEventToTestDatabase(EVENT_NAME_1);
+		ParticipantModel participant = new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1);
+		participantRepository.upsertRegistration(participant, event.getEventId());
+
+		//Exercise
+		boolean updated = participantRepository.updateParticipantDetails(
+				new ParticipantModel(participant.getParticipantId(), PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_1));
+
+		//Verify
+		assertThat(updated).isTrue();
+		ParticipantModel storedParticipant = participantRepository.getParticipantById(participant.getParticipantId());
+		assertThat(storedParticipant.getParticipantName()).isEqualTo(PARTICIPANT_NAME_2);
+		assertThat(storedParticipant.getEvents()).containsExactly(event);
+	}
+
+	// Test for updating the details of a participant which does not exist
+	@Test
+	public void testUpdateParticipantDetailsWhenNotFound() {
+		//Setup, Exercise & Verify
+		assertThat(participantRepository.updateParticipantDetails(
+				new ParticipantModel(PARTICIPANT_ID, PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1))).isFalse();
+		assertThat(participantRepository.renameParticipant(PARTICIPANT_ID, PARTICIPANT_NAME_2)).isFalse();
+		assertThat(participantRepository.getAllParticipants()).isEmpty();
+	}
+
+	// Test for checking whether a participant has an email
+	@Test
+	public void testExistsParticipantByEmail() {
+		//Setup
+		addParticipantToTestDatabase(new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1));
+
+		//Exercise & Verify
+		assertThat(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL_1)).isTrue();
+		assertThat(participantRepository.existsParticipantByEmail(PARTICIPANT_EMAIL_2)).isFalse();
+	}
+
+	// Test for checking whether the participant with an email is registered to an event
+	@Test
+	public void testIsEnrolled() {
+		//Setup
+		EventModel event1 = addEventToTestDatabase(EVENT_NAME_1);
+		EventModel event2 = addEventToTestDatabase(EVENT_NAME_2);
+		participantRepository.upsertRegistration(new ParticipantModel(PARTICIPANT_NAME_1, PARTICIPANT_EMAIL_1),
+				event1.getEventId());
+		participantRepository.upsertRegistration(new ParticipantModel(PARTICIPANT_NAME_2, PARTICIPANT_EMAIL_2),
+				event2.getEventId());
+
+		//Exercise & Verify
+		assertThat(participantRepository.isEnrolled(event1.getEventId(), PARTICIPANT_EMAIL_1)).isTrue();
+		assertThat(participantRepository.isEnrolled(event2.getEventId(), PARTICIPANT_EMAIL_1)).isFalse();
+		assertThat(participantRepository.isEnrolled(event1.getEventId(), "Martin@gmail.com")).isFalse();
+	}
+
 	// Utility Functions
+	// Utility function to insert an event into the database.
+	private EventModel addEventToTestDatabase(String eventName) {
+		EventModel event = new EventModel(eventName, EVENT_DATE, EVENT_LOCATION);
+		Session session = sessionFactory.openSession();
+		session.beginTransaction();
+		session.save(event);
+		session.getTransaction().commit();
+		session.close();
+		return event;
+	}
+
+	// Utility function to read an event from the database.
+	private EventModel getEventFromTestDatabase(long eventId) {
+		try (Session session = sessionFactory.openSession()) {
+			return session.get(EventModel.class, eventId);
+		}
+	}
+
 	// Utility function to insert a participant into the database.
 	private long addParticipantToTestDatabase(ParticipantModel participant) {
 		Session session = sessionFactory.openSession();
@@ -0,0 +1,80 @@
+/**
+ * Unit tests for the ChromeTraceWriter class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. Spans are written as complete events with microsecond timestamps relative to the origin, their ids and
+ *    attributes as arguments, and the thread names as metadata.
+ * 2. Spans which crossed threads are written with a flow from the submitting thread.
+ * 3. Strings are escaped.
+ */
+
+package com.mycompany.eventmanagementapp.tracing;
+
+import org.junit.Test;
+import java.util.Arrays;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChromeTraceWriterTest {
+
+	private static final long ORIGIN = 1_000_000_000L;
+
+	// Test spans are written as complete events with metadata
+	@Test
+	public void testSpansAreWrittenAsCompleteEvents() throws IOException {
+		//Setup
+		Span span = span(7, 8, 3, ORIGIN + 1_500_000L);
+		span.setAttribute("rows", 2L).setAttribute("operation", "add");
+		StringWriter json = new StringWriter();
+
+		//Exercise
+		new ChromeTraceWriter(ORIGIN).write(Arrays.asList(finish(span, ORIGIN + 2_000_250L)), json);
+
+		//Verify
+		long threadId = Thread.currentThread().getId();
+		assertThat(json.toString()).startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[")
+				.contains("{\"name\":\"getEventById\",\"cat\":\"repository\",\"ph\":\"X\",\"ts\":1500.000,"
+						+ "\"dur\":500.250,\"pid\":1,\"tid\":" + threadId + ",\"args\":{\"trace\":7,\"span\":8,"
+						+ "\"parent\":3,\"rows\":2,\"operation\":\"add\"}}")
+				.contains("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + threadId
+						+ ",\"args\":{\"name\":\"" + Thread.currentThread().getName() + "\"}}")
+				.doesNotContain("\"ph\":\"s\"").endsWith("]}\n");
+	}
+
+	// Test spans which crossed threads get a flow
+	@Test
+	public void testThreadHopIsWrittenAsFlow() throws IOException {
+		//Setup
+		Span span = span(1, 2, 1, ORIGIN + 3_000L);
+		span.setFlow(5, 42, ORIGIN + 1_000L);
+		StringWriter json = new StringWriter();
+
+		//Exercise
+		new ChromeTraceWriter(ORIGIN).write(Arrays.asList(finish(span, ORIGIN + 4_000L)), json);
+
+		//Verify
+		assertThat(json.toString())
+				.contains("{\"name\":\"thread hop\",\"cat\":\"flow\",\"ph\":\"s\",\"id\":5,\"ts\":1.000,\"pid\":1,"
+						+ "\"tid\":42}")
+				.contains("{\"name\":\"thread hop\",\"cat\":\"flow\",\"ph\":\"f\",\"bp\":\"e\",\"id\":5,"
+						+ "\"ts\":3.000,\"pid\":1,\"tid\":" + Thread.currentThread().getId() + "}");
+	}
+
+	// Test strings are escaped
+	@Test
+	public void testQuote() {
+		//Exercise & Verify
+		assertThat(ChromeTraceWriter.quote("say \"hi\"\\\n\t\u0001")).isEqualTo("\"say \\\"hi\\\"\\\\\\n\\t\\u0001\"");
+	}
+
+	// Helper Methods
+	private static Span span(long traceId, long spanId, long parentId, long startNanos) {
+		return new Span(new Tracer(10), traceId, spanId, parentId, "repository", "getEventById", null, startNanos);
+	}
+
+	private static Span finish(Span span, long endNanos) {
+		span.finish(endNanos);
+		return span;
+	}
+}
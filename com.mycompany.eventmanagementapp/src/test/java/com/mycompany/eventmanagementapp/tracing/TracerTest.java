@@ -0,0 +1,146 @@
+/**
+ * Unit tests for the Tracer class in the Event Management Application.
+ *
+ * The tests verify that:
+ * 1. While tracing is disabled, no span is recorded and tasks are not wrapped.
+ * 2. Nested spans are children of the current span and share its trace, the parent becomes current again.
+ * 3. A wrapped task runs in a child span on the executing thread, with its queue time and thread hop recorded.
+ * 4. Spans beyond the maximum are dropped and counted.
+ * 5. The trace is exported to a file.
+ */
+
+package com.mycompany.eventmanagementapp.tracing;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.Rule;
+import org.junit.After;
+import java.nio.file.Path;
+import java.nio.file.Files;
+import org.junit.rules.TemporaryFolder;
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TracerTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@After
+	public void tearDown() {
+		Tracer.disable();
+	}
+
+	// Test nothing is recorded while disabled
+	@Test
+	public void testDisabledTracerRecordsNothing() {
+		//Setup
+		Runnable task = () -> {
+		};
+
+		//Exercise
+		Span span = Tracer.start("view", "click");
+		span.setAttribute("key", "value");
+		span.close();
+
+		//Verify
+		assertThat(span.isRecording()).isFalse();
+		assertThat(span.getAttributes()).isEmpty();
+		assertThat(Tracer.wrap("task", task)).isSameAs(task);
+		assertThat(Tracer.finishedSpans()).isEmpty();
+	}
+
+	// Test nested spans are children sharing the trace
+	@Test
+	public void testNestedSpans() {
+		//Setup
+		Tracer.enable(100);
+
+		//Exercise
+		Span root = Tracer.start("view", "click");
+		Span child = Tracer.start("controller", "addEvent");
+		Span grandChild = Tracer.start("repository", "getEventById");
+		grandChild.close();
+		Span currentAfterGrandChild = Tracer.current();
+		child.close();
+		root.close();
+		Span other = Tracer.start("view", "other click");
+		other.close();
+
+		//Verify
+		assertThat(currentAfterGrandChild).isSameAs(child);
+		assertThat(Tracer.current().isRecording()).isFalse();
+		assertThat(Tracer.finishedSpans()).extracting(Span::getName, Span::getTraceId, Span::getParentId)
+				.containsExactly(tuple("getEventById", root.getTraceId(), child.getSpanId()),
+						tuple("addEvent", root.getTraceId(), root.getSpanId()),
+						tuple("click", root.getSpanId(), 0L),
+						tuple("other click", other.getSpanId(), 0L));
+		assertThat(grandChild.getDurationNanos()).isNotNegative();
+		assertThat(child.getDurationNanos()).isGreaterThanOrEqualTo(grandChild.getDurationNanos());
+	}
+
+	// Test wrapped tasks continue the trace on another thread
+	@Test
+	public void testWrappedTaskContinuesTraceOnAnotherThread() throws InterruptedException {
+		//Setup
+		Tracer.enable(100);
+		Span[] inner = new Span[1];
+		Span root = Tracer.start("view", "click");
+		Thread worker = new Thread(Tracer.wrap("worker", () -> {
+			try (Span span = Tracer.start("controller", "addEvent")) {
+				inner[0] = span;
+			}
+		}), "worker-thread");
+		root.close();
+
+		//Exercise
+		worker.start();
+		worker.join();
+
+		//Verify
+		List<Span> spans = Tracer.finishedSpans();
+		assertThat(spans).extracting(Span::getName).containsExactly("click", "addEvent", "worker");
+		Span hop = spans.get(2);
+		assertThat(hop.getTraceId()).isEqualTo(root.getTraceId());
+		assertThat(hop.getParentId()).isEqualTo(root.getSpanId());
+		assertThat(hop.getThreadName()).isEqualTo("worker-thread");
+		assertThat(hop.getFlowId()).isPositive();
+		assertThat(hop.getFlowThreadId()).isEqualTo(Thread.currentThread().getId());
+		assertThat(hop.getAttributes()).containsKey("queuedMicros");
+		assertThat(inner[0].getParentId()).isEqualTo(hop.getSpanId());
+	}
+
+	// Test spans beyond the maximum are dropped
+	@Test
+	public void testSpansBeyondMaximumAreDropped() {
+		//Setup
+		Tracer.enable(2);
+
+		//Exercise
+		for (int i = 0; i < 5; i++) {
+			Tracer.start("view", "click " + i).close();
+		}
+
+		//Verify
+		assertThat(Tracer.finishedSpans()).extracting(Span::getName).containsExactly("click 0", "click 1");
+		assertThat(Tracer.droppedSpans()).isEqualTo(3);
+	}
+
+	// Test trace is exported to a file
+	@Test
+	public void testExportTo() throws Exception {
+		//Setup
+		Tracer.enable(100);
+		Tracer.start("view", "click").close();
+		Path file = temporaryFolder.getRoot().toPath().resolve("traces/trace.json");
+
+		//Exercise
+		Path written = Tracer.exportTo(file);
+
+		//Verify
+		assertThat(written).isEqualTo(file.toAbsolutePath());
+		assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).startsWith("{")
+				.contains("\"name\":\"click\"");
+	}
+}
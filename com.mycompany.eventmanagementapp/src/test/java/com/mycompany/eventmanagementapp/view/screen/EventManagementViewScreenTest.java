@@ -24,9 +24,11 @@ import java.time.LocalDate;
 import org.junit.runner.RunWith;
 import javax.swing.DefaultListModel;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.mockito.MockitoAnnotations;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import org.assertj.swing.annotation.GUITest;
 import org.assertj.swing.edt.GuiActionRunner;
@@ -105,6 +107,12 @@ public class EventManagementViewScreenTest extends AssertJSwingJUnitTestCase {
 
 	private static final String LIST_EVENT = "eventList";
 
+	private static final String TXT_EVENT_FILTER = "txtEventFilter";
+
+	private static final String CMB_EVENT_SORT = "cmbEventSort";
+
+	private static final String EVENT_NAME_3 = "Art Exhibition";
+
 	@Override
 	protected void onSetUp() {
 		closeable = MockitoAnnotations.openMocks(this);
@@ -361,6 +369,27 @@ public class EventManagementViewScreenTest extends AssertJSwingJUnitTestCase {
 		verify(participantViewScreen).setVisible(true);
 	}
 
+	// Test participant screen is created by the provider on the first navigation
+	@Test
+	public void testParticipantScreenButtonShouldCreateParticipantScreenLazily() {
+		// Setup
+		AtomicInteger createdViews = new AtomicInteger();
+		GuiActionRunner.execute(() -> {
+			eventViewScreen.setParticipantView(null);
+			eventViewScreen.setParticipantViewProvider(() -> {
+				createdViews.incrementAndGet();
+				return participantViewScreen;
+			});
+		});
+
+		// Exercise
+		window.button(JButtonMatcher.withText(BTN_PARTICIPANT_SCREEN)).click();
+
+		// Verify
+		assertThat(createdViews.get()).isEqualTo(1);
+		verify(participantViewScreen).setVisible(true);
+	}
+
 	// Test displaying all events in the list
 	@Test
 	public void testShowAllEventsShouldAddEventsDescriptionsToTheEventList() {
@@ -625,7 +654,56 @@ public class EventManagementViewScreenTest extends AssertJSwingJUnitTestCase {
 		window.button(JButtonMatcher.withText(BTN_ADD_EVENT)).requireDisabled();
 		// one time it will be called by Window Activator and second time from Refresh
 		// button. In total 2 times.
-		verify(eventController, times(2)).getAllEvents();
+		verify(eventController, timeout(5000).times(2)).getAllEvents();
+	}
+
+	// Test sort and filter controls initial states
+	@Test
+	public void testSortAndFilterControlsInitialStates() {
+		// Setup, Exercise & Verify
+		window.textBox(TXT_EVENT_FILTER).requireEnabled().requireEmpty();
+		window.comboBox(CMB_EVENT_SORT).requireEnabled().requireSelection("Database Order");
+	}
+
+	// Test typing in the filter shows only matching events in the selected sort
+	// order
+	@Test
+	public void testFilterAndSortShowOnlyMatchingEventsInSortedOrder() {
+		// Setup
+		EventModel event1 = new EventModel(EVENT_ID, EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1);
+		EventModel event2 = new EventModel(EVENT_ID_2, EVENT_NAME_2, EVENT_DATE_2, EVENT_LOCATION_2);
+		EventModel event3 = new EventModel(3, EVENT_NAME_3, EVENT_DATE_2, EVENT_LOCATION_1);
+		GuiActionRunner.execute(() -> eventViewScreen.showAllEvents(asList(event1, event2, event3)));
+
+		// Exercise
+		window.comboBox(CMB_EVENT_SORT).selectItem("Name");
+		window.textBox(TXT_EVENT_FILTER).enterText(EVENT_LOCATION_1.toLowerCase());
+
+		// Verify
+		await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(window.list(LIST_EVENT).contents())
+				.containsExactly(getDisplayString(event3), getDisplayString(event1)));
+	}
+
+	// Test clearing the filter and selecting database order shows all events as
+	// loaded
+	@Test
+	public void testClearingFilterAndSortShowsAllEventsAsLoaded() {
+		// Setup
+		EventModel event1 = new EventModel(EVENT_ID, EVENT_NAME_1, EVENT_DATE_1, EVENT_LOCATION_1);
+		EventModel event2 = new EventModel(EVENT_ID_2, EVENT_NAME_2, EVENT_DATE_2, EVENT_LOCATION_2);
+		GuiActionRunner.execute(() -> eventViewScreen.showAllEvents(asList(event2, event1)));
+		window.comboBox(CMB_EVENT_SORT).selectItem("Date");
+		window.textBox(TXT_EVENT_FILTER).enterText(EVENT_LOCATION_2);
+		await().atMost(10, TimeUnit.SECONDS).untilAsserted(
+				() -> assertThat(window.list(LIST_EVENT).contents()).containsExactly(getDisplayString(event2)));
+
+		// Exercise
+		window.textBox(TXT_EVENT_FILTER).deleteText();
+		window.comboBox(CMB_EVENT_SORT).selectItem("Database Order");
+
+		// Verify
+		await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(window.list(LIST_EVENT).contents())
+				.containsExactly(getDisplayString(event2), getDisplayString(event1)));
 	}
 
 	//Helper Methods
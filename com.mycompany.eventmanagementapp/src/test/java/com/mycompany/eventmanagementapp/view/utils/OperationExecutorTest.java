@@ -0,0 +1,190 @@
+/**
+ * Unit tests for the OperationExecutor class in the Event Management Application.
+ *
+ * The executors under test have a single worker, which the tests keep busy with an operation waiting on a latch,
+ * so that they decide what is queued before anything else runs.
+ *
+ * The tests verify that:
+ * 1. Waiting WRITE operations run before waiting BACKGROUND ones, each priority in submission order.
+ * 2. The queue is bounded: a full queue refuses operations, and the saturation listeners are called when it fills
+ *    up and once it has drained to half of its capacity.
+ * 3. A BACKGROUND action is queued once while it waits.
+ * 4. The queue wait is recorded per priority, and a failing operation does not stop the worker.
+ * 5. Invalid settings are rejected.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.After;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.awaitility.Awaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.eventmanagementapp.metrics.MetricsRegistry;
+import com.mycompany.eventmanagementapp.metrics.OperationMetrics;
+import com.mycompany.eventmanagementapp.view.utils.OperationExecutor.Priority;
+
+public class OperationExecutorTest {
+
+	private final MetricsRegistry registry = new MetricsRegistry();
+
+	private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private OperationExecutor executor;
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	// Test writes run before background operations
+	@Test
+	public void testWritesRunBeforeBackgroundOperations() {
+		//Setup
+		executor = new OperationExecutor(1, 10, registry);
+		blockWorker();
+
+		//Exercise
+		executor.submit(Priority.BACKGROUND, "refreshEvents", () -> executed.add("refreshEvents"));
+		executor.submit(Priority.WRITE, "addEvent", () -> executed.add("addEvent"));
+		executor.submit(Priority.BACKGROUND, "refreshParticipants", () -> executed.add("refreshParticipants"));
+		executor.submit(Priority.WRITE, "deleteEvent", () -> executed.add("deleteEvent"));
+		release.countDown();
+
+		//Verify
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 5);
+		assertThat(executed).containsExactly("blocking", "addEvent", "deleteEvent", "refreshEvents",
+				"refreshParticipants");
+		assertThat(executor.getCompletedCount()).isEqualTo(5);
+		assertThat(executor.getQueueDepth()).isZero();
+		assertThat(executor.getPeakQueueDepth()).isEqualTo(4);
+	}
+
+	// Test a full queue refuses operations and saturates the executor until it has drained to half its capacity
+	@Test
+	public void testFullQueueRefusesOperationsAndSaturates() {
+		//Setup
+		executor = new OperationExecutor(1, 4, registry);
+		AtomicInteger saturationChanges = new AtomicInteger();
+		List<Boolean> saturation = Collections.synchronizedList(new ArrayList<>());
+		executor.addSaturationListener(() -> {
+			saturationChanges.incrementAndGet();
+			saturation.add(executor.isSaturated());
+		});
+		blockWorker();
+		CountDownLatch releaseQueued = new CountDownLatch(1);
+
+		//Exercise
+		for (int i = 0; i < 4; i++) {
+			assertThat(executor.submit(Priority.WRITE, "addEvent", () -> awaitLatch(releaseQueued))).isTrue();
+		}
+		boolean refused = executor.submit(Priority.WRITE, "addEvent", () -> executed.add("refused"));
+		boolean saturatedWhenFull = executor.isSaturated();
+		release.countDown();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getQueueDepth() == 3);
+		boolean saturatedAboveHalf = executor.isSaturated();
+		releaseQueued.countDown();
+
+		//Verify
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getCompletedCount() == 5);
+		assertThat(refused).isFalse();
+		assertThat(saturatedWhenFull).isTrue();
+		assertThat(saturatedAboveHalf).isTrue();
+		assertThat(executor.isSaturated()).isFalse();
+		assertThat(saturationChanges.get()).isEqualTo(2);
+		assertThat(saturation).containsExactly(true, false);
+		assertThat(executor.getRejectedCount()).isEqualTo(1);
+		assertThat(executed).containsExactly("blocking");
+		assertThat(executor.getCapacity()).isEqualTo(4);
+		assertThat(executor.getWorkers()).isEqualTo(1);
+	}
+
+	// Test a waiting background action is queued once
+	@Test
+	public void testWaitingBackgroundActionIsQueuedOnce() {
+		//Setup
+		executor = new OperationExecutor(1, 10, registry);
+		blockWorker();
+
+		//Exercise
+		for (int i = 0; i < 3; i++) {
+			assertThat(executor.submit(Priority.BACKGROUND, "refreshEvents", () -> executed.add("refreshEvents")))
+					.isTrue();
+		}
+		int queued = executor.getQueueDepth();
+		release.countDown();
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getCompletedCount() == 2);
+		executor.submit(Priority.BACKGROUND, "refreshEvents", () -> executed.add("refreshEvents"));
+
+		//Verify
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getCompletedCount() == 3);
+		assertThat(queued).isEqualTo(1);
+		assertThat(executed).containsExactly("blocking", "refreshEvents", "refreshEvents");
+	}
+
+	// Test the queue wait is recorded per priority and a failing operation does not stop the worker
+	@Test
+	public void testQueueWaitIsRecordedAndFailuresDoNotStopTheWorker() {
+		//Setup
+		executor = new OperationExecutor(1, 10, registry);
+
+		//Exercise
+		executor.submit(Priority.WRITE, "addEvent", () -> {
+			throw new IllegalStateException("Database unavailable");
+		});
+		executor.submit(Priority.WRITE, "updateEvent", () -> executed.add("updateEvent"));
+		executor.submit(Priority.BACKGROUND, "refreshEvents", () -> executed.add("refreshEvents"));
+
+		//Verify
+		await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getCompletedCount() == 3);
+		assertThat(executed).containsExactly("updateEvent", "refreshEvents");
+		OperationMetrics writes = registry.operation(OperationExecutor.LAYER, "wait.write");
+		OperationMetrics background = registry.operation(OperationExecutor.LAYER, "wait.background");
+		assertThat(writes.getCalls()).isEqualTo(2);
+		assertThat(background.getCalls()).isEqualTo(1);
+		assertThat(writes.getErrors()).isZero();
+	}
+
+	// Test invalid settings are rejected
+	@Test
+	public void testInvalidSettingsAreRejected() {
+		//Verify
+		assertThatThrownBy(() -> new OperationExecutor(0, 10, registry)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new OperationExecutor(1, 0, registry)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// Helper Methods
+	// Occupies the single worker until release is counted down
+	private void blockWorker() {
+		CountDownLatch started = new CountDownLatch(1);
+		executor.submit(Priority.WRITE, "blocking", () -> {
+			executed.add("blocking");
+			started.countDown();
+			awaitLatch(release);
+		});
+		awaitLatch(started);
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Latch not released");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
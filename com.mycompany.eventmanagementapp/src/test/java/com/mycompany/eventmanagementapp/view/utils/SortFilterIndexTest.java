@@ -0,0 +1,252 @@
+/**
+ * Unit tests for the SortFilterIndex, SortColumn and IntSorter classes in the Event Management Application.
+ *
+ * The index is created with direct executors, so the background computation and the delivery of the result
+ * run synchronously on the test thread.
+ *
+ * The tests verify that:
+ * 1. The database order column keeps the rows as they were loaded.
+ * 2. Numeric and text columns sort the rows, and rows with equal keys keep their database order.
+ * 3. The filter matches case-insensitively and keeps the selected sort order.
+ * 4. Type-ahead filtering (extending the previous filter) and clearing the filter give correct results.
+ * 5. A new rows snapshot invalidates the cached sort orders.
+ * 6. Results of superseded or cancelled requests are not delivered.
+ * 7. Sorting and filtering a large list gives a correctly ordered result.
+ * 8. An added row is inserted where the rebuilt index puts it, or not at all when the filter hides it.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.ArrayList;
+import javax.swing.DefaultListModel;
+import java.time.LocalDate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.eventmanagementapp.model.EventModel;
+
+public class SortFilterIndexTest {
+
+	private static final SortColumn<EventModel> DATABASE_ORDER = SortColumn.databaseOrder("Database Order");
+
+	private static final SortColumn<EventModel> BY_DATE = SortColumn.numeric("Date",
+			event -> event.getEventDate().toEpochDay());
+
+	private static final SortColumn<EventModel> BY_NAME = SortColumn.text("Name", EventModel::getEventName);
+
+	private static final SortColumn<EventModel> BY_LOCATION = SortColumn.text("Location",
+			EventModel::getEventLocation);
+
+	private static final LocalDate TODAY = LocalDate.now();
+
+	private EventModel musicFestival;
+
+	private EventModel universityEvent;
+
+	private EventModel artExhibition;
+
+	private EventModel bookFair;
+
+	private List<EventModel> events;
+
+	private List<List<EventModel>> deliveredResults;
+
+	private SortFilterIndex<EventModel> eventIndex;
+
+	@Before
+	public void setup() {
+		musicFestival = new EventModel(1, "Music Festival", TODAY.plusDays(30), "Florence");
+		universityEvent = new EventModel(2, "University Event", TODAY.plusDays(10), "Milan");
+		artExhibition = new EventModel(3, "art exhibition", TODAY.plusDays(20), "Florence");
+		bookFair = new EventModel(4, "Book Fair", TODAY.plusDays(10), "Rome");
+		events = Arrays.asList(musicFestival, universityEvent, artExhibition, bookFair);
+		deliveredResults = new ArrayList<>();
+		eventIndex = new SortFilterIndex<>(event -> event.getEventName() + " " + event.getEventLocation(),
+				Runnable::run, Runnable::run);
+	}
+
+	// Test database order column keeps rows as loaded
+	@Test
+	public void testDatabaseOrderKeepsRowsAsLoaded() {
+		//Setup & Exercise
+		eventIndex.update(events, DATABASE_ORDER, "", deliveredResults::add);
+
+		//Verify
+		assertThat(deliveredResults).hasSize(1);
+		assertThat(deliveredResults.get(0)).containsExactly(musicFestival, universityEvent, artExhibition, bookFair);
+	}
+
+	// Test numeric column sorts rows and keeps database order for equal keys
+	@Test
+	public void testNumericColumnSortIsStable() {
+		//Setup & Exercise
+		eventIndex.update(events, BY_DATE, null, deliveredResults::add);
+
+		//Verify
+		assertThat(deliveredResults.get(0)).containsExactly(universityEvent, bookFair, artExhibition, musicFestival);
+	}
+
+	// Test text column sorts rows case-insensitively
+	@Test
+	public void testTextColumnSortIsCaseInsensitive() {
+		//Setup & Exercise
+		eventIndex.update(events, BY_NAME, "", deliveredResults::add);
+
+		//Verify
+		assertThat(deliveredResults.get(0)).containsExactly(artExhibition, bookFair, musicFestival, universityEvent);
+	}
+
+	// Test filter matches case-insensitively and keeps the sort order
+	@Test
+	public void testFilterMatchesCaseInsensitivelyInSortOrder() {
+		//Setup & Exercise
+		eventIndex.update(events, BY_NAME, "  FLORENCE ", deliveredResults::add);
+
+		//Verify
+		assertThat(deliveredResults.get(0)).containsExactly(artExhibition, musicFestival);
+	}
+
+	// Test added row is inserted where the rebuilt index puts it, after the rows with an equal key
+	@Test
+	public void testInsertionIndexMatchesTheRebuiltIndex() {
+		//Setup
+		EventModel concert = new EventModel(5, "Concert", TODAY.plusDays(10), "Florence");
+		List<EventModel> withConcert = new ArrayList<>(events);
+		withConcert.add(concert);
+		eventIndex.update(events, BY_DATE, "", deliveredResults::add);
+		eventIndex.update(withConcert, BY_DATE, "", deliveredResults::add);
+		DefaultListModel<EventModel> shownRows = new DefaultListModel<>();
+		deliveredResults.get(0).forEach(shownRows::addElement);
+
+		//Exercise
+		int index = eventIndex.insertionIndex(shownRows, concert, BY_DATE, "");
+
+		//Verify
+		assertThat(index).isEqualTo(2);
+		assertThat(deliveredResults.get(1).indexOf(concert)).isEqualTo(index);
+	}
+
+	// Test added row hidden by the filter is not inserted, database order appends it
+	@Test
+	public void testInsertionIndexOfFilteredAndDatabaseOrderRows() {
+		//Setup
+		EventModel concert = new EventModel(5, "Concert", TODAY.plusDays(10), "Turin");
+		DefaultListModel<EventModel> shownRows = new DefaultListModel<>();
+		events.forEach(shownRows::addElement);
+
+		//Exercise & Verify
+		assertThat(eventIndex.insertionIndex(shownRows, concert, BY_NAME, "florence")).isEqualTo(-1);
+		assertThat(eventIndex.insertionIndex(shownRows, concert, DATABASE_ORDER, "")).isEqualTo(events.size());
+	}
+
+	// Test type-ahead filtering and clearing the filter
+	@Test
+	public void testTypeAheadAndClearedFilter() {
+		//Setup
+		SortColumn<EventModel> column = BY_LOCATION;
+
+		//Exercise
+		int[] first = eventIndex.visibleRows(events, column, "f");
+		int[] second = eventIndex.visibleRows(events, column, "fl");
+		int[] third = eventIndex.visibleRows(events, column, "flo");
+		int[] cleared = eventIndex.visibleRows(events, column, "");
+
+		//Verify
+		assertThat(first).containsExactly(0, 2, 3);
+		assertThat(second).containsExactly(0, 2);
+		assertThat(third).containsExactly(0, 2);
+		assertThat(cleared).containsExactly(0, 2, 1, 3);
+	}
+
+	// Test filter which does not extend the previous one scans all rows again
+	@Test
+	public void testFilterNotExtendingPreviousOneScansAllRows() {
+		//Setup & Exercise
+		eventIndex.visibleRows(events, DATABASE_ORDER, "milan");
+		int[] rows = eventIndex.visibleRows(events, DATABASE_ORDER, "fair");
+
+		//Verify
+		assertThat(rows).containsExactly(3);
+	}
+
+	// Test new rows snapshot invalidates cached sort orders
+	@Test
+	public void testNewRowsSnapshotInvalidatesCache() {
+		//Setup
+		eventIndex.visibleRows(events, BY_NAME, "");
+		List<EventModel> changedEvents = Arrays.asList(universityEvent, musicFestival);
+
+		//Exercise
+		eventIndex.update(changedEvents, BY_NAME, "", deliveredResults::add);
+
+		//Verify
+		assertThat(deliveredResults.get(0)).containsExactly(musicFestival, universityEvent);
+	}
+
+	// Test only the result of the latest request is delivered
+	@Test
+	public void testSupersededRequestIsNotDelivered() {
+		//Setup
+		List<Runnable> pendingResults = new ArrayList<>();
+		SortFilterIndex<EventModel> deferredIndex = new SortFilterIndex<>(EventModel::getEventName, Runnable::run,
+				pendingResults::add);
+
+		//Exercise
+		deferredIndex.update(events, BY_NAME, "", deliveredResults::add);
+		deferredIndex.update(events, BY_DATE, "", deliveredResults::add);
+		pendingResults.forEach(Runnable::run);
+
+		//Verify
+		assertThat(deliveredResults).hasSize(1);
+		assertThat(deliveredResults.get(0)).containsExactly(universityEvent, bookFair, artExhibition, musicFestival);
+	}
+
+	// Test cancelled request is not delivered
+	@Test
+	public void testCancelledRequestIsNotDelivered() {
+		//Setup
+		List<Runnable> pendingResults = new ArrayList<>();
+		SortFilterIndex<EventModel> deferredIndex = new SortFilterIndex<>(EventModel::getEventName, Runnable::run,
+				pendingResults::add);
+
+		//Exercise
+		deferredIndex.update(events, BY_NAME, "", deliveredResults::add);
+		deferredIndex.cancel();
+		pendingResults.forEach(Runnable::run);
+
+		//Verify
+		assertThat(deliveredResults).isEmpty();
+	}
+
+	// Test sorting and filtering a large list
+	@Test
+	public void testSortAndFilterLargeList() {
+		//Setup
+		Random random = new Random(42);
+		List<EventModel> largeList = new ArrayList<>();
+		for (int i = 0; i < 200_000; i++) {
+			largeList.add(new EventModel(i, "Event " + random.nextInt(100_000), TODAY.plusDays(random.nextInt(3650)),
+					i % 2 == 0 ? "Florence" : "Milan"));
+		}
+
+		//Exercise
+		int[] sorted = eventIndex.visibleRows(largeList, BY_DATE, "milan");
+
+		//Verify
+		assertThat(sorted).hasSize(100_000);
+		for (int i = 1; i < sorted.length; i++) {
+			EventModel previous = largeList.get(sorted[i - 1]);
+			EventModel current = largeList.get(sorted[i]);
+			assertThat(current.getEventLocation()).isEqualTo("Milan");
+			assertThat(previous.getEventDate()).isBeforeOrEqualTo(current.getEventDate());
+			if (previous.getEventDate().equals(current.getEventDate())) {
+				assertThat(sorted[i - 1]).isLessThan(sorted[i]);
+			}
+		}
+		assertThat(eventIndex.getLastBuildNanos()).isPositive();
+	}
+}
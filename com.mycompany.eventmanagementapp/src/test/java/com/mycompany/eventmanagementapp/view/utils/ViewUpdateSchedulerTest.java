@@ -0,0 +1,173 @@
+/**
+ * Unit tests for the ViewUpdateScheduler class in the Event Management Application.
+ *
+ * The scheduler is created with a manual dispatcher which only records the drain tasks, so that the tests
+ * can decide when a "frame" ends without needing a display or the Event Dispatch Thread.
+ *
+ * The tests verify that:
+ * 1. Updates submitted within the same frame are applied together, in submission order, with one drain.
+ * 2. Repeated refresh requests within a frame are collapsed into a single reload executed after the updates.
+ * 3. Different refresh actions are all executed once.
+ * 4. A new drain is scheduled for notifications arriving after the previous frame has been drained.
+ * 5. A failing update does not prevent the remaining updates and refreshes of the frame from running.
+ * 6. When tracing is enabled, an update continues the trace of the operation which submitted it.
+ */
+
+package com.mycompany.eventmanagementapp.view.utils;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ArrayList;
+
+import com.mycompany.eventmanagementapp.tracing.Span;
+import com.mycompany.eventmanagementapp.tracing.Tracer;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ViewUpdateSchedulerTest {
+
+	private List<Runnable> dispatchedDrains;
+
+	private List<String> executed;
+
+	private ViewUpdateScheduler updateScheduler;
+
+	@Before
+	public void setup() {
+		dispatchedDrains = new ArrayList<>();
+		executed = new ArrayList<>();
+		updateScheduler = new ViewUpdateScheduler(dispatchedDrains::add);
+	}
+
+	// Test updates submitted within one frame are applied together in order
+	@Test
+	public void testUpdatesWithinSameFrameAreAppliedInOneDrain() {
+		//Setup & Exercise
+		updateScheduler.submitUpdate(() -> executed.add("update1"));
+		updateScheduler.submitUpdate(() -> executed.add("update2"));
+		updateScheduler.submitUpdate(() -> executed.add("update3"));
+		runPendingDrains();
+
+		//Verify
+		assertThat(executed).containsExactly("update1", "update2", "update3");
+		assertThat(updateScheduler.getDrains()).isEqualTo(1);
+		assertThat(updateScheduler.getSubmittedUpdates()).isEqualTo(3);
+	}
+
+	// Test repeated refresh requests within one frame are collapsed into one reload after the updates
+	@Test
+	public void testRepeatedRefreshRequestsAreCollapsedIntoSingleReload() {
+		//Setup
+		Runnable refresh = () -> executed.add("refresh");
+
+		//Exercise
+		for (int i = 0; i < 200; i++) {
+			updateScheduler.requestRefresh(refresh);
+			updateScheduler.submitUpdate(() -> executed.add("update"));
+		}
+		runPendingDrains();
+
+		//Verify
+		assertThat(executed).hasSize(201).endsWith("refresh").containsOnlyOnce("refresh");
+		assertThat(updateScheduler.getRequestedRefreshes()).isEqualTo(200);
+		assertThat(updateScheduler.getExecutedRefreshes()).isEqualTo(1);
+		assertThat(updateScheduler.getDrains()).isEqualTo(1);
+	}
+
+	// Test different refresh actions are each executed once in request order
+	@Test
+	public void testDifferentRefreshActionsAreEachExecutedOnce() {
+		//Setup
+		Runnable refreshEvents = () -> executed.add("events");
+		Runnable refreshParticipants = () -> executed.add("participants");
+
+		//Exercise
+		updateScheduler.requestRefresh(refreshEvents);
+		updateScheduler.requestRefresh(refreshParticipants);
+		updateScheduler.requestRefresh(refreshEvents);
+		runPendingDrains();
+
+		//Verify
+		assertThat(executed).containsExactly("events", "participants");
+	}
+
+	// Test notifications arriving after a drain are handled in a new frame
+	@Test
+	public void testNotificationsAfterDrainScheduleNewFrame() {
+		//Setup
+		Runnable refresh = () -> executed.add("refresh");
+
+		//Exercise
+		updateScheduler.submitUpdate(() -> executed.add("update1"));
+		updateScheduler.requestRefresh(refresh);
+		runPendingDrains();
+		updateScheduler.submitUpdate(() -> executed.add("update2"));
+		updateScheduler.requestRefresh(refresh);
+		runPendingDrains();
+
+		//Verify
+		assertThat(executed).containsExactly("update1", "refresh", "update2", "refresh");
+		assertThat(updateScheduler.getDrains()).isEqualTo(2);
+	}
+
+	// Test only one drain is dispatched while a frame is pending
+	@Test
+	public void testOnlyOneDrainIsDispatchedWhileFrameIsPending() {
+		//Setup & Exercise
+		updateScheduler.submitUpdate(() -> executed.add("update"));
+		updateScheduler.requestRefresh(() -> executed.add("refresh"));
+		updateScheduler.submitUpdate(() -> executed.add("update"));
+
+		//Verify
+		assertThat(dispatchedDrains).hasSize(1);
+		assertThat(executed).isEmpty();
+	}
+
+	// Test a failing update does not prevent the rest of the frame from running
+	@Test
+	public void testFailingUpdateDoesNotSkipRemainingTasks() {
+		//Setup
+		updateScheduler.submitUpdate(() -> {
+			throw new IllegalStateException("update failed");
+		});
+		updateScheduler.submitUpdate(() -> executed.add("update"));
+		updateScheduler.requestRefresh(() -> executed.add("refresh"));
+
+		//Exercise & Verify
+		assertThatThrownBy(this::runPendingDrains).isInstanceOf(IllegalStateException.class)
+				.hasMessage("update failed");
+		assertThat(executed).containsExactly("update", "refresh");
+	}
+
+	// Test updates continue the trace of the submitting operation
+	@Test
+	public void testUpdateContinuesTrace() {
+		//Setup
+		Tracer.enable(100);
+		try {
+			Span operation = Tracer.start("controller", "EventController.addEvent");
+			updateScheduler.submitUpdate(() -> executed.add("update"));
+			operation.close();
+
+			//Exercise
+			runPendingDrains();
+
+			//Verify
+			assertThat(executed).containsExactly("update");
+			assertThat(Tracer.finishedSpans()).extracting(Span::getName, Span::getTraceId, Span::getParentId)
+					.containsExactly(tuple("EventController.addEvent", operation.getTraceId(), 0L),
+							tuple("view update", operation.getTraceId(), operation.getSpanId()));
+		} finally {
+			Tracer.disable();
+		}
+	}
+
+	// Helper Methods
+	private void runPendingDrains() {
+		List<Runnable> drains = new ArrayList<>(dispatchedDrains);
+		dispatchedDrains.clear();
+		drains.forEach(Runnable::run);
+	}
+}
@@ -0,0 +1 @@
+CREATE TABLE note (id BIGINT NOT NULL PRIMARY KEY, text VARCHAR(100));
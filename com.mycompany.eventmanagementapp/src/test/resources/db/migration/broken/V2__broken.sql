@@ -0,0 +1,2 @@
+INSERT INTO note (id, text) VALUES (1, 'kept only if the whole migration succeeds');
+INSERT INTO missing_table (id) VALUES (1);